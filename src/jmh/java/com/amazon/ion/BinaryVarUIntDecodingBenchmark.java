@@ -0,0 +1,96 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binary reading of data in which VarUInts dominate: field name SIDs, annotation SIDs, and lengths that do
+ * not fit in a type ID's length nibble. The number of distinct symbols controls the width of the SIDs; with more than
+ * 127 symbols beyond the system symbols, most SIDs require two bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BinaryVarUIntDecodingBenchmark {
+
+    private static final int NUMBER_OF_STRUCTS = 2000;
+    private static final int FIELDS_PER_STRUCT = 20;
+
+    @Param({"100", "1000"})
+    public int distinctSymbols;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            for (int i = 0; i < NUMBER_OF_STRUCTS; i++) {
+                writer.setTypeAnnotations("annotation" + (i % distinctSymbols));
+                writer.stepIn(IonType.STRUCT);
+                for (int j = 0; j < FIELDS_PER_STRUCT; j++) {
+                    writer.setFieldName("field" + ((i + j * 13) % distinctSymbols));
+                    if ((j & 1) == 0) {
+                        // Strings of at least 14 bytes have VarUInt lengths.
+                        writer.writeString("a string with a VarUInt length");
+                    } else {
+                        writer.writeInt((long) i * j);
+                    }
+                }
+                writer.stepOut();
+            }
+        }
+        data = out.toByteArray();
+    }
+
+    private static long readAll(IonReader reader) {
+        long checksum = 0;
+        while (reader.next() != null) {
+            checksum += reader.getTypeAnnotationSymbols()[0].getSid();
+            reader.stepIn();
+            while (reader.next() != null) {
+                checksum += reader.getFieldNameSymbol().getSid();
+                if (reader.getType() == IonType.INT) {
+                    checksum += reader.longValue();
+                }
+            }
+            reader.stepOut();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long readFromBytes() throws IOException {
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            return readAll(reader);
+        }
+    }
+
+    @Benchmark
+    public long readFromStream() throws IOException {
+        try (IonReader reader = IonReaderBuilder.standard().build(new ByteArrayInputStream(data))) {
+            return readAll(reader);
+        }
+    }
+}
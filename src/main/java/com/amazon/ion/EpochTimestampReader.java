@@ -0,0 +1,68 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Reads the reader's current timestamp as primitive values measured from the
+ * epoch (1970-01-01T00:00:00Z), without constructing a {@link Timestamp}.
+ * Each method returns the same result as the corresponding computation on
+ * {@link IonReader#timestampValue()}. In particular, a timestamp with an
+ * unknown local offset is interpreted as UTC, and a timestamp with less than
+ * second precision is interpreted as the first instant it covers.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of {@link IonReader}s over
+ * binary or text Ion data.
+ * The facet remains valid for the life of the reader.
+ */
+public interface EpochTimestampReader
+{
+    /**
+     * The value returned by {@link #timestampOffsetMinutes()} for timestamps
+     * with an unknown local offset.
+     */
+    public static final int UNKNOWN_OFFSET_MINUTES = Integer.MIN_VALUE;
+
+
+    /**
+     * Returns the number of milliseconds from the epoch to the current
+     * timestamp, <em>ignoring</em> any fractional milliseconds. This is
+     * equivalent to {@link Timestamp#getMillis()}.
+     *
+     * @return the number of milliseconds.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null timestamp.
+     */
+    public long timestampEpochMillis();
+
+
+    /**
+     * Returns the number of nanoseconds from the epoch to the current
+     * timestamp, <em>ignoring</em> any fractional nanoseconds.
+     *
+     * @return the number of nanoseconds.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null timestamp.
+     * @throws IonException if the timestamp falls outside the range that can
+     * be represented in a {@code long} number of nanoseconds, which is
+     * roughly the years 1677 through 2262.
+     */
+    public long timestampEpochNanos();
+
+
+    /**
+     * Returns the local offset of the current timestamp. This is equivalent to
+     * {@link Timestamp#getLocalOffset()}.
+     *
+     * @return the local offset from UTC in minutes, or
+     * {@link #UNKNOWN_OFFSET_MINUTES} if the offset is unknown.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null timestamp.
+     */
+    public int timestampOffsetMinutes();
+}
@@ -0,0 +1,58 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Advances a reader to a particular field of the struct it is currently
+ * stepped into, skipping the other fields without materializing their names
+ * or values. This is useful when only a few fields of each struct are needed.
+ * <p>
+ * Each method behaves like repeated calls to {@link IonReader#next()},
+ * starting with the field that follows the reader's current position. When a
+ * matching field is found, the reader is positioned on it exactly as if
+ * {@link IonReader#next()} had returned it. Otherwise, the reader is left at
+ * the end of the struct, as if {@link IonReader#next()} had returned null.
+ * Fields that precede the reader's current position are not considered.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The facet remains valid for the life of the reader.
+ */
+public interface FieldSeeker
+{
+    /**
+     * Advances to the next field with the given name. Field names encoded as
+     * symbol IDs are compared against the text that the current symbol table
+     * assigns to them; field names encoded inline are compared byte-wise
+     * against the UTF-8 encoding of {@code name}. No {@link String}s are
+     * created for the names of skipped fields.
+     *
+     * @param name the field name to find.
+     *
+     * @return the type of the matching field's value, or null if the end of
+     * the struct was reached first.
+     *
+     * @throws IllegalStateException if the reader is not stepped into a
+     * struct.
+     * @throws UnknownSymbolException if a field name refers to a symbol ID
+     * that is out of range of the current symbol table.
+     */
+    public IonType seekToField(String name);
+
+
+    /**
+     * Advances to the next field whose name is encoded as the given symbol ID.
+     * Only symbol IDs are compared; field names encoded inline never match.
+     *
+     * @param sid the symbol ID of the field name to find.
+     *
+     * @return the type of the matching field's value, or null if the end of
+     * the struct was reached first.
+     *
+     * @throws IllegalStateException if the reader is not stepped into a
+     * struct.
+     */
+    public IonType seekToField(int sid);
+}
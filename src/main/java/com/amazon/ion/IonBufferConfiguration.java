@@ -3,6 +3,8 @@
 
 package com.amazon.ion;
 
+import com.amazon.ion.impl._Private_SizeClassBufferPool;
+
 /**
  * Configures buffers that hold Ion data.
  */
@@ -27,6 +29,45 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
         void onOversizedSymbolTable();
     }
 
+    /**
+     * Supplies the byte arrays that readers use as their internal buffers, allowing the arrays to be reused across
+     * readers. A reader acquires its initial buffer from the pool when it is constructed, acquires a new buffer each
+     * time its buffer grows or shrinks (releasing the old one), and releases its buffer when it is closed. Readers
+     * that are not closed never release their buffers. Buffers are only used by readers that consume data from an
+     * {@link java.io.InputStream}; readers over byte arrays read directly from the provided arrays.
+     * <p>
+     * Implementations must be thread-safe when shared between readers used on different threads.
+     */
+    public interface BufferPool {
+        /**
+         * Provides a buffer. The contents of the buffer are arbitrary.
+         * @param minimumSize the minimum length of the buffer.
+         * @return a buffer whose length is at least {@code minimumSize}.
+         */
+        byte[] acquire(int minimumSize);
+
+        /**
+         * Returns a buffer to the pool. The caller must not use the buffer after releasing it.
+         * @param buffer a buffer previously provided by {@link #acquire(int)}.
+         */
+        void release(byte[] buffer);
+    }
+
+    /**
+     * Creates a thread-safe {@link BufferPool} that groups buffers into power-of-two size classes. Each request is
+     * satisfied by a pooled buffer of the smallest sufficient size class, or by a newly allocated buffer of that size
+     * class if none is pooled. A single pool is typically shared by all readers in an application, bounding the
+     * memory used by many concurrent readers to roughly the memory used by those that are active.
+     * @param maximumBuffersPerSizeClass the maximum number of idle buffers retained in each size class. Additional
+     *                                   released buffers are discarded.
+     * @param maximumPooledBufferSize the size of the largest buffer that will be retained. Larger buffers are
+     *                                allocated on request and discarded on release.
+     * @return a new pool.
+     */
+    public static BufferPool newSizeClassBufferPool(int maximumBuffersPerSizeClass, int maximumPooledBufferSize) {
+        return new _Private_SizeClassBufferPool(maximumBuffersPerSizeClass, maximumPooledBufferSize);
+    }
+
     /**
      * Builds IonBufferConfiguration instances.
      */
@@ -79,6 +120,17 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
          */
         private OversizedSymbolTableHandler oversizedSymbolTableHandler = null;
 
+        /**
+         * The pool from which buffers will be acquired, or null if buffers will be allocated directly.
+         */
+        private BufferPool bufferPool = null;
+
+        /**
+         * The number of consecutive underused top-level values after which the buffer will be shrunk, or 0 if the
+         * buffer will never be shrunk.
+         */
+        private int shrinkThreshold = 0;
+
         private Builder() {
             // Must be publicly instantiated via the factory method.
         }
@@ -104,7 +156,9 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
                 .onOversizedValue(existingConfiguration.getOversizedValueHandler())
                 .onOversizedSymbolTable(existingConfiguration.getOversizedSymbolTableHandler())
                 .withInitialBufferSize(existingConfiguration.getInitialBufferSize())
-                .withMaximumBufferSize(existingConfiguration.getMaximumBufferSize());
+                .withMaximumBufferSize(existingConfiguration.getMaximumBufferSize())
+                .withBufferPool(existingConfiguration.getBufferPool())
+                .withShrinkThreshold(existingConfiguration.getShrinkThreshold());
         }
 
         /**
@@ -126,6 +180,53 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
             return oversizedSymbolTableHandler;
         }
 
+        /**
+         * Sets the pool from which readers will acquire their buffers. The pool may be null, in which case buffers
+         * will be allocated directly. Default: null.
+         *
+         * @param pool the pool.
+         * @return this builder.
+         * @see IonBufferConfiguration#newSizeClassBufferPool(int, int)
+         */
+        public Builder withBufferPool(BufferPool pool) {
+            bufferPool = pool;
+            return this;
+        }
+
+        /**
+         * @return the pool from which readers will acquire their buffers, or null.
+         */
+        public BufferPool getBufferPool() {
+            return bufferPool;
+        }
+
+        /**
+         * Enables shrinking of the buffer after the data it holds has become small relative to its size. Without
+         * shrinking, a single large value in a long-lived stream leaves the buffer at the size required to hold that
+         * value for the life of the reader.
+         * <p>
+         * A top-level value is considered to underuse the buffer if neither it nor any system values that precede it
+         * required more than a quarter of the buffer's capacity. After the given number of consecutive underused
+         * top-level values, the buffer is replaced with a smaller buffer (but no smaller than the initial buffer size)
+         * that is large enough to hold twice the largest of those values. Default: 0 (disabled).
+         *
+         * @param numberOfUnderusedValues the number of consecutive underused top-level values after which the buffer
+         *                                will be shrunk, or 0 to disable shrinking.
+         * @return this builder.
+         */
+        public Builder withShrinkThreshold(int numberOfUnderusedValues) {
+            shrinkThreshold = numberOfUnderusedValues;
+            return this;
+        }
+
+        /**
+         * @return the number of consecutive underused top-level values after which the buffer will be shrunk, or 0
+         *  if shrinking is disabled.
+         */
+        public int getShrinkThreshold() {
+            return shrinkThreshold;
+        }
+
         @Override
         public int getMinimumMaximumBufferSize() {
             return MINIMUM_MAX_VALUE_SIZE;
@@ -171,6 +272,16 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
      */
     private final OversizedSymbolTableHandler oversizedSymbolTableHandler;
 
+    /**
+     * The pool from which buffers will be acquired, or null.
+     */
+    private final BufferPool bufferPool;
+
+    /**
+     * The number of consecutive underused top-level values after which the buffer will be shrunk, or 0.
+     */
+    private final int shrinkThreshold;
+
     /**
      * Constructs an instance from the given Builder.
      * @param builder the builder containing the settings to apply to the new configuration.
@@ -183,6 +294,11 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
         } else {
             oversizedSymbolTableHandler = builder.getOversizedSymbolTableHandler();
         }
+        if (builder.getShrinkThreshold() < 0) {
+            throw new IllegalArgumentException("Shrink threshold must not be negative.");
+        }
+        bufferPool = builder.getBufferPool();
+        shrinkThreshold = builder.getShrinkThreshold();
     }
 
     /**
@@ -191,4 +307,19 @@ public final class IonBufferConfiguration extends BufferConfiguration<IonBufferC
     public OversizedSymbolTableHandler getOversizedSymbolTableHandler() {
         return oversizedSymbolTableHandler;
     }
+
+    /**
+     * @return the pool from which readers will acquire their buffers, or null if buffers are allocated directly.
+     */
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * @return the number of consecutive underused top-level values after which the buffer will be shrunk, or 0
+     *  if shrinking is disabled.
+     */
+    public int getShrinkThreshold() {
+        return shrinkThreshold;
+    }
 }
@@ -0,0 +1,71 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary Ion reader that is pushed data by the application rather than
+ * pulling it from a source. This allows Ion to be parsed directly on
+ * non-blocking I/O threads, such as NIO selector or event loop threads, as
+ * bytes arrive.
+ * <p>
+ * Bytes provided via the {@code feed} methods are appended to the data
+ * already provided. Top-level values are only surfaced once they are
+ * complete: when {@link #next()} returns {@code null} at the top level, either
+ * all fed data has been consumed or the next value has not been fully fed
+ * yet. {@link #isAwaitingData()} distinguishes the two cases. Either way,
+ * {@link #next()} may be called again after feeding more data. The reader
+ * never blocks. If {@link #close()} is called when an incomplete value is
+ * buffered, an {@link IonException} will be raised.
+ * <p>
+ * The {@code feed} methods copy the provided bytes, so the caller may reuse
+ * or release its buffers as soon as they return. When there is room, bytes
+ * are copied directly into the reader's internal buffer. Bytes that would
+ * cause the internal buffer to exceed the configured maximum size (see
+ * {@link IonBufferConfiguration}) are held until the reader has consumed
+ * enough data to make room for them.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ *
+ * @see com.amazon.ion.system.IonReaderBuilder#buildFeedable()
+ */
+public interface IonFeedableReader
+    extends IonReader
+{
+    /**
+     * Appends bytes to the data available to this reader.
+     *
+     * @param bytes the array containing the bytes.
+     * @param offset the index of the first byte to append.
+     * @param length the number of bytes to append.
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+     * do not describe a range within {@code bytes}.
+     */
+    public void feed(byte[] bytes, int offset, int length);
+
+
+    /**
+     * Appends the bytes between the given buffer's position and limit to the
+     * data available to this reader. Upon return, the buffer's position is
+     * equal to its limit.
+     *
+     * @param bytes the buffer containing the bytes.
+     */
+    public void feed(ByteBuffer bytes);
+
+
+    /**
+     * Determines whether the reader holds part of a value that cannot be
+     * completed until more data is fed. This is intended to be called after
+     * {@link #next()} returns {@code null} at the top level: {@code true}
+     * means the fed data ends partway through a value (which may be a
+     * symbol table), so more data is required; {@code false} means every
+     * value fed so far has been read, so the data may end here without error.
+     *
+     * @return true if a partially-fed value is buffered; otherwise, false.
+     */
+    public boolean isAwaitingData();
+}
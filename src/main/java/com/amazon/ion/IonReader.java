@@ -75,6 +75,13 @@ import java.util.Iterator;
  * <h2>Reader Facets</h2>
  * Readers are {@link Faceted} and implementations may provide additional
  * functionality accessible via the {@link #asFacet(Class)} method.
+ * <p>
+ * Readers built with
+ * {@linkplain com.amazon.ion.system.IonReaderBuilder#withProjectedPaths(String...) projected paths}
+ * provide the facets below that operate on the current value, as well as
+ * {@link ReusableReader}. They do not provide {@link SeekableReader},
+ * {@link PrimitiveArrayReader}, or {@link FieldSeeker}, which would move the
+ * reader without regard to the projection.
  *
  * <h3>The {@link SpanProvider} Facet</h3>
  * This facet is available on all readers that directly consume an Ion source.
@@ -92,6 +99,39 @@ import java.util.Iterator;
  * It allows the user to reposition the reader to a {@link Span} over the
  * same reader instance or another reader with the same source.
  *
+ * <h3>The {@link Utf8TextProvider} Facet</h3>
+ * This facet is available on all readers of Ion binary data. It provides the
+ * UTF-8 text of the current string or symbol without allocating a
+ * {@link String}. Readers of Ion text data and of {@link IonValue}s do not
+ * provide it.
+ *
+ * <h3>The {@link PrimitiveArrayReader} Facet</h3>
+ * This facet is available on all readers of Ion binary data. It reads runs
+ * of ints, floats, or bools from the current container into primitive arrays.
+ *
+ * <h3>The {@link FieldSeeker} Facet</h3>
+ * This facet is available on all readers of Ion binary data. It advances the
+ * reader to a named field of the current struct, skipping the others.
+ *
+ * <h3>The {@link ReusableReader} Facet</h3>
+ * This facet is available on all readers of Ion binary data except
+ * {@link IonFeedableReader}s. It resets the reader onto new input, retaining
+ * the resources that the reader has already allocated.
+ *
+ * <h3>The {@link ValueStreamer} Facet</h3>
+ * This facet is available on all readers of Ion binary data. It streams the
+ * content of the current blob, clob, or string in chunks, which allows values
+ * larger than the reader's maximum buffer size to be consumed.
+ *
+ * <h3>The {@link UnscaledDecimalReader} Facet</h3>
+ * This facet is available on all readers of Ion binary or text data. It reads
+ * the current decimal as a {@code long} unscaled value and an {@code int}
+ * scale. Binary readers do so without allocating.
+ *
+ * <h3>The {@link EpochTimestampReader} Facet</h3>
+ * This facet is available on all readers of Ion binary or text data. It reads
+ * the current timestamp as primitive values measured from the epoch.
+ *
  * <h2>Span Facets</h2>
  * Readers that support the {@link SpanProvider} facet vend {@link Span}s that
  * are also faceted.
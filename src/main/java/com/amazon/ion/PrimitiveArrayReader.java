@@ -0,0 +1,73 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Reads runs of scalar values from the reader's current container directly
+ * into primitive arrays. This is the reading counterpart of
+ * {@link com.amazon.ion.util.IonStreamUtils#writeIntList(IonWriter, long[])}
+ * and friends, and is intended for large lists of numbers, such as vectors,
+ * whose per-value overhead would otherwise dominate the cost of reading.
+ * <p>
+ * Each method reads up to {@code length} consecutive values, starting with the
+ * value that follows the reader's current position. Reading stops early when
+ * the end of the container is reached, or when the next value is null or is
+ * not of the requested type. In the latter case, the reader is positioned on
+ * that value exactly as if {@link IonReader#next()} had been called, allowing
+ * the caller to inspect it. Otherwise, the following call to
+ * {@link IonReader#next()} advances to the value after the last value read.
+ * Annotations on values are ignored.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The facet remains valid for the life of the reader.
+ */
+public interface PrimitiveArrayReader
+{
+    /**
+     * Reads consecutive int values that fit in a {@code long}. Reading stops
+     * early at an int that requires a {@link java.math.BigInteger}.
+     *
+     * @param destination the array to fill.
+     * @param offset the index in {@code destination} of the first value read.
+     * @param length the maximum number of values to read.
+     *
+     * @return the number of values read.
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+     * do not describe a range within {@code destination}.
+     */
+    public int readLongs(long[] destination, int offset, int length);
+
+
+    /**
+     * Reads consecutive float values.
+     *
+     * @param destination the array to fill.
+     * @param offset the index in {@code destination} of the first value read.
+     * @param length the maximum number of values to read.
+     *
+     * @return the number of values read.
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+     * do not describe a range within {@code destination}.
+     */
+    public int readDoubles(double[] destination, int offset, int length);
+
+
+    /**
+     * Reads consecutive bool values.
+     *
+     * @param destination the array to fill.
+     * @param offset the index in {@code destination} of the first value read.
+     * @param length the maximum number of values to read.
+     *
+     * @return the number of values read.
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+     * do not describe a range within {@code destination}.
+     */
+    public int readBooleans(boolean[] destination, int offset, int length);
+}
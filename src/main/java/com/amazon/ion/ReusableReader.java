@@ -0,0 +1,82 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Resets a reader onto new input, so that a single reader can be used to read many small streams, such as individual
+ * messages. A reset reader behaves exactly like a reader newly built with the same {@link
+ * com.amazon.ion.system.IonReaderBuilder} configuration, but it retains the resources that it has already allocated,
+ * including its internal buffer (which keeps its grown size), container stack, and symbol arrays. For small streams,
+ * this avoids allocating more memory to construct the reader than to read the data.
+ * <p>
+ * The new input must be binary Ion. Unlike {@link com.amazon.ion.system.IonReaderBuilder#build(InputStream)}, these
+ * methods do not detect text Ion and do not apply input stream interceptors, such as GZIP decompression.
+ * <p>
+ * A reader built from a byte array reads directly from the provided arrays, and may only be reset onto byte arrays or
+ * array-backed {@link ByteBuffer}s. A reader built from an {@link InputStream} or a {@link ByteBuffer} copies its
+ * input into its internal buffer, and may be reset onto input of any kind. Resetting does not close the previous
+ * input. A reader cannot be reset after it has been closed.
+ * <p>
+ * Readers are not thread-safe, so a reusable reader should be confined to a single thread, e.g. via a
+ * {@link ThreadLocal}.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The facet remains valid for the life of the reader.
+ */
+public interface ReusableReader
+{
+    /**
+     * Resets the reader onto the given binary Ion data.
+     *
+     * @param ionData the data to read.
+     *
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    public void reset(byte[] ionData);
+
+
+    /**
+     * Resets the reader onto a range of the given binary Ion data.
+     *
+     * @param ionData the array containing the data to read.
+     * @param offset the index of the first byte to read.
+     * @param length the number of bytes to read.
+     *
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    public void reset(byte[] ionData, int offset, int length);
+
+
+    /**
+     * Resets the reader onto the binary Ion data between the given buffer's
+     * position and limit. The buffer's position is not modified, but the
+     * reader may consume the data incrementally, so the buffer must not be
+     * modified until the reader is done with it.
+     *
+     * @param ionData the data to read.
+     *
+     * @throws UnsupportedOperationException if the reader was built from a
+     * byte array and {@code ionData} is not array-backed.
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    public void reset(ByteBuffer ionData);
+
+
+    /**
+     * Resets the reader onto the given stream of binary Ion data. The reader
+     * becomes responsible for closing the stream when it is closed.
+     *
+     * @param ionData the stream to read.
+     *
+     * @throws UnsupportedOperationException if the reader was built from a
+     * byte array.
+     * @throws IllegalStateException if the reader has been closed.
+     */
+    public void reset(InputStream ionData);
+}
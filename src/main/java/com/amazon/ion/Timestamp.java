@@ -220,6 +220,13 @@ public final class Timestamp
     private byte        _second;
     private BigDecimal  _fraction;  // fractional seconds, must be within range [0, 1)
 
+    // The unscaled value of the fraction parsed by the fixed-layout parser,
+    // which allows the fraction to be printed without allocating. It is
+    // valid only while _fraction is the instance in _parsedFraction, so code
+    // that replaces _fraction need not maintain it.
+    private BigDecimal  _parsedFraction;
+    private long        _parsedFractionUnscaled;
+
     /**
      * Minutes offset from UTC; zero means UTC proper,
      * <code>null</code> means that the offset is unknown.
@@ -933,9 +940,14 @@ public final class Timestamp
     static final int    END_OF_YEAR          =  4;  // 1234T
     static final int    END_OF_MONTH         =  7;  // 1234-67T
     static final int    END_OF_DAY           = 10;  // 1234-67-90T
+    static final int    END_OF_HOURS         = 13;
     static final int    END_OF_MINUTES       = 16;
     static final int    END_OF_SECONDS       = 19;
 
+    // Fractional seconds with more digits than this are not held in a long
+    // by the fixed-layout parser and formatter.
+    private static final int MAX_FIXED_LAYOUT_FRACTION_DIGITS = 18;
+
 
     /**
      * Returns a new Timestamp that represents the point in time, precision
@@ -970,6 +982,11 @@ public final class Timestamp
             throw fail(in);
         }
 
+        Timestamp fixed = valueOfFixedLayout(in, length);
+        if (fixed != null) {
+            return fixed;
+        }
+
         // check for 'null.timestamp'
         if (in.charAt(0) == 'n') {
             if (length >= LEN_OF_NULL_IMAGE
@@ -1139,6 +1156,118 @@ public final class Timestamp
         return ts;
     }
 
+    /**
+     * Parses the common layout {@code yyyy-mm-ddThh:mm:ss(.fff...)(Z|+hh:mm|-hh:mm)}
+     * with primitive arithmetic, holding the fractional seconds as a
+     * {@code long} until the Timestamp is constructed.
+     *
+     * @return the Timestamp; or {@code null} if the text has any other layout
+     * or invalid fields, in which case the general parser must be used.
+     */
+    private static Timestamp valueOfFixedLayout(CharSequence in, int length)
+    {
+        if (length <= END_OF_SECONDS
+            || in.charAt(END_OF_YEAR) != '-'
+            || in.charAt(END_OF_MONTH) != '-'
+            || in.charAt(END_OF_DAY) != 'T'
+            || in.charAt(END_OF_HOURS) != ':'
+            || in.charAt(END_OF_MINUTES) != ':')
+        {
+            return null;
+        }
+        int year   = fixed_digits(in, 0, 4);
+        int month  = fixed_digits(in, END_OF_YEAR + 1, 2);
+        int day    = fixed_digits(in, END_OF_MONTH + 1, 2);
+        int hour   = fixed_digits(in, END_OF_DAY + 1, 2);
+        int minute = fixed_digits(in, END_OF_HOURS + 1, 2);
+        int second = fixed_digits(in, END_OF_MINUTES + 1, 2);
+        // fixed_digits returns a negative value if it finds a non-digit
+        if ((year | month | day | hour | minute | second) < 0
+            || year < 1
+            || month < 1 || month > 12
+            || day < 1 || day > last_day_in_month(year, month)
+            || hour > 23 || minute > 59 || second > 59)
+        {
+            return null;
+        }
+
+        int pos = END_OF_SECONDS;
+        BigDecimal fraction = null;
+        long unscaled = 0;
+        if (in.charAt(pos) == '.') {
+            int start = ++pos;
+            while (pos < length) {
+                int digit = in.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) break;
+                unscaled = unscaled * 10 + digit;
+                pos++;
+            }
+            int scale = pos - start;
+            if (scale == 0 || scale > MAX_FIXED_LAYOUT_FRACTION_DIGITS) {
+                return null;
+            }
+            fraction = BigDecimal.valueOf(unscaled, scale);
+        }
+
+        if (pos >= length) {
+            return null;
+        }
+        Integer offset;
+        char timezone_start = in.charAt(pos);
+        if (timezone_start == 'Z') {
+            offset = UTC_OFFSET;
+            pos++;
+        }
+        else if ((timezone_start == '+' || timezone_start == '-')
+                 && length >= pos + 6 && in.charAt(pos + 3) == ':')
+        {
+            int tzdHours   = fixed_digits(in, pos + 1, 2);
+            int tzdMinutes = fixed_digits(in, pos + 4, 2);
+            if ((tzdHours | tzdMinutes) < 0 || tzdHours > 23 || tzdMinutes > 59) {
+                return null;
+            }
+            int minutes = tzdHours * 60 + tzdMinutes;
+            if (timezone_start == '-') {
+                // -00:00 is the unknown offset
+                offset = minutes == 0 ? UNKNOWN_OFFSET : Integer.valueOf(-minutes);
+            }
+            else {
+                offset = minutes;
+            }
+            pos += 6;
+        }
+        else {
+            return null;
+        }
+        if (pos != length) {
+            return null;
+        }
+
+        Timestamp ts =
+            new Timestamp(Precision.SECOND, year, month, day,
+                          hour, minute, second, fraction, offset, APPLY_OFFSET_YES, CHECK_FRACTION_NO);
+        ts._parsedFraction = fraction;
+        ts._parsedFractionUnscaled = unscaled;
+        return ts;
+    }
+
+    /**
+     * @return the value of the given number of ASCII digits starting at the
+     * given position, or -1 if any of them is not an ASCII digit.
+     */
+    private static int fixed_digits(CharSequence in, int start, int length)
+    {
+        int value = 0;
+        for (int ii = start; ii < start + length; ii++) {
+            int digit = in.charAt(ii) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     private static int read_digits(CharSequence in, int start, int length,
                                    int terminator, String field)
     {
@@ -1213,7 +1342,7 @@ public final class Timestamp
         // The Copy-Constructor we're using here already expects the time field
         // values to be in UTC, and that is already what we have for this
         // Timestamp -- no adjustment necessary to make it local time.
-        return new Timestamp(_precision,
+        Timestamp copy = new Timestamp(_precision,
                              _year,
                              _month,
                              _day,
@@ -1224,6 +1353,9 @@ public final class Timestamp
                              _offset,
                              APPLY_OFFSET_NO,
                              CHECK_FRACTION_NO);
+        copy._parsedFraction = _parsedFraction;
+        copy._parsedFractionUnscaled = _parsedFractionUnscaled;
+        return copy;
     }
 
     /**
@@ -1258,6 +1390,8 @@ public final class Timestamp
                                             CHECK_FRACTION_NO);
         // explicitly apply the local offset to the time field values
         localtime.apply_offset(-offset);
+        localtime._parsedFraction = _parsedFraction;
+        localtime._parsedFractionUnscaled = _parsedFractionUnscaled;
 
         assert localtime._offset == _offset;
 
@@ -2146,7 +2280,7 @@ public final class Timestamp
      *
      * @see #printZ(Appendable)
      */
-    private void print(Appendable out, int maximumDigits)
+    void print(Appendable out, int maximumDigits)
         throws IOException
     {
         // we have to make a copy to preserve the "immutable" contract
@@ -2276,7 +2410,7 @@ public final class Timestamp
             out.append(":");
             print_digits(out, adjusted._second, 2);
             if (adjusted._fraction != null) {
-                print_fractional_digits(out, adjusted._fraction);
+                print_fractional_digits(out, adjusted);
             }
         }
 
@@ -2305,27 +2439,45 @@ public final class Timestamp
             out.append("-00:00");
         }
     }
-    private static void print_digits(Appendable out, int value, int length)
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+        100000000L, 1000000000L, 10000000000L, 100000000000L,
+        1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L, 10000000000000000L, 100000000000000000L
+    };
+
+    /**
+     * Prints the low {@code length} decimal digits of the value, most
+     * significant first, padding with leading zeros.
+     */
+    private static void print_digits(Appendable out, long value, int length)
         throws IOException
     {
-        char temp[] = new char[length];
-        while (length > 0) {
-            length--;
-            int next = value / 10;
-            temp[length] =  (char)('0' + (value - next*10));
-            value = next;
-        }
         while (length > 0) {
             length--;
-            temp[length] =  '0';
-        }
-        for (char c : temp) {
-            out.append(c);
+            long power = POWERS_OF_TEN[length];
+            int digit = (int) ((value / power) % 10);
+            out.append((char)('0' + digit));
         }
     }
-    private static void print_fractional_digits(Appendable out, BigDecimal value)
+    private static void print_fractional_digits(Appendable out, Timestamp adjusted)
         throws IOException
     {
+        BigDecimal value = adjusted._fraction;
+        int scale = value.scale();
+        if (value == adjusted._parsedFraction) {
+            // The unscaled value is already known, so nothing is allocated.
+            out.append('.');
+            print_digits(out, adjusted._parsedFractionUnscaled, scale);
+            return;
+        }
+        if (scale > 0 && scale <= MAX_FIXED_LAYOUT_FRACTION_DIGITS && value.signum() >= 0) {
+            // The fraction is less than one, so its unscaled value has at
+            // most scale digits. Only the BigInteger is allocated.
+            out.append('.');
+            print_digits(out, value.unscaledValue().longValue(), scale);
+            return;
+        }
         String temp = value.toPlainString(); // crude, but it works
         if (temp.charAt(0) == '0') { // this should always be true
             temp = temp.substring(1);
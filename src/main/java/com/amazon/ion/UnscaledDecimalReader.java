@@ -0,0 +1,63 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Reads the reader's current decimal value as a {@code long} unscaled value
+ * and an {@code int} scale, without allocating a {@link java.math.BigDecimal}
+ * or {@link java.math.BigInteger}. The value of the decimal is
+ * {@code unscaledValue() * 10^-scale()}, as for
+ * {@link java.math.BigDecimal#valueOf(long, int)}.
+ * <p>
+ * Most decimals, such as monetary amounts, have unscaled values that fit in a
+ * {@code long}. Callers should check {@link #isUnscaledValueLong()} and fall
+ * back to {@link IonReader#decimalValue()} for the remainder.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of {@link IonReader}s over
+ * binary or text Ion data.
+ * The facet remains valid for the life of the reader.
+ */
+public interface UnscaledDecimalReader
+{
+    /**
+     * Determines whether the current decimal can be represented exactly by
+     * {@link #unscaledValue()} and {@link #scale()}. This is false when the
+     * unscaled value is outside the range of a {@code long} (from
+     * {@link Long#MIN_VALUE} to {@link Long#MAX_VALUE}, inclusive), and for
+     * negative zero, whose sign cannot be represented by a {@code long}.
+     *
+     * @return true if the unscaled value of the current decimal fits in a
+     * {@code long}; otherwise, false.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null decimal.
+     */
+    public boolean isUnscaledValueLong();
+
+
+    /**
+     * Returns the unscaled value of the current decimal.
+     *
+     * @return the unscaled value.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null decimal.
+     * @throws IonException if {@link #isUnscaledValueLong()} is false.
+     */
+    public long unscaledValue();
+
+
+    /**
+     * Returns the scale of the current decimal, which is the negation of the
+     * exponent in its Ion representation.
+     *
+     * @return the scale.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null decimal.
+     */
+    public int scale();
+}
@@ -0,0 +1,64 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+/**
+ * Provides access to the text of the current string or symbol value without
+ * allocating a new {@link String} for each value. This is useful when the
+ * text is only hashed, compared, or forwarded.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The facet remains valid for the life of the reader and always operates on
+ * the reader's current value.
+ */
+public interface Utf8TextProvider
+{
+    /**
+     * Gets the number of bytes in the UTF-8 encoding of the current value's
+     * text.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null string or symbol.
+     * @throws UnknownSymbolException if the current value is a symbol with
+     * unknown text.
+     */
+    public int getUtf8Length();
+
+
+    /**
+     * Copies the UTF-8 encoding of the current value's text into the given
+     * array.
+     *
+     * @param destination the array into which the bytes are copied.
+     * @param offset the index in {@code destination} at which to copy the
+     * first byte.
+     *
+     * @return the number of bytes copied, which is equal to
+     * {@link #getUtf8Length()}.
+     *
+     * @throws IndexOutOfBoundsException if {@code destination} does not have
+     * room for {@link #getUtf8Length()} bytes after {@code offset}.
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null string or symbol.
+     * @throws UnknownSymbolException if the current value is a symbol with
+     * unknown text.
+     */
+    public int getUtf8Bytes(byte[] destination, int offset);
+
+
+    /**
+     * Gets a view of the current value's text. The returned sequence is owned
+     * by the reader and may be reused; it is only valid until the reader is
+     * next advanced or this method is next called. Use
+     * {@link CharSequence#toString()} to retain the text.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null string or symbol.
+     * @throws UnknownSymbolException if the current value is a symbol with
+     * unknown text.
+     */
+    public CharSequence getTextView();
+}
@@ -0,0 +1,86 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Streams the content of the current blob, clob, or string value in chunks,
+ * without requiring the entire value to be held in memory. The content of a
+ * blob or clob is its raw bytes; the content of a string is its UTF-8
+ * encoding.
+ * <p>
+ * When the reader was built from an {@link InputStream} with incremental
+ * reading disabled, the bytes of the current value that have not already been
+ * buffered are read directly from the input stream as the content is
+ * consumed. Such values are therefore not limited by the
+ * {@link IonBufferConfiguration}'s maximum buffer size, and are never passed
+ * to its {@link BufferConfiguration.OversizedValueHandler}. This allows very
+ * large payloads embedded in Ion data (e.g. as a field of an envelope struct)
+ * to be forwarded with constant memory overhead. Incremental readers must
+ * buffer each top-level value in its entirety, so streaming does not reduce
+ * their memory requirements; for byte-backed readers, the content is streamed
+ * directly from the provided bytes.
+ * <p>
+ * Content that was read directly from the input stream is consumed: after any
+ * of it has been streamed, the current value can no longer be accessed via
+ * {@link IonReader}'s value methods (e.g. {@link IonReader#newBytes()}) or
+ * streamed again. The reader may still be advanced normally, in which case any
+ * content that was not streamed is skipped.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of binary {@link IonReader}s.
+ * The facet remains valid for the life of the reader and always operates on
+ * the reader's current value.
+ */
+public interface ValueStreamer
+{
+    /**
+     * Creates a stream over the content of the current value. The stream is
+     * only valid until the reader is next advanced, stepped in, or stepped
+     * out; after that, reading from it raises {@link IllegalStateException}.
+     * Closing the stream has no effect on the reader.
+     *
+     * @return a new stream.
+     *
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null blob, clob, or string, or if the current value's content has
+     * already been consumed.
+     */
+    public InputStream newInputStream();
+
+
+    /**
+     * Writes the content of the current value to the given channel.
+     *
+     * @param channel the channel.
+     *
+     * @return the number of bytes written.
+     *
+     * @throws IOException if thrown by the channel.
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null blob, clob, or string, or if the current value's content has
+     * already been consumed.
+     */
+    public long transferValueTo(WritableByteChannel channel) throws IOException;
+
+
+    /**
+     * Writes the content of the current value to the given stream.
+     *
+     * @param out the stream.
+     *
+     * @return the number of bytes written.
+     *
+     * @throws IOException if thrown by the stream.
+     * @throws IllegalStateException if the reader is not positioned on a
+     * non-null blob, clob, or string, or if the current value's content has
+     * already been consumed.
+     */
+    public long transferValueTo(OutputStream out) throws IOException;
+}
@@ -4,8 +4,8 @@ package com.amazon.ion
 
 /**
  * **NOT FOR APPLICATION USE. This method may be removed at any time.**
- * Trampoline to the non-public `Timestamp.toString(Int)` method.
+ * Trampoline to the non-public `Timestamp.print(Appendable, Int)` method.
  */
-internal fun printTimestamp(timestamp: Timestamp, maximumDigits: Int): String {
-    return timestamp.toString(maximumDigits)
+internal fun printTimestamp(out: Appendable, timestamp: Timestamp, maximumDigits: Int) {
+    timestamp.print(out, maximumDigits)
 }
@@ -9,6 +9,9 @@ import com.amazon.ion.IonCursor;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IvmNotificationConsumer;
 import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.impl.bin.Ion_1_1_Constants;
+import com.amazon.ion.impl.bin.OpCodes;
+import com.amazon.ion.system.ReaderMetricsListener;
 
 import java.io.ByteArrayInputStream;
 import java.io.EOFException;
@@ -29,7 +32,15 @@ class IonCursorBinary implements IonCursor {
     private static final int VALUE_BITS_PER_VARUINT_BYTE = 7;
     // Note: because long is a signed type, Long.MAX_VALUE is represented in Long.SIZE - 1 bits.
     private static final int MAXIMUM_SUPPORTED_VAR_UINT_BYTES = (Long.SIZE - 1) / VALUE_BITS_PER_VARUINT_BYTE;
+    // Ion 1.1 FlexUInts and FlexInts that fit in a `long` never exceed 9 bytes; the first of these contains only length
+    // bits.
+    private static final int MAXIMUM_SUPPORTED_FLEX_UINT_BYTES = 9;
+    // The single-byte FlexInt representation of zero, which escapes a FlexSym.
+    private static final byte FLEX_ZERO_BYTE = 0x01;
+    // The Ion version ID used when slicing Ion 1.1 data.
+    static final String ION_1_1 = "$ion_1_1";
     private static final int IVM_START_BYTE = 0xE0;
+    private static final int TYPED_NULL_OPCODE_1_1 = OpCodes.NULL_TYPED & 0xFF;
     private static final int IVM_FINAL_BYTE = 0xEA;
     private static final int IVM_REMAINING_LENGTH = 3; // Length of the IVM after the first byte.
     private static final int SINGLE_BYTE_MASK = 0xFF;
@@ -102,12 +113,18 @@ class IonCursorBinary implements IonCursor {
         /**
          * The maximum size of the buffer. If the user attempts to buffer more bytes than this, an exception will be raised.
          */
-        final int maximumBufferSize;
+        int maximumBufferSize;
+
+        /**
+         * Indicates whether `maximumBufferSize` was derived from the size of fixed-size input (such as a
+         * ByteArrayInputStream) rather than configured by the user, in which case it does not apply to new input.
+         */
+        boolean isMaximumBufferSizeFromInput = false;
 
         /**
          * The source of data, for refillable streams.
          */
-        final InputStream inputStream;
+        InputStream inputStream;
 
         /**
          * Handler invoked when a single value would exceed `maximumBufferSize`.
@@ -124,11 +141,65 @@ class IonCursorBinary implements IonCursor {
          */
         int individualBytesSkippedWithoutBuffering = 0;
 
-        RefillableState(InputStream inputStream, int capacity, int maximumBufferSize, State initialState) {
+        /**
+         * Indicates whether some of the current value's bytes have been read directly from the input stream, without
+         * being buffered, by `readValueBytes`.
+         */
+        boolean isCurrentValueStreamed = false;
+
+        /**
+         * The pool from which buffers are acquired, or null if buffers are allocated directly.
+         */
+        final IonBufferConfiguration.BufferPool bufferPool;
+
+        /**
+         * The initial size of the buffer, below which the buffer is never shrunk.
+         */
+        final int initialCapacity;
+
+        /**
+         * The number of consecutive underused top-level values after which the buffer is shrunk, or 0 if the buffer
+         * is never shrunk.
+         */
+        final int shrinkThreshold;
+
+        /**
+         * The number of consecutive top-level values that have underused the buffer.
+         */
+        int underusedValueCount = 0;
+
+        /**
+         * The largest number of bytes that have been required to be buffered since the current top-level value
+         * began.
+         */
+        long bytesRequiredByCurrentValue = 0;
+
+        /**
+         * The largest number of bytes required by any value in the current run of underused top-level values.
+         */
+        long bytesRequiredByUnderusedValues = 0;
+
+        /**
+         * The total stream position at which the buffer's usage was last evaluated, which prevents a single position
+         * from being counted more than once when evaluation is resumed after running out of data.
+         */
+        long lastUsageCheckPosition = -1;
+
+        RefillableState(
+            InputStream inputStream,
+            int capacity,
+            int maximumBufferSize,
+            State initialState,
+            IonBufferConfiguration.BufferPool bufferPool,
+            int shrinkThreshold
+        ) {
             this.inputStream = inputStream;
             this.capacity = capacity;
+            this.initialCapacity = capacity;
             this.maximumBufferSize = maximumBufferSize;
             this.state = initialState;
+            this.bufferPool = bufferPool;
+            this.shrinkThreshold = shrinkThreshold;
         }
 
     }
@@ -136,7 +207,7 @@ class IonCursorBinary implements IonCursor {
     /**
      * Dummy state that indicates the cursor has been terminated and that additional API calls will have no effect.
      */
-    private static final RefillableState TERMINATED_STATE = new RefillableState(null, -1, -1, State.TERMINATED);
+    private static final RefillableState TERMINATED_STATE = new RefillableState(null, -1, -1, State.TERMINATED, null, 0);
 
     /**
      * Stack to hold container info. Stepping into a container results in a push; stepping out results in a pop.
@@ -156,7 +227,7 @@ class IonCursorBinary implements IonCursor {
     /**
      * The start offset into the user-provided byte array, or 0 if the user provided an InputStream.
      */
-    private final long startOffset;
+    private long startOffset;
 
     /**
      * The index of the next byte in the buffer that is available to be read. Always less than or equal to `limit`.
@@ -177,7 +248,12 @@ class IonCursorBinary implements IonCursor {
     /**
      * The handler that will be notified when data is processed.
      */
-    private final BufferConfiguration.DataHandler dataHandler;
+    private BufferConfiguration.DataHandler dataHandler;
+
+    /**
+     * The listener that will be notified of the work performed by the reader, or null if metrics are disabled.
+     */
+    ReaderMetricsListener metricsListener = null;
 
     /**
      * Marker for the sequence of annotation symbol IDs on the current value. If there are no annotations on
@@ -235,6 +311,12 @@ class IonCursorBinary implements IonCursor {
      */
     int fieldSid = -1;
 
+    /**
+     * Marker for the inline UTF-8 text of the current value's field name, which may only occur in Ion 1.1. If the
+     * current field name does not have inline text, the startIndex will be negative.
+     */
+    final Marker fieldTextMarker = new Marker(-1, -1);
+
     /**
      * The index of the first byte in the buffer that has not yet been successfully processed. The checkpoint is
      * only advanced when sufficient progress has been made, e.g. when a complete value header has been processed, or
@@ -391,20 +473,20 @@ class IonCursorBinary implements IonCursor {
     }
 
     /**
-     * Provides a fixed-size buffer configuration suitable for the given ByteArrayInputStream.
-     * @param inputStream the stream.
+     * Provides a fixed-size buffer configuration suitable for a fixed-size stream, such as a ByteArrayInputStream.
+     * @param available the number of bytes available in the stream.
      * @param alreadyReadLen the number of bytes already read from the stream. The configuration provided will allow
      *                       enough space for these bytes.
      * @return a fixed IonBufferConfiguration.
      */
     private static IonBufferConfiguration getFixedSizeConfigurationFor(
-        ByteArrayInputStream inputStream,
+        int available,
         int alreadyReadLen
     ) {
         // Note: ByteArrayInputStream.available() can return a negative number because its constructor does
         // not validate that the offset and length provided are actually within range of the provided byte array.
         // Setting the result to 0 in this case avoids an error when looking up the fixed sized configuration.
-        int fixedBufferSize = Math.max(0, inputStream.available());
+        int fixedBufferSize = Math.max(0, available);
         if (alreadyReadLen > 0) {
             fixedBufferSize += alreadyReadLen;
         }
@@ -428,14 +510,18 @@ class IonCursorBinary implements IonCursor {
         int alreadyReadOff,
         int alreadyReadLen
     ) {
-        if (configuration == IonBufferConfiguration.DEFAULT) {
+        boolean isDefaultConfiguration = configuration == IonBufferConfiguration.DEFAULT;
+        if (isDefaultConfiguration) {
             dataHandler = null;
             if (inputStream instanceof ByteArrayInputStream) {
                 // ByteArrayInputStreams are fixed-size streams. Clamp the reader's internal buffer size at the size of
                 // the stream to avoid wastefully allocating extra space that will never be needed. It is still
                 // preferable for the user to manually specify the buffer size if it's less than the default, as doing
                 // so allows this branch to be skipped.
-                configuration = getFixedSizeConfigurationFor((ByteArrayInputStream) inputStream, alreadyReadLen);
+                configuration = getFixedSizeConfigurationFor(((ByteArrayInputStream) inputStream).available(), alreadyReadLen);
+            } else if (inputStream instanceof _Private_ByteBufferInputStream) {
+                // Likewise for ByteBufferInputStreams.
+                configuration = getFixedSizeConfigurationFor(((_Private_ByteBufferInputStream) inputStream).available(), alreadyReadLen);
             }
         } else {
             validate(configuration);
@@ -448,7 +534,9 @@ class IonCursorBinary implements IonCursor {
             containerStack[i] = new Marker(-1, -1);
         }
 
-        this.buffer = new byte[configuration.getInitialBufferSize()];
+        this.buffer = configuration.getBufferPool() == null
+            ? new byte[configuration.getInitialBufferSize()]
+            : configuration.getBufferPool().acquire(configuration.getInitialBufferSize());
         this.startOffset = 0;
         this.offset = 0;
         this.limit = 0;
@@ -462,8 +550,11 @@ class IonCursorBinary implements IonCursor {
             inputStream,
             configuration.getInitialBufferSize(),
             configuration.getMaximumBufferSize(),
-            State.READY
+            State.READY,
+            configuration.getBufferPool(),
+            configuration.getShrinkThreshold()
         );
+        refillableState.isMaximumBufferSizeFromInput = isDefaultConfiguration && configuration != IonBufferConfiguration.DEFAULT;
         registerOversizedValueHandler(configuration.getOversizedValueHandler());
     }
 
@@ -518,14 +609,21 @@ class IonCursorBinary implements IonCursor {
         long shortfall = minimumNumberOfBytesRequired - refillableState.capacity;
         if (shortfall > 0) {
             int newSize = (int) Math.min(Math.max(refillableState.capacity * 2, nextPowerOfTwo((int) (refillableState.capacity + shortfall))), maximumFreeSpace);
-            byte[] newBuffer = new byte[newSize];
+            byte[] newBuffer = allocateBuffer(newSize);
             moveBytesToStartOfBuffer(newBuffer, startOffset);
+            if (metricsListener != null) {
+                metricsListener.onBufferResized(buffer.length, newBuffer.length);
+            }
             refillableState.capacity = newSize;
+            releaseBuffer(buffer);
             buffer = newBuffer;
             byteBuffer = ByteBuffer.wrap(buffer, (int) offset, (int) refillableState.capacity);
         } else {
             // The current capacity can accommodate the requested size; move the existing bytes to the beginning
             // to make room for the remaining requested bytes to be filled at the end.
+            if (metricsListener != null && startOffset > 0) {
+                metricsListener.onBufferShifted((int) availableAt(startOffset));
+            }
             moveBytesToStartOfBuffer(buffer, startOffset);
         }
         return true;
@@ -541,6 +639,7 @@ class IonCursorBinary implements IonCursor {
         long shortfall = numberOfBytes - availableAt(index);
         if (shortfall > 0) {
             refillableState.bytesRequested = numberOfBytes + (index - offset);
+            recordBytesRequired(refillableState.bytesRequested);
             if (ensureCapacity(refillableState.bytesRequested)) {
                 // Fill all the free space, not just the shortfall; this reduces I/O.
                 shortfall = refill(refillableState.bytesRequested);
@@ -559,6 +658,76 @@ class IonCursorBinary implements IonCursor {
         return false;
     }
 
+    /**
+     * @param size the size of the buffer to allocate.
+     * @return a buffer of at least the given size, from the pool if one is configured.
+     */
+    private byte[] allocateBuffer(int size) {
+        return refillableState.bufferPool == null ? new byte[size] : refillableState.bufferPool.acquire(size);
+    }
+
+    /**
+     * Returns the given buffer to the pool, if one is configured. The buffer must not be used afterward.
+     * @param bufferToRelease the buffer.
+     */
+    private void releaseBuffer(byte[] bufferToRelease) {
+        if (refillableState.bufferPool != null) {
+            refillableState.bufferPool.release(bufferToRelease);
+        }
+    }
+
+    /**
+     * Records that the given number of bytes, counted from `offset`, are required to be buffered in order to
+     * process the current top-level value.
+     * @param numberOfBytes the number of bytes.
+     */
+    private void recordBytesRequired(long numberOfBytes) {
+        if (numberOfBytes > refillableState.bytesRequiredByCurrentValue) {
+            refillableState.bytesRequiredByCurrentValue = numberOfBytes;
+        }
+    }
+
+    /**
+     * Evaluates the buffer's usage by the top-level value that just ended. If the buffer has been underused for the
+     * configured number of consecutive top-level values, replaces it with a smaller buffer that is no smaller than
+     * the initial buffer size. Must only be called between top-level values, when `offset` points to the first byte
+     * that remains to be read.
+     */
+    private void shrinkBufferIfUnderused() {
+        long position = offset + refillableState.totalDiscardedBytes;
+        if (position == refillableState.lastUsageCheckPosition) {
+            return;
+        }
+        refillableState.lastUsageCheckPosition = position;
+        long bytesRequired = refillableState.bytesRequiredByCurrentValue;
+        refillableState.bytesRequiredByCurrentValue = 0;
+        if (refillableState.capacity <= refillableState.initialCapacity || bytesRequired > refillableState.capacity / 4) {
+            refillableState.underusedValueCount = 0;
+            refillableState.bytesRequiredByUnderusedValues = 0;
+            return;
+        }
+        refillableState.bytesRequiredByUnderusedValues = Math.max(refillableState.bytesRequiredByUnderusedValues, bytesRequired);
+        if (++refillableState.underusedValueCount < refillableState.shrinkThreshold) {
+            return;
+        }
+        long bytesToRetain = Math.max(refillableState.bytesRequiredByUnderusedValues * 2, availableAt(offset));
+        refillableState.underusedValueCount = 0;
+        refillableState.bytesRequiredByUnderusedValues = 0;
+        int newSize = Math.max(refillableState.initialCapacity, nextPowerOfTwo((int) bytesToRetain));
+        if (newSize >= refillableState.capacity) {
+            return;
+        }
+        byte[] newBuffer = allocateBuffer(newSize);
+        moveBytesToStartOfBuffer(newBuffer, (int) offset);
+        if (metricsListener != null) {
+            metricsListener.onBufferResized(buffer.length, newBuffer.length);
+        }
+        refillableState.capacity = newSize;
+        releaseBuffer(buffer);
+        buffer = newBuffer;
+        byteBuffer = ByteBuffer.wrap(buffer, 0, newSize);
+    }
+
     /**
      * Moves all buffered (but not yet read) bytes from 'buffer' to the destination buffer.
      * @param destinationBuffer the destination buffer, which may be 'buffer' itself or a new buffer.
@@ -585,10 +754,14 @@ class IonCursorBinary implements IonCursor {
     /**
      * Reads a single byte without adding it to the buffer. Used when skipping an oversized value, in cases where
      * the byte values are important (e.g. within the header of the oversized value, in order to determine
-     * the number of bytes to skip).
+     * the number of bytes to skip). Any bytes that were buffered before the value was found to be oversized are
+     * consumed first, so that the logical position remains `peekIndex + individualBytesSkippedWithoutBuffering`.
      * @return the next byte, or -1 if the stream is at its end.
      */
     private int readByteWithoutBuffering() {
+        if (peekIndex < limit) {
+            return buffer[(int) (peekIndex++)] & SINGLE_BYTE_MASK;
+        }
         int b = -1;
         try {
             b = refillableState.inputStream.read();
@@ -604,6 +777,36 @@ class IonCursorBinary implements IonCursor {
         return b;
     }
 
+    /**
+     * Skips bytes without adding them to the buffer. Used when skipping an oversized value, in cases where the number
+     * of bytes to skip must be known before the value's end index can be calculated (e.g. within an Ion 1.1
+     * annotation sequence). Like `readByteWithoutBuffering`, consumes any buffered bytes first.
+     * @param numberOfBytes the number of bytes to skip.
+     * @return true if the stream ended before all the bytes could be skipped; otherwise, false.
+     */
+    private boolean skipBytesWithoutBuffering(long numberOfBytes) {
+        long bufferedBytesToSkip = Math.min(numberOfBytes, availableAt(peekIndex));
+        peekIndex += bufferedBytesToSkip;
+        long unbufferedBytesToSkip = numberOfBytes - bufferedBytesToSkip;
+        while (unbufferedBytesToSkip > 0) {
+            long skipped = 0;
+            try {
+                skipped = refillableState.inputStream.skip(unbufferedBytesToSkip);
+            } catch (EOFException e) {
+                // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
+                // to skip than are currently available (e.g. if a header or trailer is incomplete).
+            } catch (IOException e) {
+                throwAsIonException(e);
+            }
+            if (skipped <= 0) {
+                return true;
+            }
+            refillableState.individualBytesSkippedWithoutBuffering += skipped;
+            unbufferedBytesToSkip -= skipped;
+        }
+        return false;
+    }
+
     /**
      * Peek at the next byte from the stream, assuming it will be buffered unless the current value is being skipped.
      * @return the byte, or -1 if the end of the stream has been reached.
@@ -653,12 +856,20 @@ class IonCursorBinary implements IonCursor {
         peekIndex = Math.max(peekIndex - shiftAmount, 0);
         valuePreHeaderIndex -= shiftAmount;
         valueMarker.startIndex -= shiftAmount;
-        valueMarker.endIndex -= shiftAmount;
+        if (valueMarker.endIndex > DELIMITED_MARKER) {
+            // The end of a delimited container that has not yet been found remains unknown. Ends that have already been
+            // passed are clamped so that they cannot be mistaken for the delimited marker.
+            valueMarker.endIndex = Math.max(valueMarker.endIndex - shiftAmount, 0);
+        }
         checkpoint -= shiftAmount;
         if (annotationSequenceMarker.startIndex > -1) {
             annotationSequenceMarker.startIndex -= shiftAmount;
             annotationSequenceMarker.endIndex -= shiftAmount;
         }
+        if (fieldTextMarker.startIndex > -1) {
+            fieldTextMarker.startIndex -= shiftAmount;
+            fieldTextMarker.endIndex -= shiftAmount;
+        }
         shiftContainerEnds(shiftAmount);
         refillableState.totalDiscardedBytes += shiftAmount;
     }
@@ -677,6 +888,7 @@ class IonCursorBinary implements IonCursor {
         // if the stream is not at EOF. If this happens and there is still a shortfall, keep requesting bytes
         // until either the shortfall is filled or EOF is reached.
         do {
+            long startNanos = metricsListener == null ? 0 : System.nanoTime();
             try {
                 numberOfBytesFilled = refillableState.inputStream.read(buffer, (int) limit, (int) freeSpaceAt(limit));
             } catch (EOFException e) {
@@ -686,6 +898,9 @@ class IonCursorBinary implements IonCursor {
             } catch (IOException e) {
                 throwAsIonException(e);
             }
+            if (metricsListener != null) {
+                metricsListener.onRefill(numberOfBytesFilled, System.nanoTime() - startNanos);
+            }
             if (numberOfBytesFilled > 0) {
                 limit += numberOfBytesFilled;
             }
@@ -936,83 +1151,986 @@ class IonCursorBinary implements IonCursor {
         } else {
             event = Event.START_SCALAR;
         }
-        return endIndex;
+        return endIndex;
+    }
+
+    /**
+     * Reads the field SID from the VarUInt starting at `peekIndex`, ensuring enough data is available in the buffer.
+     * @return true if there are not enough bytes in the stream to complete the field SID; otherwise, false.
+     */
+    private boolean slowReadFieldName_1_0() {
+        // The value must have at least 2 more bytes: 1 for the smallest-possible field SID and 1 for
+        // the smallest-possible representation.
+        if (!fillAt(peekIndex, 2)) {
+            return true;
+        }
+        fieldSid = (int) slowReadVarUInt_1_0();
+        return fieldSid < 0;
+    }
+
+    /* ---- Ion 1.1 ---- */
+
+    /**
+     * Calculates the number of bytes in the FlexUInt or FlexInt that begins at the given index. This must only be
+     * called when it is known that the buffer already contains the first byte of the FlexUInt or FlexInt, and, if that
+     * byte is zero, the second byte.
+     * @param index the index of the first byte of the FlexUInt or FlexInt.
+     * @return the number of bytes.
+     */
+    private int flexLengthAt_1_1(long index) {
+        int firstByte = buffer[(int) index] & SINGLE_BYTE_MASK;
+        if (firstByte != 0) {
+            return Integer.numberOfTrailingZeros(firstByte) + 1;
+        }
+        if ((buffer[(int) index + 1] & 1) == 0) {
+            throw new IonException("Found a FlexUInt or FlexInt that was too large to fit in a `long`");
+        }
+        return MAXIMUM_SUPPORTED_FLEX_UINT_BYTES;
+    }
+
+    /**
+     * Reads the FlexUInt or FlexInt of the given length that begins at `peekIndex`, which must already be buffered.
+     * After return, `peekIndex` will point at the first byte that follows the FlexUInt or FlexInt.
+     * @param numberOfBytes the number of bytes in the FlexUInt or FlexInt, as calculated by `flexLengthAt_1_1`.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private long uncheckedReadFlexBits_1_1(int numberOfBytes, boolean isSigned) {
+        long result;
+        if (numberOfBytes == MAXIMUM_SUPPORTED_FLEX_UINT_BYTES) {
+            // The first byte contains only length bits. Ninth bit of length is the lowest bit of the second byte.
+            result = 0;
+            for (int i = numberOfBytes - 1; i > 0; i--) {
+                result = (result << Byte.SIZE) | (buffer[(int) peekIndex + i] & SINGLE_BYTE_MASK);
+            }
+            result = isSigned ? result >> 1 : result >>> 1;
+        } else {
+            result = 0;
+            for (int i = numberOfBytes - 1; i >= 0; i--) {
+                result = (result << Byte.SIZE) | (buffer[(int) peekIndex + i] & SINGLE_BYTE_MASK);
+            }
+            if (isSigned) {
+                // Sign-extend from the highest bit of the representation.
+                int unusedBits = Long.SIZE - (numberOfBytes * Byte.SIZE);
+                result = (result << unusedBits) >> unusedBits;
+                result >>= numberOfBytes;
+            } else {
+                result >>>= numberOfBytes;
+            }
+        }
+        peekIndex += numberOfBytes;
+        return result;
+    }
+
+    /**
+     * Ensures that the first byte of the FlexUInt or FlexInt at `peekIndex` (and the second, if the first is zero) is
+     * available. This must only be called when the cursor is not in slow mode.
+     */
+    private void uncheckedRequireFlexLengthBits_1_1() {
+        if (peekIndex >= limit || (buffer[(int) peekIndex] == 0 && peekIndex + 1 >= limit)) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+    }
+
+    /**
+     * Reads a FlexUInt. NOTE: the FlexUInt must fit in a `long`. This must only be called when it is known that the
+     * buffer already contains all the bytes in the FlexUInt.
+     * @return the value.
+     */
+    private long uncheckedReadVarUInt_1_1() {
+        uncheckedRequireFlexLengthBits_1_1();
+        int numberOfBytes = flexLengthAt_1_1(peekIndex);
+        if (peekIndex + numberOfBytes > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        return uncheckedReadFlexBits_1_1(numberOfBytes, false);
+    }
+
+    /**
+     * Reads a FlexInt. NOTE: the FlexInt must fit in a `long`. This must only be called when it is known that the
+     * buffer already contains all the bytes in the FlexInt.
+     * @return the value.
+     */
+    private long uncheckedReadVarInt_1_1() {
+        uncheckedRequireFlexLengthBits_1_1();
+        int numberOfBytes = flexLengthAt_1_1(peekIndex);
+        if (peekIndex + numberOfBytes > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        return uncheckedReadFlexBits_1_1(numberOfBytes, true);
+    }
+
+    /**
+     * Ensures that the FlexUInt or FlexInt that begins `relativeIndex` bytes after `peekIndex` is buffered, without
+     * advancing `peekIndex`.
+     * @param relativeIndex the number of bytes after `peekIndex` at which the FlexUInt or FlexInt begins.
+     * @return the number of bytes in the FlexUInt or FlexInt, or -1 if there are not enough bytes in the stream or
+     *  if the current value is oversized, in which case `refillableState.isSkippingCurrentValue` will be true.
+     */
+    private int slowFillFlexBits_1_1(long relativeIndex) {
+        if (!fillAt(peekIndex, relativeIndex + 1) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        if (buffer[(int) (peekIndex + relativeIndex)] == 0
+            && (!fillAt(peekIndex, relativeIndex + 2) || refillableState.isSkippingCurrentValue)) {
+            return -1;
+        }
+        int numberOfBytes = flexLengthAt_1_1(peekIndex + relativeIndex);
+        if (!fillAt(peekIndex, relativeIndex + numberOfBytes) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * Reads a FlexUInt, ensuring enough data is available in the buffer. NOTE: the FlexUInt must fit in a `long`.
+     * @return the value, or -1 if there are not enough bytes in the stream.
+     */
+    private long slowReadVarUInt_1_1() {
+        if (refillableState.isSkippingCurrentValue) {
+            return slowReadVarUIntWithoutBuffering_1_1();
+        }
+        int numberOfBytes = slowFillFlexBits_1_1(0);
+        if (numberOfBytes < 0) {
+            if (refillableState.isSkippingCurrentValue) {
+                // The FlexUInt was found to be part of an oversized value while it was being filled.
+                return slowReadVarUIntWithoutBuffering_1_1();
+            }
+            return -1;
+        }
+        return uncheckedReadFlexBits_1_1(numberOfBytes, false);
+    }
+
+    /**
+     * Reads a FlexUInt directly from the input stream, without buffering. Used when skipping an oversized value.
+     * NOTE: the FlexUInt must fit in a `long`.
+     * @return the value, or -1 if there are not enough bytes in the stream.
+     */
+    private long slowReadVarUIntWithoutBuffering_1_1() {
+        int currentByte = readByteWithoutBuffering();
+        if (currentByte < 0) {
+            return -1;
+        }
+        int numberOfBytes;
+        long result;
+        int bitsRead;
+        if (currentByte == 0) {
+            currentByte = readByteWithoutBuffering();
+            if (currentByte < 0) {
+                return -1;
+            }
+            if ((currentByte & 1) == 0) {
+                throw new IonException("Found a FlexUInt that was too large to fit in a `long`");
+            }
+            numberOfBytes = MAXIMUM_SUPPORTED_FLEX_UINT_BYTES - 1;
+            result = currentByte >>> 1;
+            bitsRead = Byte.SIZE - 1;
+        } else {
+            numberOfBytes = Integer.numberOfTrailingZeros(currentByte) + 1;
+            result = currentByte >>> numberOfBytes;
+            bitsRead = Byte.SIZE - numberOfBytes;
+        }
+        for (int i = 1; i < numberOfBytes; i++) {
+            currentByte = readByteWithoutBuffering();
+            if (currentByte < 0) {
+                return -1;
+            }
+            result |= ((long) currentByte) << bitsRead;
+            bitsRead += Byte.SIZE;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the bytes that determine the length of the FlexUInt or FlexInt that begins at `peekIndex` directly from
+     * the input stream, without buffering. Used when skipping an oversized value.
+     * @return the number of bytes in the FlexUInt or FlexInt that remain after the bytes that were read, or -1 if
+     *  there are not enough bytes in the stream.
+     */
+    private long slowReadRemainingFlexLengthWithoutBuffering_1_1() {
+        int currentByte = readByteWithoutBuffering();
+        if (currentByte < 0) {
+            return -1;
+        }
+        if (currentByte != 0) {
+            return Integer.numberOfTrailingZeros(currentByte);
+        }
+        currentByte = readByteWithoutBuffering();
+        if (currentByte < 0) {
+            return -1;
+        }
+        if ((currentByte & 1) == 0) {
+            throw new IonException("Found a FlexUInt or FlexInt that was too large to fit in a `long`");
+        }
+        return MAXIMUM_SUPPORTED_FLEX_UINT_BYTES - 2;
+    }
+
+    /**
+     * Reads a FlexSym, which must already be buffered. If the FlexSym has inline text, `textMarker` is set with the
+     * start and end indices of the UTF-8 text; otherwise, the indices of `textMarker` are set to -1.
+     * @param textMarker the marker to set with the location of the symbol's inline text, if applicable.
+     * @return the symbol ID, or -1 if the symbol has inline text.
+     */
+    private int uncheckedReadFlexSym_1_1(Marker textMarker) {
+        long value = uncheckedReadVarInt_1_1();
+        textMarker.startIndex = -1;
+        textMarker.endIndex = -1;
+        if (value > 0) {
+            if (value > Integer.MAX_VALUE) {
+                throw new IonException("Symbol ID exceeds the maximum supported value.");
+            }
+            return (int) value;
+        }
+        if (value < 0) {
+            textMarker.startIndex = peekIndex;
+            textMarker.endIndex = peekIndex - value;
+            if (textMarker.endIndex > limit || textMarker.endIndex < 0) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            peekIndex = textMarker.endIndex;
+            return -1;
+        }
+        // A FlexSym of zero escapes a symbol opcode.
+        if (peekIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        byte escape = buffer[(int) peekIndex++];
+        switch (escape) {
+            case OpCodes.INLINE_SYMBOL_ZERO_LENGTH:
+                textMarker.startIndex = peekIndex;
+                textMarker.endIndex = peekIndex;
+                return -1;
+            case OpCodes.SYMBOL_ADDRESS_1_BYTE:
+                return (int) uncheckedReadFixedUInt_1_1(1);
+            case OpCodes.SYMBOL_ADDRESS_2_BYTES:
+                return (int) uncheckedReadFixedUInt_1_1(2) + Ion_1_1_Constants.FIRST_2_BYTE_SYMBOL_ADDRESS;
+            case OpCodes.SYMBOL_ADDRESS_MANY_BYTES:
+                return (int) uncheckedReadVarUInt_1_1() + Ion_1_1_Constants.FIRST_MANY_BYTE_SYMBOL_ADDRESS;
+            default:
+                throw new IonException("Invalid FlexSym escape.");
+        }
+    }
+
+    /**
+     * Reads a FixedUInt of the given length that begins at `peekIndex`. This must only be called when the buffer is
+     * known to hold all the bytes in the FixedUInt.
+     * @param numberOfBytes the number of bytes in the FixedUInt.
+     * @return the value.
+     */
+    private long uncheckedReadFixedUInt_1_1(int numberOfBytes) {
+        if (peekIndex + numberOfBytes > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        long result = 0;
+        for (int i = numberOfBytes - 1; i >= 0; i--) {
+            result = (result << Byte.SIZE) | (buffer[(int) peekIndex + i] & SINGLE_BYTE_MASK);
+        }
+        peekIndex += numberOfBytes;
+        return result;
+    }
+
+    /**
+     * Ensures that the FlexSym that begins `relativeIndex` bytes after `peekIndex` is buffered, without advancing
+     * `peekIndex`.
+     * @param relativeIndex the number of bytes after `peekIndex` at which the FlexSym begins.
+     * @return the number of bytes in the FlexSym, or -1 if there are not enough bytes in the stream or if the current
+     *  value is oversized, in which case `refillableState.isSkippingCurrentValue` will be true.
+     */
+    private long slowFillFlexSym_1_1(long relativeIndex) {
+        int numberOfBytes = slowFillFlexBits_1_1(relativeIndex);
+        if (numberOfBytes < 0) {
+            return -1;
+        }
+        long savedPeekIndex = peekIndex;
+        peekIndex += relativeIndex;
+        long value = uncheckedReadFlexBits_1_1(numberOfBytes, true);
+        peekIndex = savedPeekIndex;
+        long length;
+        if (value < 0) {
+            length = numberOfBytes - value;
+        } else if (value > 0) {
+            length = numberOfBytes;
+        } else {
+            // A FlexSym of zero escapes a symbol opcode.
+            if (!fillAt(peekIndex, relativeIndex + numberOfBytes + 1) || refillableState.isSkippingCurrentValue) {
+                return -1;
+            }
+            byte escape = buffer[(int) (peekIndex + relativeIndex + numberOfBytes)];
+            if (escape == OpCodes.SYMBOL_ADDRESS_1_BYTE) {
+                length = numberOfBytes + 2;
+            } else if (escape == OpCodes.SYMBOL_ADDRESS_2_BYTES) {
+                length = numberOfBytes + 3;
+            } else if (escape == OpCodes.SYMBOL_ADDRESS_MANY_BYTES) {
+                int addressLength = slowFillFlexBits_1_1(relativeIndex + numberOfBytes + 1);
+                if (addressLength < 0) {
+                    return -1;
+                }
+                length = numberOfBytes + 1 + addressLength;
+            } else {
+                length = numberOfBytes + 1;
+            }
+        }
+        if (!fillAt(peekIndex, relativeIndex + length) || refillableState.isSkippingCurrentValue) {
+            return -1;
+        }
+        return length;
+    }
+
+    /**
+     * Skips the FlexSym that begins at `peekIndex` without buffering it. Used when skipping an oversized value.
+     * @return true if there are not enough bytes in the stream to complete the FlexSym; otherwise, false.
+     */
+    private boolean slowSkipFlexSymWithoutBuffering_1_1() {
+        int currentByte = readByteWithoutBuffering();
+        if (currentByte < 0) {
+            return true;
+        }
+        if (currentByte == 0) {
+            throw new IonException("Found a FlexSym that was too large to fit in a `long`");
+        }
+        int numberOfBytes = Integer.numberOfTrailingZeros(currentByte) + 1;
+        long value = currentByte;
+        for (int i = 1; i < numberOfBytes; i++) {
+            currentByte = readByteWithoutBuffering();
+            if (currentByte < 0) {
+                return true;
+            }
+            value |= ((long) currentByte) << (i * Byte.SIZE);
+        }
+        // Sign-extend the FlexInt, then discard its length bits.
+        int unusedBits = Long.SIZE - numberOfBytes * Byte.SIZE;
+        value = (value << unusedBits) >> (unusedBits + numberOfBytes);
+        if (value < 0) {
+            // The symbol has inline text.
+            return skipBytesWithoutBuffering(-value);
+        }
+        if (value > 0) {
+            return false;
+        }
+        // A FlexSym of zero escapes a symbol opcode.
+        int escape = readByteWithoutBuffering();
+        if (escape < 0) {
+            return true;
+        }
+        if (escape == (OpCodes.SYMBOL_ADDRESS_1_BYTE & SINGLE_BYTE_MASK)) {
+            return skipBytesWithoutBuffering(1);
+        } else if (escape == (OpCodes.SYMBOL_ADDRESS_2_BYTES & SINGLE_BYTE_MASK)) {
+            return skipBytesWithoutBuffering(2);
+        } else if (escape == (OpCodes.SYMBOL_ADDRESS_MANY_BYTES & SINGLE_BYTE_MASK)) {
+            return slowReadVarUIntWithoutBuffering_1_1() < 0;
+        }
+        return false;
+    }
+
+    /**
+     * Validates and records the annotation sequence that begins at `peekIndex`. Ion 1.1 annotations prefix the value
+     * they annotate, so `valueMarker` is not modified. This must only be called when it is known that the buffer
+     * already contains all the bytes in the annotation sequence.
+     * @param valueTid the type ID of the annotation sequence.
+     */
+    private void setAnnotationSequenceMarker_1_1(IonTypeID valueTid) {
+        long startIndex;
+        long endIndex;
+        if (valueTid.variableLength) {
+            long annotationsLength = uncheckedReadVarUInt_1_1();
+            startIndex = peekIndex;
+            endIndex = startIndex + annotationsLength;
+            if (endIndex > limit || endIndex < 0) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+        } else {
+            startIndex = peekIndex;
+            // The tokens are already buffered, so scanning cannot run out of data.
+            scanPastAnnotationSequence_1_1(valueTid);
+            endIndex = peekIndex;
+        }
+        if (parent != null && endIndex >= parent.endIndex && parent.endIndex > DELIMITED_MARKER) {
+            throw new IonException("Value exceeds the length of its parent container.");
+        }
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = startIndex;
+        annotationSequenceMarker.endIndex = endIndex;
+        peekIndex = endIndex;
+        if (peekIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+    }
+
+    /**
+     * Reads an annotation sequence. This must only be called when it is known that the buffer already contains all
+     * the bytes in the sequence. Sets `annotationSequenceMarker` with the start and end indices of the sequence of
+     * annotation tokens. After successful return, `peekIndex` will point at the type ID byte of the annotated value.
+     * @param valueTid the type ID of the annotation sequence.
+     * @return false, because the annotated value's length is not part of the annotation sequence.
+     */
+    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        setAnnotationSequenceMarker_1_1(valueTid);
+        return false;
+    }
+
+    /**
+     * Reads an annotation sequence, ensuring enough data is available in the buffer. Sets `annotationSequenceMarker`
+     * with the start and end indices of the sequence of annotation tokens. After successful return, `peekIndex` will
+     * point at the type ID byte of the annotated value.
+     * @param valueTid the type ID of the annotation sequence.
+     * @return true if there are not enough bytes in the stream to complete the sequence; otherwise, false.
+     */
+    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
+        long sequenceLength = 0;
+        if (valueTid.variableLength) {
+            int lengthOfLength = slowFillFlexBits_1_1(0);
+            if (lengthOfLength < 0) {
+                return !refillableState.isSkippingCurrentValue || slowSkipAnnotationSequenceWithoutBuffering_1_1(valueTid);
+            }
+            long savedPeekIndex = peekIndex;
+            sequenceLength = lengthOfLength + uncheckedReadFlexBits_1_1(lengthOfLength, false);
+            peekIndex = savedPeekIndex;
+        } else {
+            for (int i = 0; i < valueTid.length; i++) {
+                long tokenLength = valueTid.isInlineable
+                    ? slowFillFlexSym_1_1(sequenceLength)
+                    : slowFillFlexBits_1_1(sequenceLength);
+                if (tokenLength < 0) {
+                    return !refillableState.isSkippingCurrentValue || slowSkipAnnotationSequenceWithoutBuffering_1_1(valueTid);
+                }
+                sequenceLength += tokenLength;
+            }
+        }
+        // At this point the annotated value must be at least one more byte.
+        if (!fillAt(peekIndex, sequenceLength + 1)) {
+            return true;
+        }
+        if (refillableState.isSkippingCurrentValue) {
+            // The value is already oversized, so the annotations sequence cannot be buffered.
+            return slowSkipAnnotationSequenceWithoutBuffering_1_1(valueTid);
+        }
+        setAnnotationSequenceMarker_1_1(valueTid);
+        return false;
+    }
+
+    /**
+     * Skips the annotation sequence that begins at `peekIndex` without buffering it. Used when the annotated value is
+     * oversized. Ion 1.1 annotation sequences do not declare the length of the value they annotate, so the sequence
+     * must be consumed in order to reach the annotated value's header, from which its end index is calculated. After
+     * successful return, the type ID byte of the annotated value is the next byte to be read without buffering.
+     * @param valueTid the type ID of the annotation sequence.
+     * @return true if there are not enough bytes in the stream to complete the sequence; otherwise, false.
+     */
+    private boolean slowSkipAnnotationSequenceWithoutBuffering_1_1(IonTypeID valueTid) {
+        // The annotations will not be available.
+        annotationSequenceMarker.typeId = valueTid;
+        annotationSequenceMarker.startIndex = -1;
+        annotationSequenceMarker.endIndex = 0;
+        if (valueTid.variableLength) {
+            long sequenceLength = slowReadVarUIntWithoutBuffering_1_1();
+            return sequenceLength < 0 || skipBytesWithoutBuffering(sequenceLength);
+        }
+        for (int i = 0; i < valueTid.length; i++) {
+            if (valueTid.isInlineable ? slowSkipFlexSymWithoutBuffering_1_1() : slowReadVarUIntWithoutBuffering_1_1() < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calculates the end index for the given type ID and sets `event` based on the type of value encountered, if any.
+     * At the time of invocation, `peekIndex` must point to the first byte after the value's type ID byte. After return,
+     * `peekIndex` will point to the first byte in the value's representation, or, in the case of a NOP pad, the first
+     * byte that follows the pad.
+     * @param valueTid the type ID of the value.
+     * @param isAnnotated true if the value is annotated.
+     * @return the end index of the value or NOP pad, or DELIMITED_MARKER if the value is a delimited container.
+     */
+    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
+        long endIndex;
+        if (valueTid.isDelimited) {
+            endIndex = DELIMITED_MARKER;
+        } else if (valueTid.variableLength) {
+            endIndex = uncheckedReadVarUInt_1_1() + peekIndex;
+            if (endIndex < 0) {
+                throw new IonException("Unsupported value: declared length is too long.");
+            }
+        } else if (valueTid.length < 0) {
+            // The value's representation is a single self-delimiting FlexInt or FlexUInt.
+            uncheckedRequireFlexLengthBits_1_1();
+            endIndex = flexLengthAt_1_1(peekIndex) + peekIndex;
+        } else {
+            endIndex = valueTid.length + peekIndex;
+        }
+        if (valueTid.type != null && valueTid.type.ordinal() >= LIST_TYPE_ORDINAL) {
+            event = Event.START_CONTAINER;
+        } else if (valueTid.isNopPad) {
+            uncheckedSeekPastNopPad(endIndex, isAnnotated);
+        } else {
+            event = Event.START_SCALAR;
+        }
+        return endIndex;
+    }
+
+    /**
+     * Switches the current struct from symbol ID field names to FlexSym field names, which occurs when the FlexUInt
+     * field name zero is encountered.
+     */
+    private void switchToFlexSymFieldNames_1_1() {
+        parent.typeId = IonTypeID.TYPE_IDS_1_1[OpCodes.VARIABLE_LENGTH_STRUCT_WITH_FLEX_SYMS & SINGLE_BYTE_MASK];
+    }
+
+    /**
+     * Reads the field name that begins at `peekIndex`. This must only be called when it is known that the buffer
+     * already contains all the bytes in the field name.
+     */
+    private void uncheckedReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            fieldSid = (int) uncheckedReadVarUInt_1_1();
+            if (fieldSid != 0) {
+                fieldTextMarker.startIndex = -1;
+                fieldTextMarker.endIndex = -1;
+                return;
+            }
+            switchToFlexSymFieldNames_1_1();
+        }
+        fieldSid = uncheckedReadFlexSym_1_1(fieldTextMarker);
+    }
+
+    /**
+     * Reads the field name that begins at `peekIndex`, ensuring enough data is available in the buffer.
+     * @return true if there are not enough bytes in the stream to complete the field name; otherwise, false.
+     */
+    private boolean slowReadFieldName_1_1() {
+        if (!parent.typeId.isInlineable) {
+            long sid = slowReadVarUInt_1_1();
+            if (sid < 0) {
+                return true;
+            }
+            if (sid != 0) {
+                fieldSid = (int) sid;
+                fieldTextMarker.startIndex = -1;
+                fieldTextMarker.endIndex = -1;
+                return false;
+            }
+            // Note: the FlexSym that follows a zero FlexUInt must be buffered before switching the struct to FlexSym
+            // field names because the field name will be re-read from the checkpoint if the stream runs dry.
+            if (slowFillFlexSym_1_1(0) < 0) {
+                if (!refillableState.isSkippingCurrentValue) {
+                    return true;
+                }
+                // The field name is skipped along with its oversized value, so the checkpoint will not be revisited.
+                switchToFlexSymFieldNames_1_1();
+                return slowSkipFlexSymWithoutBuffering_1_1();
+            }
+            switchToFlexSymFieldNames_1_1();
+        } else if (slowFillFlexSym_1_1(0) < 0) {
+            // An oversized field name is skipped along with its value, so its text will not be available.
+            return !refillableState.isSkippingCurrentValue || slowSkipFlexSymWithoutBuffering_1_1();
+        }
+        fieldSid = uncheckedReadFlexSym_1_1(fieldTextMarker);
+        return false;
+    }
+
+    /**
+     * Determines whether the end marker of a delimited container of the given type begins at the given index. This
+     * must only be called when it is known that the buffer already contains the bytes at the index.
+     * @param index the index to check.
+     * @param isStruct true if the delimited container is a struct.
+     * @return true if the bytes at the index are a delimited end marker.
+     */
+    private boolean isDelimitedEndAt_1_1(long index, boolean isStruct) {
+        if (isStruct) {
+            // Delimited structs end with a FlexSym escape (zero) followed by the delimited end opcode.
+            return buffer[(int) index] == FLEX_ZERO_BYTE && buffer[(int) index + 1] == OpCodes.DELIMITED_END_MARKER;
+        }
+        return buffer[(int) index] == OpCodes.DELIMITED_END_MARKER;
+    }
+
+    /**
+     * Sets the cursor's state to reflect that the end of the current delimited container has been reached. The end
+     * marker is not consumed; it is consumed when the cursor steps out of the container.
+     */
+    private void setDelimitedEnd_1_1() {
+        event = Event.END_CONTAINER;
+        valueTid = null;
+        fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
+        fieldTextMarker.endIndex = -1;
+    }
+
+    /**
+     * Determines whether the cursor is positioned at the end of the current delimited container. This must only be
+     * called when it is known that the buffer already contains all bytes in the container.
+     * @return true if the end of the container has been reached; otherwise, false.
+     */
+    private boolean uncheckedIsDelimitedEnd_1_1() {
+        boolean isStruct = parent.typeId.type == IonType.STRUCT;
+        if (peekIndex + (isStruct ? 1 : 0) >= limit) {
+            return false;
+        }
+        if (isDelimitedEndAt_1_1(peekIndex, isStruct)) {
+            setDelimitedEnd_1_1();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the cursor is positioned at the end of the current delimited container, ensuring enough data
+     * is available in the buffer.
+     * @return true if the end of the container has been reached or if there are not enough bytes in the stream to
+     *  make the determination; otherwise, false.
+     */
+    private boolean slowIsDelimitedEnd_1_1() {
+        if (checkpointLocation != CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID) {
+            // The cursor is positioned within a value, so the end of the container cannot have been reached.
+            return false;
+        }
+        boolean isStruct = parent.typeId.type == IonType.STRUCT;
+        if (!fillAt(peekIndex, 1)) {
+            event = Event.NEEDS_DATA;
+            return true;
+        }
+        if (isStruct && buffer[(int) peekIndex] == FLEX_ZERO_BYTE && !fillAt(peekIndex, 2)) {
+            event = Event.NEEDS_DATA;
+            return true;
+        }
+        if (isStruct && buffer[(int) peekIndex] != FLEX_ZERO_BYTE) {
+            return false;
+        }
+        if (isDelimitedEndAt_1_1(peekIndex, isStruct)) {
+            setDelimitedEnd_1_1();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ensures that at least the given number of bytes after `peekIndex` are available in the buffer while scanning
+     * for the end of a delimited container. In slow mode, the buffer is filled as necessary; otherwise, the bytes must
+     * already be present.
+     * @param numberOfBytes the number of bytes required.
+     * @return true if the bytes are available; false if there are not enough bytes in the stream.
+     */
+    private boolean isDelimitedScanDataAvailable_1_1(long numberOfBytes) {
+        if (peekIndex + numberOfBytes <= limit) {
+            return true;
+        }
+        if (!isSlowMode) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        if (!fillAt(peekIndex, numberOfBytes)) {
+            return false;
+        }
+        if (refillableState.isSkippingCurrentValue) {
+            throw new IonException("Delimited containers that exceed the maximum buffer size are not supported.");
+        }
+        return true;
+    }
+
+    /**
+     * Ensures that the FlexUInt or FlexInt that begins at `peekIndex` is available while scanning for the end of a
+     * delimited container. `peekIndex` is not advanced.
+     * @return the number of bytes in the FlexUInt or FlexInt, or -1 if there are not enough bytes in the stream.
+     */
+    private int scanFlexLength_1_1() {
+        if (!isDelimitedScanDataAvailable_1_1(1)) {
+            return -1;
+        }
+        if (buffer[(int) peekIndex] == 0 && !isDelimitedScanDataAvailable_1_1(2)) {
+            return -1;
+        }
+        int numberOfBytes = flexLengthAt_1_1(peekIndex);
+        if (!isDelimitedScanDataAvailable_1_1(numberOfBytes)) {
+            return -1;
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * Scans past the FlexUInt that begins at `peekIndex`.
+     * @return the value, or -1 if there are not enough bytes in the stream.
+     */
+    private long scanFlexUInt_1_1() {
+        int numberOfBytes = scanFlexLength_1_1();
+        if (numberOfBytes < 0) {
+            return -1;
+        }
+        return uncheckedReadFlexBits_1_1(numberOfBytes, false);
+    }
+
+    /**
+     * Scans past the value (including any annotations) that begins at `peekIndex`, which must point at an opcode.
+     * @return true if the value was scanned; false if there are not enough bytes in the stream.
+     */
+    private boolean scanPastValue_1_1() {
+        while (true) {
+            if (!isDelimitedScanDataAvailable_1_1(1)) {
+                return false;
+            }
+            int opcode = buffer[(int) peekIndex++] & SINGLE_BYTE_MASK;
+            IonTypeID tid = typeIds[opcode];
+            if (!tid.isValid) {
+                throwDueToInvalidTypeId(tid);
+            }
+            long length;
+            if (tid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
+                if (!scanPastAnnotationSequence_1_1(tid)) {
+                    return false;
+                }
+                // Scan the annotated value.
+                continue;
+            } else if (tid.isDelimited) {
+                return scanPastDelimitedContainerElements_1_1(tid.type == IonType.STRUCT);
+            } else if (tid.variableLength) {
+                length = scanFlexUInt_1_1();
+                if (length < 0) {
+                    return false;
+                }
+            } else if (tid.length < 0) {
+                // The value's representation is a single self-delimiting FlexInt or FlexUInt.
+                length = scanFlexLength_1_1();
+                if (length < 0) {
+                    return false;
+                }
+            } else {
+                length = tid.length;
+            }
+            peekIndex += length;
+            if (peekIndex < 0) {
+                throw new IonException("Unsupported value: declared length is too long.");
+            }
+            return true;
+        }
     }
 
     /**
-     * Reads the field SID from the VarUInt starting at `peekIndex`, ensuring enough data is available in the buffer.
-     * @return true if there are not enough bytes in the stream to complete the field SID; otherwise, false.
+     * Scans past the annotation sequence that begins at `peekIndex`, which must point at the first byte after the
+     * annotation sequence opcode.
+     * @param tid the type ID of the annotation sequence.
+     * @return true if the sequence was scanned; false if there are not enough bytes in the stream.
      */
-    private boolean slowReadFieldName_1_0() {
-        // The value must have at least 2 more bytes: 1 for the smallest-possible field SID and 1 for
-        // the smallest-possible representation.
-        if (!fillAt(peekIndex, 2)) {
+    private boolean scanPastAnnotationSequence_1_1(IonTypeID tid) {
+        if (tid.variableLength) {
+            long sequenceLength = scanFlexUInt_1_1();
+            if (sequenceLength < 0) {
+                return false;
+            }
+            peekIndex += sequenceLength;
             return true;
         }
-        fieldSid = (int) slowReadVarUInt_1_0();
-        return fieldSid < 0;
-    }
-
-    /* ---- Ion 1.1 ---- */
-
-    private long uncheckedReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private long slowReadVarUInt_1_1() {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean uncheckedReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
-    }
-
-    private boolean slowReadAnnotationWrapperHeader_1_1(IonTypeID valueTid) {
-        throw new UnsupportedOperationException();
+        for (int i = 0; i < tid.length; i++) {
+            if (!(tid.isInlineable ? scanPastFlexSym_1_1() : scanFlexUInt_1_1() >= 0)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private long calculateEndIndex_1_1(IonTypeID valueTid, boolean isAnnotated) {
-        throw new UnsupportedOperationException();
+    /**
+     * Scans past the FlexSym that begins at `peekIndex`.
+     * @return true if the FlexSym was scanned; false if there are not enough bytes in the stream.
+     */
+    private boolean scanPastFlexSym_1_1() {
+        int numberOfBytes = scanFlexLength_1_1();
+        if (numberOfBytes < 0) {
+            return false;
+        }
+        long value = uncheckedReadFlexBits_1_1(numberOfBytes, true);
+        if (value < 0) {
+            peekIndex -= value;
+        } else if (value == 0) {
+            if (!isDelimitedScanDataAvailable_1_1(1)) {
+                return false;
+            }
+            byte escape = buffer[(int) peekIndex++];
+            if (escape == OpCodes.SYMBOL_ADDRESS_1_BYTE) {
+                peekIndex += 1;
+            } else if (escape == OpCodes.SYMBOL_ADDRESS_2_BYTES) {
+                peekIndex += 2;
+            } else if (escape == OpCodes.SYMBOL_ADDRESS_MANY_BYTES) {
+                return scanFlexUInt_1_1() >= 0;
+            }
+        }
+        return true;
     }
 
-    private void uncheckedReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Scans past the remaining elements of a delimited container and its end marker, starting at `peekIndex`, which
+     * must point at the first byte of an element (or its field name) or at the end marker.
+     * @param isStruct true if the container is a struct, meaning that each element is preceded by a FlexSym field name.
+     * @return true if the end of the container was found; false if there are not enough bytes in the stream.
+     */
+    private boolean scanPastDelimitedContainerElements_1_1(boolean isStruct) {
+        while (true) {
+            if (!isDelimitedScanDataAvailable_1_1(1)) {
+                return false;
+            }
+            if (isStruct) {
+                if (buffer[(int) peekIndex] == FLEX_ZERO_BYTE) {
+                    if (!isDelimitedScanDataAvailable_1_1(2)) {
+                        return false;
+                    }
+                    if (isDelimitedEndAt_1_1(peekIndex, true)) {
+                        peekIndex += 2;
+                        return true;
+                    }
+                }
+                if (!scanPastFlexSym_1_1()) {
+                    return false;
+                }
+            } else if (isDelimitedEndAt_1_1(peekIndex, false)) {
+                peekIndex++;
+                return true;
+            }
+            if (!scanPastValue_1_1()) {
+                return false;
+            }
+        }
     }
 
-    private boolean slowReadFieldName_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Throws an IonException describing why the given type ID is invalid.
+     * @param tid the invalid type ID.
+     */
+    private static void throwDueToInvalidTypeId(IonTypeID tid) {
+        if (tid.isTemplateInvocation) {
+            throw new IonException("Ion 1.1 macro invocations are not supported by this reader.");
+        }
+        throw new IonException("Invalid type ID.");
     }
 
-    private boolean uncheckedIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * @param nullTypeByte the byte that follows the Ion 1.1 typed null opcode.
+     * @return the type ID of the typed null.
+     */
+    private static IonTypeID readTypedNullType_1_1(int nullTypeByte) {
+        IonTypeID nullTid = IonTypeID.NULL_TYPE_IDS_1_1[nullTypeByte];
+        if (!nullTid.isValid) {
+            throw new IonException("Invalid typed null.");
+        }
+        return nullTid;
     }
 
-    private boolean slowIsDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads the type of an Ion 1.1 typed null, ensuring enough data is available in the buffer.
+     * @return the type ID of the typed null, or null if there are not enough bytes in the stream.
+     */
+    private IonTypeID slowReadTypedNullType_1_1() {
+        int nullTypeByte = slowReadByte();
+        if (nullTypeByte < 0) {
+            return null;
+        }
+        return readTypedNullType_1_1(nullTypeByte);
     }
 
+    /**
+     * Skips past the remaining elements in the current delimited container, including its end marker. This must only
+     * be called when it is known that the buffer already contains all bytes in the container.
+     * @return false, because the container is known to be fully buffered.
+     */
     boolean skipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
+        if (event != Event.END_CONTAINER) {
+            if (peekIndex < valueMarker.endIndex) {
+                peekIndex = valueMarker.endIndex;
+            } else if (valueTid != null && valueTid.isDelimited && valueMarker.endIndex == DELIMITED_MARKER) {
+                peekIndex = valueMarker.startIndex;
+                scanPastDelimitedContainerElements_1_1(valueTid.type == IonType.STRUCT);
+            }
+        }
+        scanPastDelimitedContainerElements_1_1(parent.typeId.type == IonType.STRUCT);
+        return false;
     }
 
+    /**
+     * Seeks past the delimited container on which the cursor is positioned, whose end index is not yet known. This
+     * must only be called when it is known that the buffer already contains all bytes in the container.
+     */
     private void seekPastDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
+        peekIndex = valueMarker.startIndex;
+        scanPastDelimitedContainerElements_1_1(valueTid.type == IonType.STRUCT);
+    }
+
+    /**
+     * Scans the delimited container on which the cursor is positioned for its end, buffering the entire container.
+     * After successful return, `valueMarker.endIndex` will be set and `peekIndex` will point at the first byte after
+     * the container's end marker.
+     * @return true if the end was found; false if there are not enough bytes in the stream.
+     */
+    private boolean slowScanDelimitedContainer_1_1() {
+        peekIndex = valueMarker.startIndex;
+        if (!scanPastDelimitedContainerElements_1_1(valueMarker.typeId.type == IonType.STRUCT)) {
+            return false;
+        }
+        valueMarker.endIndex = peekIndex;
+        return true;
     }
 
+    /**
+     * Finds the end of the delimited container on which the cursor is positioned, ensuring enough data is available
+     * in the buffer. After return, `peekIndex` will point at the first byte in the container's representation.
+     * @return true if the end was found; false if there are not enough bytes in the stream.
+     */
     private boolean slowFindDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+        boolean isFound = slowScanDelimitedContainer_1_1();
+        peekIndex = valueMarker.startIndex;
+        if (!isFound) {
+            refillableState.state = State.FILL_DELIMITED;
+        }
+        return isFound;
     }
 
+    /**
+     * Seeks to the end of the delimited container on which the cursor is positioned, ensuring enough data is
+     * available in the buffer. After successful return, `peekIndex` will point at the first byte after the container.
+     * @return true if the end was found; false if there are not enough bytes in the stream.
+     */
     private boolean slowSeekToDelimitedEnd_1_1() {
-        throw new UnsupportedOperationException();
+        if (!slowScanDelimitedContainer_1_1()) {
+            refillableState.state = State.SEEK_DELIMITED;
+            return false;
+        }
+        return true;
     }
 
+    /**
+     * Fills the delimited container on which the cursor is positioned, ensuring enough data is available in the
+     * buffer. After successful return, `valueMarker.endIndex` will be set.
+     * @return true if there are not enough bytes in the stream to complete the container; otherwise, false.
+     */
     private boolean slowFillDelimitedContainer_1_1() {
-        throw new UnsupportedOperationException();
+        return !slowFindDelimitedEnd_1_1();
     }
 
+    /**
+     * Skips past the remaining elements in the current delimited container, including its end marker, ensuring
+     * enough data is available in the buffer. Scanning begins at the current checkpoint, so this may be safely
+     * re-invoked after more data becomes available.
+     * @return true if there are not enough bytes in the stream to complete the operation; otherwise, false.
+     */
     private boolean slowSkipRemainingDelimitedContainerElements_1_1() {
-        throw new UnsupportedOperationException();
+        peekIndex = checkpoint;
+        switch (checkpointLocation) {
+            case AFTER_SCALAR_HEADER:
+            case AFTER_CONTAINER_HEADER:
+                if (valueMarker.endIndex == DELIMITED_MARKER) {
+                    if (!scanPastDelimitedContainerElements_1_1(valueMarker.typeId.type == IonType.STRUCT)) {
+                        return true;
+                    }
+                } else {
+                    peekIndex = valueMarker.endIndex;
+                }
+                break;
+            case BEFORE_ANNOTATED_TYPE_ID:
+                if (!scanPastValue_1_1()) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        if (!scanPastDelimitedContainerElements_1_1(parent.typeId.type == IonType.STRUCT)) {
+            return true;
+        }
+        offset = peekIndex;
+        return false;
     }
 
     /* ---- End: version-dependent parsing methods ---- */
@@ -1038,6 +2156,7 @@ class IonCursorBinary implements IonCursor {
                 isReady = slowFindDelimitedEnd_1_1();
                 break;
             case SEEK_DELIMITED:
+                refillableState.state = State.READY;
                 isReady = slowSeekToDelimitedEnd_1_1();
                 break;
             case TERMINATED:
@@ -1116,6 +2235,8 @@ class IonCursorBinary implements IonCursor {
         valueMarker.startIndex = -1;
         valueMarker.endIndex = -1;
         fieldSid = -1;
+        fieldTextMarker.startIndex = -1;
+        fieldTextMarker.endIndex = -1;
         hasAnnotations = false;
     }
 
@@ -1138,6 +2259,8 @@ class IonCursorBinary implements IonCursor {
         }
         if (minorVersion == 0) {
             typeIds = IonTypeID.TYPE_IDS_1_0;
+        } else if (minorVersion == 1) {
+            typeIds = IonTypeID.TYPE_IDS_1_1;
         } else {
             throw new IonException(String.format("Unsupported Ion version: %d.%d", majorVersion, minorVersion));
         }
@@ -1190,11 +2313,12 @@ class IonCursorBinary implements IonCursor {
 
     /**
      * Validates that an annotated value's endIndex matches the annotation wrapper's endIndex (which is contained in
-     * `valueMarker.endIndex`).
+     * `valueMarker.endIndex`). Only Ion 1.0 annotation wrappers declare a length; Ion 1.1 annotation sequences do
+     * not set `valueMarker.endIndex`, which may then hold a stale value (e.g. from a preceding NOP pad).
      * @param endIndex the annotated value's endIndex.
      */
     private void validateAnnotationWrapperEndIndex(long endIndex) {
-        if (valueMarker.endIndex >= 0 && endIndex != valueMarker.endIndex) {
+        if (minorVersion == 0 && valueMarker.endIndex >= 0 && endIndex != valueMarker.endIndex) {
             // valueMarker.endIndex refers to the end of the annotation wrapper.
             throw new IonException("Annotation wrapper length does not match the length of the wrapped value.");
         }
@@ -1214,7 +2338,7 @@ class IonCursorBinary implements IonCursor {
     private boolean uncheckedReadHeader(final int typeIdByte, final boolean isAnnotated, final Marker markerToSet) {
         IonTypeID valueTid = typeIds[typeIdByte];
         if (!valueTid.isValid) {
-            throw new IonException("Invalid type ID.");
+            throwDueToInvalidTypeId(valueTid);
         } else if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
             if (isAnnotated) {
                 throw new IonException("Nested annotation wrappers are invalid.");
@@ -1225,6 +2349,13 @@ class IonCursorBinary implements IonCursor {
             hasAnnotations = true;
             return uncheckedReadHeader(buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK, true, valueMarker);
         } else {
+            if (typeIdByte == TYPED_NULL_OPCODE_1_1) {
+                // Only Ion 1.1 has typed nulls that require an additional byte; in Ion 1.0 this is an annotation wrapper.
+                if (peekIndex >= limit) {
+                    throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+                }
+                valueTid = readTypedNullType_1_1(buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK);
+            }
             long endIndex = minorVersion == 0
                 ? calculateEndIndex_1_0(valueTid, isAnnotated)
                 : calculateEndIndex_1_1(valueTid, isAnnotated);
@@ -1261,7 +2392,7 @@ class IonCursorBinary implements IonCursor {
     private boolean slowReadHeader(final int typeIdByte, final boolean isAnnotated, final Marker markerToSet) {
         IonTypeID valueTid = typeIds[typeIdByte];
         if (!valueTid.isValid) {
-            throw new IonException("Invalid type ID.");
+            throwDueToInvalidTypeId(valueTid);
         } else if (valueTid.type == IonTypeID.ION_TYPE_ANNOTATION_WRAPPER) {
             if (isAnnotated) {
                 throw new IonException("Nested annotation wrappers are invalid.");
@@ -1271,6 +2402,9 @@ class IonCursorBinary implements IonCursor {
                 return true;
             }
             setCheckpoint(CheckpointLocation.BEFORE_ANNOTATED_TYPE_ID);
+        } else if (typeIdByte == TYPED_NULL_OPCODE_1_1 && (valueTid = slowReadTypedNullType_1_1()) == null) {
+            // Only Ion 1.1 has typed nulls that require an additional byte; in Ion 1.0 this is an annotation wrapper.
+            return true;
         } else if (slowReadValueHeader(valueTid, isAnnotated, markerToSet)) {
             if (refillableState.isSkippingCurrentValue) {
                 // If the value will be skipped, its type ID must be set so that the core reader can determine
@@ -1306,14 +2440,31 @@ class IonCursorBinary implements IonCursor {
         long valueLength = 0;
         long endIndex = 0;
         if (valueTid.isDelimited) {
+            if (refillableState.isSkippingCurrentValue) {
+                throw new IonException("Delimited containers that exceed the maximum buffer size are not supported.");
+            }
             endIndex = DELIMITED_MARKER;
         } else if (valueTid.variableLength) {
-            // At this point the value must be at least 2 more bytes: 1 for the smallest-possible value length
-            // and 1 for the smallest-possible value representation.
-            if (!fillAt(peekIndex, 2)) {
+            if (minorVersion == 0) {
+                // At this point the value must be at least 2 more bytes: 1 for the smallest-possible value length
+                // and 1 for the smallest-possible value representation.
+                if (!fillAt(peekIndex, 2)) {
+                    return true;
+                }
+                valueLength = slowReadVarUInt_1_0();
+            } else {
+                // Ion 1.1 values may have zero-length representations, so only the length itself is required.
+                valueLength = slowReadVarUInt_1_1();
+            }
+            if (valueLength < 0) {
                 return true;
             }
-            valueLength = minorVersion == 0 ? slowReadVarUInt_1_0() : slowReadVarUInt_1_1();
+        } else if (valueTid.length < 0) {
+            // The value's representation is a single self-delimiting Ion 1.1 FlexInt or FlexUInt.
+            valueLength = slowFillFlexBits_1_1(0);
+            if (valueLength < 0 && refillableState.isSkippingCurrentValue) {
+                valueLength = slowReadRemainingFlexLengthWithoutBuffering_1_1();
+            }
             if (valueLength < 0) {
                 return true;
             }
@@ -1372,6 +2523,9 @@ class IonCursorBinary implements IonCursor {
             growContainerStack();
         }
         parent = containerStack[containerIndex];
+        if (metricsListener != null) {
+            metricsListener.onContainerEntered(containerIndex + 1);
+        }
     }
 
     /**
@@ -1532,13 +2686,16 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean uncheckedNextContainedToken() {
         if (parent.endIndex == DELIMITED_MARKER) {
-            return uncheckedIsDelimitedEnd_1_1();
+            if (uncheckedIsDelimitedEnd_1_1()) {
+                return true;
+            }
         } else if (parent.endIndex == peekIndex) {
             event = Event.END_CONTAINER;
             return true;
         } else if (parent.endIndex < peekIndex) {
             throw new IonException("Contained values overflowed the parent container length.");
-        } else if (parent.typeId.type == IonType.STRUCT) {
+        }
+        if (parent.typeId.type == IonType.STRUCT) {
             if (minorVersion == 0) {
                 byte b = buffer[(int) peekIndex++];
                 if (b < 0) {
@@ -1559,7 +2716,13 @@ class IonCursorBinary implements IonCursor {
      */
     private void reportConsumedData() {
         long totalNumberOfBytesRead = getTotalOffset() + (peekIndex - valuePreHeaderIndex);
-        dataHandler.onData((int) (totalNumberOfBytesRead - lastReportedByteTotal));
+        int numberOfBytes = (int) (totalNumberOfBytesRead - lastReportedByteTotal);
+        if (dataHandler != null) {
+            dataHandler.onData(numberOfBytes);
+        }
+        if (metricsListener != null) {
+            metricsListener.onData(numberOfBytes);
+        }
         lastReportedByteTotal = totalNumberOfBytesRead;
     }
 
@@ -1572,11 +2735,11 @@ class IonCursorBinary implements IonCursor {
     private boolean uncheckedNextToken() {
         if (peekIndex < valueMarker.endIndex) {
             peekIndex = valueMarker.endIndex;
-        } else if (valueTid != null && valueTid.isDelimited) {
+        } else if (valueTid != null && valueTid.isDelimited && valueMarker.endIndex == DELIMITED_MARKER) {
             seekPastDelimitedContainer_1_1();
         }
         valueTid = null;
-        if (dataHandler != null) {
+        if (dataHandler != null || metricsListener != null) {
             reportConsumedData();
         }
         if (peekIndex >= limit) {
@@ -1627,9 +2790,12 @@ class IonCursorBinary implements IonCursor {
             int b;
             switch (checkpointLocation) {
                 case BEFORE_UNANNOTATED_TYPE_ID:
-                    if (dataHandler != null) {
+                    if (dataHandler != null || metricsListener != null) {
                         reportConsumedData();
                     }
+                    if (parent == null && refillableState.shrinkThreshold > 0) {
+                        shrinkBufferIfUnderused();
+                    }
                     valueTid = null;
                     hasAnnotations = false;
                     if (parent != null && parent.typeId.type == IonType.STRUCT && (minorVersion == 0 ? slowReadFieldName_1_0() : slowReadFieldName_1_1())) {
@@ -1683,17 +2849,23 @@ class IonCursorBinary implements IonCursor {
      */
     private boolean slowSkipRemainingValueBytes() {
         if (valueMarker.endIndex == DELIMITED_MARKER && valueTid != null && valueTid.isDelimited) {
-            seekPastDelimitedContainer_1_1();
-            if (event == Event.NEEDS_DATA) {
+            if (!slowSeekToDelimitedEnd_1_1()) {
                 return true;
             }
+            offset = valueMarker.endIndex;
         } else if (limit >= valueMarker.endIndex) {
             offset = valueMarker.endIndex;
-        } else if (slowSeek(valueMarker.endIndex - offset)) {
-            return true;
+        } else {
+            if (metricsListener != null) {
+                metricsListener.onValueSkipped(valueMarker.endIndex - limit);
+            }
+            if (slowSeek(valueMarker.endIndex - offset)) {
+                return true;
+            }
         }
         peekIndex = offset;
         valuePreHeaderIndex = peekIndex;
+        refillableState.isCurrentValueStreamed = false;
         if (refillableState.fillDepth > containerIndex) {
             // This value was filled, but was skipped. Reset the fillDepth so that the reader does not think the
             // next value was filled immediately upon encountering it.
@@ -1725,6 +2897,14 @@ class IonCursorBinary implements IonCursor {
     private void seekPastOversizedValue() {
         refillableState.oversizedValueHandler.onOversizedValue();
         if (refillableState.state != State.TERMINATED) {
+            if (valueMarker.endIndex < 0) {
+                // The stream ended before the oversized value's header was complete, so its end index is unknown.
+                // Only the bytes that have already been consumed can be skipped.
+                valueMarker.endIndex = peekIndex + refillableState.individualBytesSkippedWithoutBuffering;
+            }
+            if (metricsListener != null) {
+                metricsListener.onValueSkipped(valueMarker.endIndex - limit);
+            }
             slowSeek(valueMarker.endIndex - offset - refillableState.individualBytesSkippedWithoutBuffering);
             refillableState.totalDiscardedBytes += refillableState.individualBytesSkippedWithoutBuffering;
             peekIndex = offset;
@@ -1785,6 +2965,9 @@ class IonCursorBinary implements IonCursor {
      * @return `event`, which conveys the result.
      */
     private Event slowFillValue() {
+        if (refillableState.isCurrentValueStreamed) {
+            throw new IllegalStateException("The current value's bytes have already been streamed.");
+        }
         if (refillableState.state != State.READY && !slowMakeBufferReady()) {
             return event;
         }
@@ -1799,6 +2982,7 @@ class IonCursorBinary implements IonCursor {
                 return event;
             }
         }
+        recordBytesRequired(valueMarker.endIndex - offset);
         if (limit >= valueMarker.endIndex || fillAt(peekIndex, valueMarker.endIndex - valueMarker.startIndex)) {
             if (refillableState.isSkippingCurrentValue) {
                 event = Event.NEEDS_INSTRUCTION;
@@ -1856,12 +3040,22 @@ class IonCursorBinary implements IonCursor {
             typeIds = IonTypeID.TYPE_IDS_1_0;
             majorVersion = 1;
             minorVersion = 0;
+        } else if (ION_1_1.equals(ionVersionId)) {
+            typeIds = IonTypeID.TYPE_IDS_1_1;
+            majorVersion = 1;
+            minorVersion = 1;
         } else {
-            // TODO changes are needed here to support Ion 1.1.
             throw new IonException(String.format("Attempted to seek using an unsupported Ion version %s.", ionVersionId));
         }
     }
 
+    /**
+     * @return the Ion version ID for the encoding currently being read, e.g. $ion_1_0 for Ion 1.0.
+     */
+    String getIonVersionId() {
+        return minorVersion == 1 ? ION_1_1 : SystemSymbols.ION_1_0;
+    }
+
     /**
      * @return the total number of bytes read since the stream began.
      */
@@ -1869,14 +3063,184 @@ class IonCursorBinary implements IonCursor {
         return valuePreHeaderIndex + (refillableState == null ? -startOffset : refillableState.totalDiscardedBytes);
     }
 
+    /**
+     * @param totalOffset a total stream offset. Must only be called when the cursor is byte-backed.
+     * @return the index of the byte at the given total stream offset in the cursor's buffer.
+     */
+    long getBufferIndex(long totalOffset) {
+        return totalOffset + startOffset;
+    }
+
+    /**
+     * Gets the index of the first byte after the current value. If the current value is a delimited container whose
+     * end has not yet been found and the cursor is byte-backed, the end is located without moving the cursor.
+     * @return the end index, or -1 if the end of the current delimited container is not yet known.
+     */
+    long findValueEndIndex() {
+        if (valueMarker.endIndex == DELIMITED_MARKER && valueTid != null && valueTid.isDelimited && isByteBacked()) {
+            long savedPeekIndex = peekIndex;
+            peekIndex = valueMarker.startIndex;
+            scanPastDelimitedContainerElements_1_1(valueTid.type == IonType.STRUCT);
+            valueMarker.endIndex = peekIndex;
+            peekIndex = savedPeekIndex;
+        }
+        return valueMarker.endIndex;
+    }
+
+    /**
+     * Makes room at the end of the buffer for the given number of bytes, which will be appended directly rather than
+     * being read from the input stream. Must only be called between cursor operations on a refillable cursor.
+     * @param numberOfBytes the number of bytes to append.
+     * @return true if there is room; false if the bytes must instead be delivered through the input stream, either
+     *  because the buffer would exceed its maximum size or because the cursor is skipping an oversized value without
+     *  buffering it.
+     */
+    private boolean prepareToAppend(int numberOfBytes) {
+        if (refillableState.state == State.TERMINATED || refillableState.isSkippingCurrentValue) {
+            return false;
+        }
+        if (freeSpaceAt(limit) >= numberOfBytes) {
+            return true;
+        }
+        long numberOfBytesRequired = availableAt(offset) + numberOfBytes;
+        return numberOfBytesRequired <= refillableState.maximumBufferSize && ensureCapacity(numberOfBytesRequired);
+    }
+
+    /**
+     * Appends bytes directly to the end of the buffer of a refillable cursor, avoiding an intermediate copy through
+     * the input stream. This is only valid when the input stream has no bytes of its own available, so that ordering
+     * is preserved.
+     * @param bytes the bytes to append.
+     * @param off the index of the first byte to append.
+     * @param len the number of bytes to append.
+     * @return true if the bytes were appended; false if they must instead be delivered through the input stream.
+     */
+    boolean appendDirectly(byte[] bytes, int off, int len) {
+        if (!prepareToAppend(len)) {
+            return false;
+        }
+        System.arraycopy(bytes, off, buffer, (int) limit, len);
+        limit += len;
+        return true;
+    }
+
+    /**
+     * Appends the remaining bytes in the given buffer directly to the end of the buffer of a refillable cursor. See
+     * {@link #appendDirectly(byte[], int, int)}.
+     * @param bytes the bytes to append. If appended, its position is advanced to its limit.
+     * @return true if the bytes were appended; false if they must instead be delivered through the input stream.
+     */
+    boolean appendDirectly(ByteBuffer bytes) {
+        int len = bytes.remaining();
+        if (!prepareToAppend(len)) {
+            return false;
+        }
+        bytes.get(buffer, (int) limit, len);
+        limit += len;
+        return true;
+    }
+
+    /**
+     * Gets the index of the first byte of the value that follows the current value, provided that the values in the
+     * current container can be decoded directly from the buffer. This is true when the cursor is positioned within a
+     * fully-buffered Ion 1.0 list or s-expression, and no DataHandler needs to be notified of consumed bytes. A metrics
+     * listener does not prevent bulk reads; the bytes they consume are reported to it with the next value.
+     * @return the index, or -1 if values cannot be decoded directly from the buffer.
+     */
+    long getBulkReadIndex() {
+        if (isSlowMode || minorVersion != 0 || parent == null || dataHandler != null || parent.typeId.type == IonType.STRUCT) {
+            return -1;
+        }
+        return Math.max(peekIndex, valueMarker.endIndex);
+    }
+
+    /**
+     * Positions the cursor between values at the given index after values have been decoded directly from the buffer,
+     * starting at the index returned by {@link #getBulkReadIndex()}.
+     * @param index the index of the first byte after the last value decoded. Must not exceed the end of the container.
+     */
+    void finishBulkRead(long index) {
+        peekIndex = index;
+        valueTid = null;
+        reset();
+        event = Event.NEEDS_INSTRUCTION;
+    }
+
     boolean isByteBacked() {
         return refillableState == null;
     }
 
+    /**
+     * Reads the next bytes of the current scalar value's representation. Bytes that are already buffered are copied
+     * from the buffer. Once the buffered bytes are exhausted, the remaining bytes are read directly from the input
+     * stream into the destination without being buffered, which allows values larger than the maximum buffer size
+     * to be consumed. Bytes read in this way are treated as discarded, so the value's end index is shifted left to
+     * remain consistent with the buffer. As a result, the value's bytes may only be consumed once in this way; any
+     * subsequent attempt to fill the value will fail.
+     * @param remaining the number of bytes of the value that have not yet been read, which must be the length of the
+     *                  value before the first call and is reduced by the return value of each subsequent call.
+     * @param destination the array into which bytes will be copied.
+     * @param destinationOffset the index in the destination at which the first byte will be copied.
+     * @param length the maximum number of bytes to read. Must be greater than zero.
+     * @return the number of bytes read, or -1 if `remaining` is zero.
+     */
+    int readValueBytes(long remaining, byte[] destination, int destinationOffset, int length) {
+        if (remaining <= 0) {
+            return -1;
+        }
+        long index = valueMarker.endIndex - remaining;
+        if (index < limit) {
+            int numberOfBytes = (int) Math.min(length, Math.min(remaining, limit - index));
+            System.arraycopy(buffer, (int) index, destination, destinationOffset, numberOfBytes);
+            return numberOfBytes;
+        }
+        if (refillableState == null) {
+            throw new IonException("Unexpected EOF.");
+        }
+        // All buffered bytes of the value have been read. Read the rest directly from the input stream.
+        offset = limit;
+        int numberOfBytes = -1;
+        try {
+            numberOfBytes = refillableState.inputStream.read(destination, destinationOffset, (int) Math.min(length, remaining));
+        } catch (EOFException e) {
+            // Certain InputStream implementations (e.g. GZIPInputStream) throw EOFException if more bytes are requested
+            // to read than are currently available (e.g. if a header or trailer is incomplete).
+        } catch (IOException e) {
+            throwAsIonException(e);
+        }
+        if (numberOfBytes < 0) {
+            throw new IonException("Unexpected EOF.");
+        }
+        refillableState.isCurrentValueStreamed = true;
+        refillableState.totalDiscardedBytes += numberOfBytes;
+        valueMarker.endIndex -= numberOfBytes;
+        shiftContainerEnds(numberOfBytes);
+        return numberOfBytes;
+    }
+
+    /**
+     * @return true if some of the current value's bytes have been read directly from the input stream by
+     *  `readValueBytes`; otherwise, false.
+     */
+    boolean isCurrentValueStreamed() {
+        return refillableState != null && refillableState.isCurrentValueStreamed;
+    }
+
     public void registerIvmNotificationConsumer(IvmNotificationConsumer ivmConsumer) {
         this.ivmConsumer = ivmConsumer;
     }
 
+    /**
+     * Installs the given listener, which will be notified of the work performed by the cursor in addition to the
+     * DataHandler from the configuration, if any.
+     * @param listener the listener, or null to disable metrics.
+     */
+    void registerMetricsListener(ReaderMetricsListener listener) {
+        // Note: the listener is notified of consumed bytes separately from the DataHandler, because installing a
+        // DataHandler would disable bulk reads and cause the metrics to describe a different workload.
+        metricsListener = listener;
+    }
+
     void registerOversizedValueHandler(BufferConfiguration.OversizedValueHandler oversizedValueHandler) {
         // Non-refillable streams cannot overflow.
         if (refillableState != null) {
@@ -1886,12 +3250,20 @@ class IonCursorBinary implements IonCursor {
 
     @Override
     public Event endStream() {
-        if (isValueIncomplete || isAwaitingMoreData()) {
+        if (isPartialDataBuffered()) {
             throw new IonException("Unexpected EOF.");
         }
         return Event.NEEDS_DATA;
     }
 
+    /**
+     * @return true if the cursor holds part of a value or token that cannot be completed without more data;
+     *  otherwise, false.
+     */
+    boolean isPartialDataBuffered() {
+        return isValueIncomplete || isAwaitingMoreData();
+    }
+
     /**
      * @return true if the cursor is expecting more data in order to complete a token; otherwise, false.
      */
@@ -1926,6 +3298,89 @@ class IonCursorBinary implements IonCursor {
         isSlowMode = true;
     }
 
+    /**
+     * @return true if the cursor has been closed or terminated; otherwise, false.
+     */
+    boolean isTerminated() {
+        return refillableState == TERMINATED_STATE;
+    }
+
+    /**
+     * Resets a fixed cursor to read from the given byte array, as if it had been newly constructed from the array.
+     * Allocated resources, such as the container stack, are retained.
+     * @param buffer the byte array containing the bytes to read.
+     * @param offset the offset into the byte array at which the first byte of Ion data begins.
+     * @param length the number of bytes to be read from the byte array.
+     */
+    void resetInput(byte[] buffer, int offset, int length) {
+        if (buffer != this.buffer) {
+            this.buffer = buffer;
+            byteBuffer = ByteBuffer.wrap(buffer);
+        }
+        startOffset = offset;
+        this.offset = offset;
+        limit = offset + length;
+        peekIndex = offset;
+        valuePreHeaderIndex = offset;
+        checkpoint = offset;
+        isSlowMode = false;
+        resetForNewInput();
+    }
+
+    /**
+     * Resets a refillable cursor to read from the given input stream, as if it had been newly constructed from the
+     * stream. The internal buffer is retained at its current size. The previous input stream is not closed.
+     * @param inputStream the new source of data.
+     */
+    void resetInput(InputStream inputStream) {
+        startOffset = 0;
+        offset = 0;
+        limit = 0;
+        peekIndex = 0;
+        valuePreHeaderIndex = 0;
+        checkpoint = 0;
+        isSlowMode = true;
+        refillableState.inputStream = inputStream;
+        if (refillableState.isMaximumBufferSizeFromInput) {
+            // The limit fit the previous input; the new input may be larger.
+            refillableState.maximumBufferSize = IonBufferConfiguration.DEFAULT.getMaximumBufferSize();
+            refillableState.isMaximumBufferSizeFromInput = false;
+        }
+        refillableState.state = State.READY;
+        refillableState.fillDepth = -1;
+        refillableState.totalDiscardedBytes = 0;
+        refillableState.bytesRequested = 0;
+        refillableState.isSkippingCurrentValue = false;
+        refillableState.individualBytesSkippedWithoutBuffering = 0;
+        refillableState.isCurrentValueStreamed = false;
+        refillableState.underusedValueCount = 0;
+        refillableState.bytesRequiredByCurrentValue = 0;
+        refillableState.bytesRequiredByUnderusedValues = 0;
+        refillableState.lastUsageCheckPosition = -1;
+        resetForNewInput();
+    }
+
+    /**
+     * Resets the state that describes the cursor's position in its input. Subclasses that hold such state must
+     * override this method and call the super implementation.
+     */
+    void resetForNewInput() {
+        containerIndex = -1;
+        parent = null;
+        reset();
+        annotationSequenceMarker.typeId = null;
+        annotationSequenceMarker.startIndex = -1;
+        annotationSequenceMarker.endIndex = 0;
+        valueTid = null;
+        event = Event.NEEDS_DATA;
+        majorVersion = -1;
+        minorVersion = 0;
+        typeIds = IonTypeID.TYPE_IDS_NO_IVM;
+        checkpointLocation = CheckpointLocation.BEFORE_UNANNOTATED_TYPE_ID;
+        isValueIncomplete = false;
+        lastReportedByteTotal = 0;
+    }
+
     @Override
     public void close() {
         if (refillableState != null && refillableState.inputStream != null) {
@@ -1935,6 +3390,9 @@ class IonCursorBinary implements IonCursor {
                 throwAsIonException(e);
             }
         }
+        if (refillableState != null && buffer != null) {
+            releaseBuffer(buffer);
+        }
         buffer = null;
         containerStack = null;
         byteBuffer = null;
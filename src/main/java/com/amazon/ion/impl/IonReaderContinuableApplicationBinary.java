@@ -16,6 +16,7 @@ import com.amazon.ion.UnknownSymbolException;
 import com.amazon.ion.ValueFactory;
 import com.amazon.ion.impl.bin.IntList;
 import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.LocalSymbolTableCache;
 import com.amazon.ion.system.SimpleCatalog;
 
 import java.io.IOException;
@@ -82,11 +83,33 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // symbol table is encountered in the stream.
     private SymbolTable cachedReadOnlySymbolTable = null;
 
+    // Incremented whenever the symbol table in effect may have changed, allowing data derived from it to be discarded.
+    private int symbolTableGeneration = 0;
+
     // The reusable annotation iterator.
     private final AnnotationSequenceIterator annotationIterator = new AnnotationSequenceIterator();
 
+    // The cache of resolved local symbol tables shared with other readers, or null if caching is disabled.
+    private final _Private_LocalSymbolTableCache symbolTableCache;
+
+    // The reusable key used to look up local symbol tables in 'symbolTableCache' directly from the buffer.
+    private final _Private_LocalSymbolTableCache.Key symbolTableCacheProbe = new _Private_LocalSymbolTableCache.Key();
+
+    // The key under which the local symbol table currently being read will be cached once it has been resolved, or
+    // null if it will not be cached.
+    private _Private_LocalSymbolTableCache.Key pendingSymbolTableCacheKey = null;
+
     // ------
 
+    /**
+     * @param builder the builder containing the configuration for the new reader.
+     * @return the local symbol table cache to use, or null if caching is disabled.
+     */
+    private static _Private_LocalSymbolTableCache getSymbolTableCache(IonReaderBuilder builder) {
+        LocalSymbolTableCache cache = builder.getLocalSymbolTableCache();
+        return cache instanceof _Private_LocalSymbolTableCache ? (_Private_LocalSymbolTableCache) cache : null;
+    }
+
     /**
      * Constructs a new reader from the given byte array.
      * @param builder the builder containing the configuration for the new reader.
@@ -97,6 +120,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     IonReaderContinuableApplicationBinary(IonReaderBuilder builder, byte[] bytes, int offset, int length) {
         super(builder.getBufferConfiguration(), bytes, offset, length);
         this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
+        this.symbolTableCache = getSymbolTableCache(builder);
         symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
         symbolTableReader = new SymbolTableReader();
         resetImports();
@@ -106,6 +130,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             resetSymbolTable();
             resetImports();
         });
+        registerMetricsListener(builder.getMetricsListener());
     }
 
     /**
@@ -118,6 +143,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     IonReaderContinuableApplicationBinary(final IonReaderBuilder builder, final InputStream inputStream, byte[] alreadyRead, int alreadyReadOff, int alreadyReadLen) {
         super(builder.getBufferConfiguration(), inputStream, alreadyRead, alreadyReadOff, alreadyReadLen);
         this.catalog = builder.getCatalog() == null ? EMPTY_CATALOG : builder.getCatalog();
+        this.symbolTableCache = getSymbolTableCache(builder);
         symbols = new String[SYMBOLS_LIST_INITIAL_CAPACITY];
         symbolTableReader = new SymbolTableReader();
         resetImports();
@@ -127,6 +153,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             resetSymbolTable();
             resetImports();
         });
+        registerMetricsListener(builder.getMetricsListener());
         registerOversizedValueHandler(
             () -> {
                 boolean mightBeSymbolTable = true;
@@ -180,11 +207,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
 
         @Override
         public String next() {
-            int sid = annotationSids.get(index);
-            String annotation = getSymbol(sid);
-            if (annotation == null) {
-                throw new UnknownSymbolException(sid);
-            }
+            String annotation = getAnnotation(annotationSids, index);
             index++;
             return annotation;
         }
@@ -442,6 +465,20 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         Arrays.fill(symbols, 0, localSymbolMaxOffset + 1, null);
         localSymbolMaxOffset = -1;
         cachedReadOnlySymbolTable = null;
+        symbolTableGeneration++;
+        if (metricsListener != null) {
+            metricsListener.onSymbolTableReset();
+        }
+    }
+
+    @Override
+    void resetForNewInput() {
+        super.resetForNewInput();
+        resetSymbolTable();
+        resetImports();
+        symbolTableReader.resetState();
+        state = State.READING_VALUE;
+        pendingSymbolTableCacheKey = null;
     }
 
     /**
@@ -465,6 +502,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         if (symbolTable instanceof LocalSymbolTableSnapshot) {
             LocalSymbolTableSnapshot snapshot = (LocalSymbolTableSnapshot) symbolTable;
             cachedReadOnlySymbolTable = snapshot;
+            symbolTableGeneration++;
             imports = snapshot.importedTables;
             firstLocalSymbolId = imports.getMaxId() + 1;
             // 'symbols' may be smaller than 'idToText' if the span was created from a different reader.
@@ -474,6 +512,23 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             }
             localSymbolMaxOffset = snapshot.maxId - firstLocalSymbolId;
             System.arraycopy(snapshot.idToText, 0, symbols, 0, snapshot.idToText.length);
+        } else if (symbolTable.isLocalTable()) {
+            // A local symbol table that was not created by a reader of this type, e.g. one that was persisted in a
+            // TopLevelValueIndex and later read back.
+            resetSymbolTable();
+            cachedReadOnlySymbolTable = symbolTable;
+            imports = new LocalSymbolTableImports(symbolTable.getSystemSymbolTable(), symbolTable.getImportedTables());
+            firstLocalSymbolId = imports.getMaxId() + 1;
+            int numberOfLocalSymbols = symbolTable.getMaxId() - symbolTable.getImportedMaxId();
+            int shortfall = numberOfLocalSymbols - symbols.length;
+            if (shortfall > 0) {
+                growSymbolsArray(shortfall);
+            }
+            Iterator<String> declaredSymbols = symbolTable.iterateDeclaredSymbolNames();
+            for (int i = 0; declaredSymbols.hasNext(); i++) {
+                symbols[i] = declaredSymbols.next();
+            }
+            localSymbolMaxOffset = numberOfLocalSymbols - 1;
         } else {
             // Note: this will only happen when `symbolTable` is the system symbol table.
             resetSymbolTable();
@@ -553,6 +608,21 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         return symbols[localSymbolOffset];
     }
 
+    /**
+     * @return a value that differs from any previously returned value if the symbol table in effect may have changed
+     *  since it was returned.
+     */
+    int getSymbolTableGeneration() {
+        return symbolTableGeneration;
+    }
+
+    /**
+     * @return the largest symbol ID in the current symbol table.
+     */
+    int getMaxSymbolId() {
+        return firstLocalSymbolId + localSymbolMaxOffset;
+    }
+
     /**
      * Creates a SymbolToken representation of the given symbol ID.
      * @param sid a symbol ID.
@@ -591,9 +661,11 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         private int maxId = -1;
         private List<SymbolTable> newImports = null;
         private List<String> newSymbols = null;
+        private boolean hasReadImportsList;
 
         private void resetState() {
             hasSeenImports = false;
+            hasReadImportsList = false;
             hasSeenSymbols = false;
             newImports = null;
             newSymbols = null;
@@ -626,9 +698,37 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
                 }
                 localSymbolMaxOffset += newSymbols.size();
             }
+            // A symbol table that was not found in the cache may be added to it, but only if its effect does not
+            // depend on the symbol table that was previously in scope, and only if none of its imports had to be
+            // substituted; the catalog may later provide the real shared table.
+            if (pendingSymbolTableCacheKey != null && (!hasSeenImports || hasReadImportsList) && !hasSubstituteImport()) {
+                symbolTableCache.put(
+                    pendingSymbolTableCacheKey,
+                    new _Private_LocalSymbolTableCache.CachedSymbolTable(
+                        imports,
+                        newSymbols == null ? _Private_Utils.EMPTY_STRING_ARRAY : newSymbols.toArray(_Private_Utils.EMPTY_STRING_ARRAY)
+                    )
+                );
+            }
+            pendingSymbolTableCacheKey = null;
             state = State.READING_VALUE;
         }
 
+        /**
+         * @return true if any of the imports declared by the symbol table being read could not be resolved to a
+         *  matching shared symbol table in the catalog.
+         */
+        private boolean hasSubstituteImport() {
+            if (newImports != null) {
+                for (SymbolTable newImport : newImports) {
+                    if (newImport.isSubstitute()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         private void readSymbolTableStructField() {
             if (fieldSid == SYMBOLS_SID) {
                 state = State.ON_SYMBOL_TABLE_SYMBOLS;
@@ -650,6 +750,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
             resetSymbolTable();
             newImports = new ArrayList<>(3);
             newImports.add(getSystemSymbolTable());
+            hasReadImportsList = true;
             state = State.READING_SYMBOL_TABLE_IMPORTS_LIST;
         }
 
@@ -875,6 +976,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     // The current state.
     private State state = State.READING_VALUE;
 
+    // Holds the location of the inline text of an Ion 1.1 annotation being compared against `$ion_symbol_table`.
+    private final Marker annotationTextMarker = new Marker(-1, -1);
+
     /**
      * @return true if current value has a sequence of annotations that begins with `$ion_symbol_table`; otherwise,
      *  false.
@@ -882,20 +986,93 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     boolean startsWithIonSymbolTable() {
         long savedPeekIndex = peekIndex;
         peekIndex = annotationSequenceMarker.startIndex;
-        int sid = minorVersion == 0 ? readVarUInt_1_0() : readVarUInt_1_1();
+        int sid;
+        if (minorVersion == 0) {
+            sid = readVarUInt_1_0();
+        } else if (annotationSequenceMarker.typeId.isInlineable) {
+            sid = readVarSym_1_1(annotationTextMarker);
+            if (sid < 0) {
+                peekIndex = savedPeekIndex;
+                return isIonSymbolTableText(annotationTextMarker);
+            }
+        } else {
+            sid = readVarUInt_1_1();
+        }
         peekIndex = savedPeekIndex;
         return ION_SYMBOL_TABLE_SID == sid;
     }
 
+    /**
+     * @param marker the location of some UTF-8 text.
+     * @return true if the text is `$ion_symbol_table`; otherwise, false.
+     */
+    private boolean isIonSymbolTableText(Marker marker) {
+        if (marker.endIndex - marker.startIndex != ION_SYMBOL_TABLE_UTF8.length) {
+            return false;
+        }
+        for (int i = 0; i < ION_SYMBOL_TABLE_UTF8.length; i++) {
+            if (buffer[(int) marker.startIndex + i] != ION_SYMBOL_TABLE_UTF8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the reader is partway through reading a local symbol table, which occurs when a continuable
+     *  reader runs out of data before the end of the symbol table; otherwise, false.
+     */
+    boolean isReadingSymbolTable() {
+        return state != State.READING_VALUE;
+    }
+
     /**
      * @return true if the reader is positioned on a symbol table; otherwise, false.
      */
     private boolean isPositionedOnSymbolTable() {
+        // The annotations on an Ion 1.1 value that was skipped for being oversized are not available.
         return hasAnnotations &&
+            annotationSequenceMarker.startIndex >= 0 &&
             super.getType() == IonType.STRUCT &&
             startsWithIonSymbolTable();
     }
 
+    /**
+     * Looks up the local symbol table on which the reader is positioned in the shared cache. If found, installs its
+     * resolved symbols and imports so that the reader can skip the symbol table without parsing it. If not found,
+     * prepares the symbol table to be added to the cache once it has been parsed.
+     * @return true if the symbol table was installed from the cache; otherwise, false.
+     */
+    private boolean installCachedSymbolTable() {
+        pendingSymbolTableCacheKey = null;
+        if (valueMarker.endIndex < 0 || valueMarker.endIndex > limit) {
+            // The symbol table is delimited or is not yet fully buffered.
+            return false;
+        }
+        _Private_LocalSymbolTableCache.Key key = symbolTableCacheProbe.set(
+            buffer,
+            (int) valueMarker.startIndex,
+            (int) (valueMarker.endIndex - valueMarker.startIndex),
+            catalog,
+            minorVersion
+        );
+        _Private_LocalSymbolTableCache.CachedSymbolTable entry = symbolTableCache.get(key);
+        if (entry == null) {
+            pendingSymbolTableCacheKey = key.copy();
+            return false;
+        }
+        resetSymbolTable();
+        imports = entry.imports;
+        firstLocalSymbolId = imports.getMaxId() + 1;
+        int shortfall = entry.symbols.length - symbols.length;
+        if (shortfall > 0) {
+            growSymbolsArray(shortfall);
+        }
+        System.arraycopy(entry.symbols, 0, symbols, 0, entry.symbols.length);
+        localSymbolMaxOffset = entry.symbols.length - 1;
+        return true;
+    }
+
     @Override
     public Event nextValue() {
         Event event;
@@ -911,6 +1088,10 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
                 event = super.nextValue();
                 if (parent == null && isPositionedOnSymbolTable()) {
                     cachedReadOnlySymbolTable = null;
+                    symbolTableGeneration++;
+                    if (symbolTableCache != null && installCachedSymbolTable()) {
+                        continue;
+                    }
                     symbolTableReader.resetState();
                     state = State.ON_SYMBOL_TABLE_STRUCT;
                     continue;
@@ -942,6 +1123,9 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         if (type == IonType.STRING) {
             value = super.stringValue();
         } else if (type == IonType.SYMBOL) {
+            if (hasInlineSymbolText()) {
+                return inlineSymbolText();
+            }
             int sid = symbolValueId();
             if (sid < 0) {
                 // The raw reader uses this to denote null.symbol.
@@ -957,8 +1141,80 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         return value;
     }
 
+    /**
+     * Prepares the text of the current string or symbol value for access without allocating a String.
+     * @return the text of the current symbol value if it is represented by a symbol ID, or null if the text is encoded
+     *  inline between the start and end indices of `valueMarker`, which are ready to be read.
+     */
+    private String prepareText() {
+        if (valueTid == null || valueTid.isNull || (valueTid.type != IonType.STRING && valueTid.type != IonType.SYMBOL)) {
+            throw new IllegalStateException("Reader must be positioned on a non-null string or symbol.");
+        }
+        if (valueTid.type == IonType.STRING || hasInlineSymbolText()) {
+            prepareScalar();
+            return null;
+        }
+        int sid = symbolValueId();
+        String text = getSymbol(sid);
+        if (text == null) {
+            throw new UnknownSymbolException(sid);
+        }
+        return text;
+    }
+
+    /**
+     * @return the number of bytes in the UTF-8 encoding of the current string or symbol value's text.
+     */
+    int utf8TextLength() {
+        String text = prepareText();
+        if (text == null) {
+            return (int) (valueMarker.endIndex - valueMarker.startIndex);
+        }
+        return IonUTF8.getUTF8Length(text);
+    }
+
+    /**
+     * Copies the UTF-8 encoding of the current string or symbol value's text into the given array.
+     * @param destination the destination array.
+     * @param offset the index into the destination at which to copy the first byte.
+     * @return the number of bytes copied.
+     */
+    int copyUtf8Text(byte[] destination, int offset) {
+        String text = prepareText();
+        int length = text == null ? (int) (valueMarker.endIndex - valueMarker.startIndex) : IonUTF8.getUTF8Length(text);
+        if (offset < 0 || destination.length - offset < length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot copy %d bytes into an array of length %d at offset %d.", length, destination.length, offset)
+            );
+        }
+        if (text == null) {
+            System.arraycopy(buffer, (int) valueMarker.startIndex, destination, offset, length);
+            return length;
+        }
+        return IonUTF8.encodeUTF8(text, destination, offset);
+    }
+
+    /**
+     * Gets a view of the current string or symbol value's text. Inline text is decoded into a buffer that is reused by
+     * subsequent calls; symbol table text is returned directly.
+     * @return the text.
+     */
+    CharSequence textView() {
+        String text = prepareText();
+        if (text == null) {
+            return utf8Decoder.decodeToBuffer(
+                prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex),
+                (int) (valueMarker.endIndex - valueMarker.startIndex)
+            );
+        }
+        return text;
+    }
+
     @Override
     public SymbolToken symbolValue() {
+        if (hasInlineSymbolText()) {
+            return new SymbolTokenImpl(inlineSymbolText(), -1);
+        }
         int sid = symbolValueId();
         if (sid < 0) {
             // The raw reader uses this to denote null.symbol.
@@ -975,15 +1231,31 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         String[] annotationArray = new String[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            String symbol = getSymbol(annotationSids.get(i));
-            if (symbol == null) {
-                throw new UnknownSymbolException(annotationSids.get(i));
-            }
-            annotationArray[i] = symbol;
+            annotationArray[i] = getAnnotation(annotationSids, i);
         }
         return annotationArray;
     }
 
+    /**
+     * Gets the text of the annotation at the given index.
+     * @param annotationSids the annotation symbol IDs most recently returned by `getAnnotationSidList()`.
+     * @param index the index of the annotation.
+     * @return the text.
+     * @throws UnknownSymbolException if the annotation's symbol ID does not map to text.
+     */
+    private String getAnnotation(IntList annotationSids, int index) {
+        int sid = annotationSids.get(index);
+        if (sid < 0) {
+            // Only Ion 1.1 annotations with inline text have negative symbol IDs.
+            return getAnnotationText(index);
+        }
+        String symbol = getSymbol(sid);
+        if (symbol == null) {
+            throw new UnknownSymbolException(sid);
+        }
+        return symbol;
+    }
+
     @Override
     public SymbolToken[] getTypeAnnotationSymbols() {
         if (!hasAnnotations) {
@@ -992,7 +1264,8 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         IntList annotationSids = getAnnotationSidList();
         SymbolToken[] annotationArray = new SymbolToken[annotationSids.size()];
         for (int i = 0; i < annotationArray.length; i++) {
-            annotationArray[i] = getSymbolToken(annotationSids.get(i));
+            int sid = annotationSids.get(i);
+            annotationArray[i] = sid < 0 ? new SymbolTokenImpl(getAnnotationText(i), -1) : getSymbolToken(sid);
         }
         return annotationArray;
     }
@@ -1027,7 +1300,7 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
     @Override
     public String getFieldName() {
         if (fieldSid < 0) {
-            return null;
+            return fieldTextMarker.startIndex < 0 ? null : readText(fieldTextMarker);
         }
         String fieldName = getSymbol(fieldSid);
         if (fieldName == null) {
@@ -1036,10 +1309,32 @@ class IonReaderContinuableApplicationBinary extends IonReaderContinuableCoreBina
         return fieldName;
     }
 
+    /**
+     * Determines whether the current field name has the given text without creating a String.
+     * @param text the text.
+     * @param utf8Text the UTF-8 encoding of `text`.
+     * @return true if the current field name has the given text; otherwise, false.
+     */
+    boolean isFieldNameEqualTo(String text, byte[] utf8Text) {
+        if (fieldSid < 0) {
+            if (fieldTextMarker.startIndex < 0 || fieldTextMarker.endIndex - fieldTextMarker.startIndex != utf8Text.length) {
+                return false;
+            }
+            int start = (int) fieldTextMarker.startIndex;
+            for (int i = 0; i < utf8Text.length; i++) {
+                if (buffer[start + i] != utf8Text[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return text.equals(getSymbol(fieldSid));
+    }
+
     @Override
     public SymbolToken getFieldNameSymbol() {
         if (fieldSid < 0) {
-            return null;
+            return fieldTextMarker.startIndex < 0 ? null : new SymbolTokenImpl(readText(fieldTextMarker), -1);
         }
         return getSymbolToken(fieldSid);
     }
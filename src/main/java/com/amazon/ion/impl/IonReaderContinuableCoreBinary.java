@@ -3,12 +3,15 @@
 package com.amazon.ion.impl;
 
 import com.amazon.ion.Decimal;
+import com.amazon.ion.EpochTimestampReader;
 import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonType;
 import com.amazon.ion.Timestamp;
 import com.amazon.ion.impl.bin.IntList;
+import com.amazon.ion.impl.bin.Ion_1_1_Constants;
+import com.amazon.ion.impl.bin.OpCodes;
 import com.amazon.ion.impl.bin.utf8.Utf8StringDecoder;
 import com.amazon.ion.impl.bin.utf8.Utf8StringDecoderPool;
 
@@ -50,6 +53,15 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // The number of bytes occupied by a Java long.
     private static final int LONG_SIZE_IN_BYTES = 8;
 
+    // The length of the longest FlexInt whose value is guaranteed to fit in a long (63 value bits).
+    private static final int MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES = LONG_SIZE_IN_BYTES + 1;
+
+    // A magnitude larger than this cannot be shifted left by a byte without exceeding 63 bits.
+    private static final long MAXIMUM_SHIFTABLE_LONG_MAGNITUDE = Long.MAX_VALUE >>> VALUE_BITS_PER_UINT_BYTE;
+
+    // The magnitude of Long.MIN_VALUE before its final byte (which is zero) is shifted in.
+    private static final long LONG_MIN_VALUE_MAGNITUDE_PREFIX = Long.MIN_VALUE >>> VALUE_BITS_PER_UINT_BYTE;
+
     // The smallest negative 8-byte integer that can fit in a long is 0x80_00_00_00_00_00_00_00 and the smallest
     // negative 4-byte integer that can fit in an int is 0x80_00_00_00.
     private static final int MOST_SIGNIFICANT_BYTE_OF_MIN_INTEGER = 0x80;
@@ -64,6 +76,38 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
     // 32-bit floats must declare length 4.
     private static final int FLOAT_32_BYTE_LENGTH = 4;
 
+    // 16-bit floats must declare length 2.
+    private static final int FLOAT_16_BYTE_LENGTH = 2;
+
+    // Layout of a 16-bit IEEE-754 binary floating point value.
+    private static final int FLOAT_16_SIGN_BITMASK = 0x8000;
+    private static final int FLOAT_16_EXPONENT_BITMASK = 0x1F;
+    private static final int FLOAT_16_SIGNIFICAND_BITMASK = 0x3FF;
+    private static final int FLOAT_16_SIGNIFICAND_BITS = 10;
+    private static final int FLOAT_16_EXPONENT_BIAS = 15;
+    private static final int FLOAT_16_MIN_EXPONENT = 1 - FLOAT_16_EXPONENT_BIAS;
+
+    private static final int LOWER_NIBBLE_BITMASK = 0x0F;
+
+    // The Ion 1.0 type ID bytes for the bools true and false.
+    private static final int BOOL_TRUE_TYPE_ID_1_0 = (_Private_IonConstants.tidBoolean << 4) | _Private_IonConstants.lnBooleanTrue;
+    private static final int BOOL_FALSE_TYPE_ID_1_0 = (_Private_IonConstants.tidBoolean << 4) | _Private_IonConstants.lnBooleanFalse;
+
+    // Ion 1.1 timestamp subfield widths and biases.
+    private static final int TIMESTAMP_MONTH_BITMASK = 0xF;
+    private static final int TIMESTAMP_DAY_OR_HOUR_BITMASK = 0x1F;
+    private static final int TIMESTAMP_MINUTE_OR_SECOND_BITMASK = 0x3F;
+    private static final int S_TIMESTAMP_YEAR_BIAS = 1970;
+    private static final int S_O_TIMESTAMP_BITS_LENGTH = 5;
+    private static final int S_O_TIMESTAMP_OFFSET_BIAS = 56;
+    private static final int S_O_TIMESTAMP_OFFSET_INCREMENT_MINUTES = 15;
+    private static final long L_TIMESTAMP_YEAR_BITMASK = 0x3FFF;
+    private static final int L_TIMESTAMP_OFFSET_BIAS = 24 * 60;
+    private static final int L_TIMESTAMP_YEAR_LENGTH = 2;
+    private static final int L_TIMESTAMP_DAY_LENGTH = 3;
+    private static final int L_TIMESTAMP_MINUTE_LENGTH = 6;
+    private static final int L_TIMESTAMP_SECOND_LENGTH = 7;
+
     // Initial capacity of the ArrayList used to hold the symbol IDs of the annotations on the current value.
     private static final int ANNOTATIONS_LIST_INITIAL_CAPACITY = 8;
 
@@ -75,12 +119,23 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
 
     long peekIndex = -1;
 
+    // The unscaled value and scale of the current decimal, populated by `readDecimalComponents()`.
+    long decimalUnscaledValue = 0;
+    int decimalScale = 0;
+
+    // The primitive components of the current timestamp, populated by `readTimestampComponents()`. Created on first use.
+    private TimestampComponents timestampComponents = null;
+
     // The number of bytes of a lob value that the user has consumed, allowing for piecewise reads.
     private int lobBytesRead = 0;
 
     // The symbol IDs for the annotations on the current value.
     private final IntList annotationSids;
 
+    // The locations of the inline text of the annotations on the current value (Ion 1.1 only), parallel to
+    // `annotationSids`. Only elements whose symbol ID is -1 are meaningful.
+    private Marker[] annotationTextMarkers;
+
     /**
      * Constructs a new reader from the given byte array.
      * @param configuration the configuration to use. The buffer size and oversized value configuration are unused, as
@@ -93,6 +148,7 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         super(configuration, bytes, offset, length);
         scalarConverter = new _Private_ScalarConversions.ValueVariant();
         annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
+        annotationTextMarkers = newAnnotationTextMarkers();
     }
 
     /**
@@ -106,6 +162,26 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         super(configuration, inputStream, alreadyRead, alreadyReadOff, alreadyReadLen);
         scalarConverter = new _Private_ScalarConversions.ValueVariant();
         annotationSids = new IntList(ANNOTATIONS_LIST_INITIAL_CAPACITY);
+        annotationTextMarkers = newAnnotationTextMarkers();
+    }
+
+    @Override
+    void resetForNewInput() {
+        super.resetForNewInput();
+        peekIndex = -1;
+        lobBytesRead = 0;
+        annotationSids.clear();
+    }
+
+    /**
+     * @return a new array of markers for the inline text of annotations.
+     */
+    private static Marker[] newAnnotationTextMarkers() {
+        Marker[] markers = new Marker[ANNOTATIONS_LIST_INITIAL_CAPACITY];
+        for (int i = 0; i < markers.length; i++) {
+            markers[i] = new Marker(-1, -1);
+        }
+        return markers;
     }
 
     // Scratch space for various byte sizes. Only for use while computing a single value.
@@ -253,8 +329,9 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         int scale = -readVarInt_1_0();
         BigDecimal value;
         int length = (int) (valueMarker.endIndex - peekIndex);
-        if (length < LONG_SIZE_IN_BYTES) {
-            // No need to allocate a BigInteger to hold the coefficient.
+        if (length <= LONG_SIZE_IN_BYTES) {
+            // The sign bit leaves at most 63 bits for the magnitude, so there is no need to allocate a BigInteger to
+            // hold the coefficient.
             long coefficient = 0;
             int sign = 1;
             if (peekIndex < valueMarker.endIndex) {
@@ -281,7 +358,19 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         int scale = -readVarInt_1_0();
         BigInteger coefficient;
         int length = (int) (valueMarker.endIndex - peekIndex);
-        if (length > 0) {
+        if (length > 0 && length <= LONG_SIZE_IN_BYTES) {
+            // The coefficient fits in a long, so it can be decoded without copying it to scratch space.
+            int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+            boolean isNegative = (firstByte & HIGHEST_BIT_BITMASK) != 0;
+            long magnitude = firstByte & LOWER_SEVEN_BITS_BITMASK;
+            while (peekIndex < valueMarker.endIndex) {
+                magnitude = (magnitude << VALUE_BITS_PER_UINT_BYTE) | buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+            }
+            if (isNegative && magnitude == 0) {
+                return Decimal.negativeZero(scale);
+            }
+            coefficient = BigInteger.valueOf(isNegative ? -magnitude : magnitude);
+        } else if (length > 0) {
             // NOTE: unfortunately, there is no BigInteger(int signum, byte[] bits, int offset, int length) constructor,
             // so copying to scratch space is always required.
             byte[] bits = copyBytesToScratch(peekIndex, length);
@@ -302,6 +391,42 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return Decimal.valueOf(coefficient, scale);
     }
 
+    /**
+     * Reads into `decimalUnscaledValue` and `decimalScale` the decimal value that begins at `peekIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return false if the coefficient does not fit in a long or is negative zero; otherwise, true.
+     */
+    private boolean readDecimalComponents_1_0() {
+        decimalScale = -readVarInt_1_0();
+        if (peekIndex >= valueMarker.endIndex) {
+            decimalUnscaledValue = 0;
+            return true;
+        }
+        int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        boolean isNegative = (firstByte & HIGHEST_BIT_BITMASK) != 0;
+        long magnitude = firstByte & LOWER_SEVEN_BITS_BITMASK;
+        while (peekIndex < valueMarker.endIndex) {
+            if (magnitude > MAXIMUM_SHIFTABLE_LONG_MAGNITUDE) {
+                // The only coefficient with a 64-bit magnitude that fits in a long is Long.MIN_VALUE.
+                if (isNegative
+                    && magnitude == LONG_MIN_VALUE_MAGNITUDE_PREFIX
+                    && peekIndex == valueMarker.endIndex - 1
+                    && buffer[(int) peekIndex] == 0) {
+                    peekIndex++;
+                    decimalUnscaledValue = Long.MIN_VALUE;
+                    return true;
+                }
+                return false;
+            }
+            magnitude = (magnitude << VALUE_BITS_PER_UINT_BYTE) | buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        }
+        if (isNegative && magnitude == 0) {
+            return false;
+        }
+        decimalUnscaledValue = isNegative ? -magnitude : magnitude;
+        return true;
+    }
+
     /**
      * Reads into a long the integer value that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
      * @return the value.
@@ -388,6 +513,56 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         }
     }
 
+    /**
+     * Reads into `timestampComponents` the timestamp that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return false if the timestamp could not be converted directly to components; otherwise, true.
+     */
+    private boolean readTimestampComponents_1_0() {
+        int firstByte = buffer[(int)(peekIndex++)] & SINGLE_BYTE_MASK;
+        int offset = EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+        if (firstByte != VAR_INT_NEGATIVE_ZERO) {
+            offset = readVarInt_1_0(firstByte);
+        }
+        int year = readVarUInt_1_0();
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        long fraction = 0;
+        int fractionScale = 0;
+        boolean hasTime = false;
+        if (peekIndex < valueMarker.endIndex) {
+            month = readVarUInt_1_0();
+            if (peekIndex < valueMarker.endIndex) {
+                day = readVarUInt_1_0();
+                if (peekIndex < valueMarker.endIndex) {
+                    hour = readVarUInt_1_0();
+                    if (peekIndex >= valueMarker.endIndex) {
+                        throw new IonException("Timestamps may not specify hour without specifying minute.");
+                    }
+                    minute = readVarUInt_1_0();
+                    hasTime = true;
+                    if (peekIndex < valueMarker.endIndex) {
+                        second = readVarUInt_1_0();
+                        if (peekIndex < valueMarker.endIndex) {
+                            if (!readDecimalComponents_1_0()) {
+                                return false;
+                            }
+                            fraction = decimalUnscaledValue;
+                            fractionScale = decimalScale;
+                        }
+                    }
+                }
+            }
+        }
+        if (!hasTime && offset != EpochTimestampReader.UNKNOWN_OFFSET_MINUTES) {
+            // Timestamps with less than minute precision have unknown offsets, so the encoded offset is ignored.
+            offset = EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+        }
+        return timestampComponents.set(year, month, day, hour, minute, second, fraction, fractionScale, offset, false);
+    }
+
     /**
      * Reads the boolean value using the type ID of the current value.
      * @return the value.
@@ -421,36 +596,649 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return (buffer[(int) (valueMarker.startIndex)] & SINGLE_BYTE_MASK) <= MOST_SIGNIFICANT_BYTE_OF_MAX_INTEGER;
     }
 
+    /**
+     * Calculates the number of bytes in the FlexUInt or FlexInt that begins at `peekIndex`, which may be arbitrarily
+     * large.
+     * @return the number of bytes.
+     */
+    private int readFlexLength_1_1() {
+        int numberOfBytes = 0;
+        long index = peekIndex;
+        while (true) {
+            if (index >= limit) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            int currentByte = buffer[(int) index++] & SINGLE_BYTE_MASK;
+            if (currentByte != 0) {
+                numberOfBytes += Integer.numberOfTrailingZeros(currentByte) + 1;
+                break;
+            }
+            numberOfBytes += VALUE_BITS_PER_UINT_BYTE;
+        }
+        if (peekIndex + numberOfBytes > limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * Reads the FlexUInt or FlexInt of the given length that begins at `peekIndex` into a long. When this method
+     * returns, `peekIndex` will point at the first byte that follows the FlexUInt or FlexInt.
+     * @param numberOfBytes the number of bytes in the FlexUInt or FlexInt. Must be at most 8.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private long readFlexBits_1_1(int numberOfBytes, boolean isSigned) {
+        long result = readFixedIntOrUInt_1_1(peekIndex, numberOfBytes, isSigned);
+        peekIndex += numberOfBytes;
+        return isSigned ? result >> numberOfBytes : result >>> numberOfBytes;
+    }
+
+    /**
+     * Reads the FlexInt of the given length that begins at `peekIndex` into a long. When this method returns,
+     * `peekIndex` will point at the first byte that follows the FlexInt.
+     * @param numberOfBytes the number of bytes in the FlexInt. Must be at most 9.
+     * @return the value.
+     */
+    private long readFlexIntAsLong_1_1(int numberOfBytes) {
+        if (numberOfBytes <= LONG_SIZE_IN_BYTES) {
+            return readFlexBits_1_1(numberOfBytes, true);
+        }
+        // A 9-byte FlexInt begins with a zero byte. The lowest bit of the next byte terminates the length prefix, and
+        // the remaining 63 bits hold the value.
+        long result = readFixedIntOrUInt_1_1(peekIndex + 1, LONG_SIZE_IN_BYTES, true) >> 1;
+        peekIndex += numberOfBytes;
+        return result;
+    }
+
+    /**
+     * Reads into `decimalUnscaledValue` the 10-byte FlexInt that begins at `peekIndex`, provided that its value fits
+     * in a long. A 10-byte FlexInt begins with a zero byte, and the two lowest bits of the next byte terminate the
+     * length prefix, leaving 70 value bits: the lowest 62 in bytes 1 through 8 and the highest 8 in byte 9. The value
+     * fits in a long when the highest 7 of its bits are all equal.
+     * @return true if the value fits in a long, in which case `peekIndex` will point at the first byte that follows
+     *  the FlexInt; otherwise, false, in which case `peekIndex` is unchanged.
+     */
+    private boolean readTenByteFlexIntAsLong_1_1() {
+        int highestByte = buffer[(int) (peekIndex + LONG_SIZE_IN_BYTES + 1)];
+        int signBits = highestByte >> 1;
+        if (signBits != 0 && signBits != -1) {
+            return false;
+        }
+        long lowestBits = readFixedIntOrUInt_1_1(peekIndex + 1, LONG_SIZE_IN_BYTES, false) >>> 2;
+        decimalUnscaledValue = lowestBits | ((long) highestByte << 62);
+        peekIndex += MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES + 1;
+        return true;
+    }
+
+    /**
+     * Reads the FlexUInt or FlexInt of the given length that begins at `peekIndex` into a BigInteger. When this method
+     * returns, `peekIndex` will point at the first byte that follows the FlexUInt or FlexInt.
+     * @param numberOfBytes the number of bytes in the FlexUInt or FlexInt.
+     * @param isSigned true if the value is a FlexInt; false if it is a FlexUInt.
+     * @return the value.
+     */
+    private BigInteger readFlexBitsAsBigInteger_1_1(int numberOfBytes, boolean isSigned) {
+        BigInteger value = readFixedIntOrUIntAsBigInteger_1_1(peekIndex, numberOfBytes, isSigned);
+        peekIndex += numberOfBytes;
+        return value.shiftRight(numberOfBytes);
+    }
+
+    /**
+     * Reads the little-endian FixedInt or FixedUInt that begins at the given index into a long.
+     * @param startIndex the index of the first byte.
+     * @param numberOfBytes the number of bytes. Must be at most 8.
+     * @param isSigned true if the value is a FixedInt; false if it is a FixedUInt.
+     * @return the value.
+     */
+    private long readFixedIntOrUInt_1_1(long startIndex, int numberOfBytes, boolean isSigned) {
+        long result = 0;
+        for (long i = startIndex + numberOfBytes - 1; i >= startIndex; i--) {
+            result = (result << VALUE_BITS_PER_UINT_BYTE) | (buffer[(int) i] & SINGLE_BYTE_MASK);
+        }
+        if (isSigned && numberOfBytes > 0) {
+            // Sign-extend from the highest bit of the representation.
+            int unusedBits = Long.SIZE - (numberOfBytes * VALUE_BITS_PER_UINT_BYTE);
+            result = (result << unusedBits) >> unusedBits;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the little-endian FixedInt or FixedUInt that begins at the given index into a BigInteger.
+     * @param startIndex the index of the first byte.
+     * @param numberOfBytes the number of bytes.
+     * @param isSigned true if the value is a FixedInt; false if it is a FixedUInt.
+     * @return the value.
+     */
+    private BigInteger readFixedIntOrUIntAsBigInteger_1_1(long startIndex, int numberOfBytes, boolean isSigned) {
+        // BigInteger requires big-endian bytes.
+        byte[] bytes = copyBytesToScratch(startIndex, numberOfBytes);
+        for (int i = 0, j = numberOfBytes - 1; i < j; i++, j--) {
+            byte swap = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = swap;
+        }
+        return isSigned ? new BigInteger(bytes) : new BigInteger(1, bytes);
+    }
+
+    /**
+     * Reads the FlexUInt starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexUInt. NOTE: the FlexUInt must fit in an `int`.
+     * @return the value.
+     */
     int readVarUInt_1_1() {
-        throw new UnsupportedOperationException();
+        int numberOfBytes = readFlexLength_1_1();
+        if (numberOfBytes > INT_SIZE_IN_BYTES + 1) {
+            throw new IonException("Found a FlexUInt that was too large to fit in an `int`.");
+        }
+        long value = readFlexBits_1_1(numberOfBytes, false);
+        if (value > Integer.MAX_VALUE) {
+            throw new IonException("Found a FlexUInt that was too large to fit in an `int`.");
+        }
+        return (int) value;
     }
 
-    private int readVarSym_1_1(Marker marker) {
-        throw new UnsupportedOperationException();
+    /**
+     * Reads the FlexSym starting at `peekIndex`. When this method returns, `peekIndex` will point at the first byte
+     * that follows the FlexSym.
+     * @param marker the marker to set with the start and end indices of the symbol's inline UTF-8 text, if any. If the
+     *               FlexSym represents a symbol ID, the marker's indices are set to -1.
+     * @return the symbol ID, or -1 if the symbol has inline text.
+     */
+    int readVarSym_1_1(Marker marker) {
+        int numberOfBytes = readFlexLength_1_1();
+        if (numberOfBytes > INT_SIZE_IN_BYTES + 1) {
+            throw new IonException("Found a FlexSym that was too large to fit in an `int`.");
+        }
+        long value = readFlexBits_1_1(numberOfBytes, true);
+        marker.startIndex = -1;
+        marker.endIndex = -1;
+        if (value > 0) {
+            if (value > Integer.MAX_VALUE) {
+                throw new IonException("Symbol ID exceeds the maximum supported value.");
+            }
+            return (int) value;
+        }
+        if (value < 0) {
+            marker.startIndex = peekIndex;
+            marker.endIndex = peekIndex - value;
+            if (marker.endIndex > limit) {
+                throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+            }
+            peekIndex = marker.endIndex;
+            return -1;
+        }
+        // A FlexSym of zero escapes a symbol opcode.
+        if (peekIndex >= limit) {
+            throw new IonException("Malformed data: declared length exceeds the number of bytes remaining in the stream.");
+        }
+        byte escape = buffer[(int) peekIndex++];
+        if (escape == OpCodes.INLINE_SYMBOL_ZERO_LENGTH) {
+            marker.startIndex = peekIndex;
+            marker.endIndex = peekIndex;
+            return -1;
+        }
+        return readSymbolAddress_1_1(escape, peekIndex, limit);
+    }
+
+    /**
+     * Reads the Ion 1.1 symbol address with the given opcode.
+     * @param opcode the symbol address opcode.
+     * @param startIndex the index of the first byte of the address.
+     * @param endIndex the index of the first byte after the address.
+     * @return the symbol ID.
+     */
+    private int readSymbolAddress_1_1(byte opcode, long startIndex, long endIndex) {
+        switch (opcode) {
+            case OpCodes.SYMBOL_ADDRESS_1_BYTE:
+                peekIndex = startIndex + 1;
+                return (int) readFixedIntOrUInt_1_1(startIndex, 1, false);
+            case OpCodes.SYMBOL_ADDRESS_2_BYTES:
+                peekIndex = startIndex + 2;
+                return (int) readFixedIntOrUInt_1_1(startIndex, 2, false) + Ion_1_1_Constants.FIRST_2_BYTE_SYMBOL_ADDRESS;
+            case OpCodes.SYMBOL_ADDRESS_MANY_BYTES:
+                peekIndex = startIndex;
+                long value = readVarUInt_1_1() + (long) Ion_1_1_Constants.FIRST_MANY_BYTE_SYMBOL_ADDRESS;
+                if (value > Integer.MAX_VALUE) {
+                    throw new IonException("Symbol ID exceeds the maximum supported value.");
+                }
+                return (int) value;
+            default:
+                throw new IonException("Invalid FlexSym escape.");
+        }
+    }
+
+    /**
+     * Reads the exponent of a decimal whose representation begins at `peekIndex`, consuming the coefficient.
+     * @return the decimal's scale, which is the negation of its exponent.
+     */
+    private int readDecimalScale_1_1() {
+        int exponentLength = (int) (valueMarker.endIndex - peekIndex);
+        if (exponentLength > INT_SIZE_IN_BYTES) {
+            throw new IonException("Decimal exponent exceeds the maximum supported value.");
+        }
+        return (int) -readFixedIntOrUInt_1_1(peekIndex, exponentLength, true);
     }
 
+    /**
+     * Reads the FlexInt exponent of a decimal with a positive zero coefficient, which begins at `peekIndex`.
+     * @return the decimal's scale, which is the negation of its exponent.
+     */
+    private int readPositiveZeroDecimalScale_1_1() {
+        int numberOfBytes = readFlexLength_1_1();
+        if (numberOfBytes > INT_SIZE_IN_BYTES) {
+            throw new IonException("Decimal exponent exceeds the maximum supported value.");
+        }
+        return (int) -readFlexBits_1_1(numberOfBytes, true);
+    }
+
+    /**
+     * @return true if the current decimal has a positive zero coefficient followed by a FlexInt exponent (opcode 0x6F).
+     */
+    private boolean isPositiveZeroDecimal_1_1() {
+        return !valueTid.variableLength && valueTid.length < 0;
+    }
+
+    /**
+     * Reads into a BigDecimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigDecimal readBigDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        if (isPositiveZeroDecimal_1_1()) {
+            return BigDecimal.valueOf(0, readPositiveZeroDecimalScale_1_1());
+        }
+        int coefficientLength = readFlexLength_1_1();
+        if (coefficientLength <= MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES) {
+            // No need to allocate a BigInteger to hold the coefficient.
+            long coefficient = readFlexIntAsLong_1_1(coefficientLength);
+            return BigDecimal.valueOf(coefficient, readDecimalScale_1_1());
+        }
+        BigInteger coefficient = readFlexBitsAsBigInteger_1_1(coefficientLength, true);
+        return new BigDecimal(coefficient, readDecimalScale_1_1());
     }
 
+    /**
+     * Reads into a Decimal the decimal value that begins at `peekIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private Decimal readDecimal_1_1() {
-        throw new UnsupportedOperationException();
+        if (isPositiveZeroDecimal_1_1()) {
+            return Decimal.valueOf(BigInteger.ZERO, readPositiveZeroDecimalScale_1_1());
+        }
+        int coefficientLength = readFlexLength_1_1();
+        BigInteger coefficient = coefficientLength <= MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES
+            ? BigInteger.valueOf(readFlexIntAsLong_1_1(coefficientLength))
+            : readFlexBitsAsBigInteger_1_1(coefficientLength, true);
+        int scale = readDecimalScale_1_1();
+        if (coefficient.signum() == 0) {
+            // Positive zero coefficients are encoded using dedicated opcodes, so an explicit zero coefficient is negative.
+            return Decimal.negativeZero(scale);
+        }
+        return Decimal.valueOf(coefficient, scale);
+    }
+
+    /**
+     * Reads into `decimalUnscaledValue` and `decimalScale` the decimal value that begins at `peekIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return false if the coefficient does not fit in a long or is negative zero; otherwise, true.
+     */
+    private boolean readDecimalComponents_1_1() {
+        if (isPositiveZeroDecimal_1_1()) {
+            decimalUnscaledValue = 0;
+            decimalScale = readPositiveZeroDecimalScale_1_1();
+            return true;
+        }
+        int coefficientLength = readFlexLength_1_1();
+        if (coefficientLength == MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES + 1 && readTenByteFlexIntAsLong_1_1()) {
+            decimalScale = readDecimalScale_1_1();
+            return decimalUnscaledValue != 0;
+        }
+        if (coefficientLength > MAXIMUM_LONG_FLEX_INT_SIZE_IN_BYTES) {
+            // The scale is still valid, so skip the coefficient to reach it.
+            peekIndex += coefficientLength;
+            decimalScale = readDecimalScale_1_1();
+            return false;
+        }
+        decimalUnscaledValue = readFlexIntAsLong_1_1(coefficientLength);
+        decimalScale = readDecimalScale_1_1();
+        // Positive zero coefficients are encoded using dedicated opcodes, so an explicit zero coefficient is negative.
+        return decimalUnscaledValue != 0;
     }
 
+    /**
+     * Reads into a long the integer value that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private long readLong_1_1() {
-        throw new UnsupportedOperationException();
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        if (length > LONG_SIZE_IN_BYTES) {
+            return readBigInteger_1_1().longValue();
+        }
+        return readFixedIntOrUInt_1_1(valueMarker.startIndex, length, true);
     }
 
+    /**
+     * Reads into a BigInteger the integer value that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return the value.
+     */
     private BigInteger readBigInteger_1_1() {
-        throw new UnsupportedOperationException();
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        if (length <= LONG_SIZE_IN_BYTES) {
+            return BigInteger.valueOf(readFixedIntOrUInt_1_1(valueMarker.startIndex, length, true));
+        }
+        return readFixedIntOrUIntAsBigInteger_1_1(valueMarker.startIndex, length, true);
     }
 
+    /**
+     * Reads the bits of the fixed-width timestamp subfields that begin at `valueMarker.startIndex`.
+     * @param numberOfBytes the number of bytes containing the subfields. Must be at most 8.
+     * @return the bits.
+     */
+    private long readTimestampBits_1_1(int numberOfBytes) {
+        return readFixedIntOrUInt_1_1(valueMarker.startIndex, numberOfBytes, false);
+    }
+
+    /**
+     * Reads the short-form timestamp that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
+    private Timestamp readShortFormTimestamp_1_1() {
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        int opcode = OpCodes.TIMESTAMP_YEAR_PRECISION + valueTid.lowerNibble;
+        boolean hasOffset = opcode >= OpCodes.TIMESTAMP_MINUTE_PRECISION_WITH_OFFSET;
+        long bits = readTimestampBits_1_1(hasOffset ? S_O_TIMESTAMP_BITS_LENGTH : Math.min(length, LONG_SIZE_IN_BYTES));
+        int year = (int) (bits & Ion_1_1_Constants.LEAST_SIGNIFICANT_7_BITS) + S_TIMESTAMP_YEAR_BIAS;
+        if (opcode == OpCodes.TIMESTAMP_YEAR_PRECISION) {
+            return Timestamp.forYear(year);
+        }
+        int month = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MONTH_BIT_OFFSET) & TIMESTAMP_MONTH_BITMASK;
+        if (opcode == OpCodes.TIMESTAMP_MONTH_PRECISION) {
+            return Timestamp.forMonth(year, month);
+        }
+        int day = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_DAY_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+        if (opcode == OpCodes.TIMESTAMP_DAY_PRECISION) {
+            return Timestamp.forDay(year, month, day);
+        }
+        int hour = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_HOUR_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+        int minute = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MINUTE_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+        Integer offset;
+        int second;
+        BigDecimal fractionalSecond = null;
+        if (hasOffset) {
+            long offsetIncrements = (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.LEAST_SIGNIFICANT_7_BITS;
+            offset = (int) (offsetIncrements - S_O_TIMESTAMP_OFFSET_BIAS) * S_O_TIMESTAMP_OFFSET_INCREMENT_MINUTES;
+            if (opcode == OpCodes.TIMESTAMP_MINUTE_PRECISION_WITH_OFFSET) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = (int) (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+            if (opcode != OpCodes.TIMESTAMP_SECOND_PRECISION_WITH_OFFSET) {
+                int fractionLength = length - S_O_TIMESTAMP_BITS_LENGTH;
+                long fraction = readFixedIntOrUInt_1_1(valueMarker.startIndex + S_O_TIMESTAMP_BITS_LENGTH, fractionLength, false);
+                // Fractions of 2, 3, and 4 bytes hold milliseconds, microseconds, and nanoseconds, respectively.
+                fractionalSecond = readTimestampFraction_1_1(fraction, (fractionLength - 1) * 3);
+            }
+        } else {
+            offset = (bits & Ion_1_1_Constants.S_U_TIMESTAMP_UTC_FLAG) == 0 ? null : 0;
+            if (opcode == OpCodes.TIMESTAMP_MINUTE_PRECISION) {
+                return Timestamp.forMinute(year, month, day, hour, minute, offset);
+            }
+            second = (int) (bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+            if (opcode != OpCodes.TIMESTAMP_SECOND_PRECISION) {
+                long fraction = bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_FRACTION_BIT_OFFSET;
+                // Millisecond, microsecond, and nanosecond opcodes are consecutive.
+                int scale = (opcode - OpCodes.TIMESTAMP_SECOND_PRECISION) * 3;
+                fractionalSecond = readTimestampFraction_1_1(fraction, scale);
+            }
+        }
+        if (fractionalSecond == null) {
+            return Timestamp.forSecond(year, month, day, hour, minute, second, offset);
+        }
+        return Timestamp.forSecond(year, month, day, hour, minute, fractionalSecond.add(BigDecimal.valueOf(second)), offset);
+    }
+
+    /**
+     * Reads into `timestampComponents` the short-form timestamp that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return false if the timestamp could not be converted directly to components; otherwise, true.
+     */
+    private boolean readShortFormTimestampComponents_1_1() {
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        int opcode = OpCodes.TIMESTAMP_YEAR_PRECISION + valueTid.lowerNibble;
+        boolean hasOffset = opcode >= OpCodes.TIMESTAMP_MINUTE_PRECISION_WITH_OFFSET;
+        long bits = readTimestampBits_1_1(hasOffset ? S_O_TIMESTAMP_BITS_LENGTH : Math.min(length, LONG_SIZE_IN_BYTES));
+        int year = (int) (bits & Ion_1_1_Constants.LEAST_SIGNIFICANT_7_BITS) + S_TIMESTAMP_YEAR_BIAS;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        long fraction = 0;
+        int fractionScale = 0;
+        int offset = EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+        if (opcode != OpCodes.TIMESTAMP_YEAR_PRECISION) {
+            month = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MONTH_BIT_OFFSET) & TIMESTAMP_MONTH_BITMASK;
+        }
+        if (opcode > OpCodes.TIMESTAMP_MONTH_PRECISION) {
+            day = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_DAY_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+        }
+        if (opcode > OpCodes.TIMESTAMP_DAY_PRECISION) {
+            hour = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_HOUR_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+            minute = (int) (bits >>> Ion_1_1_Constants.S_TIMESTAMP_MINUTE_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+            if (hasOffset) {
+                long offsetIncrements = (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.LEAST_SIGNIFICANT_7_BITS;
+                offset = (int) (offsetIncrements - S_O_TIMESTAMP_OFFSET_BIAS) * S_O_TIMESTAMP_OFFSET_INCREMENT_MINUTES;
+                if (opcode != OpCodes.TIMESTAMP_MINUTE_PRECISION_WITH_OFFSET) {
+                    second = (int) (bits >>> Ion_1_1_Constants.S_O_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+                    if (opcode != OpCodes.TIMESTAMP_SECOND_PRECISION_WITH_OFFSET) {
+                        int fractionLength = length - S_O_TIMESTAMP_BITS_LENGTH;
+                        fraction = readFixedIntOrUInt_1_1(valueMarker.startIndex + S_O_TIMESTAMP_BITS_LENGTH, fractionLength, false);
+                        // Fractions of 2, 3, and 4 bytes hold milliseconds, microseconds, and nanoseconds, respectively.
+                        fractionScale = (fractionLength - 1) * 3;
+                    }
+                }
+            } else {
+                if ((bits & Ion_1_1_Constants.S_U_TIMESTAMP_UTC_FLAG) != 0) {
+                    offset = 0;
+                }
+                if (opcode != OpCodes.TIMESTAMP_MINUTE_PRECISION) {
+                    second = (int) (bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+                    if (opcode != OpCodes.TIMESTAMP_SECOND_PRECISION) {
+                        fraction = bits >>> Ion_1_1_Constants.S_U_TIMESTAMP_FRACTION_BIT_OFFSET;
+                        // Millisecond, microsecond, and nanosecond opcodes are consecutive.
+                        fractionScale = (opcode - OpCodes.TIMESTAMP_SECOND_PRECISION) * 3;
+                    }
+                }
+            }
+        }
+        return timestampComponents.set(year, month, day, hour, minute, second, fraction, fractionScale, offset, true);
+    }
+
+    /**
+     * Reads into `timestampComponents` the long-form timestamp that begins at `valueMarker.startIndex` and ends at
+     * `valueMarker.endIndex`.
+     * @return false if the timestamp could not be converted directly to components; otherwise, true.
+     */
+    private boolean readLongFormTimestampComponents_1_1() {
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        if (length < L_TIMESTAMP_YEAR_LENGTH || length == L_TIMESTAMP_DAY_LENGTH + 1 || length == L_TIMESTAMP_DAY_LENGTH + 2) {
+            return false;
+        }
+        long bits = readTimestampBits_1_1(Math.min(length, L_TIMESTAMP_SECOND_LENGTH));
+        int year = (int) (bits & L_TIMESTAMP_YEAR_BITMASK);
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        long fraction = 0;
+        int fractionScale = 0;
+        int offset = EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+        if (length > L_TIMESTAMP_YEAR_LENGTH) {
+            month = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MONTH_BIT_OFFSET) & TIMESTAMP_MONTH_BITMASK;
+            day = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_DAY_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+            if (length == L_TIMESTAMP_DAY_LENGTH && day == 0) {
+                // Month and day precision share a length; month precision leaves the day subfield empty.
+                day = 1;
+            }
+        }
+        if (length >= L_TIMESTAMP_MINUTE_LENGTH) {
+            hour = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_HOUR_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+            minute = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MINUTE_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+            int offsetValue = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE;
+            if (offsetValue != Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE) {
+                offset = offsetValue - L_TIMESTAMP_OFFSET_BIAS;
+            }
+        }
+        if (length >= L_TIMESTAMP_SECOND_LENGTH) {
+            second = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+        }
+        if (length > L_TIMESTAMP_SECOND_LENGTH) {
+            peekIndex = valueMarker.startIndex + L_TIMESTAMP_SECOND_LENGTH;
+            int coefficientLength = readFlexLength_1_1();
+            if (coefficientLength > LONG_SIZE_IN_BYTES) {
+                return false;
+            }
+            fraction = readFlexBits_1_1(coefficientLength, false);
+            int scaleLength = (int) (valueMarker.endIndex - peekIndex);
+            if (scaleLength > INT_SIZE_IN_BYTES) {
+                return false;
+            }
+            long scale = readFixedIntOrUInt_1_1(peekIndex, scaleLength, false);
+            if (scale > Integer.MAX_VALUE) {
+                return false;
+            }
+            fractionScale = (int) scale;
+        }
+        return timestampComponents.set(year, month, day, hour, minute, second, fraction, fractionScale, offset, true);
+    }
+
+    /**
+     * Validates and scales the given fractional second coefficient.
+     * @param fraction the coefficient of the fractional second.
+     * @param scale the scale of the fractional second.
+     * @return the fractional second.
+     */
+    private static BigDecimal readTimestampFraction_1_1(long fraction, int scale) {
+        BigDecimal fractionalSecond = BigDecimal.valueOf(fraction, scale);
+        if (fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("Timestamp fractional seconds must be less than 1.");
+        }
+        return fractionalSecond;
+    }
+
+    /**
+     * Reads the long-form timestamp that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
+    private Timestamp readLongFormTimestamp_1_1() {
+        int length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        if (length < L_TIMESTAMP_YEAR_LENGTH || length == L_TIMESTAMP_DAY_LENGTH + 1 || length == L_TIMESTAMP_DAY_LENGTH + 2) {
+            throw new IonException("Invalid long-form timestamp length.");
+        }
+        long bits = readTimestampBits_1_1(Math.min(length, L_TIMESTAMP_SECOND_LENGTH));
+        int year = (int) (bits & L_TIMESTAMP_YEAR_BITMASK);
+        if (length == L_TIMESTAMP_YEAR_LENGTH) {
+            return Timestamp.forYear(year);
+        }
+        int month = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MONTH_BIT_OFFSET) & TIMESTAMP_MONTH_BITMASK;
+        int day = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_DAY_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+        if (length == L_TIMESTAMP_DAY_LENGTH) {
+            // Month and day precision share a length; month precision leaves the day subfield empty.
+            return day == 0 ? Timestamp.forMonth(year, month) : Timestamp.forDay(year, month, day);
+        }
+        int hour = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_HOUR_BIT_OFFSET) & TIMESTAMP_DAY_OR_HOUR_BITMASK;
+        int minute = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_MINUTE_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+        int offsetValue = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_OFFSET_BIT_OFFSET) & Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE;
+        Integer offset = offsetValue == Ion_1_1_Constants.L_TIMESTAMP_UNKNOWN_OFFSET_VALUE ? null : offsetValue - L_TIMESTAMP_OFFSET_BIAS;
+        if (length == L_TIMESTAMP_MINUTE_LENGTH) {
+            return Timestamp.forMinute(year, month, day, hour, minute, offset);
+        }
+        int second = (int) (bits >>> Ion_1_1_Constants.L_TIMESTAMP_SECOND_BIT_OFFSET) & TIMESTAMP_MINUTE_OR_SECOND_BITMASK;
+        if (length == L_TIMESTAMP_SECOND_LENGTH) {
+            return Timestamp.forSecond(year, month, day, hour, minute, second, offset);
+        }
+        peekIndex = valueMarker.startIndex + L_TIMESTAMP_SECOND_LENGTH;
+        int coefficientLength = readFlexLength_1_1();
+        BigInteger coefficient = coefficientLength <= LONG_SIZE_IN_BYTES
+            ? BigInteger.valueOf(readFlexBits_1_1(coefficientLength, false))
+            : readFlexBitsAsBigInteger_1_1(coefficientLength, false);
+        int scaleLength = (int) (valueMarker.endIndex - peekIndex);
+        if (scaleLength > INT_SIZE_IN_BYTES) {
+            throw new IonException("Timestamp fractional second scale exceeds the maximum supported value.");
+        }
+        long scale = readFixedIntOrUInt_1_1(peekIndex, scaleLength, false);
+        if (scale > Integer.MAX_VALUE) {
+            throw new IonException("Timestamp fractional second scale exceeds the maximum supported value.");
+        }
+        BigDecimal fractionalSecond = new BigDecimal(coefficient, (int) scale);
+        if (scale - fractionalSecond.precision() > Timestamp.DEFAULT_MAXIMUM_DIGITS_TEXT) {
+            // Adding the whole seconds to a fraction with this many leading zeros would require an enormous BigInteger.
+            throw new IonException("Timestamp fractional second scale exceeds the maximum supported value.");
+        }
+        if (fractionalSecond.compareTo(BigDecimal.ONE) >= 0) {
+            throw new IonException("Timestamp fractional seconds must be less than 1.");
+        }
+        return Timestamp.forSecond(year, month, day, hour, minute, fractionalSecond.add(BigDecimal.valueOf(second)), offset);
+    }
+
+    /**
+     * Reads the timestamp that begins at `valueMarker.startIndex` and ends at `valueMarker.endIndex`.
+     * @return the value.
+     */
     private Timestamp readTimestamp_1_1() {
-        throw new UnsupportedOperationException();
+        try {
+            return valueTid.variableLength ? readLongFormTimestamp_1_1() : readShortFormTimestamp_1_1();
+        } catch (IllegalArgumentException e) {
+            throw new IonException("Illegal timestamp encoding. ", e);
+        }
     }
 
+    /**
+     * Reads the boolean value using the type ID of the current value.
+     * @return the value.
+     */
     private boolean readBoolean_1_1() {
-        throw new UnsupportedOperationException();
+        return valueTid.lowerNibble == (OpCodes.BOOLEAN_TRUE & LOWER_NIBBLE_BITMASK);
+    }
+
+    /**
+     * Reads the symbol ID of the current symbol value, which must be encoded as a symbol address.
+     * @return the symbol ID, or -1 if the symbol has inline text.
+     */
+    private int readSymbolValueId_1_1() {
+        if (valueTid.isInlineable) {
+            return -1;
+        }
+        // Symbol address opcodes are E1 (1 byte), E2 (2 bytes), and E3 (FlexUInt).
+        byte opcode = (byte) (OpCodes.SYMBOL_ADDRESS_1_BYTE + valueTid.lowerNibble - 1);
+        long savedPeekIndex = peekIndex;
+        int sid = readSymbolAddress_1_1(opcode, valueMarker.startIndex, valueMarker.endIndex);
+        peekIndex = savedPeekIndex;
+        return sid;
+    }
+
+    /**
+     * Decodes the 16-bit IEEE-754 binary floating point value that begins at `valueMarker.startIndex`.
+     * @return the value.
+     */
+    private double readFloat16_1_1() {
+        int bits = (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
+        int sign = (bits & FLOAT_16_SIGN_BITMASK) == 0 ? 1 : -1;
+        int exponent = (bits >>> FLOAT_16_SIGNIFICAND_BITS) & FLOAT_16_EXPONENT_BITMASK;
+        int significand = bits & FLOAT_16_SIGNIFICAND_BITMASK;
+        if (exponent == 0) {
+            // Subnormal.
+            return sign * Math.scalb((double) significand, FLOAT_16_MIN_EXPONENT - FLOAT_16_SIGNIFICAND_BITS);
+        }
+        if (exponent == FLOAT_16_EXPONENT_BITMASK) {
+            return significand == 0 ? sign * Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        return sign * Math.scalb(
+            (double) (significand | (1 << FLOAT_16_SIGNIFICAND_BITS)),
+            exponent - FLOAT_16_EXPONENT_BIAS - FLOAT_16_SIGNIFICAND_BITS
+        );
     }
 
     @Override
@@ -510,15 +1298,20 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return null;
         }
         prepareScalar();
-        if (valueTid.length < 0) {
+        int length = valueTid.length;
+        if (minorVersion != 0 && valueTid.variableLength) {
+            // Ion 1.1 variable-length integers are FixedInts whose size is known from the value's length prefix.
+            length = (int) (valueMarker.endIndex - valueMarker.startIndex);
+        }
+        if (length < 0) {
             return IntegerSize.BIG_INTEGER;
-        } else if (valueTid.length < INT_SIZE_IN_BYTES) {
+        } else if (length < INT_SIZE_IN_BYTES) {
             return IntegerSize.INT;
-        } else if (valueTid.length == INT_SIZE_IN_BYTES) {
+        } else if (length == INT_SIZE_IN_BYTES) {
             return (minorVersion != 0 || classifyInteger_1_0()) ? IntegerSize.INT : IntegerSize.LONG;
-        } else if (valueTid.length < LONG_SIZE_IN_BYTES) {
+        } else if (length < LONG_SIZE_IN_BYTES) {
             return IntegerSize.LONG;
-        } else if (valueTid.length == LONG_SIZE_IN_BYTES) {
+        } else if (length == LONG_SIZE_IN_BYTES) {
             return (minorVersion != 0 || classifyInteger_1_0()) ? IntegerSize.LONG : IntegerSize.BIG_INTEGER;
         }
         return IntegerSize.BIG_INTEGER;
@@ -605,6 +1398,27 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return value;
     }
 
+    /**
+     * Reads the current decimal value's coefficient and scale into `decimalUnscaledValue` and `decimalScale` without
+     * allocating.
+     * @return false if the coefficient does not fit in a long or is negative zero, in which case the value of
+     *  `decimalUnscaledValue` is unspecified; otherwise, true.
+     * @throws IllegalStateException if the reader is not positioned on a non-null decimal.
+     */
+    boolean readDecimalComponents() {
+        if (valueTid == null || valueTid.type != IonType.DECIMAL || valueTid.isNull) {
+            throwDueToInvalidType(IonType.DECIMAL);
+        }
+        prepareScalar();
+        peekIndex = valueMarker.startIndex;
+        if (peekIndex >= valueMarker.endIndex) {
+            decimalUnscaledValue = 0;
+            decimalScale = 0;
+            return true;
+        }
+        return minorVersion == 0 ? readDecimalComponents_1_0() : readDecimalComponents_1_1();
+    }
+
     @Override
     public Decimal decimalValue() {
         Decimal value = null;
@@ -716,6 +1530,9 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             if (length == 0) {
                 return 0.0d;
             }
+            if (length == FLOAT_16_BYTE_LENGTH) {
+                return readFloat16_1_1();
+            }
             ByteBuffer bytes = prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex);
             if (length == FLOAT_32_BYTE_LENGTH) {
                 value = bytes.getFloat();
@@ -756,6 +1573,37 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return minorVersion == 0 ? readTimestamp_1_0() : readTimestamp_1_1();
     }
 
+    /**
+     * Reads the current timestamp value into primitive components. Timestamps that cannot be converted directly are
+     * converted via {@link Timestamp}, which provides the same validation as {@link #timestampValue()}.
+     * @return the components, which are overwritten by the next call to this method.
+     * @throws IllegalStateException if the reader is not positioned on a non-null timestamp.
+     */
+    TimestampComponents readTimestampComponents() {
+        if (valueTid == null || IonType.TIMESTAMP != valueTid.type || valueTid.isNull) {
+            throwDueToInvalidType(IonType.TIMESTAMP);
+        }
+        prepareScalar();
+        peekIndex = valueMarker.startIndex;
+        if (peekIndex >= valueMarker.endIndex) {
+            throw new IonException("Timestamp value cannot have length 0.");
+        }
+        if (timestampComponents == null) {
+            timestampComponents = new TimestampComponents();
+        }
+        boolean isSet;
+        if (minorVersion == 0) {
+            isSet = readTimestampComponents_1_0();
+        } else {
+            isSet = valueTid.variableLength ? readLongFormTimestampComponents_1_1() : readShortFormTimestampComponents_1_1();
+        }
+        if (!isSet) {
+            peekIndex = valueMarker.startIndex;
+            timestampComponents.set(minorVersion == 0 ? readTimestamp_1_0() : readTimestamp_1_1());
+        }
+        return timestampComponents;
+    }
+
     @Override
     public Date dateValue() {
         Timestamp timestamp = timestampValue();
@@ -774,6 +1622,143 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return minorVersion == 0 ? readBoolean_1_0() : readBoolean_1_1();
     }
 
+    /**
+     * Decodes consecutive unannotated ints that fit in a long directly from the buffer, stopping at the first value
+     * that does not meet these criteria. Does nothing unless the values in the current container can be decoded
+     * directly from the buffer; see {@link #getBulkReadIndex()}.
+     * @param destination the array to fill.
+     * @param offset the index in `destination` of the first value decoded.
+     * @param length the maximum number of values to decode.
+     * @return the number of values decoded.
+     */
+    int readLongsInBulk(long[] destination, int offset, int length) {
+        long index = getBulkReadIndex();
+        if (index < 0) {
+            return 0;
+        }
+        long endIndex = parent.endIndex;
+        int numberOfValues = 0;
+        while (numberOfValues < length && index < endIndex) {
+            int typeIdByte = buffer[(int) index] & SINGLE_BYTE_MASK;
+            int typeCode = typeIdByte >> 4;
+            int valueLength = typeIdByte & LOWER_NIBBLE_BITMASK;
+            if ((typeCode != _Private_IonConstants.tidPosInt && typeCode != _Private_IonConstants.tidNegInt)
+                || valueLength > LONG_SIZE_IN_BYTES
+                || index + 1 + valueLength > endIndex) {
+                break;
+            }
+            long value = 0;
+            for (int i = 1; i <= valueLength; i++) {
+                value = (value << VALUE_BITS_PER_UINT_BYTE) | (buffer[(int) index + i] & SINGLE_BYTE_MASK);
+            }
+            if (value < 0) {
+                // The magnitude requires all 64 bits. Long.MIN_VALUE is left to the general-purpose path.
+                break;
+            }
+            if (typeCode == _Private_IonConstants.tidNegInt) {
+                if (value == 0) {
+                    // Negative zero is invalid; the general-purpose path will raise the error.
+                    break;
+                }
+                value = -value;
+            }
+            destination[offset + numberOfValues++] = value;
+            index += 1 + valueLength;
+        }
+        if (numberOfValues > 0) {
+            finishBulkRead(index);
+        }
+        return numberOfValues;
+    }
+
+    /**
+     * Decodes consecutive unannotated floats directly from the buffer, stopping at the first value that is not a
+     * non-null float. Does nothing unless the values in the current container can be decoded directly from the
+     * buffer; see {@link #getBulkReadIndex()}.
+     * @param destination the array to fill.
+     * @param offset the index in `destination` of the first value decoded.
+     * @param length the maximum number of values to decode.
+     * @return the number of values decoded.
+     */
+    int readDoublesInBulk(double[] destination, int offset, int length) {
+        long index = getBulkReadIndex();
+        if (index < 0) {
+            return 0;
+        }
+        long endIndex = parent.endIndex;
+        int numberOfValues = 0;
+        while (numberOfValues < length && index < endIndex) {
+            int typeIdByte = buffer[(int) index] & SINGLE_BYTE_MASK;
+            int valueLength = typeIdByte & LOWER_NIBBLE_BITMASK;
+            if ((typeIdByte >> 4) != _Private_IonConstants.tidFloat || index + 1 + valueLength > endIndex) {
+                break;
+            }
+            int start = (int) index + 1;
+            if (valueLength == LONG_SIZE_IN_BYTES) {
+                destination[offset + numberOfValues++] = Double.longBitsToDouble(
+                    (buffer[start] & 0xFFL) << 56
+                    | (buffer[start + 1] & 0xFFL) << 48
+                    | (buffer[start + 2] & 0xFFL) << 40
+                    | (buffer[start + 3] & 0xFFL) << 32
+                    | (buffer[start + 4] & 0xFFL) << 24
+                    | (buffer[start + 5] & 0xFFL) << 16
+                    | (buffer[start + 6] & 0xFFL) << 8
+                    | (buffer[start + 7] & 0xFFL)
+                );
+            } else if (valueLength == FLOAT_32_BYTE_LENGTH) {
+                destination[offset + numberOfValues++] = Float.intBitsToFloat(
+                    (buffer[start] & SINGLE_BYTE_MASK) << 24
+                    | (buffer[start + 1] & SINGLE_BYTE_MASK) << 16
+                    | (buffer[start + 2] & SINGLE_BYTE_MASK) << 8
+                    | (buffer[start + 3] & SINGLE_BYTE_MASK)
+                );
+            } else if (valueLength == 0) {
+                destination[offset + numberOfValues++] = 0.0d;
+            } else {
+                // Null, or an invalid length that the general-purpose path will reject.
+                break;
+            }
+            index += 1 + valueLength;
+        }
+        if (numberOfValues > 0) {
+            finishBulkRead(index);
+        }
+        return numberOfValues;
+    }
+
+    /**
+     * Decodes consecutive unannotated bools directly from the buffer, stopping at the first value that is not a
+     * non-null bool. Does nothing unless the values in the current container can be decoded directly from the buffer;
+     * see {@link #getBulkReadIndex()}.
+     * @param destination the array to fill.
+     * @param offset the index in `destination` of the first value decoded.
+     * @param length the maximum number of values to decode.
+     * @return the number of values decoded.
+     */
+    int readBooleansInBulk(boolean[] destination, int offset, int length) {
+        long index = getBulkReadIndex();
+        if (index < 0) {
+            return 0;
+        }
+        long endIndex = parent.endIndex;
+        int numberOfValues = 0;
+        while (numberOfValues < length && index < endIndex) {
+            int typeIdByte = buffer[(int) index] & SINGLE_BYTE_MASK;
+            if (typeIdByte == BOOL_TRUE_TYPE_ID_1_0) {
+                destination[offset + numberOfValues++] = true;
+            } else if (typeIdByte == BOOL_FALSE_TYPE_ID_1_0) {
+                destination[offset + numberOfValues++] = false;
+            } else {
+                break;
+            }
+            index++;
+        }
+        if (numberOfValues > 0) {
+            finishBulkRead(index);
+        }
+        return numberOfValues;
+    }
+
     @Override
     public String stringValue() {
         if (valueTid == null || IonType.STRING != valueTid.type) {
@@ -783,8 +1768,17 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return null;
         }
         prepareScalar();
-        ByteBuffer utf8InputBuffer = prepareByteBuffer(valueMarker.startIndex, valueMarker.endIndex);
-        return utf8Decoder.decode(utf8InputBuffer, (int) (valueMarker.endIndex - valueMarker.startIndex));
+        return readText(valueMarker);
+    }
+
+    /**
+     * Decodes the UTF-8 text between the start and end indices of the given marker.
+     * @param marker the marker.
+     * @return the text.
+     */
+    String readText(Marker marker) {
+        ByteBuffer utf8InputBuffer = prepareByteBuffer(marker.startIndex, marker.endIndex);
+        return utf8Decoder.decode(utf8InputBuffer, (int) (marker.endIndex - marker.startIndex));
     }
 
     @Override
@@ -796,9 +1790,28 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             return -1;
         }
         prepareScalar();
+        if (minorVersion != 0) {
+            return readSymbolValueId_1_1();
+        }
         return (int) readUInt(valueMarker.startIndex, valueMarker.endIndex);
     }
 
+    /**
+     * @return true if the current value is a non-null symbol with inline text, which may only occur in Ion 1.1.
+     */
+    boolean hasInlineSymbolText() {
+        return valueTid != null && valueTid.type == IonType.SYMBOL && valueTid.isInlineable && !valueTid.isNull;
+    }
+
+    /**
+     * Reads the inline text of the current symbol value. Must only be called when `hasInlineSymbolText()` is true.
+     * @return the text.
+     */
+    String inlineSymbolText() {
+        prepareScalar();
+        return readText(valueMarker);
+    }
+
     /**
      * Gets the annotation symbol IDs for the current value, reading them from the buffer first if necessary.
      * @return the annotation symbol IDs, or an empty list if the current value is not annotated.
@@ -811,6 +1824,13 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
             while (peekIndex < annotationSequenceMarker.endIndex) {
                 annotationSids.add(readVarUInt_1_0());
             }
+        } else if (annotationSequenceMarker.typeId.isInlineable) {
+            while (peekIndex < annotationSequenceMarker.endIndex) {
+                if (annotationSids.size() == annotationTextMarkers.length) {
+                    growAnnotationTextMarkers();
+                }
+                annotationSids.add(readVarSym_1_1(annotationTextMarkers[annotationSids.size()]));
+            }
         } else {
             while (peekIndex < annotationSequenceMarker.endIndex) {
                 annotationSids.add(readVarUInt_1_1());
@@ -820,6 +1840,39 @@ class IonReaderContinuableCoreBinary extends IonCursorBinary implements IonReade
         return annotationSids;
     }
 
+    /**
+     * Doubles the capacity of the array holding the locations of the current value's inline annotation text.
+     */
+    private void growAnnotationTextMarkers() {
+        Marker[] newMarkers = new Marker[annotationTextMarkers.length * 2];
+        System.arraycopy(annotationTextMarkers, 0, newMarkers, 0, annotationTextMarkers.length);
+        for (int i = annotationTextMarkers.length; i < newMarkers.length; i++) {
+            newMarkers[i] = new Marker(-1, -1);
+        }
+        annotationTextMarkers = newMarkers;
+    }
+
+    /**
+     * Gets the inline text of the annotation at the given index in the list most recently returned by
+     * `getAnnotationSidList()`. Only Ion 1.1 annotations may have inline text, which is denoted by a symbol ID of -1
+     * in that list.
+     * @param index the index of the annotation.
+     * @return the text.
+     */
+    String getAnnotationText(int index) {
+        return readText(annotationTextMarkers[index]);
+    }
+
+    /**
+     * Gets the location of the inline text of the annotation at the given index in the list most recently returned by
+     * `getAnnotationSidList()`. See `getAnnotationText(int)`.
+     * @param index the index of the annotation.
+     * @return the marker.
+     */
+    Marker getAnnotationTextMarker(int index) {
+        return annotationTextMarkers[index];
+    }
+
     @Override
     public int[] getAnnotationIds() {
         getAnnotationSidList();
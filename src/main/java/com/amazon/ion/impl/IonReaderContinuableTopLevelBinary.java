@@ -3,6 +3,9 @@
 
 package com.amazon.ion.impl;
 
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.FieldSeeker;
+import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
@@ -10,14 +13,27 @@ import com.amazon.ion.IonCursor;
 import com.amazon.ion.IonType;
 import com.amazon.ion.OffsetSpan;
 import com.amazon.ion.OversizedValueException;
+import com.amazon.ion.PrimitiveArrayReader;
 import com.amazon.ion.RawValueSpanProvider;
+import com.amazon.ion.ReusableReader;
 import com.amazon.ion.SeekableReader;
 import com.amazon.ion.Span;
 import com.amazon.ion.SpanProvider;
 import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.UnscaledDecimalReader;
+import com.amazon.ion.Utf8TextProvider;
+import com.amazon.ion.ValueStreamer;
 import com.amazon.ion.system.IonReaderBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * An optionally continuable (i.e., incremental) binary {@link IonReader} implementation. Continuability is enabled
@@ -44,7 +60,7 @@ import java.io.InputStream;
  * stream's values risk exceeding the available memory, then continuable reading must not be used.
  * </p>
  */
-final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableApplicationBinary implements IonReader, _Private_ReaderWriter {
+class IonReaderContinuableTopLevelBinary extends IonReaderContinuableApplicationBinary implements IonReader, _Private_ReaderWriter {
 
     // True if continuable reading is disabled.
     private final boolean isNonContinuable;
@@ -59,6 +75,10 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
     // The type of value on which the reader is currently positioned.
     private IonType type = null;
 
+    // Incremented whenever the reader moves off of its current value, so that objects tied to a particular value
+    // (e.g. the streams created by the ValueStreamer facet) can detect that the value is no longer current.
+    private long valueGeneration = 0;
+
     // The SymbolTable that was transferred via the last call to pop_passed_symbol_table.
     private SymbolTable symbolTableLastTransferred = null;
 
@@ -105,6 +125,22 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         return symbolTableLastTransferred;
     }
 
+    /**
+     * Clears the reader's current value, which must be done whenever the reader moves off of it.
+     */
+    private void clearCurrentValue() {
+        type = null;
+        valueGeneration++;
+    }
+
+    @Override
+    void resetForNewInput() {
+        super.resetForNewInput();
+        isFillingValue = false;
+        clearCurrentValue();
+        symbolTableLastTransferred = null;
+    }
+
     @Override
     public boolean hasNext() {
         throw new UnsupportedOperationException("Not implemented");
@@ -161,10 +197,12 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
 
     @Override
     public IonType next() {
-        type = null;
+        clearCurrentValue();
         if (isValueIncomplete) {
             handleIncompleteValue();
-        } else if (!isSlowMode || isNonContinuable || parent != null) {
+        } else if (!isSlowMode || isNonContinuable || (parent != null && !isReadingSymbolTable())) {
+            // Note: if the reader ran out of data while reading a symbol table, it is stepped into the symbol table,
+            // but the next user value is still at the top level and must be filled before it is returned.
             if (nextValue() == IonCursor.Event.NEEDS_DATA) {
                 if (isNonContinuable) {
                     endStream();
@@ -181,19 +219,22 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         } else {
             nextAndFill();
         }
+        if (metricsListener != null && type != null && parent == null) {
+            metricsListener.onTopLevelValue();
+        }
         return type;
     }
 
     @Override
     public void stepIn() {
         super.stepIntoContainer();
-        type = null;
+        clearCurrentValue();
     }
 
     @Override
     public void stepOut() {
         super.stepOutOfContainer();
-        type = null;
+        clearCurrentValue();
     }
 
     @Override
@@ -229,6 +270,7 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         final long bufferLimit;
         final long totalOffset;
         final SymbolTable symbolTable;
+        final String ionVersionId;
 
         /**
          * @param bufferOffset the offset of the span's first byte in the cursor's internal buffer.
@@ -237,12 +279,20 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
          *                    the cursor's internal buffer is refillable, such as when it consumes data from an input
          *                    stream.
          * @param symbolTable the symbol table active where the span occurs.
+         * @param ionVersionId the Ion version of the encoding where the span occurs.
          */
-        IonReaderBinarySpan(long bufferOffset, long bufferLimit, long totalOffset, SymbolTable symbolTable) {
+        IonReaderBinarySpan(
+            long bufferOffset,
+            long bufferLimit,
+            long totalOffset,
+            SymbolTable symbolTable,
+            String ionVersionId
+        ) {
             this.bufferOffset = bufferOffset;
             this.bufferLimit = bufferLimit;
             this.totalOffset = totalOffset;
             this.symbolTable = symbolTable;
+            this.ionVersionId = ionVersionId;
         }
 
         @Override
@@ -257,6 +307,31 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
 
     }
 
+    /**
+     * Creates a seekable span from its persisted components. The span may be hoisted by any byte-backed binary reader
+     * over the data from which the components were recorded.
+     * @param startOffset the total stream offset of the span's first byte.
+     * @param finishOffset the total stream offset of the byte after the span's last byte.
+     * @param symbolTable the symbol table active where the span occurs.
+     * @param ionVersionId the Ion version of the encoding where the span occurs.
+     * @return a new span.
+     */
+    static Span newSeekableSpan(long startOffset, long finishOffset, SymbolTable symbolTable, String ionVersionId) {
+        return new IonReaderBinarySpan(startOffset, finishOffset, startOffset, symbolTable, ionVersionId);
+    }
+
+    /**
+     * @param span a span.
+     * @return the Ion version of the encoding where the given span occurs, or null if the span was not provided by a
+     *  binary reader.
+     */
+    static String getIonVersionId(Span span) {
+        if (span instanceof IonReaderBinarySpan) {
+            return ((IonReaderBinarySpan) span).ionVersionId;
+        }
+        return null;
+    }
+
     private class SpanProviderFacet implements SpanProvider {
 
         @Override
@@ -266,9 +341,10 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             }
             return new IonReaderBinarySpan(
                 valuePreHeaderIndex,
-                valueMarker.endIndex,
+                findValueEndIndex(),
                 getTotalOffset(),
-                getSymbolTable()
+                getSymbolTable(),
+                getIonVersionId()
             );
         }
     }
@@ -282,9 +358,10 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             }
             return new IonReaderBinarySpan(
                 valueMarker.startIndex,
-                valueMarker.endIndex,
+                findValueEndIndex(),
                 valueMarker.startIndex,
-                null
+                null,
+                getIonVersionId()
             );
         }
 
@@ -309,9 +386,387 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
             // of the value to be the end of the stream, in order to comply with the SeekableReader contract. From
             // an implementation perspective, this is not necessary; if we leave the buffer's limit unchanged, the
             // reader can continue after processing the hoisted value.
+            // Note: the span's position is resolved from its total stream offset so that spans recorded by a
+            // different reader over the same data (e.g. via a TopLevelValueIndex) can be hoisted.
+            long offset = getBufferIndex(binarySpan.totalOffset);
+            long limit = offset + (binarySpan.bufferLimit - binarySpan.bufferOffset);
+            if (offset < 0 || limit > buffer.length || limit < offset) {
+                throw new IllegalArgumentException("Span is out of bounds.");
+            }
             restoreSymbolTable(binarySpan.symbolTable);
-            slice(binarySpan.bufferOffset, binarySpan.bufferLimit, binarySpan.symbolTable.getIonVersionId());
-            type = null;
+            slice(offset, limit, binarySpan.ionVersionId);
+            clearCurrentValue();
+        }
+    }
+
+    private class Utf8TextProviderFacet implements Utf8TextProvider {
+
+        @Override
+        public int getUtf8Length() {
+            return utf8TextLength();
+        }
+
+        @Override
+        public int getUtf8Bytes(byte[] destination, int offset) {
+            return copyUtf8Text(destination, offset);
+        }
+
+        @Override
+        public CharSequence getTextView() {
+            return textView();
+        }
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the given offset and length do not describe a range within an array of
+     *  the given length.
+     */
+    private static void checkArrayRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+    }
+
+    private class PrimitiveArrayReaderFacet implements PrimitiveArrayReader {
+
+        // Each method alternates between decoding values directly from the buffer, which is possible for runs of
+        // unannotated values within length-prefixed Ion 1.0 containers, and the general-purpose path, which handles
+        // all other values and positions the reader on the first value that does not match.
+
+        @Override
+        public int readLongs(long[] destination, int offset, int length) {
+            checkArrayRange(destination.length, offset, length);
+            int numberOfValues = 0;
+            while (true) {
+                int numberDecoded = readLongsInBulk(destination, offset + numberOfValues, length - numberOfValues);
+                if (numberDecoded > 0) {
+                    numberOfValues += numberDecoded;
+                    clearCurrentValue();
+                }
+                if (numberOfValues == length
+                    || next() != IonType.INT
+                    || isNullValue()
+                    || getIntegerSize() == IntegerSize.BIG_INTEGER) {
+                    return numberOfValues;
+                }
+                destination[offset + numberOfValues++] = longValue();
+            }
+        }
+
+        @Override
+        public int readDoubles(double[] destination, int offset, int length) {
+            checkArrayRange(destination.length, offset, length);
+            int numberOfValues = 0;
+            while (true) {
+                int numberDecoded = readDoublesInBulk(destination, offset + numberOfValues, length - numberOfValues);
+                if (numberDecoded > 0) {
+                    numberOfValues += numberDecoded;
+                    clearCurrentValue();
+                }
+                if (numberOfValues == length || next() != IonType.FLOAT || isNullValue()) {
+                    return numberOfValues;
+                }
+                destination[offset + numberOfValues++] = doubleValue();
+            }
+        }
+
+        @Override
+        public int readBooleans(boolean[] destination, int offset, int length) {
+            checkArrayRange(destination.length, offset, length);
+            int numberOfValues = 0;
+            while (true) {
+                int numberDecoded = readBooleansInBulk(destination, offset + numberOfValues, length - numberOfValues);
+                if (numberDecoded > 0) {
+                    numberOfValues += numberDecoded;
+                    clearCurrentValue();
+                }
+                if (numberOfValues == length || next() != IonType.BOOL || isNullValue()) {
+                    return numberOfValues;
+                }
+                destination[offset + numberOfValues++] = booleanValue();
+            }
+        }
+    }
+
+    private class ReusableReaderFacet implements ReusableReader {
+
+        private void requireOpen() {
+            if (isTerminated()) {
+                throw new IllegalStateException("Cannot reset a reader that has been closed.");
+            }
+        }
+
+        @Override
+        public void reset(byte[] ionData) {
+            reset(ionData, 0, ionData.length);
+        }
+
+        @Override
+        public void reset(byte[] ionData, int offset, int length) {
+            requireOpen();
+            if (offset < 0 || length < 0 || offset > ionData.length - length) {
+                throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+            }
+            if (isByteBacked()) {
+                resetInput(ionData, offset, length);
+            } else {
+                resetInput(new ByteArrayInputStream(ionData, offset, length));
+            }
+        }
+
+        @Override
+        public void reset(ByteBuffer ionData) {
+            requireOpen();
+            if (isByteBacked()) {
+                if (!ionData.hasArray()) {
+                    throw new UnsupportedOperationException("A reader built from a byte array can only be reset onto array-backed data.");
+                }
+                reset(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+            } else {
+                resetInput(new _Private_ByteBufferInputStream(ionData));
+            }
+        }
+
+        @Override
+        public void reset(InputStream ionData) {
+            requireOpen();
+            if (isByteBacked()) {
+                throw new UnsupportedOperationException("A reader built from a byte array cannot be reset onto an InputStream.");
+            }
+            resetInput(ionData);
+        }
+    }
+
+    private class FieldSeekerFacet implements FieldSeeker {
+
+        // Denote whether the text of a symbol ID equals the most recently sought field name.
+        private static final byte SID_UNRESOLVED = 0;
+        private static final byte SID_MATCHES = 1;
+        private static final byte SID_DOES_NOT_MATCH = 2;
+
+        // The most recently sought field name and its UTF-8 encoding, which is used to compare against inline text.
+        private String lastName = null;
+        private byte[] lastNameUtf8 = null;
+
+        // Whether each symbol ID matches `lastName` in the symbol table identified by `sidMatchesGeneration`.
+        private byte[] sidMatches = new byte[SystemSymbols.ION_1_0_MAX_ID + 1];
+        private int sidMatchesGeneration = -1;
+
+        private void requireStruct() {
+            if (!isInStruct()) {
+                throw new IllegalStateException("Must be stepped into a struct to seek to a field.");
+            }
+        }
+
+        /**
+         * @param sid the symbol ID of the current field name.
+         * @return true if the text of the given symbol ID equals the sought field name. The text of each symbol ID is
+         *  compared at most once per symbol table.
+         */
+        private boolean isMatchingSid(int sid) {
+            if (sid >= sidMatches.length) {
+                sidMatches = Arrays.copyOf(sidMatches, Math.max(sidMatches.length * 2, sid + 1));
+            }
+            byte match = sidMatches[sid];
+            if (match == SID_UNRESOLVED) {
+                match = lastName.equals(getSymbol(sid)) ? SID_MATCHES : SID_DOES_NOT_MATCH;
+                sidMatches[sid] = match;
+            }
+            return match == SID_MATCHES;
+        }
+
+        @Override
+        public IonType seekToField(String name) {
+            requireStruct();
+            if (!name.equals(lastName)) {
+                lastName = name;
+                lastNameUtf8 = name.getBytes(StandardCharsets.UTF_8);
+                sidMatchesGeneration = -1;
+            }
+            if (sidMatchesGeneration != getSymbolTableGeneration()) {
+                Arrays.fill(sidMatches, SID_UNRESOLVED);
+                sidMatchesGeneration = getSymbolTableGeneration();
+            }
+            IonType fieldType;
+            while ((fieldType = next()) != null) {
+                int sid = getFieldId();
+                if (sid < 0 ? isFieldNameEqualTo(name, lastNameUtf8) : isMatchingSid(sid)) {
+                    break;
+                }
+            }
+            return fieldType;
+        }
+
+        @Override
+        public IonType seekToField(int sid) {
+            requireStruct();
+            IonType fieldType;
+            while ((fieldType = next()) != null) {
+                if (getFieldId() == sid) {
+                    break;
+                }
+            }
+            return fieldType;
+        }
+    }
+
+    private class UnscaledDecimalReaderFacet implements UnscaledDecimalReader {
+
+        @Override
+        public boolean isUnscaledValueLong() {
+            return readDecimalComponents();
+        }
+
+        @Override
+        public long unscaledValue() {
+            if (!readDecimalComponents()) {
+                throw new IonException("The unscaled value of the current decimal cannot be represented as a long.");
+            }
+            return decimalUnscaledValue;
+        }
+
+        @Override
+        public int scale() {
+            readDecimalComponents();
+            return decimalScale;
+        }
+    }
+
+    private class EpochTimestampReaderFacet implements EpochTimestampReader {
+
+        @Override
+        public long timestampEpochMillis() {
+            return readTimestampComponents().epochMillis();
+        }
+
+        @Override
+        public long timestampEpochNanos() {
+            return readTimestampComponents().epochNanos();
+        }
+
+        @Override
+        public int timestampOffsetMinutes() {
+            return readTimestampComponents().offsetMinutes;
+        }
+    }
+
+    private class ValueStreamerFacet implements ValueStreamer {
+
+        // The maximum number of bytes copied at a time when transferring a value.
+        private static final int TRANSFER_CHUNK_SIZE = 8192;
+
+        /**
+         * @return the number of bytes in the current value's content.
+         */
+        private long requireStreamableValue() {
+            if (isTerminated()) {
+                throw new IllegalStateException("The reader has been closed.");
+            }
+            if ((type != IonType.BLOB && type != IonType.CLOB && type != IonType.STRING) || isNullValue()) {
+                throw new IllegalStateException("Must be positioned on a non-null blob, clob, or string.");
+            }
+            if (isCurrentValueStreamed()) {
+                throw new IllegalStateException("The current value's bytes have already been streamed.");
+            }
+            if (isValueIncomplete) {
+                throw new IonException("Unexpected EOF.");
+            }
+            return valueMarker.endIndex - valueMarker.startIndex;
+        }
+
+        @Override
+        public InputStream newInputStream() {
+            return new ValueInputStream(requireStreamableValue());
+        }
+
+        @Override
+        public long transferValueTo(WritableByteChannel channel) throws IOException {
+            long remaining = requireStreamableValue();
+            long total = remaining;
+            byte[] chunk = new byte[(int) Math.min(remaining, TRANSFER_CHUNK_SIZE)];
+            ByteBuffer chunkBuffer = ByteBuffer.wrap(chunk);
+            int numberOfBytes;
+            while ((numberOfBytes = readValueBytes(remaining, chunk, 0, chunk.length)) > 0) {
+                remaining -= numberOfBytes;
+                chunkBuffer.position(0);
+                chunkBuffer.limit(numberOfBytes);
+                while (chunkBuffer.hasRemaining()) {
+                    channel.write(chunkBuffer);
+                }
+            }
+            return total;
+        }
+
+        @Override
+        public long transferValueTo(OutputStream out) throws IOException {
+            long remaining = requireStreamableValue();
+            long total = remaining;
+            byte[] chunk = new byte[(int) Math.min(remaining, TRANSFER_CHUNK_SIZE)];
+            int numberOfBytes;
+            while ((numberOfBytes = readValueBytes(remaining, chunk, 0, chunk.length)) > 0) {
+                remaining -= numberOfBytes;
+                out.write(chunk, 0, numberOfBytes);
+            }
+            return total;
+        }
+    }
+
+    /**
+     * An InputStream over the content of the value on which the reader was positioned when the stream was created.
+     */
+    private class ValueInputStream extends InputStream {
+
+        // The reader's `valueGeneration` when the stream was created.
+        private final long generation = valueGeneration;
+
+        // The number of bytes of the value's content that have not yet been read.
+        private long remaining;
+
+        // Reusable destination for single-byte reads.
+        private final byte[] singleByte = new byte[1];
+
+        private ValueInputStream(long length) {
+            remaining = length;
+        }
+
+        /**
+         * @return true if the reader is still positioned on the value over which this stream was created.
+         */
+        private boolean isValueCurrent() {
+            return generation == valueGeneration;
+        }
+
+        @Override
+        public int read() {
+            return read(singleByte, 0, 1) < 0 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] destination, int offset, int length) {
+            checkArrayRange(destination.length, offset, length);
+            if (isTerminated()) {
+                throw new IllegalStateException("The reader has been closed.");
+            }
+            if (!isValueCurrent()) {
+                throw new IllegalStateException("The reader is no longer positioned on the value over which this stream was created.");
+            }
+            if (length == 0) {
+                return 0;
+            }
+            int numberOfBytes = readValueBytes(remaining, destination, offset, length);
+            if (numberOfBytes > 0) {
+                remaining -= numberOfBytes;
+            }
+            return numberOfBytes;
+        }
+
+        @Override
+        public int available() {
+            if (!isValueCurrent()) {
+                return 0;
+            }
+            // Only bytes that are already buffered can be read without blocking.
+            return (int) Math.max(0, Math.min(remaining, limit - (valueMarker.endIndex - remaining)));
         }
     }
 
@@ -320,6 +775,27 @@ final class IonReaderContinuableTopLevelBinary extends IonReaderContinuableAppli
         if (facetType == SpanProvider.class) {
             return facetType.cast(new SpanProviderFacet());
         }
+        if (facetType == Utf8TextProvider.class) {
+            return facetType.cast(new Utf8TextProviderFacet());
+        }
+        if (facetType == PrimitiveArrayReader.class) {
+            return facetType.cast(new PrimitiveArrayReaderFacet());
+        }
+        if (facetType == FieldSeeker.class) {
+            return facetType.cast(new FieldSeekerFacet());
+        }
+        if (facetType == ReusableReader.class) {
+            return facetType.cast(new ReusableReaderFacet());
+        }
+        if (facetType == ValueStreamer.class) {
+            return facetType.cast(new ValueStreamerFacet());
+        }
+        if (facetType == UnscaledDecimalReader.class) {
+            return facetType.cast(new UnscaledDecimalReaderFacet());
+        }
+        if (facetType == EpochTimestampReader.class) {
+            return facetType.cast(new EpochTimestampReaderFacet());
+        }
         // Note: because IonCursorBinary has an internal buffer that can grow, it is possible to relax the restriction
         // that readers must have been constructed with a byte array in order to be seekable or provide raw value spans.
         // However, it requires some considerations that do not fit well with the existing interfaces. Most importantly,
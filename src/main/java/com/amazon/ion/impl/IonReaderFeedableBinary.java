@@ -0,0 +1,76 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonFeedableReader;
+import com.amazon.ion.ReusableReader;
+import com.amazon.ion.system.IonReaderBuilder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A continuable binary reader that is fed bytes by the user. Fed bytes are appended directly to the cursor's buffer
+ * whenever possible. Bytes that do not fit (because the buffer would exceed its maximum size, or because an oversized
+ * value is being skipped) are held in a pipe, from which the cursor consumes them through its normal refill path.
+ * Once any bytes are held in the pipe, subsequent bytes are also held there until the pipe is drained, which
+ * preserves their order.
+ */
+final class IonReaderFeedableBinary extends IonReaderContinuableTopLevelBinary implements IonFeedableReader {
+
+    // Holds bytes that could not be appended directly to the cursor's buffer.
+    private final ResizingPipedInputStream pendingBytes;
+
+    /**
+     * @param builder the builder containing the configuration for the new reader. Incremental reading is always
+     *                enabled, regardless of the builder's configuration.
+     */
+    IonReaderFeedableBinary(IonReaderBuilder builder) {
+        this(
+            builder.copy().withIncrementalReadingEnabled(true),
+            new ResizingPipedInputStream(builder.getBufferConfiguration().getInitialBufferSize())
+        );
+    }
+
+    private IonReaderFeedableBinary(IonReaderBuilder builder, ResizingPipedInputStream pendingBytes) {
+        super(builder, pendingBytes, null, 0, 0);
+        this.pendingBytes = pendingBytes;
+    }
+
+    @Override
+    public <T> T asFacet(Class<T> facetType) {
+        if (facetType == ReusableReader.class) {
+            // Fed data is delivered through the pending bytes pipe, which cannot be replaced.
+            return null;
+        }
+        return super.asFacet(facetType);
+    }
+
+    @Override
+    public boolean isAwaitingData() {
+        return isPartialDataBuffered();
+    }
+
+    @Override
+    public void feed(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+        if (pendingBytes.available() > 0 || !appendDirectly(bytes, offset, length)) {
+            pendingBytes.receive(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void feed(ByteBuffer bytes) {
+        if (bytes.hasArray()) {
+            feed(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            bytes.position(bytes.limit());
+            return;
+        }
+        if (pendingBytes.available() > 0 || !appendDirectly(bytes)) {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            pendingBytes.receive(copy);
+        }
+    }
+}
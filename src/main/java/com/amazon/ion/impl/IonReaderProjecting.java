@@ -0,0 +1,681 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.ReusableReader;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.UnscaledDecimalReader;
+import com.amazon.ion.Utf8TextProvider;
+import com.amazon.ion.ValueStreamer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An IonReader that surfaces only the values that lie on one of a set of field paths, such as
+ * `order.items[*].sku`. Every top-level value is surfaced. Within a container, only the children that match the next
+ * step of at least one path are surfaced; values at the end of a path are surfaced in full. All other values are
+ * skipped by calling `next()` on the wrapped reader without stepping in, which allows binary readers to seek past
+ * them using their length prefixes without decoding their contents.
+ * <p>
+ * A path is a sequence of steps separated by `.`. Each step is either a field name, `*` (any field), `[n]` (the
+ * element at index n of a list or s-expression), or `[*]` (any element). Element steps may follow a field step
+ * without a separating `.`, e.g. `items[*]`. Field names containing `.`, `[`, or `]` are not supported.
+ * <p>
+ * When wrapping a binary reader, field names are matched by symbol ID. The text of each symbol ID is looked up once
+ * per symbol table and container path node; field names with inline text (Ion 1.1) are matched by text.
+ */
+@SuppressWarnings("deprecation") // hasNext and getFieldId are deprecated, but must still be implemented.
+class IonReaderProjecting implements IonReader {
+
+    /**
+     * A node in the trie formed by a set of paths. Children reachable via named steps have already had the children
+     * reachable via the corresponding wildcard step merged in, so lookups need to consult the wildcard only when no
+     * named step matches.
+     */
+    static final class PathNode {
+
+        // True if a path ends at this node, meaning the value and its entire subtree are surfaced.
+        private boolean isTerminal = false;
+
+        // Children reachable by field name.
+        private Map<String, PathNode> fields = null;
+
+        // The child reachable by any field name.
+        private PathNode anyField = null;
+
+        // Children reachable by element index.
+        private Map<Integer, PathNode> elements = null;
+
+        // The child reachable by any element index.
+        private PathNode anyElement = null;
+
+        private PathNode fieldChild(String fieldName) {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            return fields.computeIfAbsent(fieldName, k -> new PathNode());
+        }
+
+        private PathNode elementChild(int index) {
+            if (elements == null) {
+                elements = new HashMap<>();
+            }
+            return elements.computeIfAbsent(index, k -> new PathNode());
+        }
+
+        private PathNode anyFieldChild() {
+            if (anyField == null) {
+                anyField = new PathNode();
+            }
+            return anyField;
+        }
+
+        private PathNode anyElementChild() {
+            if (anyElement == null) {
+                anyElement = new PathNode();
+            }
+            return anyElement;
+        }
+
+        /**
+         * @param fieldName the field name of a struct field, or null if the field name has unknown text.
+         * @return the child that matches the field, or null if no path continues through the field.
+         */
+        PathNode matchField(String fieldName) {
+            if (fields != null && fieldName != null) {
+                PathNode child = fields.get(fieldName);
+                if (child != null) {
+                    return child;
+                }
+            }
+            return anyField;
+        }
+
+        /**
+         * @param index the index of an element in a list or s-expression.
+         * @return the child that matches the element, or null if no path continues through the element.
+         */
+        PathNode matchElement(int index) {
+            if (elements != null) {
+                PathNode child = elements.get(index);
+                if (child != null) {
+                    return child;
+                }
+            }
+            return anyElement;
+        }
+
+        /**
+         * @param type the type of a value that matched this node.
+         * @return true if the value should be surfaced, either because a path ends at this node or because the value
+         *  is a container through which a path may continue.
+         */
+        boolean accepts(IonType type) {
+            if (isTerminal) {
+                return true;
+            }
+            if (type == IonType.STRUCT) {
+                return fields != null || anyField != null;
+            }
+            if (type == IonType.LIST || type == IonType.SEXP) {
+                return elements != null || anyElement != null;
+            }
+            return false;
+        }
+
+        /**
+         * Adds all paths from the given node into this node.
+         * @param source the node to merge into this one. It is not modified.
+         */
+        private void merge(PathNode source) {
+            isTerminal |= source.isTerminal;
+            if (source.fields != null) {
+                for (Map.Entry<String, PathNode> entry : source.fields.entrySet()) {
+                    fieldChild(entry.getKey()).merge(entry.getValue());
+                }
+            }
+            if (source.anyField != null) {
+                anyFieldChild().merge(source.anyField);
+            }
+            if (source.elements != null) {
+                for (Map.Entry<Integer, PathNode> entry : source.elements.entrySet()) {
+                    elementChild(entry.getKey()).merge(entry.getValue());
+                }
+            }
+            if (source.anyElement != null) {
+                anyElementChild().merge(source.anyElement);
+            }
+        }
+
+        /**
+         * Merges wildcard children into the named children at the same level, recursively, so that a single lookup
+         * finds every path that continues through a given field or element.
+         */
+        private void normalize() {
+            if (fields != null) {
+                for (PathNode child : fields.values()) {
+                    if (anyField != null) {
+                        child.merge(anyField);
+                    }
+                    child.normalize();
+                }
+            }
+            if (anyField != null) {
+                anyField.normalize();
+            }
+            if (elements != null) {
+                for (PathNode child : elements.values()) {
+                    if (anyElement != null) {
+                        child.merge(anyElement);
+                    }
+                    child.normalize();
+                }
+            }
+            if (anyElement != null) {
+                anyElement.normalize();
+            }
+        }
+
+        /**
+         * Parses the given paths into a trie.
+         * @param paths the paths.
+         * @return the root of the trie, which corresponds to a top-level value.
+         * @throws IllegalArgumentException if any path is malformed.
+         */
+        static PathNode parse(List<String> paths) {
+            PathNode root = new PathNode();
+            for (String path : paths) {
+                if (path == null || path.isEmpty()) {
+                    throw new IllegalArgumentException("Paths must not be null or empty.");
+                }
+                PathNode node = root;
+                int i = 0;
+                while (i < path.length()) {
+                    char c = path.charAt(i);
+                    if (c == '[') {
+                        int close = path.indexOf(']', i);
+                        if (close < 0) {
+                            throw new IllegalArgumentException("Unclosed '[' in path: " + path);
+                        }
+                        String index = path.substring(i + 1, close);
+                        if (index.equals("*")) {
+                            node = node.anyElementChild();
+                        } else {
+                            try {
+                                int n = Integer.parseInt(index);
+                                if (n < 0) {
+                                    throw new IllegalArgumentException("Negative element index in path: " + path);
+                                }
+                                node = node.elementChild(n);
+                            } catch (NumberFormatException e) {
+                                throw new IllegalArgumentException("Invalid element index in path: " + path, e);
+                            }
+                        }
+                        i = close + 1;
+                        if (i < path.length() && path.charAt(i) == '.') {
+                            i++;
+                            if (i == path.length()) {
+                                throw new IllegalArgumentException("Path must not end with '.': " + path);
+                            }
+                        }
+                    } else {
+                        int end = i;
+                        while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                            if (path.charAt(end) == ']') {
+                                throw new IllegalArgumentException("Unexpected ']' in path: " + path);
+                            }
+                            end++;
+                        }
+                        if (end == i) {
+                            throw new IllegalArgumentException("Empty field name in path: " + path);
+                        }
+                        String fieldName = path.substring(i, end);
+                        node = fieldName.equals("*") ? node.anyFieldChild() : node.fieldChild(fieldName);
+                        i = end;
+                        if (i < path.length() && path.charAt(i) == '.') {
+                            i++;
+                            if (i == path.length()) {
+                                throw new IllegalArgumentException("Path must not end with '.': " + path);
+                            }
+                        }
+                    }
+                }
+                node.isTerminal = true;
+            }
+            root.normalize();
+            return root;
+        }
+    }
+
+    // Denotes that the entire subtree of the current container is surfaced.
+    private static final PathNode ALL = new PathNode();
+
+    // Denotes that no path continues through a field with a given symbol ID.
+    private static final PathNode UNMATCHED = new PathNode();
+
+    /**
+     * The matches for the fields of a struct that corresponds to a path node, indexed by field name symbol ID. A null
+     * element means the symbol ID has not been encountered yet.
+     */
+    private static final class FieldMatches {
+        private PathNode[] bySid = new PathNode[SystemSymbols.ION_1_0_MAX_ID + 1];
+    }
+
+    // Initial capacity of the stacks that track state for each depth.
+    private static final int STACK_INITIAL_CAPACITY = 8;
+
+    private final IonReader delegate;
+
+    // The root of the path trie.
+    private final PathNode root;
+
+    // The path node for the container at each depth (index 0 is unused, as all top-level values are surfaced).
+    private PathNode[] containerNodes = new PathNode[STACK_INITIAL_CAPACITY];
+
+    // The number of values encountered so far in the container at each depth, used to match element indices.
+    private int[] elementCounts = new int[STACK_INITIAL_CAPACITY];
+
+    // The current depth.
+    private int depth = 0;
+
+    // The path node that matched the current value.
+    private PathNode currentNode = null;
+
+    // The field matches for the struct at each depth, resolved on first use. Null if fields are matched by text.
+    private FieldMatches[] fieldMatchesByDepth = null;
+
+    // The field matches for each path node that has been reached, valid for `fieldSymbolTable`.
+    private final Map<PathNode, FieldMatches> fieldMatchesByNode;
+
+    // The symbol table in effect when the entries in `fieldMatchesByNode` were resolved.
+    private SymbolTable fieldSymbolTable = null;
+
+    // The type of the next value, which has been positioned by hasNext() but not yet returned by next().
+    private IonType pendingType = null;
+
+    // True if hasNext() has positioned the next value.
+    private boolean hasPendingType = false;
+
+    /**
+     * @param delegate the reader to wrap.
+     * @param root the root of the path trie, from {@link PathNode#parse(List)}.
+     */
+    IonReaderProjecting(IonReader delegate, PathNode root) {
+        this.delegate = delegate;
+        this.root = root;
+        // Text readers look up symbol IDs by text, and the symbol IDs of IonValue field names need not come from the
+        // reader's symbol table, so only binary field names are matched by symbol ID.
+        if (delegate instanceof IonReaderContinuableTopLevelBinary) {
+            fieldMatchesByDepth = new FieldMatches[STACK_INITIAL_CAPACITY];
+            fieldMatchesByNode = new IdentityHashMap<>();
+        } else {
+            fieldMatchesByNode = null;
+        }
+    }
+
+    /**
+     * The variant used for readers over text, which must implement {@link com.amazon.ion.IonTextReader}.
+     */
+    static final class Text extends IonReaderProjecting implements com.amazon.ion.IonTextReader {
+        Text(IonReader delegate, PathNode root) {
+            super(delegate, root);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasPendingType) {
+            // Values that do not match must be skipped to find out whether any value matches. The delegate is not
+            // consulted even where every value is surfaced, because not all readers support hasNext().
+            pendingType = next();
+            hasPendingType = true;
+        }
+        return pendingType != null;
+    }
+
+    @Override
+    public IonType next() {
+        if (hasPendingType) {
+            hasPendingType = false;
+            return pendingType;
+        }
+        if (depth == 0) {
+            IonType type = delegate.next();
+            currentNode = type == null ? null : root;
+            if (fieldMatchesByNode != null && type != null) {
+                // Symbol tables only change between top-level values.
+                SymbolTable symbolTable = delegate.getSymbolTable();
+                if (symbolTable != fieldSymbolTable) {
+                    fieldSymbolTable = symbolTable;
+                    fieldMatchesByNode.clear();
+                }
+            }
+            return type;
+        }
+        PathNode container = containerNodes[depth];
+        if (container == ALL) {
+            IonType type = delegate.next();
+            currentNode = type == null ? null : ALL;
+            return type;
+        }
+        boolean isStruct = delegate.isInStruct();
+        IonType type;
+        while ((type = delegate.next()) != null) {
+            PathNode match;
+            if (isStruct) {
+                match = matchField(container);
+            } else {
+                match = container.matchElement(elementCounts[depth]++);
+            }
+            if (match != null && match.accepts(type)) {
+                currentNode = match.isTerminal ? ALL : match;
+                return type;
+            }
+            // Otherwise, skip the value without stepping in.
+        }
+        currentNode = null;
+        return null;
+    }
+
+    /**
+     * @param container the path node that matched the current value's parent struct.
+     * @return the child of the given node that matches the current value's field name, or null if none matches.
+     */
+    private PathNode matchField(PathNode container) {
+        if (fieldMatchesByDepth == null) {
+            return container.matchField(fieldNameOrNull());
+        }
+        int sid = delegate.getFieldId();
+        if (sid < 0) {
+            // The field name has inline text.
+            return container.matchField(fieldNameOrNull());
+        }
+        FieldMatches matches = fieldMatchesByDepth[depth];
+        if (matches == null) {
+            matches = fieldMatchesByNode.computeIfAbsent(container, k -> new FieldMatches());
+            fieldMatchesByDepth[depth] = matches;
+        }
+        if (sid >= matches.bySid.length) {
+            matches.bySid = Arrays.copyOf(matches.bySid, Math.max(matches.bySid.length * 2, sid + 1));
+        }
+        PathNode match = matches.bySid[sid];
+        if (match == null) {
+            match = container.matchField(fieldNameOrNull());
+            matches.bySid[sid] = match == null ? UNMATCHED : match;
+            return match;
+        }
+        return match == UNMATCHED ? null : match;
+    }
+
+    /**
+     * @return the field name of the current value, or null if its text is unknown.
+     */
+    private String fieldNameOrNull() {
+        try {
+            return delegate.getFieldName();
+        } catch (UnknownSymbolException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void stepIn() {
+        if (currentNode == null) {
+            throw new IllegalStateException("Must be positioned on a container to step in.");
+        }
+        delegate.stepIn();
+        hasPendingType = false;
+        depth++;
+        if (depth == containerNodes.length) {
+            PathNode[] newNodes = new PathNode[depth * 2];
+            System.arraycopy(containerNodes, 0, newNodes, 0, depth);
+            containerNodes = newNodes;
+            int[] newCounts = new int[depth * 2];
+            System.arraycopy(elementCounts, 0, newCounts, 0, depth);
+            elementCounts = newCounts;
+            if (fieldMatchesByDepth != null) {
+                fieldMatchesByDepth = Arrays.copyOf(fieldMatchesByDepth, depth * 2);
+            }
+        }
+        containerNodes[depth] = currentNode;
+        elementCounts[depth] = 0;
+        if (fieldMatchesByDepth != null) {
+            fieldMatchesByDepth[depth] = null;
+        }
+        currentNode = null;
+    }
+
+    @Override
+    public void stepOut() {
+        delegate.stepOut();
+        hasPendingType = false;
+        containerNodes[depth] = null;
+        depth--;
+        currentNode = null;
+    }
+
+    @Override
+    public int getDepth() {
+        return delegate.getDepth();
+    }
+
+    @Override
+    public SymbolTable getSymbolTable() {
+        return delegate.getSymbolTable();
+    }
+
+    @Override
+    public IonType getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public IntegerSize getIntegerSize() {
+        return delegate.getIntegerSize();
+    }
+
+    @Override
+    public String[] getTypeAnnotations() {
+        return delegate.getTypeAnnotations();
+    }
+
+    @Override
+    public SymbolToken[] getTypeAnnotationSymbols() {
+        return delegate.getTypeAnnotationSymbols();
+    }
+
+    @Override
+    public Iterator<String> iterateTypeAnnotations() {
+        return delegate.iterateTypeAnnotations();
+    }
+
+    @Override
+    public int getFieldId() {
+        return delegate.getFieldId();
+    }
+
+    @Override
+    public String getFieldName() {
+        return delegate.getFieldName();
+    }
+
+    @Override
+    public SymbolToken getFieldNameSymbol() {
+        return delegate.getFieldNameSymbol();
+    }
+
+    @Override
+    public boolean isNullValue() {
+        return delegate.isNullValue();
+    }
+
+    @Override
+    public boolean isInStruct() {
+        return delegate.isInStruct();
+    }
+
+    @Override
+    public boolean booleanValue() {
+        return delegate.booleanValue();
+    }
+
+    @Override
+    public int intValue() {
+        return delegate.intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return delegate.longValue();
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return delegate.bigIntegerValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return delegate.doubleValue();
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        return delegate.bigDecimalValue();
+    }
+
+    @Override
+    public Decimal decimalValue() {
+        return delegate.decimalValue();
+    }
+
+    @Override
+    public Date dateValue() {
+        return delegate.dateValue();
+    }
+
+    @Override
+    public Timestamp timestampValue() {
+        return delegate.timestampValue();
+    }
+
+    @Override
+    public String stringValue() {
+        return delegate.stringValue();
+    }
+
+    @Override
+    public SymbolToken symbolValue() {
+        return delegate.symbolValue();
+    }
+
+    @Override
+    public int byteSize() {
+        return delegate.byteSize();
+    }
+
+    @Override
+    public byte[] newBytes() {
+        return delegate.newBytes();
+    }
+
+    @Override
+    public int getBytes(byte[] buffer, int offset, int len) {
+        return delegate.getBytes(buffer, offset, len);
+    }
+
+    @Override
+    public <T> T asFacet(Class<T> facetType) {
+        if (facetType == ReusableReader.class) {
+            ReusableReader reusable = delegate.asFacet(ReusableReader.class);
+            return reusable == null ? null : facetType.cast(new ReusableReaderFacet(reusable));
+        }
+        if (facetType == SpanProvider.class
+            || facetType == Utf8TextProvider.class
+            || facetType == ValueStreamer.class
+            || facetType == UnscaledDecimalReader.class
+            || facetType == EpochTimestampReader.class) {
+            // These facets operate on the delegate's current value, which is also this reader's current value.
+            return delegate.asFacet(facetType);
+        }
+        // Facets such as SeekableReader and FieldSeeker would move the delegate without regard to the projection.
+        return null;
+    }
+
+    /**
+     * Resets the projection along with the delegate.
+     */
+    private class ReusableReaderFacet implements ReusableReader {
+
+        private final ReusableReader delegateFacet;
+
+        ReusableReaderFacet(ReusableReader delegateFacet) {
+            this.delegateFacet = delegateFacet;
+        }
+
+        @Override
+        public void reset(byte[] ionData) {
+            delegateFacet.reset(ionData);
+            resetProjection();
+        }
+
+        @Override
+        public void reset(byte[] ionData, int offset, int length) {
+            delegateFacet.reset(ionData, offset, length);
+            resetProjection();
+        }
+
+        @Override
+        public void reset(ByteBuffer ionData) {
+            delegateFacet.reset(ionData);
+            resetProjection();
+        }
+
+        @Override
+        public void reset(InputStream ionData) {
+            delegateFacet.reset(ionData);
+            resetProjection();
+        }
+    }
+
+    /**
+     * Returns the projection to the top level, as for a newly constructed reader.
+     */
+    private void resetProjection() {
+        Arrays.fill(containerNodes, null);
+        depth = 0;
+        currentNode = null;
+        hasPendingType = false;
+        if (fieldMatchesByNode != null) {
+            Arrays.fill(fieldMatchesByDepth, null);
+            fieldMatchesByNode.clear();
+            fieldSymbolTable = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
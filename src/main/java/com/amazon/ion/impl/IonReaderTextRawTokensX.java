@@ -100,6 +100,9 @@ final class IonReaderTextRawTokensX
     // Used for tracking terminator characters when skipping a container
     private final ArrayList<Integer> containerSkipTerminatorStack = new ArrayList<>(CONTAINER_STACK_INITIAL_CAPACITY);
 
+    /** true if the input was declared to be strict JSON, see setJsonOnly() */
+    private boolean             _json_only;
+
     /**
      * IonTokenReader constructor requires a UnifiedInputStream
      * as the source of bytes/chars that serve as the basic input
@@ -149,6 +152,16 @@ final class IonReaderTextRawTokensX
     }
     public final boolean isUnfinishedToken() { return  _unfinished_token; }
 
+    /**
+     * Declares whether the input is strict JSON. When it is, tokens are
+     * recognized by next_json_token(), which neither looks for comments
+     * nor looks ahead for the Ion-only forms (annotations, lobs, long
+     * strings, timestamps, radix ints, ...) that start like JSON tokens.
+     */
+    final void setJsonOnly(boolean json_only) {
+        _json_only = json_only;
+    }
+
     public final void tokenIsFinished() {
         _unfinished_token = false;
         _base64_prefetch_count = 0;
@@ -605,6 +618,10 @@ final class IonReaderTextRawTokensX
         }
         _unfinished_token = true;
 
+        if (_json_only) {
+            return next_json_token(c);
+        }
+
         switch (c) {
         case -1:
             return next_token_finish(IonTokenConstsX.TOKEN_EOF, true);
@@ -706,6 +723,51 @@ final class IonReaderTextRawTokensX
         }
         throw new IonException("invalid state: next token switch shouldn't exit");
     }
+
+    /**
+     * The JSON-only variant of nextToken(). Every JSON token can be
+     * identified by its first character, so nothing is read ahead of it.
+     * Numbers are left as TOKEN_UNKNOWN_NUMERIC and typed by
+     * load_json_number() when they are loaded.
+     *
+     * @param c the first character after any whitespace
+     * @return the token type
+     */
+    private final int next_json_token(int c) throws IOException
+    {
+        switch (c) {
+        case -1:
+            return next_token_finish(IonTokenConstsX.TOKEN_EOF, true);
+        case ':':
+            return next_token_finish(IonTokenConstsX.TOKEN_COLON, true);
+        case '{':
+            return next_token_finish(IonTokenConstsX.TOKEN_OPEN_BRACE, true);
+        case '}':
+            return next_token_finish(IonTokenConstsX.TOKEN_CLOSE_BRACE, false);
+        case '[':
+            return next_token_finish(IonTokenConstsX.TOKEN_OPEN_SQUARE, true);
+        case ']':
+            return next_token_finish(IonTokenConstsX.TOKEN_CLOSE_SQUARE, false);
+        case ',':
+            return next_token_finish(IonTokenConstsX.TOKEN_COMMA, false);
+        case '"':
+            return next_token_finish(IonTokenConstsX.TOKEN_STRING_DOUBLE_QUOTE, true);
+        case 'f': case 'n': case 't':
+            // the parser accepts only true, false and null
+            unread_char(c);
+            return next_token_finish(IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER, true);
+        case '-':
+        case '0': case '1': case '2': case '3': case '4':
+        case '5': case '6': case '7': case '8': case '9':
+            unread_char(c);
+            return next_token_finish(IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC, true);
+        default:
+            error("invalid JSON: unexpected character ["
+                  + printCodePointAsString(c) + "]");
+        }
+        throw new IonException("invalid state: next token switch shouldn't exit");
+    }
+
     private final int next_token_finish(int token, boolean content_is_waiting) {
         _token = token;
         _unfinished_token = content_is_waiting;
@@ -795,9 +857,37 @@ final class IonReaderTextRawTokensX
      */
     private final int skip_over_whitespace() throws IOException
     {
+        if (_json_only) {
+            return skip_over_json_whitespace();
+        }
         return skip_over_whitespace(CommentStrategy.IGNORE);
     }
 
+    /**
+     * Skip over JSON whitespace (space, tab, and new lines). JSON has
+     * no comments, so a '/' is returned like any other character.
+     * @return the next character in the stream
+     * @throws IOException
+     */
+    private final int skip_over_json_whitespace() throws IOException
+    {
+        for (;;) {
+            _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_BLANK, null);
+            int c = read_char();
+            switch (c) {
+            case ' ':
+            case '\t':
+            // new line normalization and counting is handled in read_char
+            case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_1:
+            case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_2:
+            case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_3:
+                break;
+            default:
+                return c;
+            }
+        }
+    }
+
     /**
      * Skip over any whitespace, applying the given CommentStrategy to
      * any comments found.
@@ -868,6 +958,9 @@ final class IonReaderTextRawTokensX
         int c;
 
         loop: for (;;) {
+            if (_stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_BLANK, null) > 0) {
+                any_whitespace = true;
+            }
             c = read_char();
             switch (c) {
             case -1:
@@ -1338,6 +1431,7 @@ final class IonReaderTextRawTokensX
     private int skip_over_digits(int c) throws IOException
     {
         while (IonTokenConstsX.isDigit(c)) {
+            _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_DIGIT, null);
             c = read_char();
         }
         return c;
@@ -1530,6 +1624,9 @@ final class IonReaderTextRawTokensX
     }
     protected IonType load_number(StringBuilder sb) throws IOException
     {
+        if (_json_only) {
+            return load_json_number(sb);
+        }
         boolean has_sign = false;
         int     t, c;
 
@@ -1638,6 +1735,67 @@ final class IonReaderTextRawTokensX
         return load_finish_number(sb, c, t);
     }
 
+    /**
+     * Loads a number with the JSON grammar
+     * {@code -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?}. Numbers with
+     * an exponent are floats, other numbers with a fraction are decimals,
+     * and the rest are ints, which are the types the Ion grammar gives them.
+     */
+    private final IonType load_json_number(StringBuilder sb) throws IOException
+    {
+        int t = IonTokenConstsX.TOKEN_INT;
+        int c = read_char();
+
+        if (c == '-') {
+            sb.append((char)c);
+            c = read_char();
+        }
+        if (c == '0') {
+            // JSON doesn't allow leading zeros, load_finish_number will
+            // reject any digit that follows this one
+            sb.append((char)c);
+            c = read_char();
+        }
+        else {
+            c = load_json_digits(sb, c);
+        }
+        if (c == '.') {
+            t = IonTokenConstsX.TOKEN_DECIMAL;
+            sb.append((char)c);
+            c = load_json_digits(sb, read_char());
+        }
+        if (c == 'e' || c == 'E') {
+            t = IonTokenConstsX.TOKEN_FLOAT;
+            sb.append((char)c);
+            c = read_char();
+            if (c == '-' || c == '+') {
+                sb.append((char)c);
+                c = read_char();
+            }
+            c = load_json_digits(sb, c);
+        }
+        return load_finish_number(sb, c, t);
+    }
+
+    /**
+     * Accumulates one or more digits into the buffer, starting with the
+     * given character. Unlike load_digits(), underscores are not accepted.
+     *
+     * @return the first non-digit character on the input.
+     */
+    private final int load_json_digits(StringBuilder sb, int c) throws IOException
+    {
+        if (!IonTokenConstsX.isDigit(c)) {
+            bad_token(c);
+        }
+        do {
+            sb.append((char)c);
+            _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_DIGIT, sb);
+            c = read_char();
+        } while (IonTokenConstsX.isDigit(c));
+        return c;
+    }
+
     private final IonType load_finish_number(CharSequence numericText, int c,
                                              int token)
     throws IOException
@@ -1688,6 +1846,7 @@ final class IonReaderTextRawTokensX
             return c;
         }
         sb.append((char) c);
+        _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_DIGIT, sb);
 
         return readNumeric(sb, Radix.DECIMAL, NumericState.DIGIT);
     }
@@ -1841,6 +2000,7 @@ final class IonReaderTextRawTokensX
 
     private final int skip_over_symbol_identifier(SavePoint sp) throws IOException
     {
+        _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_SYMBOL, null);
         int c = read_char();
 
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
@@ -1855,6 +2015,7 @@ final class IonReaderTextRawTokensX
 
     protected void load_symbol_identifier(StringBuilder sb) throws IOException
     {
+        _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_SYMBOL, sb);
         int c = read_char();
         while(IonTokenConstsX.isValidSymbolCharacter(c)) {
             sb.append((char)c);
@@ -2000,7 +2161,15 @@ final class IonReaderTextRawTokensX
     {
         int c;
         for (;;) {
-            c = read_string_char(ProhibitedCharacters.NONE);
+            if (_json_only) {
+                // JSON requires control characters to be escaped even in values that are skipped.
+                _stream.readAsciiRun(IonTokenConstsX.ASCII_CLASS_JSON_STRING, null);
+                c = read_string_char(ProhibitedCharacters.JSON_CHAR);
+            }
+            else {
+                _stream.skipShortStringRun();
+                c = read_string_char(ProhibitedCharacters.NONE);
+            }
             switch (c) {
             case -1:
                 unexpected_eof(); // throws
@@ -2009,10 +2178,20 @@ final class IonReaderTextRawTokensX
             case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_2:
             case CharacterSequence.CHAR_SEQ_NEWLINE_SEQUENCE_3:
                 bad_token(c); // throws
+            case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
+            case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_2:
+            case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_3:
+                if (_json_only) {
+                    bad_escape_sequence();
+                }
+                break;
             case '"':
                 return;
             case '\\':
                 c = read_char();
+                if (_json_only && !IonTokenConstsX.isValidJsonEscapeStart(c)) {
+                    bad_escape_sequence();
+                }
                 break;
             }
         }
@@ -2023,13 +2202,29 @@ final class IonReaderTextRawTokensX
     {
         int c;
         boolean expectLowSurrogate = false;
+        // JSON requires all control characters, including tab, to be escaped.
+        final int asciiClass = _json_only
+            ? IonTokenConstsX.ASCII_CLASS_JSON_STRING
+            : IonTokenConstsX.ASCII_CLASS_STRING;
+        final ProhibitedCharacters prohibitedCharacters = _json_only
+            ? ProhibitedCharacters.JSON_CHAR
+            : ProhibitedCharacters.SHORT_CHAR;
 
         for (;;) {
-            c = read_string_char(ProhibitedCharacters.SHORT_CHAR);
+            // printable ASCII is copied directly from the input; only
+            // escapes, line endings, and multibyte sequences are decoded
+            // one character at a time
+            if (!expectLowSurrogate) {
+                _stream.readAsciiRun(asciiClass, sb);
+            }
+            c = read_string_char(prohibitedCharacters);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_2:
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_3:
+                if (_json_only) {
+                    bad_escape_sequence();
+                }
                 continue;
             case -1:
             case '"':
@@ -2457,6 +2652,9 @@ final class IonReaderTextRawTokensX
     private final int read_escaped_char_content_helper(int c1, boolean is_clob)
         throws IOException
     {
+        if (_json_only && !IonTokenConstsX.isValidJsonEscapeStart(c1)) {
+            bad_escape_sequence();
+        }
         if (c1 < 0) {
             switch (c1) {
             // new line normalization and counting is handled in read_char
@@ -2739,6 +2937,14 @@ final class IonReaderTextRawTokensX
             }
         },
 
+        JSON_CHAR
+        {
+            boolean includes(int c)
+            {
+                return isControlCharacter(c);
+            }
+        },
+
         LONG_CHAR
         {
             boolean includes(int c)
@@ -68,6 +68,11 @@ import java.util.Iterator;
  * parse_to_next_value method.  This turns out to be a significant
  * performance gain (<sigh>).  Logically these are the same.
  *
+ * When the input is declared to be strict JSON, JsonTransitionActions2
+ * is used instead.  It only defines actions for the tokens that can
+ * appear in JSON, and treats identifiers as values rather than possible
+ * annotations, so the double colon lookahead is never needed.
+ *
  */
 abstract class IonReaderTextRawX
     implements IonTextReader
@@ -252,12 +257,46 @@ abstract class IonReaderTextRawX
         return a;
     }
 
+    /** the only tokens the JSON-only scanner produces */
+    private static final int[] JSON_TOKENS = {
+        IonTokenConstsX.TOKEN_EOF,
+        IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC,
+        IonTokenConstsX.TOKEN_STRING_DOUBLE_QUOTE,
+        IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER,
+        IonTokenConstsX.TOKEN_COMMA,
+        IonTokenConstsX.TOKEN_COLON,
+        IonTokenConstsX.TOKEN_OPEN_BRACE,
+        IonTokenConstsX.TOKEN_CLOSE_BRACE,
+        IonTokenConstsX.TOKEN_OPEN_SQUARE,
+        IonTokenConstsX.TOKEN_CLOSE_SQUARE,
+    };
+
+    static final int[] JsonTransitionActions2 = makeJsonTransition2ActionArray();
+    static int[] makeJsonTransition2ActionArray() {
+        int   s_count = STATE_MAX + 1;
+        int[] a = new int[s_count * IonTokenConstsX.TOKEN_count];
+        for (int s = 0; s < s_count; s++) {
+            for (int t : JSON_TOKENS) {
+                int ii = s * IonTokenConstsX.TOKEN_count + t;
+                a[ii] = TransitionActions[s][t];
+            }
+        }
+        // there are no annotations in JSON, so an identifier is always a
+        // value (true, false or null), and field names must be strings
+        a[STATE_BEFORE_ANNOTATION_DATAGRAM  * IonTokenConstsX.TOKEN_count + IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER] = ACTION_LOAD_SCALAR;
+        a[STATE_BEFORE_ANNOTATION_CONTAINED * IonTokenConstsX.TOKEN_count + IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER] = ACTION_LOAD_SCALAR;
+        a[STATE_BEFORE_FIELD_NAME           * IonTokenConstsX.TOKEN_count + IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER] = ACTION_NOT_DEFINED;
+        return a;
+    }
+
     //
     //  actual class members (preceding values are just parsing
     //  control constants).
     //
 
     IonReaderTextRawTokensX  _scanner;
+    boolean             _json_only;
+    int[]               _transition_actions = TransitionActions2;
 
     boolean             _eof;
     int                 _state;
@@ -331,6 +370,7 @@ abstract class IonReaderTextRawX
 
         assert(parent != null);
         _scanner = new IonReaderTextRawTokensX(iis, start_line, start_column);
+        _scanner.setJsonOnly(_json_only);
         _value_start_line = start_line;
         _value_start_column = start_column;
         _current_value_save_point = iis.savePointAllocate();
@@ -374,6 +414,19 @@ abstract class IonReaderTextRawX
         }
     }
 
+    /**
+     * Declares that the input is strict JSON, which lets the scanner and
+     * the parser skip the checks for Ion-only syntax.  Values have the
+     * same types they would have if the input were read as Ion, and input
+     * that isn't JSON is rejected.  Must be called before the first value
+     * is read.
+     */
+    final void set_json_only() {
+        _json_only = true;
+        _transition_actions = JsonTransitionActions2;
+        _scanner.setJsonOnly(true);
+    }
+
     public void close()
         throws IOException
     {
@@ -799,7 +852,7 @@ abstract class IonReaderTextRawX
 
         for (;;) {
             int idx = get_state_int() * IonTokenConstsX.TOKEN_count + t;
-            action = TransitionActions2[idx];
+            action = _transition_actions[idx];
             // this used to be (but the 2d array is 9072ms vs 8786ms
             // timing, 3% of total file parse time!):
             // action = TransitionActions[get_state_int()][t];
@@ -947,10 +1000,21 @@ abstract class IonReaderTextRawX
                 if (t == IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER) {
                     sb = token_contents_load(t);
                     _value_keyword = IonTokenConstsX.keyword(sb, 0, sb.length());
+                    if (_json_only) {
+                        switch (_value_keyword) {
+                        case IonTokenConstsX.KEYWORD_NULL:
+                        case IonTokenConstsX.KEYWORD_TRUE:
+                        case IonTokenConstsX.KEYWORD_FALSE:
+                            break;
+                        default:
+                            parse_error("invalid JSON literal: " + sb);
+                        }
+                    }
                     switch (_value_keyword) {
                     case IonTokenConstsX.KEYWORD_NULL:
                     {
-                        int kwt = trailing_whitespace ? IonTokenConstsX.KEYWORD_none : _scanner.peekNullTypeSymbol();
+                        // JSON has no typed nulls, so there is no need to look for one
+                        int kwt = (trailing_whitespace || _json_only) ? IonTokenConstsX.KEYWORD_none : _scanner.peekNullTypeSymbol();
                         switch (kwt) {
                         case IonTokenConstsX.KEYWORD_NULL:      _null_type = IonType.NULL;       break;
                         case IonTokenConstsX.KEYWORD_BOOL:      _null_type = IonType.BOOL;       break;
@@ -1044,6 +1108,11 @@ abstract class IonReaderTextRawX
                 // isn't part of the span when it's hoisted
                 _value_start_offset = _scanner.getStartingOffset();
                 t = _scanner.nextToken();
+                if (_json_only && (t == IonTokenConstsX.TOKEN_CLOSE_SQUARE || t == IonTokenConstsX.TOKEN_CLOSE_BRACE)) {
+                    // the states after a comma are shared with the start of
+                    // a container, where closing it is legal
+                    parse_error("trailing commas aren't allowed in JSON");
+                }
                 break;
             case ACTION_FINISH_CONTAINER:
                 new_state = get_state_after_container(t);
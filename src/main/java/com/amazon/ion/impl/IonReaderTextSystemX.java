@@ -5,6 +5,7 @@ package com.amazon.ion.impl;
 import static com.amazon.ion.impl._Private_ScalarConversions.getValueTypeName;
 
 import com.amazon.ion.Decimal;
+import com.amazon.ion.EpochTimestampReader;
 import com.amazon.ion.IntegerSize;
 import com.amazon.ion.IonBlob;
 import com.amazon.ion.IonClob;
@@ -21,6 +22,7 @@ import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
 import com.amazon.ion.Timestamp;
 import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.UnscaledDecimalReader;
 import com.amazon.ion.impl.IonReaderTextRawTokensX.IonReaderTextTokenException;
 import com.amazon.ion.impl.IonTokenConstsX.CharacterSequence;
 import com.amazon.ion.impl._Private_ScalarConversions.AS_TYPE;
@@ -48,6 +50,8 @@ class IonReaderTextSystemX
 
     SymbolTable _system_symtab;
 
+    private final NumericTextParser _numeric_parser = new NumericTextParser();
+
     protected IonReaderTextSystemX(UnifiedInputStreamX iis)
     {
         _system_symtab = _Private_Utils.systemSymtab(1); // TODO check IVM to determine version: amazon-ion/ion-java/issues/19
@@ -216,6 +220,11 @@ class IonReaderTextSystemX
 
         int token_type = _scanner.getToken();
 
+        if (load_value_from_buffer(cs, token_type)) {
+            clear_current_value_buffer();
+            return;
+        }
+
         if (_value_type == IonType.DECIMAL) {
             // we do this here (instead of in the case below
             // so that we can modify the value while it's not
@@ -419,6 +428,76 @@ class IonReaderTextSystemX
             parse_error("scalar token "+IonTokenConstsX.getTokenName(_scanner.getToken())+"isn't a recognized type");
         }
     }
+    /**
+     * Converts the text of an int, decimal, float, or timestamp directly
+     * from the value buffer, without creating a String. Numbers are only
+     * converted this way when they fit in a long (or double) without loss.
+     * @return true if the value was set; false if the text must be converted
+     * by the general path, which also reports any errors.
+     */
+    private final boolean load_value_from_buffer(CharSequence cs, int token_type)
+    {
+        switch (token_type) {
+        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+        case IonTokenConstsX.TOKEN_INT:
+        case IonTokenConstsX.TOKEN_DECIMAL:
+        case IonTokenConstsX.TOKEN_FLOAT:
+        case IonTokenConstsX.TOKEN_TIMESTAMP:
+            break;
+        default:
+            return false;
+        }
+        NumericTextParser parser = _numeric_parser;
+        switch (_value_type) {
+        case INT:
+            if (!parser.parseInteger(cs)) {
+                return false;
+            }
+            long value = parser.unscaledValue;
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                _v.setValue((int) value);
+            }
+            else {
+                _v.setValue(value);
+            }
+            return true;
+        case DECIMAL:
+            if (!parser.parseDecimal(cs)) {
+                return false;
+            }
+            if (parser.unscaledValue == 0 && parser.isNegative) {
+                _v.setValue(Decimal.negativeZero(parser.scale));
+            }
+            else {
+                // The Decimal is created only if the application asks for it.
+                _v.setUnscaledDecimalValue(parser.unscaledValue, parser.scale);
+            }
+            return true;
+        case FLOAT:
+            if (!parser.parseFloat(cs)) {
+                return false;
+            }
+            _v.setValue(parser.doubleValue);
+            return true;
+        case TIMESTAMP:
+            if (token_type != IonTokenConstsX.TOKEN_TIMESTAMP) {
+                _v.setValue(Timestamp.valueOf(cs));
+                return true;
+            }
+            Timestamp t = null;
+            try {
+                t = Timestamp.valueOf(cs);
+            }
+            catch (IllegalArgumentException e) {
+                parse_error(e);
+            }
+            _v.setValue(t);
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private final void cast_cached_value(int new_type)
     {
         // this should only be called when it actually has to do some work
@@ -1000,4 +1079,111 @@ class IonReaderTextSystemX
     {
         return null;
     }
+
+
+    //========================================================================
+
+
+    @Override
+    public <T> T asFacet(Class<T> facetType)
+    {
+        if (facetType == EpochTimestampReader.class)
+        {
+            return facetType.cast(new EpochTimestampReaderFacet());
+        }
+        if (facetType == UnscaledDecimalReader.class)
+        {
+            return facetType.cast(new UnscaledDecimalReaderFacet());
+        }
+        return super.asFacet(facetType);
+    }
+
+
+    private TimestampComponents _timestamp_components;
+
+    /**
+     * The text reader materializes a {@link Timestamp} when it parses the
+     * token, so the components are derived from that instance.
+     */
+    private TimestampComponents timestampComponents()
+    {
+        if (_value_type != IonType.TIMESTAMP || isNullValue()) {
+            throw new IllegalStateException("Invalid type. Required TIMESTAMP but found " + _value_type + ".");
+        }
+        if (_timestamp_components == null) {
+            _timestamp_components = new TimestampComponents();
+        }
+        _timestamp_components.set(timestampValue());
+        return _timestamp_components;
+    }
+
+
+    private final class EpochTimestampReaderFacet
+        implements EpochTimestampReader
+    {
+        public long timestampEpochMillis()
+        {
+            return timestampComponents().epochMillis();
+        }
+
+        public long timestampEpochNanos()
+        {
+            return timestampComponents().epochNanos();
+        }
+
+        public int timestampOffsetMinutes()
+        {
+            return timestampComponents().offsetMinutes;
+        }
+    }
+
+
+    /**
+     * Decimals that fit are parsed directly into a {@code long} unscaled
+     * value and scale, which are read back without creating a
+     * {@link Decimal}. Other decimals are read back through
+     * {@link #decimalValue()}.
+     */
+    private void loadDecimalComponents()
+    {
+        if (_value_type != IonType.DECIMAL || isNullValue()) {
+            throw new IllegalStateException("Invalid type. Required DECIMAL but found " + _value_type + ".");
+        }
+        load_or_cast_cached_value(AS_TYPE.decimal_value);
+    }
+
+
+    private final class UnscaledDecimalReaderFacet
+        implements UnscaledDecimalReader
+    {
+        public boolean isUnscaledValueLong()
+        {
+            loadDecimalComponents();
+            if (_v.hasUnscaledDecimalValue()) {
+                return true;
+            }
+            Decimal value = _v.getDecimal();
+            return !Decimal.isNegativeZero(value) && value.unscaledValue().bitLength() < Long.SIZE;
+        }
+
+        public long unscaledValue()
+        {
+            if (!isUnscaledValueLong()) {
+                throw new IonException("The unscaled value of the current decimal cannot be represented as a long.");
+            }
+            if (_v.hasUnscaledDecimalValue()) {
+                return _v.getUnscaledDecimalValue();
+            }
+            return _v.getDecimal().unscaledValue().longValue();
+        }
+
+        public int scale()
+        {
+            loadDecimalComponents();
+            if (_v.hasUnscaledDecimalValue()) {
+                return _v.getDecimalScale();
+            }
+            return _v.getDecimal().scale();
+        }
+    }
 }
@@ -352,6 +352,26 @@ final class IonTokenConstsX
         return (escapeCharactersValues[c & 0xff] != ESCAPE_NOT_DEFINED)
          && is8bitValue(c);
     }
+    /**
+     * JSON allows only a subset of Ion's escapes, and has no escaped
+     * newlines.
+     */
+    public final static boolean isValidJsonEscapeStart(int c) {
+        switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+        case 'b':
+        case 'f':
+        case 'n':
+        case 'r':
+        case 't':
+        case 'u':
+            return true;
+        default:
+            return false;
+        }
+    }
     public final static int escapeReplacementCharacter(int c) {
         if (!isValidEscapeStart(c)) {
             throw new IllegalArgumentException("not a valid escape sequence character: "+c);
@@ -505,6 +525,37 @@ final class IonTokenConstsX
         return (isValidStartSymbolCharacter[c & 0xff] && is8bitValue(c));
     }
 
+    // Character classes used by the scanner to consume runs of ASCII
+    // characters directly from the current input page. Only characters that
+    // never require line counting, escaping, or decoding are classified.
+    static final int ASCII_CLASS_BLANK        = 0x01; // space and tab
+    static final int ASCII_CLASS_SYMBOL       = 0x02; // valid in an identifier symbol
+    static final int ASCII_CLASS_DIGIT        = 0x04;
+    static final int ASCII_CLASS_STRING       = 0x08; // needs no special handling in a short string
+    static final int ASCII_CLASS_JSON_STRING  = 0x10; // needs no special handling in a JSON string
+
+    static final byte[] ASCII_CHARACTER_CLASS = makeAsciiCharacterClassArray();
+    private static final byte[] makeAsciiCharacterClassArray() {
+        byte[] values = new byte[128];
+
+        values[' ']  |= ASCII_CLASS_BLANK;
+        values['\t'] |= ASCII_CLASS_BLANK;
+        for (int ii=0; ii<128; ii++) {
+            if (isValidSymbolCharacter(ii)) {
+                values[ii] |= ASCII_CLASS_SYMBOL;
+            }
+            if (isDigit(ii)) {
+                values[ii] |= ASCII_CLASS_DIGIT;
+            }
+            if (ii >= 0x20 && ii != '"' && ii != '\\') {
+                values[ii] |= ASCII_CLASS_STRING | ASCII_CLASS_JSON_STRING;
+            }
+        }
+        values['\t'] |= ASCII_CLASS_STRING;
+
+        return values;
+    }
+
     public static int decodeSid(CharSequence sidToken)
     {
         assert sidToken.charAt(0) == '$';
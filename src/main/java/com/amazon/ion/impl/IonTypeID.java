@@ -4,6 +4,7 @@
 package com.amazon.ion.impl;
 
 import com.amazon.ion.IonType;
+import com.amazon.ion.impl.bin.OpCodes;
 
 /**
  * Holds pre-computed information about a binary Ion type ID byte.
@@ -49,22 +50,50 @@ final class IonTypeID {
         null // The 0xF type code is illegal in Ion 1.0.
     };
 
+    // Lookup table from the byte that follows the Ion 1.1 typed null opcode (0xEB) to the type of the null value.
+    private static final IonType[] NULL_TYPES_1_1 = new IonType[] {
+        IonType.BOOL,
+        IonType.INT,
+        IonType.FLOAT,
+        IonType.DECIMAL,
+        IonType.TIMESTAMP,
+        IonType.STRING,
+        IonType.SYMBOL,
+        IonType.BLOB,
+        IonType.CLOB,
+        IonType.LIST,
+        IonType.SEXP,
+        IonType.STRUCT
+    };
+
     // Singleton invalid type ID.
     private static final IonTypeID ALWAYS_INVALID_TYPE_ID = new IonTypeID((byte) 0xFF, 0);
 
     // Pre-compute all possible type ID bytes.
     static final IonTypeID[] TYPE_IDS_NO_IVM;
     static final IonTypeID[] TYPE_IDS_1_0;
+    static final IonTypeID[] TYPE_IDS_1_1;
+    // Indexed by the byte that follows the Ion 1.1 typed null opcode (0xEB).
+    static final IonTypeID[] NULL_TYPE_IDS_1_1;
     static {
         TYPE_IDS_NO_IVM = new IonTypeID[NUMBER_OF_BYTES];
         TYPE_IDS_1_0 = new IonTypeID[NUMBER_OF_BYTES];
+        TYPE_IDS_1_1 = new IonTypeID[NUMBER_OF_BYTES];
+        NULL_TYPE_IDS_1_1 = new IonTypeID[NUMBER_OF_BYTES];
         for (int b = 0x00; b < NUMBER_OF_BYTES; b++) {
             TYPE_IDS_NO_IVM[b] = ALWAYS_INVALID_TYPE_ID;
             TYPE_IDS_1_0[b] = new IonTypeID((byte) b, 0);
+            TYPE_IDS_1_1[b] = new IonTypeID((byte) b, 1);
+            NULL_TYPE_IDS_1_1[b] = b < NULL_TYPES_1_1.length
+                ? new IonTypeID(NULL_TYPES_1_1[b])
+                : ALWAYS_INVALID_TYPE_ID;
         }
     }
 
     final IonType type;
+    // In Ion 1.1, a valid, fixed-length, non-delimited type ID with a negative length denotes that the value's
+    // representation is a single self-delimiting FlexInt or FlexUInt (e.g. symbol addresses greater than 65791 and
+    // zero-coefficient decimals with an exponent).
     final int length;
     final boolean variableLength;
     final boolean isNull;
@@ -109,6 +138,167 @@ final class IonTypeID {
         return true;
     }
 
+    /**
+     * Determines the binary token type of the given Ion 1.1 type ID.
+     */
+    private static IonType binaryTokenType_1_1(int id) {
+        if (id < 0x50) {
+            return null; // E-expression
+        }
+        if (id <= 0x58) {
+            return IonType.INT;
+        }
+        if (id == 0x59) {
+            return null; // Reserved
+        }
+        if (id <= 0x5D) {
+            return IonType.FLOAT;
+        }
+        if (id <= 0x5F) {
+            return IonType.BOOL;
+        }
+        switch (id >> BITS_PER_NIBBLE) {
+            case 0x6:
+                return IonType.DECIMAL;
+            case 0x7:
+                return id <= (OpCodes.TIMESTAMP_NANOS_PRECISION_WITH_OFFSET & 0xFF) ? IonType.TIMESTAMP : null;
+            case 0x8:
+                return IonType.STRING;
+            case 0x9:
+                return IonType.SYMBOL;
+            case 0xA:
+                return IonType.LIST;
+            case 0xB:
+                return IonType.SEXP;
+            case 0xC:
+            case 0xD:
+                return IonType.STRUCT;
+            default:
+                break;
+        }
+        switch ((byte) id) {
+            case OpCodes.SYMBOL_ADDRESS_1_BYTE:
+            case OpCodes.SYMBOL_ADDRESS_2_BYTES:
+            case OpCodes.SYMBOL_ADDRESS_MANY_BYTES:
+            case OpCodes.VARIABLE_LENGTH_INLINE_SYMBOL:
+                return IonType.SYMBOL;
+            case OpCodes.ANNOTATIONS_1_SYMBOL_ADDRESS:
+            case OpCodes.ANNOTATIONS_2_SYMBOL_ADDRESS:
+            case OpCodes.ANNOTATIONS_MANY_SYMBOL_ADDRESS:
+            case OpCodes.ANNOTATIONS_1_FLEX_SYM:
+            case OpCodes.ANNOTATIONS_2_FLEX_SYM:
+            case OpCodes.ANNOTATIONS_MANY_FLEX_SYM:
+                return ION_TYPE_ANNOTATION_WRAPPER;
+            case OpCodes.NULL_UNTYPED:
+            case OpCodes.NULL_TYPED:
+                return IonType.NULL;
+            case OpCodes.DELIMITED_LIST:
+            case OpCodes.VARIABLE_LENGTH_LIST:
+                return IonType.LIST;
+            case OpCodes.DELIMITED_SEXP:
+            case OpCodes.VARIABLE_LENGTH_SEXP:
+                return IonType.SEXP;
+            case OpCodes.DELIMITED_STRUCT:
+            case OpCodes.VARIABLE_LENGTH_STRUCT_WITH_SIDS:
+            case OpCodes.VARIABLE_LENGTH_STRUCT_WITH_FLEX_SYMS:
+                return IonType.STRUCT;
+            case OpCodes.VARIABLE_LENGTH_INTEGER:
+                return IonType.INT;
+            case OpCodes.VARIABLE_LENGTH_DECIMAL:
+                return IonType.DECIMAL;
+            case OpCodes.VARIABLE_LENGTH_TIMESTAMP:
+                return IonType.TIMESTAMP;
+            case OpCodes.VARIABLE_LENGTH_STRING:
+                return IonType.STRING;
+            case OpCodes.VARIABLE_LENGTH_BLOB:
+                return IonType.BLOB;
+            case OpCodes.VARIABLE_LENGTH_CLOB:
+                return IonType.CLOB;
+            default:
+                // IVM, NOP, reserved, delimited end, and macro invocation opcodes.
+                return null;
+        }
+    }
+
+    /**
+     * Determines the length of the Ion 1.1 value with the given fixed-length type ID, excluding the type ID itself.
+     */
+    private static int length_1_1(int id, IonType type) {
+        switch ((byte) id) {
+            case OpCodes.FLOAT_16:
+                return 2;
+            case OpCodes.FLOAT_32:
+                return 4;
+            case OpCodes.FLOAT_64:
+                return 8;
+            case OpCodes.POSITIVE_ZERO_DECIMAL:
+            case OpCodes.SYMBOL_ADDRESS_MANY_BYTES:
+                return -1; // A single self-delimiting FlexInt or FlexUInt.
+            case OpCodes.SYMBOL_ADDRESS_1_BYTE:
+            case OpCodes.ANNOTATIONS_1_SYMBOL_ADDRESS:
+            case OpCodes.ANNOTATIONS_1_FLEX_SYM:
+            case OpCodes.NULL_TYPED:
+                return 1;
+            case OpCodes.SYMBOL_ADDRESS_2_BYTES:
+            case OpCodes.ANNOTATIONS_2_SYMBOL_ADDRESS:
+            case OpCodes.ANNOTATIONS_2_FLEX_SYM:
+                return 2;
+            default:
+                break;
+        }
+        if (type == IonType.INT) {
+            return id - OpCodes.INTEGER_ZERO_LENGTH;
+        }
+        if (type == IonType.TIMESTAMP) {
+            switch ((byte) id) {
+                case OpCodes.TIMESTAMP_YEAR_PRECISION:
+                    return 1;
+                case OpCodes.TIMESTAMP_MONTH_PRECISION:
+                case OpCodes.TIMESTAMP_DAY_PRECISION:
+                    return 2;
+                case OpCodes.TIMESTAMP_MINUTE_PRECISION:
+                    return 4;
+                case OpCodes.TIMESTAMP_SECOND_PRECISION:
+                case OpCodes.TIMESTAMP_MINUTE_PRECISION_WITH_OFFSET:
+                case OpCodes.TIMESTAMP_SECOND_PRECISION_WITH_OFFSET:
+                    return 5;
+                case OpCodes.TIMESTAMP_MILLIS_PRECISION:
+                    return 6;
+                case OpCodes.TIMESTAMP_MICROS_PRECISION:
+                case OpCodes.TIMESTAMP_MILLIS_PRECISION_WITH_OFFSET:
+                    return 7;
+                case OpCodes.TIMESTAMP_NANOS_PRECISION:
+                case OpCodes.TIMESTAMP_MICROS_PRECISION_WITH_OFFSET:
+                    return 8;
+                default: // OpCodes.TIMESTAMP_NANOS_PRECISION_WITH_OFFSET
+                    return 9;
+            }
+        }
+        if (type == IonType.DECIMAL || type == IonType.STRING || type == IonType.SYMBOL || type == IonType.LIST
+            || type == IonType.SEXP || type == IonType.STRUCT) {
+            return id & LOW_NIBBLE_BITMASK;
+        }
+        return 0;
+    }
+
+    /**
+     * Constructs the IonTypeID for an Ion 1.1 typed null of the given type.
+     */
+    private IonTypeID(IonType nullType) {
+        this.type = nullType;
+        this.length = 0;
+        this.variableLength = false;
+        this.isNull = true;
+        this.isNopPad = false;
+        this.lowerNibble = (byte) (OpCodes.NULL_TYPED & LOW_NIBBLE_BITMASK);
+        this.isValid = true;
+        this.isNegativeInt = false;
+        this.isTemplateInvocation = false;
+        this.templateId = -1;
+        this.isDelimited = false;
+        this.isInlineable = false;
+    }
+
     private IonTypeID(byte id, int minorVersion) {
         if (minorVersion == 0) {
             byte upperNibble = (byte) ((id >> BITS_PER_NIBBLE) & LOW_NIBBLE_BITMASK);
@@ -140,8 +330,37 @@ final class IonTypeID {
             this.templateId = -1;
             this.isDelimited = false;
             this.isInlineable = false;
+        } else if (minorVersion == 1) {
+            int unsignedId = id & 0xFF;
+            this.lowerNibble = (byte) (id & LOW_NIBBLE_BITMASK);
+            this.isNopPad = id == OpCodes.ONE_BYTE_NOP || id == OpCodes.VARIABLE_LENGTH_NOP;
+            // E-expressions (macro invocations) are recognized, but are not yet supported by this implementation.
+            this.isTemplateInvocation = unsignedId < (OpCodes.INTEGER_ZERO_LENGTH & 0xFF)
+                || id == OpCodes.SYSTEM_MACRO_INVOCATION
+                || id == OpCodes.LENGTH_PREFIXED_MACRO_INVOCATION;
+            this.templateId = unsignedId < 0x40 ? unsignedId : -1;
+            this.type = binaryTokenType_1_1(unsignedId);
+            this.isValid = type != null || isNopPad;
+            this.isNull = id == OpCodes.NULL_UNTYPED || id == OpCodes.NULL_TYPED;
+            this.isDelimited = id == OpCodes.DELIMITED_LIST
+                || id == OpCodes.DELIMITED_SEXP
+                || id == OpCodes.DELIMITED_STRUCT;
+            this.variableLength = unsignedId >= (OpCodes.VARIABLE_LENGTH_INTEGER & 0xFF)
+                || id == OpCodes.ANNOTATIONS_MANY_SYMBOL_ADDRESS
+                || id == OpCodes.ANNOTATIONS_MANY_FLEX_SYM
+                || id == OpCodes.VARIABLE_LENGTH_NOP;
+            this.length = (variableLength || isDelimited || !isValid) ? -1 : length_1_1(unsignedId, type);
+            this.isInlineable = (unsignedId >> BITS_PER_NIBBLE) == 0x9
+                || (unsignedId >> BITS_PER_NIBBLE) == 0xD
+                || id == OpCodes.VARIABLE_LENGTH_INLINE_SYMBOL
+                || id == OpCodes.VARIABLE_LENGTH_STRUCT_WITH_FLEX_SYMS
+                || id == OpCodes.DELIMITED_STRUCT
+                || id == OpCodes.ANNOTATIONS_1_FLEX_SYM
+                || id == OpCodes.ANNOTATIONS_2_FLEX_SYM
+                || id == OpCodes.ANNOTATIONS_MANY_FLEX_SYM;
+            this.isNegativeInt = false;
         } else {
-            throw new IllegalStateException("Only Ion 1.0 is currently supported.");
+            throw new IllegalStateException("Only Ion 1.0 and Ion 1.1 are currently supported.");
         }
     }
 
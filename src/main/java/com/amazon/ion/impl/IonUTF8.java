@@ -406,6 +406,66 @@ class IonUTF8 {
         return scalar;
     }
 
+    /**
+     * Computes the length of the UTF-8 encoding of the given text without
+     * encoding it. Unpaired surrogates are counted as the single-byte
+     * replacement character '?', consistent with {@link #encodeUTF8}.
+     */
+    public final static int getUTF8Length(CharSequence text) {
+        int textLength = text.length();
+        int utf8Length = 0;
+        for (int i = 0; i < textLength; i++) {
+            char c = text.charAt(i);
+            if (c <= UNICODE_MAX_ONE_BYTE_SCALAR) {
+                utf8Length += 1;
+            } else if (c <= UNICODE_MAX_TWO_BYTE_SCALAR) {
+                utf8Length += 2;
+            } else if (!isSurrogate(c)) {
+                utf8Length += 3;
+            } else if (isHighSurrogate(c) && i + 1 < textLength && isLowSurrogate(text.charAt(i + 1))) {
+                utf8Length += 4;
+                i++;
+            } else {
+                utf8Length += 1;
+            }
+        }
+        return utf8Length;
+    }
+
+    /**
+     * Encodes the given text as UTF-8 without allocating. The output array
+     * must have room for {@link #getUTF8Length(CharSequence)} bytes after
+     * {@code offset}. Unpaired surrogates are replaced with '?', matching
+     * {@link String#getBytes(java.nio.charset.Charset)}.
+     * @return the number of bytes written.
+     */
+    public final static int encodeUTF8(CharSequence text, byte[] outputBytes, int offset) {
+        int textLength = text.length();
+        int position = offset;
+        for (int i = 0; i < textLength; i++) {
+            char c = text.charAt(i);
+            if (c <= UNICODE_MAX_ONE_BYTE_SCALAR) {
+                outputBytes[position++] = (byte) c;
+            } else if (c <= UNICODE_MAX_TWO_BYTE_SCALAR) {
+                outputBytes[position++] = getByte1Of2(c);
+                outputBytes[position++] = getByte2Of2(c);
+            } else if (!isSurrogate(c)) {
+                outputBytes[position++] = getByte1Of3(c);
+                outputBytes[position++] = getByte2Of3(c);
+                outputBytes[position++] = getByte3Of3(c);
+            } else if (isHighSurrogate(c) && i + 1 < textLength && isLowSurrogate(text.charAt(i + 1))) {
+                int scalar = getUnicodeScalarFromSurrogates(c, text.charAt(++i));
+                outputBytes[position++] = getByte1Of4(scalar);
+                outputBytes[position++] = getByte2Of4(scalar);
+                outputBytes[position++] = getByte3Of4(scalar);
+                outputBytes[position++] = getByte4Of4(scalar);
+            } else {
+                outputBytes[position++] = '?';
+            }
+        }
+        return position - offset;
+    }
+
     public static class InvalidUnicodeCodePoint extends IonException
     {
         private static final long serialVersionUID = -3200811216940328945L;
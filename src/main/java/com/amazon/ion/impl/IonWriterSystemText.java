@@ -47,6 +47,9 @@ class IonWriterSystemText
 
     private final _Private_IonTextAppender _output;
 
+    /** Reused to print timestamps without creating a String for each. */
+    private final StringBuilder _timestamp_buffer = new StringBuilder(32);
+
     /** Ensure we don't use a closed {@link #output} stream. */
     private boolean _closed;
 
@@ -639,17 +642,22 @@ class IonWriterSystemText
             long millis = value.getMillis();
             _output.appendAscii(Long.toString(millis));
         }
-        else if (_options._timestamp_as_string)
-        {
-            // Timestamp is ASCII-safe so this is easy
-            String valueText = printTimestamp(value, _options.getMaximumTimestampPrecisionDigits());
-            _output.appendAscii('"');
-            _output.appendAscii(valueText);
-            _output.appendAscii('"');
-        }
         else
         {
-            _output.appendAscii(printTimestamp(value, _options.getMaximumTimestampPrecisionDigits()));
+            // Timestamp is ASCII-safe so this is easy
+            StringBuilder valueText = _timestamp_buffer;
+            valueText.setLength(0);
+            printTimestamp(valueText, value, _options.getMaximumTimestampPrecisionDigits());
+            if (_options._timestamp_as_string)
+            {
+                _output.appendAscii('"');
+                _output.appendAscii(valueText);
+                _output.appendAscii('"');
+            }
+            else
+            {
+                _output.appendAscii(valueText);
+            }
         }
 
         closeValue();
@@ -0,0 +1,135 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * InputStream over a memory-mapped file. The file is mapped in read-only windows of at most `windowSize` bytes, so
+ * files larger than 2 GB are supported. Reads copy directly from the mapping into the caller's array, avoiding the
+ * intermediate kernel-to-user copy performed by stream-based file I/O, and skips simply advance the position without
+ * touching the skipped pages.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    // The default maximum number of bytes mapped at once. Must not exceed Integer.MAX_VALUE.
+    static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    // The channel over the file.
+    private final FileChannel channel;
+
+    // The maximum number of bytes mapped at once.
+    private final int windowSize;
+
+    // The channel position of the byte after the last byte in the file.
+    private final long end;
+
+    // The channel position of the first byte in the current window.
+    private long windowStart;
+
+    // The current window, or null if a new window must be mapped before the next read.
+    private MappedByteBuffer window = null;
+
+    /**
+     * @param channel the channel to map. The stream begins at the channel's current position.
+     * @param windowSize the maximum number of bytes to map at once.
+     * @throws IOException if thrown when querying the channel.
+     */
+    MappedFileInputStream(FileChannel channel, int windowSize) throws IOException {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1.");
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+        this.windowStart = channel.position();
+        this.end = channel.size();
+    }
+
+    /**
+     * @param channel the channel to map. The stream begins at the channel's current position.
+     * @throws IOException if thrown when querying the channel.
+     */
+    MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @return the channel position of the next byte to be read.
+     */
+    private long position() {
+        return window == null ? windowStart : windowStart + window.position();
+    }
+
+    /**
+     * Ensures that the current window has at least one byte remaining, mapping the next window if necessary.
+     * @return false if the end of the file has been reached; otherwise, true.
+     * @throws IOException if thrown when mapping the file.
+     */
+    private boolean ensureWindow() throws IOException {
+        if (window != null) {
+            if (window.hasRemaining()) {
+                return true;
+            }
+            windowStart += window.capacity();
+            window = null;
+        }
+        if (windowStart >= end) {
+            return false;
+        }
+        int size = (int) Math.min(windowSize, end - windowStart);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindow()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureWindow()) {
+            return -1;
+        }
+        int numberOfBytesToRead = Math.min(len, window.remaining());
+        window.get(b, off, numberOfBytesToRead);
+        return numberOfBytesToRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        long position = position();
+        long numberOfBytesToSkip = Math.min(n, end - position);
+        if (window != null && numberOfBytesToSkip < window.remaining()) {
+            window.position(window.position() + (int) numberOfBytesToSkip);
+        } else {
+            // Unmap the current window; the next read maps a window at the new position.
+            windowStart = position + numberOfBytesToSkip;
+            window = null;
+        }
+        return numberOfBytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, end - position());
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
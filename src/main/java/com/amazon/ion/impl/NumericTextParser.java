@@ -0,0 +1,333 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Converts the text of Ion int, decimal, and float tokens to primitives without creating intermediate Strings,
+ * BigIntegers, or BigDecimals. Each method returns false when the text cannot be converted exactly in this way, in
+ * which case the caller must fall back to the general-purpose conversion, which also reports any syntax errors. A
+ * single instance is reused for every value.
+ */
+final class NumericTextParser {
+
+    // Any 18-digit decimal number fits in a signed long.
+    private static final int MAXIMUM_LONG_DIGITS = 18;
+
+    // Any 19-digit decimal number fits in an unsigned long.
+    private static final int MAXIMUM_UNSIGNED_LONG_DIGITS = 19;
+
+    // Limits exponents to values that cannot overflow an int when combined with the number of fraction digits.
+    private static final int MAXIMUM_EXPONENT_DIGITS = 9;
+
+    // Doubles can represent every integer up to 2^53, and every power of ten up to 10^22, exactly.
+    private static final long MAXIMUM_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int DOUBLE_EXPONENT_BIAS = 1023;
+    private static final int DOUBLE_SIGNIFICAND_BITS = 52;
+    private static final long DOUBLE_SIGNIFICAND_MASK = (1L << DOUBLE_SIGNIFICAND_BITS) - 1;
+    private static final int DOUBLE_INFINITE_EXPONENT = 0x7FF;
+    private static final long DOUBLE_SIGN_BIT = 1L << 63;
+
+    // The int or decimal unscaled value from the most recent successful parse.
+    long unscaledValue = 0;
+
+    // The decimal scale from the most recent successful parse.
+    int scale = 0;
+
+    // Whether the most recently parsed number had a negative sign, which distinguishes negative zero.
+    boolean isNegative = false;
+
+    // The float value from the most recent successful parse.
+    double doubleValue = 0;
+
+    // The significand digits and the number of fraction digits, as accumulated by parseSignificand.
+    private long significand;
+    private int fractionDigits;
+
+    /**
+     * Parses the text of a decimal int with fewer than 19 digits into {@link #unscaledValue}.
+     * @param text the int text, excluding underscores.
+     * @return true if the int was parsed; otherwise, false.
+     */
+    boolean parseInteger(CharSequence text) {
+        int length = text.length();
+        int i = parseSign(text);
+        int digits = length - i;
+        if (digits == 0 || digits > MAXIMUM_LONG_DIGITS) {
+            return false;
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            value = value * 10 + digit;
+        }
+        unscaledValue = isNegative ? -value : value;
+        return true;
+    }
+
+    /**
+     * Parses the text of a decimal with fewer than 19 significant digits into {@link #unscaledValue} and
+     * {@link #scale}. When the decimal is zero, {@link #isNegative} indicates whether it is negative zero.
+     * @param text the decimal text, excluding underscores, with a 'd', 'D', 'e', or 'E' exponent marker.
+     * @return true if the decimal was parsed; otherwise, false.
+     */
+    boolean parseDecimal(CharSequence text) {
+        int i = parseSign(text);
+        i = parseSignificand(text, i, MAXIMUM_LONG_DIGITS);
+        if (i < 0) {
+            return false;
+        }
+        long exponent = parseExponent(text, i);
+        if (exponent == Long.MIN_VALUE) {
+            return false;
+        }
+        long decimalScale = fractionDigits - exponent;
+        if (decimalScale < Integer.MIN_VALUE || decimalScale > Integer.MAX_VALUE) {
+            return false;
+        }
+        unscaledValue = isNegative ? -significand : significand;
+        scale = (int) decimalScale;
+        return true;
+    }
+
+    /**
+     * Parses the text of a float with no more than 19 significant digits into {@link #doubleValue}, rounding to the
+     * nearest double exactly as {@link Double#parseDouble(String)} does.
+     * @param text the float text, excluding underscores.
+     * @return true if the float was parsed; otherwise, false.
+     */
+    boolean parseFloat(CharSequence text) {
+        int i = parseSign(text);
+        i = parseSignificand(text, i, MAXIMUM_UNSIGNED_LONG_DIGITS);
+        if (i < 0) {
+            return false;
+        }
+        long exponent = parseExponent(text, i);
+        if (exponent == Long.MIN_VALUE) {
+            return false;
+        }
+        long exponent10 = exponent - fractionDigits;
+        if (significand == 0) {
+            doubleValue = isNegative ? -0.0 : 0.0;
+            return true;
+        }
+        if (significand > 0 && significand <= MAXIMUM_EXACT_DOUBLE_SIGNIFICAND
+            && exponent10 >= -22 && exponent10 <= 22) {
+            // Both operands are exact, so the single rounding performed by the division or multiplication gives the
+            // correctly rounded result.
+            double value = (double) significand;
+            value = exponent10 < 0
+                ? value / EXACT_DOUBLE_POWERS_OF_TEN[(int) -exponent10]
+                : value * EXACT_DOUBLE_POWERS_OF_TEN[(int) exponent10];
+            doubleValue = isNegative ? -value : value;
+            return true;
+        }
+        if (exponent10 < PowersOfTen.MINIMUM_EXPONENT || exponent10 > PowersOfTen.MAXIMUM_EXPONENT) {
+            return false;
+        }
+        return eiselLemire(significand, (int) exponent10, isNegative);
+    }
+
+    /**
+     * Sets {@link #isNegative} from the sign, if any, at the start of the text.
+     * @return the index of the first character after the sign.
+     */
+    private int parseSign(CharSequence text) {
+        char first = text.length() > 0 ? text.charAt(0) : 0;
+        isNegative = first == '-';
+        return (isNegative || first == '+') ? 1 : 0;
+    }
+
+    /**
+     * Accumulates the digits of the integer and fraction parts into {@link #significand}, and counts the fraction
+     * digits in {@link #fractionDigits}.
+     * @return the index of the first character after the significand, or -1 if there are no digits or there are more
+     *  than the given number of significant digits.
+     */
+    private int parseSignificand(CharSequence text, int i, int maximumSignificantDigits) {
+        int length = text.length();
+        long value = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int fractionStart = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (value != 0 || c != '0') {
+                    if (++significantDigits > maximumSignificantDigits) {
+                        return -1;
+                    }
+                    value = value * 10 + (c - '0');
+                }
+            } else if (c == '.' && fractionStart < 0) {
+                fractionStart = digits;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return -1;
+        }
+        significand = value;
+        fractionDigits = fractionStart < 0 ? 0 : digits - fractionStart;
+        return i;
+    }
+
+    /**
+     * Parses the exponent, if any, beginning at the given index, which must be the remainder of the text.
+     * @return the exponent, or Long.MIN_VALUE if the remainder of the text is not a valid exponent of at most
+     *  {@link #MAXIMUM_EXPONENT_DIGITS} digits.
+     */
+    private static long parseExponent(CharSequence text, int i) {
+        int length = text.length();
+        if (i == length) {
+            return 0;
+        }
+        char marker = text.charAt(i++);
+        if (marker != 'e' && marker != 'E' && marker != 'd' && marker != 'D') {
+            return Long.MIN_VALUE;
+        }
+        boolean negative = false;
+        if (i < length) {
+            char sign = text.charAt(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+        }
+        int digits = length - i;
+        if (digits == 0 || digits > MAXIMUM_EXPONENT_DIGITS) {
+            return Long.MIN_VALUE;
+        }
+        long exponent = 0;
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            exponent = exponent * 10 + digit;
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Computes the double nearest to the given significand times ten to the given power using the Eisel-Lemire
+     * algorithm. See Daniel Lemire, "Number Parsing at a Gigabyte per Second". Gives up, rather than risk an
+     * incorrectly rounded result, when the 128-bit approximation is too close to a rounding boundary, and for results
+     * that are subnormal or infinite.
+     * @param significand the unsigned, non-zero significand.
+     * @param exponent10 the power of ten, within the bounds of {@link PowersOfTen}.
+     * @param negative whether the result is negative.
+     * @return true if {@link #doubleValue} was set; otherwise, false.
+     */
+    private boolean eiselLemire(long significand, int exponent10, boolean negative) {
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long normalized = significand << leadingZeros;
+        long exponent2 = ((217706L * exponent10) >> 16) + 64 + DOUBLE_EXPONENT_BIAS - leadingZeros;
+
+        int index = (exponent10 - PowersOfTen.MINIMUM_EXPONENT) * 2;
+        long powerHigh = PowersOfTen.MANTISSAS[index];
+        long powerLow = PowersOfTen.MANTISSAS[index + 1];
+        long high = unsignedMultiplyHigh(normalized, powerHigh);
+        long low = normalized * powerHigh;
+
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            // The truncated product may be off by one in its low bits; widen it with the low half of the power.
+            long carryHigh = unsignedMultiplyHigh(normalized, powerLow);
+            long carryLow = normalized * powerLow;
+            long mergedHigh = high;
+            long mergedLow = low + carryHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0
+                && Long.compareUnsigned(carryLow + normalized, normalized) < 0) {
+                return false;
+            }
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        long mostSignificantBit = high >>> 63;
+        long mantissa = high >>> (mostSignificantBit + 9);
+        exponent2 -= 1 ^ mostSignificantBit;
+
+        if (low == 0 && (high & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            // Exactly halfway between two doubles as far as the approximation can tell.
+            return false;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if ((mantissa >>> (DOUBLE_SIGNIFICAND_BITS + 1)) != 0) {
+            mantissa >>>= 1;
+            exponent2++;
+        }
+        if (exponent2 <= 0 || exponent2 >= DOUBLE_INFINITE_EXPONENT) {
+            return false;
+        }
+        long bits = (exponent2 << DOUBLE_SIGNIFICAND_BITS) | (mantissa & DOUBLE_SIGNIFICAND_MASK);
+        if (negative) {
+            bits |= DOUBLE_SIGN_BIT;
+        }
+        doubleValue = Double.longBitsToDouble(bits);
+        return true;
+    }
+
+    /**
+     * @return the high 64 bits of the unsigned 128-bit product of the given values.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p01 = x0 * y1;
+        long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+    /**
+     * The 128-bit mantissas of the powers of ten used by the Eisel-Lemire algorithm, computed on first use.
+     */
+    private static final class PowersOfTen {
+
+        static final int MINIMUM_EXPONENT = -348;
+        static final int MAXIMUM_EXPONENT = 347;
+
+        // For each power of ten, the high and then the low 64 bits of its mantissa, normalized so that the most
+        // significant bit is set and rounded down.
+        static final long[] MANTISSAS = computeMantissas();
+
+        private static long[] computeMantissas() {
+            long[] mantissas = new long[(MAXIMUM_EXPONENT - MINIMUM_EXPONENT + 1) * 2];
+            BigInteger five = BigInteger.valueOf(5);
+            for (int exponent = MINIMUM_EXPONENT; exponent <= MAXIMUM_EXPONENT; exponent++) {
+                // Powers of two only affect the binary exponent, so only the power of five matters.
+                BigInteger mantissa;
+                if (exponent >= 0) {
+                    mantissa = five.pow(exponent);
+                } else {
+                    BigInteger divisor = five.pow(-exponent);
+                    mantissa = BigInteger.ONE.shiftLeft(divisor.bitLength() + 128).divide(divisor);
+                }
+                int shift = mantissa.bitLength() - 128;
+                mantissa = shift > 0 ? mantissa.shiftRight(shift) : mantissa.shiftLeft(-shift);
+                int index = (exponent - MINIMUM_EXPONENT) * 2;
+                mantissas[index] = mantissa.shiftRight(64).longValue();
+                mantissas[index + 1] = mantissa.longValue();
+            }
+            return mantissas;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.IonException;
+import com.amazon.ion.Timestamp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Holds the point in time and local offset of a timestamp as primitives, allowing readers to provide epoch-based
+ * timestamp values without constructing {@link Timestamp} instances. A single instance is reused for every value.
+ */
+final class TimestampComponents {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int MAXIMUM_NANOS_DIGITS = 9;
+    private static final int MAXIMUM_OFFSET_MINUTES = 24 * 60 - 1;
+
+    // Days between 0000-03-01 and 1970-01-01 in the proleptic Gregorian calendar.
+    private static final int DAYS_FROM_CIVIL_EPOCH_TO_UNIX_EPOCH = 719_468;
+
+    // Timestamp.getMillis() uses the Julian calendar for dates before the Gregorian cutover in October 1582. Fields
+    // are only converted directly for years that are unaffected by the cutover, even after a local offset is applied.
+    private static final int MINIMUM_FAST_PATH_YEAR = 1584;
+    private static final int MAXIMUM_FAST_PATH_YEAR = 9998;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // Seconds from the epoch (1970-01-01T00:00:00Z), rounded toward negative infinity.
+    long epochSecond = 0;
+
+    // Nanoseconds within the second, in [0, 999,999,999].
+    int nanos = 0;
+
+    // The local offset in minutes, or EpochTimestampReader.UNKNOWN_OFFSET_MINUTES.
+    int offsetMinutes = EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+
+    /**
+     * Sets the components from the given fields. Does nothing if the fields cannot be converted directly, either
+     * because they are invalid or because they fall outside the range of years supported by the direct conversion.
+     * In that case, the caller must construct a Timestamp from the fields and use {@link #set(Timestamp)}, which
+     * provides the same validation and results as {@link Timestamp}.
+     * @param year the year.
+     * @param month the month, or 1 if the timestamp has year precision.
+     * @param day the day, or 1 if the timestamp has year or month precision.
+     * @param hour the hour, or 0 if the timestamp has less than minute precision.
+     * @param minute the minute, or 0 if the timestamp has less than minute precision.
+     * @param second the second, or 0 if the timestamp has less than second precision.
+     * @param fraction the coefficient of the fractional second, or 0.
+     * @param fractionScale the scale of the fractional second, or 0.
+     * @param offset the local offset in minutes, or EpochTimestampReader.UNKNOWN_OFFSET_MINUTES.
+     * @param isLocal true if the fields are in local time; false if they are in UTC.
+     * @return true if the components were set; otherwise, false.
+     */
+    boolean set(int year, int month, int day, int hour, int minute, int second, long fraction, int fractionScale, int offset, boolean isLocal) {
+        if (year < MINIMUM_FAST_PATH_YEAR || year > MAXIMUM_FAST_PATH_YEAR
+            || month < 1 || month > 12
+            || day < 1 || day > daysInMonth(year, month)
+            || hour < 0 || hour > 23
+            || minute < 0 || minute > 59
+            || second < 0 || second > 59
+            || fraction < 0 || fractionScale < 0 || fractionScale >= POWERS_OF_TEN.length
+            || fraction >= POWERS_OF_TEN[fractionScale]) {
+            return false;
+        }
+        boolean hasOffset = offset != EpochTimestampReader.UNKNOWN_OFFSET_MINUTES;
+        if (hasOffset && (offset < -MAXIMUM_OFFSET_MINUTES || offset > MAXIMUM_OFFSET_MINUTES)) {
+            return false;
+        }
+        long seconds = daysSinceEpoch(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        if (isLocal && hasOffset) {
+            seconds -= offset * 60L;
+        }
+        epochSecond = seconds;
+        nanos = (int) (fractionScale <= MAXIMUM_NANOS_DIGITS
+            ? fraction * POWERS_OF_TEN[MAXIMUM_NANOS_DIGITS - fractionScale]
+            : fraction / POWERS_OF_TEN[fractionScale - MAXIMUM_NANOS_DIGITS]);
+        offsetMinutes = offset;
+        return true;
+    }
+
+    /**
+     * Sets the components from the given Timestamp.
+     * @param timestamp the timestamp.
+     */
+    void set(Timestamp timestamp) {
+        Integer localOffset = timestamp.getLocalOffset();
+        int offset = localOffset == null ? EpochTimestampReader.UNKNOWN_OFFSET_MINUTES : localOffset;
+        // Fractional seconds are not affected by local offsets, so they are the decimal seconds less the whole seconds.
+        // The fraction is zero (with a scale of zero) if the timestamp has no fractional seconds.
+        BigDecimal fraction = timestamp.getDecimalSecond().subtract(BigDecimal.valueOf(timestamp.getZSecond()));
+        if (fraction.scale() < POWERS_OF_TEN.length && fraction.signum() >= 0) {
+            // The UTC fields can be converted directly, avoiding the BigDecimal arithmetic in getMillis().
+            if (set(timestamp.getZYear(), timestamp.getZMonth(), timestamp.getZDay(), timestamp.getZHour(),
+                timestamp.getZMinute(), timestamp.getZSecond(), fraction.unscaledValue().longValue(), fraction.scale(),
+                offset, false)) {
+                return;
+            }
+        }
+        epochSecond = Math.floorDiv(timestamp.getMillis(), 1000);
+        nanos = fraction.movePointRight(MAXIMUM_NANOS_DIGITS).setScale(0, RoundingMode.DOWN).intValue();
+        offsetMinutes = offset;
+    }
+
+    /**
+     * @return the number of milliseconds from the epoch, ignoring any fractional milliseconds.
+     */
+    long epochMillis() {
+        return epochSecond * 1000 + nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return the number of nanoseconds from the epoch, ignoring any fractional nanoseconds.
+     * @throws IonException if the result does not fit in a long.
+     */
+    long epochNanos() {
+        try {
+            if (epochSecond < 0 && nanos > 0) {
+                // Avoid overflowing the intermediate product when the result is near Long.MIN_VALUE.
+                return Math.addExact(Math.multiplyExact(epochSecond + 1, NANOS_PER_SECOND), nanos - NANOS_PER_SECOND);
+            }
+            return Math.addExact(Math.multiplyExact(epochSecond, NANOS_PER_SECOND), nanos);
+        } catch (ArithmeticException e) {
+            throw new IonException("Timestamp is outside the range representable as nanoseconds from the epoch.", e);
+        }
+    }
+
+    /**
+     * @return true if the given year is a leap year in the Gregorian calendar.
+     */
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @return the number of days in the given month of the given year.
+     */
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Calculates the number of days from the epoch to the given date in the proleptic Gregorian calendar. See
+     * Howard Hinnant, "chrono-Compatible Low-Level Date Algorithms".
+     * @param year the year, which must not be negative.
+     * @param month the month, in [1, 12].
+     * @param day the day of the month.
+     * @return the number of days.
+     */
+    private static long daysSinceEpoch(int year, int month, int day) {
+        // Years begin in March so that the leap day falls at the end of the year.
+        int marchBasedYear = month <= 2 ? year - 1 : year;
+        int era = marchBasedYear / 400;
+        int yearOfEra = marchBasedYear - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - DAYS_FROM_CIVIL_EPOCH_TO_UNIX_EPOCH;
+    }
+}
@@ -289,6 +289,84 @@ abstract class UnifiedInputStreamX
         return (_is_byte_data) ? (_bytes[_pos++] & 0xff) : _chars[_pos++];
     }
 
+    /**
+     * Consumes the run of ASCII characters at the current position whose
+     * class in {@link IonTokenConstsX#ASCII_CHARACTER_CLASS} includes any of
+     * the given class bits. Only the characters already in the current page
+     * are examined, so this never refills; callers continue with
+     * {@link #read()} to handle page boundaries and any other characters.
+     * @param classes the class bits to match.
+     * @param sb receives the consumed characters, if not null.
+     * @return the number of characters consumed.
+     */
+    public final int readAsciiRun(int classes, StringBuilder sb)
+    {
+        final byte[] classOf = IonTokenConstsX.ASCII_CHARACTER_CLASS;
+        final int start = _pos;
+        final int limit = _limit;
+        int pos = start;
+        if (_is_byte_data) {
+            final byte[] bytes = _bytes;
+            while (pos < limit) {
+                int b = bytes[pos];
+                // bytes of multibyte UTF-8 sequences are negative
+                if (b < 0 || (classOf[b] & classes) == 0) break;
+                pos++;
+            }
+            if (sb != null) {
+                for (int ii = start; ii < pos; ii++) {
+                    sb.append((char) bytes[ii]);
+                }
+            }
+        }
+        else {
+            final char[] chars = _chars;
+            while (pos < limit) {
+                char c = chars[pos];
+                if (c >= 0x80 || (classOf[c] & classes) == 0) break;
+                pos++;
+            }
+            if (sb != null) {
+                sb.append(chars, start, pos - start);
+            }
+        }
+        _pos = pos;
+        return pos - start;
+    }
+
+    /**
+     * Consumes the characters at the current position, up to the first
+     * double quote, backslash, carriage return, or line feed, without
+     * decoding them. Only the characters already in the current page are
+     * examined. Used to skip the body of a short string.
+     * @return the number of characters (or bytes) consumed.
+     */
+    public final int skipShortStringRun()
+    {
+        final int start = _pos;
+        final int limit = _limit;
+        int pos = start;
+        if (_is_byte_data) {
+            final byte[] bytes = _bytes;
+            while (pos < limit) {
+                // bytes of multibyte UTF-8 sequences never match these
+                byte b = bytes[pos];
+                if (b == '"' || b == '\\' || b == '\r' || b == '\n') break;
+                pos++;
+            }
+        }
+        else {
+            final char[] chars = _chars;
+            while (pos < limit) {
+                char c = chars[pos];
+                if (c == '"' || c == '\\' || c == '\r' || c == '\n') break;
+                pos++;
+            }
+        }
+        _pos = pos;
+        return pos - start;
+    }
+
     protected final int read_helper() throws IOException
     {
         if (_eof) {
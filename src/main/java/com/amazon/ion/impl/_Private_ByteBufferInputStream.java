@@ -0,0 +1,62 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream over the bytes between a ByteBuffer's position and limit. Like ByteArrayInputStream, this is a
+ * fixed-size stream, which allows readers to size their internal buffers to fit the data exactly. Reads copy directly
+ * from the ByteBuffer (which may be direct) into the caller's array.
+ * <p>
+ * NOT FOR APPLICATION USE!
+ */
+public final class _Private_ByteBufferInputStream extends InputStream {
+
+    // The source of the bytes. This is a view over the user's buffer, so the user's position and limit are unaffected.
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer the source of the bytes. Its position and limit are not modified.
+     */
+    public _Private_ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int numberOfBytesToRead = Math.min(len, buffer.remaining());
+        buffer.get(b, off, numberOfBytesToRead);
+        return numberOfBytesToRead;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int numberOfBytesToSkip = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + numberOfBytesToSkip);
+        return numberOfBytesToSkip;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
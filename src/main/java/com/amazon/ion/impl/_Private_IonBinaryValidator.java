@@ -0,0 +1,246 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonType;
+import com.amazon.ion.impl.bin.IntList;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.util.IonBinaryValidator;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * Walks binary Ion using the continuable binary reader, checking its structure without materializing values. This
+ * class supports {@link IonBinaryValidator}.
+ * <p>
+ * Type IDs, lengths, and container bounds are checked by the cursor as it skips over each value. This class adds
+ * checks that symbol IDs are within the bounds of the symbol table in effect and, optionally, that text is
+ * well-formed UTF-8.
+ * <p>
+ * NOT FOR APPLICATION USE!
+ */
+public final class _Private_IonBinaryValidator {
+
+    private _Private_IonBinaryValidator() {
+        // Not instantiable.
+    }
+
+    /**
+     * Validates the given binary Ion data.
+     * @param builder the builder that supplies the catalog and symbol table cache to use.
+     * @param validateUtf8 true if text should be checked for well-formed UTF-8.
+     * @param data the byte array containing the data.
+     * @param offset the index of the first byte of the data.
+     * @param length the number of bytes of data.
+     * @throws IonException if the data is not valid binary Ion.
+     */
+    public static void validate(IonReaderBuilder builder, boolean validateUtf8, byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+        validate(new IonReaderContinuableTopLevelBinary(nonIncremental(builder), data, offset, length), validateUtf8);
+    }
+
+    /**
+     * Validates the given stream of binary Ion data. The stream is read to its end, but is not closed.
+     * @param builder the builder that supplies the catalog, symbol table cache, and buffer configuration to use.
+     * @param validateUtf8 true if text should be checked for well-formed UTF-8.
+     * @param data the stream.
+     * @throws IonException if the data is not valid binary Ion.
+     */
+    public static void validate(IonReaderBuilder builder, boolean validateUtf8, InputStream data) {
+        // Closing a ByteArrayInputStream has no effect, and leaving it unwrapped lets the reader size its buffer to it.
+        InputStream input = data instanceof ByteArrayInputStream ? data : new NonClosingInputStream(data);
+        validate(new IonReaderContinuableTopLevelBinary(nonIncremental(builder), input, null, 0, 0), validateUtf8);
+    }
+
+    /**
+     * Shields the caller's stream from being closed when the reader is closed.
+     */
+    private static final class NonClosingInputStream extends FilterInputStream {
+
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // The caller owns the stream.
+        }
+    }
+
+    /**
+     * @return a builder that will cause readers to raise an error when the data ends in the middle of a value.
+     */
+    private static IonReaderBuilder nonIncremental(IonReaderBuilder builder) {
+        return builder.isIncrementalReadingEnabled() ? builder.copy().withIncrementalReadingEnabled(false) : builder;
+    }
+
+    private static void validate(IonReaderContinuableTopLevelBinary reader, boolean validateUtf8) {
+        try {
+            int depth = 0;
+            while (true) {
+                IonType type = reader.next();
+                if (type == null) {
+                    if (depth == 0) {
+                        break;
+                    }
+                    reader.stepOut();
+                    depth--;
+                    continue;
+                }
+                validateFieldName(reader, validateUtf8);
+                if (reader.hasAnnotations()) {
+                    validateAnnotations(reader, validateUtf8);
+                }
+                if (reader.isNullValue()) {
+                    continue;
+                }
+                switch (type) {
+                    case STRUCT:
+                    case LIST:
+                    case SEXP:
+                        reader.stepIn();
+                        depth++;
+                        break;
+                    case SYMBOL:
+                        validateSymbolValue(reader, validateUtf8);
+                        break;
+                    case STRING:
+                        if (validateUtf8) {
+                            reader.prepareScalar();
+                            validateUtf8(reader, reader.valueMarker);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (IonException e) {
+            throw new IonException("Invalid binary Ion at or near byte offset " + reader.getTotalOffset() + ": " + e.getMessage(), e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void validateFieldName(IonReaderContinuableTopLevelBinary reader, boolean validateUtf8) {
+        if (!reader.isInStruct()) {
+            return;
+        }
+        int sid = reader.getFieldId();
+        if (sid < 0 && reader.getIonMinorVersion() > 0) {
+            // In Ion 1.1, field names may be encoded as inline text.
+            if (validateUtf8) {
+                validateUtf8(reader, reader.fieldTextMarker);
+            }
+            return;
+        }
+        validateSymbolId(reader, sid);
+    }
+
+    private static void validateAnnotations(IonReaderContinuableTopLevelBinary reader, boolean validateUtf8) {
+        IntList sids = reader.getAnnotationSidList();
+        for (int i = 0; i < sids.size(); i++) {
+            int sid = sids.get(i);
+            if (sid < 0 && reader.getIonMinorVersion() > 0) {
+                // In Ion 1.1, annotations may be encoded as inline text.
+                if (validateUtf8) {
+                    validateUtf8(reader, reader.getAnnotationTextMarker(i));
+                }
+                continue;
+            }
+            validateSymbolId(reader, sid);
+        }
+    }
+
+    private static void validateSymbolValue(IonReaderContinuableTopLevelBinary reader, boolean validateUtf8) {
+        if (reader.hasInlineSymbolText()) {
+            if (validateUtf8) {
+                reader.prepareScalar();
+                validateUtf8(reader, reader.valueMarker);
+            }
+            return;
+        }
+        validateSymbolId(reader, reader.symbolValueId());
+    }
+
+    private static void validateSymbolId(IonReaderContinuableTopLevelBinary reader, int sid) {
+        int maxId = reader.getMaxSymbolId();
+        if (sid < 0 || sid > maxId) {
+            throw new IonException("Symbol ID " + (sid & 0xFFFFFFFFL) + " is out of range of the current symbol table, whose maximum ID is " + maxId + ".");
+        }
+    }
+
+    private static void validateUtf8(IonReaderContinuableTopLevelBinary reader, Marker marker) {
+        if (!isWellFormedUtf8(reader.buffer, (int) marker.startIndex, (int) marker.endIndex)) {
+            throw new IonException("Text is not well-formed UTF-8.");
+        }
+    }
+
+    /**
+     * Determines whether the given bytes are well-formed UTF-8 according to RFC 3629, which excludes overlong
+     * encodings, surrogate code points, and code points above U+10FFFF.
+     * @param bytes the bytes.
+     * @param start the index of the first byte to check.
+     * @param end the index of the first byte after the bytes to check.
+     * @return true if the bytes are well-formed UTF-8; otherwise, false.
+     */
+    static boolean isWellFormedUtf8(byte[] bytes, int start, int end) {
+        int i = start;
+        while (i < end) {
+            int b = bytes[i];
+            if (b >= 0) {
+                // ASCII, which is by far the most common case.
+                i++;
+                continue;
+            }
+            b &= 0xFF;
+            int remaining;
+            int minSecondByte = 0x80;
+            int maxSecondByte = 0xBF;
+            if (b < 0xC2) {
+                // Continuation byte without a lead byte, or the lead byte of an overlong 2-byte encoding.
+                return false;
+            } else if (b < 0xE0) {
+                remaining = 1;
+            } else if (b < 0xF0) {
+                remaining = 2;
+                if (b == 0xE0) {
+                    // Excludes overlong 3-byte encodings.
+                    minSecondByte = 0xA0;
+                } else if (b == 0xED) {
+                    // Excludes surrogates.
+                    maxSecondByte = 0x9F;
+                }
+            } else if (b < 0xF5) {
+                remaining = 3;
+                if (b == 0xF0) {
+                    // Excludes overlong 4-byte encodings.
+                    minSecondByte = 0x90;
+                } else if (b == 0xF4) {
+                    // Excludes code points above U+10FFFF.
+                    maxSecondByte = 0x8F;
+                }
+            } else {
+                return false;
+            }
+            if (end - i <= remaining) {
+                return false;
+            }
+            int second = bytes[i + 1] & 0xFF;
+            if (second < minSecondByte || second > maxSecondByte) {
+                return false;
+            }
+            for (int j = 2; j <= remaining; j++) {
+                if ((bytes[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += remaining + 1;
+        }
+        return true;
+    }
+}
@@ -4,18 +4,19 @@ package com.amazon.ion.impl;
 
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
+import com.amazon.ion.IonFeedableReader;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.util.InputStreamInterceptor;
 import com.amazon.ion.system.IonReaderBuilder;
-import com.amazon.ion.util.IonStreamUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
 import java.util.Collections;
 import java.util.List;
 
@@ -238,7 +239,7 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
                 }
             }
         }
-        if (IonStreamUtils.isIonBinary(ionData, offset, length)) {
+        if (startsWithBinaryIvm(ionData, offset, length)) {
             return binary.makeReader(builder, ionData, offset, length);
         }
         return text.makeReader(builder.validateCatalog(), ionData, offset, length, builder.lstFactory);
@@ -247,14 +248,53 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
     @Override
     public IonReader build(byte[] ionData, int offset, int length)
     {
-        return buildReader(
+        return project(restrictToJson(buildReader(
             this,
             ionData,
             offset,
             length,
             _Private_IonReaderFactory::makeReaderBinary,
             _Private_IonReaderFactory::makeReaderText
-        );
+        )));
+    }
+
+    /**
+     * Declares the input of the given reader to be strict JSON, if so configured.
+     * @param reader the reader, which has not yet been read.
+     * @return the given reader.
+     */
+    private <T extends IonReader> T restrictToJson(T reader) {
+        if (isJsonOnlyInputEnabled() && reader instanceof IonReaderTextRawX) {
+            ((IonReaderTextRawX) reader).set_json_only();
+        }
+        return reader;
+    }
+
+    /**
+     * Wraps the given reader so that it surfaces only the values on the projected paths, if any are configured.
+     * @param reader the reader to wrap.
+     * @return the wrapped reader, or the given reader if no paths are configured.
+     */
+    private IonReader project(IonReader reader) {
+        List<String> paths = getProjectedPaths();
+        if (paths == null) {
+            return reader;
+        }
+        return new IonReaderProjecting(reader, IonReaderProjecting.PathNode.parse(paths));
+    }
+
+    /**
+     * Determines whether the given bytes begin with a binary Ion version marker of any version. The reader itself
+     * rejects versions it does not support.
+     * @param buffer the bytes.
+     * @param offset the index of the first byte.
+     * @param length the number of bytes available.
+     * @return true if the bytes begin with a binary IVM.
+     */
+    private static boolean startsWithBinaryIvm(byte[] buffer, int offset, int length) {
+        return length >= _Private_IonConstants.BINARY_VERSION_MARKER_SIZE
+            && buffer[offset] == (byte) 0xE0
+            && buffer[offset + 3] == (byte) 0xEA;
     }
 
     /**
@@ -379,31 +419,61 @@ public class _Private_IonReaderBuilder extends IonReaderBuilder {
         return text.makeReader(builder.validateCatalog(), wrapper, builder.lstFactory);
     }
 
+    @Override
+    public IonFeedableReader buildFeedable()
+    {
+        if (getProjectedPaths() != null) {
+            throw new UnsupportedOperationException("Projected paths are not supported by feedable readers.");
+        }
+        return new IonReaderFeedableBinary(this);
+    }
+
     @Override
     public IonReader build(InputStream source)
     {
-        return buildReader(
+        return project(restrictToJson(buildReader(
             this,
             source,
             _Private_IonReaderFactory::makeReaderBinary,
             _Private_IonReaderFactory::makeReaderText,
             getInputStreamInterceptors()
-        );
+        )));
+    }
+
+    @Override
+    public IonReader build(FileChannel ionData) {
+        if (ionData == null) {
+            throw new NullPointerException("Cannot build a reader from a null FileChannel.");
+        }
+        InputStream source;
+        try {
+            source = new MappedFileInputStream(ionData);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        return build(source);
     }
 
     @Override
     public IonReader build(Reader ionText) {
-        return makeReaderText(validateCatalog(), ionText, lstFactory);
+        return project(restrictToJson(makeReaderText(validateCatalog(), ionText, lstFactory)));
     }
 
     @Override
     public IonReader build(IonValue value) {
-        return makeReader(validateCatalog(), value, lstFactory);
+        return project(makeReader(validateCatalog(), value, lstFactory));
     }
 
     @Override
     public IonTextReader build(String ionText) {
-        return makeReaderText(validateCatalog(), ionText, lstFactory);
+        List<String> paths = getProjectedPaths();
+        if (paths == null) {
+            return restrictToJson(makeReaderText(validateCatalog(), ionText, lstFactory));
+        }
+        return new IonReaderProjecting.Text(
+            restrictToJson(makeReaderText(validateCatalog(), ionText, lstFactory)),
+            IonReaderProjecting.PathNode.parse(paths)
+        );
     }
 
 }
@@ -0,0 +1,149 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.system.LocalSymbolTableCache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link LocalSymbolTableCache} implementation for internal use only.
+ * <p>
+ * Entries are keyed by the encoded bytes of a local symbol table struct's body, along with the catalog and Ion
+ * minor version that were used to resolve it.
+ */
+public final class _Private_LocalSymbolTableCache extends LocalSymbolTableCache {
+
+    /**
+     * A local symbol table cache key. Mutable instances are used by readers to probe the cache directly against
+     * their buffers without copying; immutable copies are stored in the cache.
+     */
+    static final class Key {
+        private byte[] bytes;
+        private int offset;
+        private int length;
+        private IonCatalog catalog;
+        private int minorVersion;
+        private int hash;
+
+        /**
+         * Points this key at the given range of bytes.
+         * @return this key.
+         */
+        Key set(byte[] bytes, int offset, int length, IonCatalog catalog, int minorVersion) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+            this.catalog = catalog;
+            this.minorVersion = minorVersion;
+            int h = 31 * System.identityHashCode(catalog) + minorVersion;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + bytes[i];
+            }
+            hash = h;
+            return this;
+        }
+
+        /**
+         * @return a copy of this key that does not refer to the original bytes.
+         */
+        Key copy() {
+            Key copy = new Key();
+            copy.bytes = new byte[length];
+            System.arraycopy(bytes, offset, copy.bytes, 0, length);
+            copy.offset = 0;
+            copy.length = length;
+            copy.catalog = catalog;
+            copy.minorVersion = minorVersion;
+            copy.hash = hash;
+            return copy;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (hash != other.hash
+                || length != other.length
+                || catalog != other.catalog
+                || minorVersion != other.minorVersion) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[offset + i] != other.bytes[other.offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A resolved local symbol table. Instances are shared between readers and must not be modified.
+     */
+    static final class CachedSymbolTable {
+        final LocalSymbolTableImports imports;
+        final String[] symbols;
+
+        CachedSymbolTable(LocalSymbolTableImports imports, String[] symbols) {
+            this.imports = imports;
+            this.symbols = symbols;
+        }
+    }
+
+    private final int maximumSize;
+    private final Map<Key, CachedSymbolTable> entries;
+
+    public _Private_LocalSymbolTableCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Key, CachedSymbolTable>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedSymbolTable> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @param key the key, which may refer to a reader's buffer.
+     * @return the resolved local symbol table, or null if it is not cached.
+     */
+    synchronized CachedSymbolTable get(Key key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @param key the key, which must not refer to a reader's buffer.
+     * @param entry the resolved local symbol table.
+     */
+    synchronized void put(Key key, CachedSymbolTable entry) {
+        entries.put(key, entry);
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -393,6 +393,9 @@ public class _Private_ScalarConversions
         String      _string_value;
         BigInteger  _bigInteger_value;
         Decimal     _decimal_value;
+        long        _unscaled_decimal_value;             // with _decimal_scale, the decimal before it is materialized
+        int         _decimal_scale;
+        boolean     _has_unscaled_decimal;
         Date        _date_value;
         Timestamp   _timestamp_value;
 
@@ -463,6 +466,18 @@ public class _Private_ScalarConversions
             _decimal_value = value;
             set_value_type(AS_TYPE.decimal_value);
         }
+        /**
+         * Sets a decimal value as its unscaled value and scale. The
+         * {@link Decimal} is not created until it is first needed.
+         * Negative zero cannot be represented this way.
+         */
+        public final void setUnscaledDecimalValue(long unscaledValue, int scale) {
+            _unscaled_decimal_value = unscaledValue;
+            _decimal_scale = scale;
+            _decimal_value = null;
+            set_value_type(AS_TYPE.decimal_value);
+            _has_unscaled_decimal = true;
+        }
         public final void setValue(Date value) {
             _date_value = value;
             set_value_type(AS_TYPE.date_value);
@@ -555,10 +570,31 @@ public class _Private_ScalarConversions
         }
         public final BigDecimal getBigDecimal() {
             if (!hasValueOfType(AS_TYPE.decimal_value)) throw new ValueNotSetException("BigDecimal value not set");
-            return Decimal.bigDecimalValue(_decimal_value);
+            return Decimal.bigDecimalValue(decimal());
         }
         public final Decimal getDecimal() {
             if (!hasValueOfType(AS_TYPE.decimal_value)) throw new ValueNotSetException("BigDecimal value not set");
+            return decimal();
+        }
+        /**
+         * @return true if the authoritative value is a decimal that was set
+         * by {@link #setUnscaledDecimalValue(long, int)}.
+         */
+        public final boolean hasUnscaledDecimalValue() {
+            return _has_unscaled_decimal;
+        }
+        public final long getUnscaledDecimalValue() {
+            if (!_has_unscaled_decimal) throw new ValueNotSetException("unscaled decimal value not set");
+            return _unscaled_decimal_value;
+        }
+        public final int getDecimalScale() {
+            if (!_has_unscaled_decimal) throw new ValueNotSetException("unscaled decimal value not set");
+            return _decimal_scale;
+        }
+        private final Decimal decimal() {
+            if (_decimal_value == null && _has_unscaled_decimal) {
+                _decimal_value = Decimal.valueOf(BigInteger.valueOf(_unscaled_decimal_value), _decimal_scale);
+            }
             return _decimal_value;
         }
         public final Date getDate() {
@@ -657,6 +693,7 @@ public class _Private_ScalarConversions
         private final void set_value_type(int type_idx) {
             _types_set = AS_TYPE.idx_to_bit_mask(type_idx);
             _authoritative_type_idx = type_idx;
+            _has_unscaled_decimal = false;
         }
         private final void add_value_type(int type_idx) {
             _types_set |= AS_TYPE.idx_to_bit_mask(type_idx);
@@ -730,7 +767,7 @@ public class _Private_ScalarConversions
             add_value_type(AS_TYPE.string_value);
         }
         private final void fn_from_decimal_to_string() {
-            _string_value = _decimal_value.toString();
+            _string_value = decimal().toString();
             add_value_type(AS_TYPE.string_value);
         }
         private final void fn_from_double_to_string() {
@@ -764,12 +801,12 @@ public class _Private_ScalarConversions
             add_value_type(AS_TYPE.int_value);
         }
         private final void fn_from_decimal_to_int() {
-            if (min_int_decimal_value.compareTo(_decimal_value) > 0
-             || max_int_decimal_value.compareTo(_decimal_value) < 0
+            if (min_int_decimal_value.compareTo(decimal()) > 0
+             || max_int_decimal_value.compareTo(decimal()) < 0
              ) {
                 throw new CantConvertException("BigDecimal value is too large to fit in an int");
             }
-            _int_value = _decimal_value.intValue();
+            _int_value = decimal().intValue();
             add_value_type(AS_TYPE.int_value);
         }
         private final void fn_from_double_to_int() {
@@ -795,12 +832,12 @@ public class _Private_ScalarConversions
             add_value_type(AS_TYPE.long_value);
         }
         private final void fn_from_decimal_to_long() {
-            if (min_long_decimal_value.compareTo(_decimal_value) > 0
-             || max_long_decimal_value.compareTo(_decimal_value) < 0
+            if (min_long_decimal_value.compareTo(decimal()) > 0
+             || max_long_decimal_value.compareTo(decimal()) < 0
             ) {
                 throw new CantConvertException("BigDecimal value is too large to fit in a long");
             }
-            _long_value = _decimal_value.longValue();
+            _long_value = decimal().longValue();
             add_value_type(AS_TYPE.long_value);
         }
         private final void fn_from_double_to_long() {
@@ -821,7 +858,7 @@ public class _Private_ScalarConversions
             add_value_type(AS_TYPE.bigInteger_value);
         }
         private final void fn_from_decimal_to_biginteger() {
-            _bigInteger_value = _decimal_value.toBigInteger();
+            _bigInteger_value = decimal().toBigInteger();
             add_value_type(AS_TYPE.bigInteger_value);
         }
         private final void fn_from_double_to_biginteger() {
@@ -860,7 +897,7 @@ public class _Private_ScalarConversions
             add_value_type(AS_TYPE.double_value);
         }
         private final void fn_from_decimal_to_double() {
-            _double_value = _decimal_value.doubleValue();
+            _double_value = decimal().doubleValue();
             add_value_type(AS_TYPE.double_value);
         }
         private final void fn_from_timestamp_to_date() {
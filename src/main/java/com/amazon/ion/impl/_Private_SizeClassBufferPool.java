@@ -0,0 +1,99 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-safe {@link IonBufferConfiguration.BufferPool} that holds a free list of buffers for each power-of-two
+ * size class.
+ * <p>
+ * NOT FOR APPLICATION USE!
+ */
+public final class _Private_SizeClassBufferPool implements IonBufferConfiguration.BufferPool {
+
+    // The largest power of two that may be the length of a Java array.
+    private static final int MAXIMUM_SIZE_CLASS = 30;
+
+    // The free buffers in each size class, indexed by the base-2 logarithm of the class's buffer length.
+    private final ConcurrentLinkedQueue<byte[]>[] freeBuffers;
+
+    // The number of buffers in each free list. Note: ConcurrentLinkedQueue.size() is not a constant-time operation,
+    // so the sizes are tracked externally.
+    private final AtomicInteger[] sizes;
+
+    private final int maximumBuffersPerSizeClass;
+
+    /**
+     * @param maximumBuffersPerSizeClass the maximum number of free buffers retained in each size class.
+     * @param maximumPooledBufferSize the length of the largest buffer that will be retained.
+     */
+    public _Private_SizeClassBufferPool(int maximumBuffersPerSizeClass, int maximumPooledBufferSize) {
+        if (maximumBuffersPerSizeClass < 0) {
+            throw new IllegalArgumentException("The maximum number of buffers per size class must not be negative.");
+        }
+        if (maximumPooledBufferSize < 1) {
+            throw new IllegalArgumentException("The maximum pooled buffer size must be at least 1.");
+        }
+        this.maximumBuffersPerSizeClass = maximumBuffersPerSizeClass;
+        // Only the size classes that can hold pooled buffers are allocated.
+        int numberOfSizeClasses = Math.min(MAXIMUM_SIZE_CLASS, 31 - Integer.numberOfLeadingZeros(maximumPooledBufferSize)) + 1;
+        // Arrays of a generic type cannot be created directly; the cast is safe because every element is assigned below.
+        @SuppressWarnings("unchecked")
+        ConcurrentLinkedQueue<byte[]>[] queues = (ConcurrentLinkedQueue<byte[]>[]) new ConcurrentLinkedQueue<?>[numberOfSizeClasses];
+        freeBuffers = queues;
+        sizes = new AtomicInteger[numberOfSizeClasses];
+        for (int i = 0; i < numberOfSizeClasses; i++) {
+            freeBuffers[i] = new ConcurrentLinkedQueue<>();
+            sizes[i] = new AtomicInteger(0);
+        }
+    }
+
+    /**
+     * @param minimumSize a positive number.
+     * @return the base-2 logarithm of the smallest power of two greater than or equal to the given number.
+     */
+    private static int sizeClassFor(int minimumSize) {
+        return 32 - Integer.numberOfLeadingZeros(minimumSize - 1);
+    }
+
+    @Override
+    public byte[] acquire(int minimumSize) {
+        int sizeClass = sizeClassFor(Math.max(1, minimumSize));
+        if (sizeClass >= freeBuffers.length) {
+            // Buffers this large are not pooled, so there is no reason to round up the size.
+            return new byte[minimumSize];
+        }
+        byte[] buffer = freeBuffers[sizeClass].poll();
+        if (buffer == null) {
+            return new byte[1 << sizeClass];
+        }
+        sizes[sizeClass].decrementAndGet();
+        return buffer;
+    }
+
+    @Override
+    public void release(byte[] buffer) {
+        int length = buffer.length;
+        if (Integer.bitCount(length) != 1) {
+            // Only buffers allocated by this pool, which have power-of-two lengths, are retained.
+            return;
+        }
+        int sizeClass = sizeClassFor(length);
+        if (sizeClass >= freeBuffers.length) {
+            return;
+        }
+        // In the common case, the pool is not full. Optimistically increment the size.
+        if (sizes[sizeClass].getAndIncrement() < maximumBuffersPerSizeClass) {
+            freeBuffers[sizeClass].offer(buffer);
+        } else {
+            // The pool was full. Since the size was optimistically incremented, decrement it now. Under contention,
+            // this may cause a buffer to be dropped even though there was room for it; this is harmless, as the
+            // buffer will simply be allocated again when needed.
+            sizes[sizeClass].decrementAndGet();
+        }
+    }
+}
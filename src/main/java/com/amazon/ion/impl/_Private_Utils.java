@@ -29,12 +29,14 @@ import static com.amazon.ion.SystemSymbols.VERSION;
 import static com.amazon.ion.SystemSymbols.VERSION_SID;
 import static com.amazon.ion.util.IonStreamUtils.isIonBinary;
 
+import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonType;
 import com.amazon.ion.IonValue;
+import com.amazon.ion.Span;
 import com.amazon.ion.SubstituteSymbolTableException;
 import com.amazon.ion.SymbolTable;
 import com.amazon.ion.SymbolToken;
@@ -56,6 +58,7 @@ import java.nio.charset.CharsetEncoder;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.TimeZone;
@@ -1177,4 +1180,60 @@ public final class _Private_Utils
         return new SubstituteSymbolTable(original, version, maxId);
     }
 
+    /**
+     * Reads a local symbol table from the {@code $ion_symbol_table} struct on
+     * which the given reader is positioned.
+     *
+     * @param catalog the catalog used to resolve the table's imports.
+     */
+    public static SymbolTable newLocalSymtab(IonCatalog catalog,
+                                             IonReader reader)
+    {
+        return LocalSymbolTable.DEFAULT_LST_FACTORY.newLocalSymtab(catalog, reader, true);
+    }
+
+    /**
+     * Creates a read-only local symbol table with the given imports and
+     * local symbols.
+     *
+     * @param imports the non-system shared symbol tables to import.
+     * @param symbols the local symbols, in symbol ID order; may contain nulls.
+     */
+    public static SymbolTable newLocalSymtab(SymbolTable systemSymtab,
+                                             SymbolTable[] imports,
+                                             List<String> symbols)
+    {
+        LocalSymbolTableImports unifiedImports =
+            new LocalSymbolTableImports(systemSymtab, imports);
+        SymbolTable symtab = new LocalSymbolTable(unifiedImports, symbols);
+        symtab.makeReadOnly();
+        return symtab;
+    }
+
+    /**
+     * Creates a span that may be hoisted by the {@link com.amazon.ion.SeekableReader} facet of any binary reader
+     * constructed over the byte array from which the span's offsets were recorded.
+     *
+     * @param startOffset the offset of the span's first byte within the source.
+     * @param finishOffset the offset after the span's last byte within the source.
+     * @param symtab the symbol table active at the start of the span.
+     * @param ionVersionId the Ion version of the encoding at the start of the span, e.g. {@code $ion_1_0}.
+     */
+    public static Span newSeekableBinarySpan(long startOffset,
+                                             long finishOffset,
+                                             SymbolTable symtab,
+                                             String ionVersionId)
+    {
+        return IonReaderContinuableTopLevelBinary.newSeekableSpan(startOffset, finishOffset, symtab, ionVersionId);
+    }
+
+    /**
+     * @return the Ion version of the encoding at the start of the given span, or null if the span was not provided by
+     * a binary reader.
+     */
+    public static String binarySpanIonVersionId(Span span)
+    {
+        return IonReaderContinuableTopLevelBinary.getIonVersionId(span);
+    }
+
 }
@@ -18,7 +18,7 @@ import java.nio.charset.CoderResult;
  * There are two ways of using this class:
  * <ol>
  *     <li>Use {@link #decode(ByteBuffer, int)} to decode the requested number of bytes from the given ByteBuffer in
- *     a single step. Or,</li>
+ *     a single step, or {@link #decodeToBuffer(ByteBuffer, int)} to do so without creating a String. Or,</li>
  *     <li>Use the following sequence of method calls:
  *     <ol>
  *         <li>{@link #prepareDecode(int)} to prepare the decoder to decode the requested number of bytes.</li>
@@ -86,12 +86,24 @@ public class Utf8StringDecoder extends Poolable<Utf8StringDecoder> {
      * @return the decoded Java String.
      */
     public String decode(ByteBuffer utf8InputBuffer, int numberOfBytes) {
+        return decodeToBuffer(utf8InputBuffer, numberOfBytes).toString();
+    }
+
+    /**
+     * Decodes the given number of UTF-8 bytes from the given ByteBuffer without creating a String. The returned
+     * CharBuffer is owned by this decoder and is only valid until the next decode.
+     * @param utf8InputBuffer a ByteBuffer containing UTF-8 bytes.
+     * @param numberOfBytes the number of bytes from the utf8InputBuffer to decode.
+     * @return a CharBuffer containing the decoded characters between its position and limit.
+     */
+    public CharBuffer decodeToBuffer(ByteBuffer utf8InputBuffer, int numberOfBytes) {
         prepareDecode(numberOfBytes);
 
         utf8DecodingBuffer.position(0);
         utf8DecodingBuffer.limit(utf8DecodingBuffer.capacity());
 
         partialDecode(utf8InputBuffer, true);
-        return finishDecode();
+        utf8DecodingBuffer.flip();
+        return utf8DecodingBuffer;
     }
 }
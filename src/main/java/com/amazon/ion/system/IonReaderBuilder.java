@@ -6,18 +6,26 @@ import com.amazon.ion.util.GzipStreamInterceptor;
 import com.amazon.ion.IonBufferConfiguration;
 import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
+import com.amazon.ion.IonFeedableReader;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonStruct;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonTextReader;
 import com.amazon.ion.IonValue;
 import com.amazon.ion.util.InputStreamInterceptor;
+import com.amazon.ion.impl._Private_ByteBufferInputStream;
 import com.amazon.ion.impl._Private_IonReaderBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -50,6 +58,10 @@ public abstract class IonReaderBuilder
     private boolean isIncrementalReadingEnabled = false;
     private IonBufferConfiguration bufferConfiguration = IonBufferConfiguration.DEFAULT;
     private List<InputStreamInterceptor> streamInterceptors = null;
+    private List<String> projectedPaths = null;
+    private LocalSymbolTableCache localSymbolTableCache = null;
+    private ReaderMetricsListener metricsListener = null;
+    private boolean isJsonOnlyInputEnabled = false;
 
     protected IonReaderBuilder()
     {
@@ -61,6 +73,10 @@ public abstract class IonReaderBuilder
         this.isIncrementalReadingEnabled = that.isIncrementalReadingEnabled;
         this.bufferConfiguration = that.bufferConfiguration;
         this.streamInterceptors = that.streamInterceptors == null ? null : new ArrayList<>(that.streamInterceptors);
+        this.projectedPaths = that.projectedPaths;
+        this.localSymbolTableCache = that.localSymbolTableCache;
+        this.metricsListener = that.metricsListener;
+        this.isJsonOnlyInputEnabled = that.isJsonOnlyInputEnabled;
     }
 
     /**
@@ -269,6 +285,183 @@ public abstract class IonReaderBuilder
         return bufferConfiguration;
     }
 
+    /**
+     * Restricts the values surfaced by built readers to those that lie on one of the given field paths, such as
+     * {@code order.items[*].sku} or {@code customer.id}. Every top-level value is surfaced. Within a container, only
+     * the children that match the next step of at least one path are surfaced, and values at the end of a path are
+     * surfaced in full. All other values are skipped without being stepped into, which allows binary readers to
+     * seek past them using their length prefixes.
+     * <p>
+     * A path is a sequence of steps separated by {@code .}. Each step is a field name, {@code *} (any field),
+     * {@code [n]} (the element at index n of a list or s-expression), or {@code [*]} (any element). Element steps may
+     * directly follow a field step, e.g. {@code items[*]}. Field names containing {@code .}, {@code [}, or {@code ]}
+     * are not supported. Malformed paths cause the {@code build} methods to throw {@link IllegalArgumentException}.
+     * <p>
+     * Readers built with projected paths forward the facets that operate on the current value or reset the reader
+     * (see {@link com.amazon.ion.facet.Faceted}): {@link com.amazon.ion.ReusableReader},
+     * {@link com.amazon.ion.SpanProvider}, {@link com.amazon.ion.Utf8TextProvider},
+     * {@link com.amazon.ion.ValueStreamer}, {@link com.amazon.ion.UnscaledDecimalReader}, and
+     * {@link com.amazon.ion.EpochTimestampReader}, when the underlying reader provides them. Facets that would move
+     * the underlying reader without regard to the projection, namely {@link com.amazon.ion.SeekableReader},
+     * {@link com.amazon.ion.FieldSeeker}, and {@link com.amazon.ion.PrimitiveArrayReader}, are not provided.
+     *
+     * @param paths the paths to project, or none to disable projection.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setProjectedPaths(String...)
+     */
+    public IonReaderBuilder withProjectedPaths(String... paths) {
+        IonReaderBuilder b = mutable();
+        b.setProjectedPaths(paths);
+        return b;
+    }
+
+    /**
+     * @see #withProjectedPaths(String...)
+     */
+    public void setProjectedPaths(String... paths) {
+        mutationCheck();
+        if (paths == null || paths.length == 0) {
+            projectedPaths = null;
+        } else {
+            projectedPaths = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(paths)));
+        }
+    }
+
+    /**
+     * @see #withProjectedPaths(String...)
+     * @return an unmodifiable view of the projected paths, or null if projection is disabled.
+     */
+    public List<String> getProjectedPaths() {
+        return projectedPaths;
+    }
+
+    /**
+     * Declares the cache that built binary readers use to avoid re-parsing local symbol tables that have already been
+     * encountered, either earlier in the same stream or by another reader sharing the same cache. Sharing one cache
+     * between all readers that consume streams from the same producer removes most of the per-stream cost of
+     * processing the local symbol table, which can dominate the cost of reading small streams. Text readers ignore
+     * this option. This configuration is optional; by default, no cache is used.
+     *
+     * @param cache the cache, or null to disable caching.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setLocalSymbolTableCache(LocalSymbolTableCache)
+     */
+    public IonReaderBuilder withLocalSymbolTableCache(LocalSymbolTableCache cache) {
+        IonReaderBuilder b = mutable();
+        b.setLocalSymbolTableCache(cache);
+        return b;
+    }
+
+    /**
+     * @see #withLocalSymbolTableCache(LocalSymbolTableCache)
+     */
+    public void setLocalSymbolTableCache(LocalSymbolTableCache cache) {
+        mutationCheck();
+        localSymbolTableCache = cache;
+    }
+
+    /**
+     * @see #withLocalSymbolTableCache(LocalSymbolTableCache)
+     * @return the cache, or null if caching is disabled.
+     */
+    public LocalSymbolTableCache getLocalSymbolTableCache() {
+        return localSymbolTableCache;
+    }
+
+    /**
+     * Declares the listener that built binary readers notify of the work they perform, including bytes consumed,
+     * values read and skipped, containers entered, reads from the input stream and their latency, buffer resizing,
+     * and symbol table resets. Readers built without a listener do not incur any cost to gather these metrics. Text
+     * readers ignore this option. This configuration is optional; by default, no listener is used.
+     *
+     * @param listener the listener, or null to disable metrics.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setMetricsListener(ReaderMetricsListener)
+     */
+    public IonReaderBuilder withMetricsListener(ReaderMetricsListener listener) {
+        IonReaderBuilder b = mutable();
+        b.setMetricsListener(listener);
+        return b;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     */
+    public void setMetricsListener(ReaderMetricsListener listener) {
+        mutationCheck();
+        metricsListener = listener;
+    }
+
+    /**
+     * @see #withMetricsListener(ReaderMetricsListener)
+     * @return the listener, or null if metrics are disabled.
+     */
+    public ReaderMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Declares whether the text data given to built readers is strict JSON (RFC 8259), optionally containing more
+     * than one top-level value, as in JSON Lines. When enabled, text readers do not look for comments, annotations,
+     * s-expressions, symbols, long strings, lobs, timestamps, or any other syntax that only Ion allows, which makes
+     * reading JSON faster. Values have the same types they have when JSON is read as Ion: objects are structs,
+     * arrays are lists, and numbers are ints, decimals (when they have a fraction), or floats (when they have an
+     * exponent). Data that is not JSON, including trailing commas and string escapes other than those JSON defines,
+     * causes the reader to throw {@link IonException}. As when reading Ion, a container that is skipped without being
+     * stepped into is only scanned for its end, so errors within it may go unreported. Binary readers and readers
+     * over {@link IonValue}s ignore this option. This option is disabled by default.
+     *
+     * @param isEnabled true if the option is enabled; otherwise, false.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setJsonOnlyInputEnabled()
+     * @see #setJsonOnlyInputDisabled()
+     */
+    public IonReaderBuilder withJsonOnlyInputEnabled(boolean isEnabled) {
+        IonReaderBuilder b = mutable();
+        if (isEnabled) {
+            b.setJsonOnlyInputEnabled();
+        } else {
+            b.setJsonOnlyInputDisabled();
+        }
+        return b;
+    }
+
+    /**
+     * @see #withJsonOnlyInputEnabled(boolean)
+     */
+    public void setJsonOnlyInputEnabled() {
+        mutationCheck();
+        isJsonOnlyInputEnabled = true;
+    }
+
+    /**
+     * @see #withJsonOnlyInputEnabled(boolean)
+     */
+    public void setJsonOnlyInputDisabled() {
+        mutationCheck();
+        isJsonOnlyInputEnabled = false;
+    }
+
+    /**
+     * @see #withJsonOnlyInputEnabled(boolean)
+     * @return true if the input is declared to be strict JSON; otherwise, false.
+     */
+    public boolean isJsonOnlyInputEnabled() {
+        return isJsonOnlyInputEnabled;
+    }
+
     /**
      * Adds an {@link InputStreamInterceptor} to the end of the list that the builder will attempt
      * to apply to a stream before creating {@link IonReader} instances over that stream.
@@ -381,6 +574,34 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(byte[] ionData, int offset, int length);
 
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data between the given buffer's position and limit,
+     * detecting whether it's text or binary data.
+     * <p>
+     * Heap buffers are read in place, exactly like
+     * {@link #build(byte[], int, int)} over the buffer's backing array. Other
+     * buffers are copied incrementally into the reader's internal buffer, as
+     * with {@link #build(InputStream)}; builders returned by
+     * {@link #standard()} size that buffer to fit the data.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData the buffer containing the Ion data, which may be either
+     * Ion binary data or UTF-8 Ion text. The reader retains a reference to the
+     * buffer, so its data must not be modified while the reader is active. The
+     * buffer's position and limit are not modified. Must not be null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        if (ionData.hasArray()) {
+            return build(ionData.array(), ionData.arrayOffset() + ionData.position(), ionData.remaining());
+        }
+        return build(new _Private_ByteBufferInputStream(ionData));
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new IonReader
      * instance over the given stream of Ion data, detecting whether it's text or
@@ -403,6 +624,96 @@ public abstract class IonReaderBuilder
      */
     public abstract IonReader build(InputStream ionData);
 
+    /**
+     * Based on the builder's configuration properties, creates a new binary
+     * IonReader instance that is fed Ion data by the caller rather than
+     * reading it from a source. See {@link IonFeedableReader}.
+     * <p>
+     * The returned reader is always continuable, regardless of whether
+     * incremental reading is enabled on this builder. Because the data is not
+     * available when the reader is created, it cannot be inspected; the fed
+     * data must be uncompressed binary Ion, and input stream interceptors are
+     * not applied. Projected paths are not supported.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it.
+     *
+     * @throws UnsupportedOperationException if projected paths are configured,
+     * or if this builder does not support feedable readers.
+     */
+    public IonFeedableReader buildFeedable()
+    {
+        throw new UnsupportedOperationException("This builder does not support feedable readers.");
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data in the given file, detecting whether it's text or
+     * binary data.
+     * <p>
+     * The file is memory-mapped rather than read through a stream. Files
+     * larger than 2 GB are mapped in windows.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionFile the file containing the Ion data, which may be either Ion
+     * binary data or UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * releases the file.
+     *
+     * @throws IonException if the file cannot be opened or mapped.
+     *
+     * @see #build(FileChannel)
+     */
+    public IonReader build(Path ionFile)
+    {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(ionFile, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+        try {
+            return build(channel);
+        } catch (RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the Ion data in the given file channel, beginning at the
+     * channel's current position, detecting whether it's text or binary data.
+     * <p>
+     * Builders returned by {@link #standard()} memory-map the file rather than
+     * reading it through a stream; files larger than 2 GB are mapped in
+     * windows. The default implementation reads the channel as a stream via
+     * {@link #build(InputStream)}. The file must not be truncated while the
+     * reader is active.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData the channel over the Ion data, which may be either Ion
+     * binary data or UTF-8 Ion text. Must not be null.
+     *
+     * @return a new reader instance.
+     * Callers must call {@link IonReader#close()} when finished with it, which
+     * closes the channel.
+     *
+     * @throws IonException if the channel cannot be mapped.
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        return build(Channels.newInputStream(ionData));
+    }
+
     /**
      * Based on the builder's configuration properties, creates a new
      * {@link IonReader} instance over Ion text data.
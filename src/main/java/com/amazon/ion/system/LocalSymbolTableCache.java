@@ -0,0 +1,79 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.system;
+
+import com.amazon.ion.impl._Private_LocalSymbolTableCache;
+
+/**
+ * A bounded, thread-safe cache of resolved local symbol tables that may be
+ * shared by any number of binary {@link com.amazon.ion.IonReader}s via
+ * {@link IonReaderBuilder#withLocalSymbolTableCache(LocalSymbolTableCache)}.
+ * <p>
+ * Applications that read many small streams from the same producer often
+ * encounter the same local symbol table at the start of every stream. When a
+ * reader configured with a cache encounters a local symbol table, it looks up
+ * the table's encoded bytes in the cache. On a hit, the reader installs the
+ * previously-resolved symbols and imports and skips the table without parsing
+ * it or creating any new {@link String}s.
+ * <p>
+ * Only local symbol tables that do not append to the symbol table already in
+ * scope are cached, because the meaning of an append depends on the state of
+ * the stream. Imports are resolved using the {@link com.amazon.ion.IonCatalog}
+ * of the reader that first encountered the table, and entries are shared only
+ * between readers configured with the same catalog instance. Entries are
+ * evicted in least-recently-used order once the cache is full.
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ */
+public abstract class LocalSymbolTableCache {
+
+    /**
+     * The default maximum number of local symbol tables held by caches created
+     * via {@link #newInstance()}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    /** NOT FOR APPLICATION USE! */
+    protected LocalSymbolTableCache() {
+    }
+
+    /**
+     * Creates a new, empty cache that holds up to
+     * {@value #DEFAULT_MAXIMUM_SIZE} local symbol tables.
+     *
+     * @return a new cache.
+     */
+    public static LocalSymbolTableCache newInstance() {
+        return newInstance(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new, empty cache.
+     *
+     * @param maximumSize the maximum number of local symbol tables to hold.
+     *  Must be positive.
+     *
+     * @return a new cache.
+     */
+    public static LocalSymbolTableCache newInstance(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        }
+        return new _Private_LocalSymbolTableCache(maximumSize);
+    }
+
+    /**
+     * @return the maximum number of local symbol tables held by this cache.
+     */
+    public abstract int getMaximumSize();
+
+    /**
+     * @return the number of local symbol tables currently held by this cache.
+     */
+    public abstract int size();
+
+    /**
+     * Removes all local symbol tables from this cache.
+     */
+    public abstract void clear();
+}
@@ -0,0 +1,95 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.system;
+
+import com.amazon.ion.BufferConfiguration;
+
+/**
+ * Receives notifications about the work performed by a binary {@link com.amazon.ion.IonReader}, allowing
+ * applications to diagnose why some streams are more expensive to read than others. Installed via
+ * {@link IonReaderBuilder#withMetricsListener(ReaderMetricsListener)}.
+ * <p>
+ * As a {@link BufferConfiguration.DataHandler}, the listener is notified of the number of bytes consumed from the
+ * stream, exactly as a {@link BufferConfiguration.DataHandler} configured via
+ * {@link com.amazon.ion.IonBufferConfiguration} would be. If both are configured, both are notified. The remaining
+ * notifications are specific to this interface. All methods do nothing by default, so implementations need only
+ * override the notifications they are interested in.
+ * <p>
+ * Notifications are delivered synchronously on the thread that is using the reader, so implementations should be
+ * inexpensive. A listener instance may be shared between readers used on different threads only if the
+ * implementation is thread-safe. Readers that are not configured with a listener do not incur any cost to
+ * gather these metrics.
+ */
+public interface ReaderMetricsListener extends BufferConfiguration.DataHandler {
+
+    /**
+     * Invoked whenever bytes are consumed from the stream, regardless of whether the bytes are buffered or
+     * skipped.
+     * @param numberOfBytes the number of bytes consumed.
+     */
+    @Override
+    default void onData(int numberOfBytes) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader is positioned on a top-level user value.
+     */
+    default void onTopLevelValue() {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader steps into a container, including containers that hold system values such as
+     * symbol tables. The maximum depth reached is the maximum value of {@code depth} passed to this method.
+     * @param depth the depth of the values within the container that was entered, where top-level values have depth 0.
+     */
+    default void onContainerEntered(int depth) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader skips a value that was not fully buffered, either because the application advanced
+     * past the value without reading it or because the value exceeded the maximum buffer size. The skipped bytes are
+     * discarded from the stream without being copied into the reader's buffer.
+     * @param numberOfBytes the number of bytes that were skipped without being buffered.
+     */
+    default void onValueSkipped(long numberOfBytes) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked after each read from the underlying {@link java.io.InputStream}. Readers over byte arrays never refill.
+     * @param numberOfBytes the number of bytes returned by the read, or -1 if the stream was at EOF.
+     * @param nanos the time spent in the read, in nanoseconds.
+     */
+    default void onRefill(int numberOfBytes, long nanos) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader replaces its buffer with a larger or smaller one.
+     * @param previousSize the length of the previous buffer.
+     * @param newSize the length of the new buffer.
+     */
+    default void onBufferResized(int previousSize, int newSize) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader moves its buffered bytes to the start of its buffer to make room for more data.
+     * @param numberOfBytes the number of bytes that were moved.
+     */
+    default void onBufferShifted(int numberOfBytes) {
+        // Do nothing.
+    }
+
+    /**
+     * Invoked each time the reader's local symbol table is reset, which occurs upon encountering an Ion version
+     * marker or a local symbol table that does not append to the current one, or when the reader is reset to read
+     * new input.
+     */
+    default void onSymbolTableReset() {
+        // Do nothing.
+    }
+}
@@ -0,0 +1,112 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.impl._Private_IonBinaryValidator;
+import com.amazon.ion.system.IonReaderBuilder;
+
+import java.io.InputStream;
+
+/**
+ * Checks that data is structurally valid binary Ion without materializing any values. This is much cheaper than
+ * fully reading the data, which makes it suitable for rejecting malformed input at a trust boundary (e.g. before
+ * storing data that will be read later).
+ * <p>
+ * Validation checks that:
+ * <ul>
+ *     <li>the data begins with a binary Ion version marker (empty data is valid),</li>
+ *     <li>all type IDs are valid and all lengths are well-formed and lie within the data and their parent
+ *     containers,</li>
+ *     <li>no value is truncated,</li>
+ *     <li>all local symbol tables are well-formed, and all field name, annotation, and symbol value IDs are within
+ *     the bounds of the symbol table in effect, and</li>
+ *     <li>if enabled, all strings and inline symbol text are well-formed UTF-8.</li>
+ * </ul>
+ * Scalar values are not decoded, so the contents of numeric, timestamp, and lob values are not checked.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class IonBinaryValidator {
+
+    private static final IonBinaryValidator STANDARD = new IonBinaryValidator(IonReaderBuilder.standard(), true);
+
+    private final IonReaderBuilder builder;
+    private final boolean validateUtf8;
+
+    private IonBinaryValidator(IonReaderBuilder builder, boolean validateUtf8) {
+        this.builder = builder;
+        this.validateUtf8 = validateUtf8;
+    }
+
+    /**
+     * @return a validator that uses the standard reader configuration and validates UTF-8.
+     */
+    public static IonBinaryValidator standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Creates a validator that uses the configuration of the given builder, including its catalog (used to resolve
+     * shared symbol table imports), buffer configuration (which limits the size of values that may be validated from
+     * an {@link InputStream}), and symbol table cache. The builder is copied, so subsequent changes to it have no
+     * effect on the validator.
+     * @param builder the builder.
+     * @return a new validator, which validates UTF-8.
+     */
+    public static IonBinaryValidator from(IonReaderBuilder builder) {
+        return new IonBinaryValidator(builder.copy().immutable(), true);
+    }
+
+    /**
+     * @param validateUtf8 true if strings and inline symbol text should be checked for well-formed UTF-8. Disabling
+     *                     this check makes validation faster when the source of the data is trusted to encode text
+     *                     correctly.
+     * @return a validator that is otherwise identical to this one.
+     */
+    public IonBinaryValidator withUtf8Validation(boolean validateUtf8) {
+        return validateUtf8 == this.validateUtf8 ? this : new IonBinaryValidator(builder, validateUtf8);
+    }
+
+    /**
+     * Validates the given binary Ion data.
+     * @param data the data.
+     * @throws IonException if the data is not valid binary Ion. The message describes the first problem found.
+     */
+    public void validate(byte[] data) {
+        validate(data, 0, data.length);
+    }
+
+    /**
+     * Validates a range of the given binary Ion data.
+     * @param data the array containing the data.
+     * @param offset the index of the first byte of the data.
+     * @param length the number of bytes of data.
+     * @throws IonException if the data is not valid binary Ion. The message describes the first problem found.
+     */
+    public void validate(byte[] data, int offset, int length) {
+        _Private_IonBinaryValidator.validate(builder, validateUtf8, data, offset, length);
+    }
+
+    /**
+     * Validates the given stream of binary Ion data. The stream is read to its end, but is not closed.
+     * @param data the stream.
+     * @throws IonException if the data is not valid binary Ion, or if an error occurs while reading the stream.
+     */
+    public void validate(InputStream data) {
+        _Private_IonBinaryValidator.validate(builder, validateUtf8, data);
+    }
+
+    /**
+     * @param data the data.
+     * @return true if the given data is valid binary Ion; otherwise, false.
+     */
+    public boolean isValid(byte[] data) {
+        try {
+            validate(data);
+            return true;
+        } catch (IonException e) {
+            return false;
+        }
+    }
+}
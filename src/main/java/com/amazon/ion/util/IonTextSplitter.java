@@ -0,0 +1,694 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.system.IonReaderBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits UTF-8 Ion text at top-level value boundaries into contiguous chunks of roughly the same number of bytes, so
+ * that a single text stream can be parsed by multiple threads. This is the text counterpart of
+ * {@link TopLevelValueIndex}, which splits binary Ion.
+ * <p>
+ * Finding the split points requires a single pass over the bytes that tracks container depth, strings, quoted
+ * symbols, long strings, lobs, and comments, which is much cheaper than parsing the values. A split point is only
+ * chosen where it cannot fall within a value, e.g. between an annotation and the value it annotates, or between two
+ * long strings that are concatenated. Split points are found most quickly in text with one top-level value per
+ * line, such as the output of {@link com.amazon.ion.system.IonTextWriterBuilder#withWriteTopLevelValuesOnNewLines}.
+ * <p>
+ * Top-level local symbol table declarations that precede a chunk are replayed at the start of that chunk's reader,
+ * so that symbol IDs in the chunk resolve exactly as they would if the stream were read from the beginning. An Ion
+ * version marker resets the declarations that need to be replayed, as does any declaration that does not append to
+ * the previous symbol table.
+ * <p>
+ * Example usage:
+ * <pre>
+ * IonTextSplitter splitter = IonTextSplitter.split(Paths.get("dump.ion"), 4 * Runtime.getRuntime().availableProcessors());
+ * // Values in stream order.
+ * splitter.parallelStream(system, IonReaderBuilder.standard()).forEachOrdered(value -&gt; ...);
+ * // Values as soon as they are parsed, in any order.
+ * splitter.parallelStream(system, IonReaderBuilder.standard()).unordered().forEach(value -&gt; ...);
+ * </pre>
+ * Once created, instances of this class are immutable and safe for use by multiple threads.
+ */
+public final class IonTextSplitter {
+
+    // The maximum number of bytes held by each window. Must be a power of two.
+    private static final int WINDOW_SHIFT = 30;
+    private static final int WINDOW_SIZE = 1 << WINDOW_SHIFT;
+
+    private static final byte[] SYMBOL_TABLE = "$ion_symbol_table".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] QUOTED_SYMBOL_TABLE = "'$ion_symbol_table'".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SYMBOL_TABLE_SID = "$3".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ION_1_0 = "$ion_1_0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LONG_STRING_DELIMITER = "'''".getBytes(StandardCharsets.US_ASCII);
+
+    private static final long[] NO_DECLARATIONS = new long[0];
+
+    // The lexical states of the scanner.
+    private static final int CODE = 0;
+    private static final int SHORT_STRING = 1;
+    private static final int QUOTED_SYMBOL = 2;
+    private static final int LONG_STRING = 3;
+    private static final int LINE_COMMENT = 4;
+    private static final int BLOCK_COMMENT = 5;
+
+    // The data, divided into windows of WINDOW_SIZE bytes. Only absolute reads are performed on these buffers, so
+    // they may be shared by multiple threads.
+    private final ByteBuffer[] windows;
+
+    // The number of bytes of data.
+    private final long size;
+
+    // Chunk `i` contains the bytes from `boundaries[i]`, inclusive, to `boundaries[i + 1]`, exclusive.
+    private long[] boundaries;
+
+    // For each chunk, the start and finish offsets of each symbol table declaration that must be replayed before the
+    // chunk, in stream order. Chunks that share the same declarations share the same array.
+    private long[][] declarations;
+
+    private IonTextSplitter(ByteBuffer[] windows, long size) {
+        this.windows = windows;
+        this.size = size;
+    }
+
+    /**
+     * Splits the given Ion text into at most the given number of chunks.
+     * @param data UTF-8 Ion text. The data must not be modified while the returned instance is in use.
+     * @param numberOfChunks the maximum number of chunks, which must be positive.
+     * @return a new instance.
+     * @throws IonException if the data is binary or compressed.
+     */
+    public static IonTextSplitter split(byte[] data, int numberOfChunks) {
+        ByteBuffer[] windows = new ByteBuffer[(int) (((long) data.length + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+        for (int i = 0; i < windows.length; i++) {
+            int offset = i * WINDOW_SIZE;
+            windows[i] = ByteBuffer.wrap(data, offset, Math.min(WINDOW_SIZE, data.length - offset)).slice();
+        }
+        return split(windows, data.length, numberOfChunks);
+    }
+
+    /**
+     * Splits the Ion text in the given file into at most the given number of chunks. The file is memory-mapped, so
+     * files larger than 2 GB are supported. The file must not be modified while the returned instance is in use.
+     * @param file a file containing UTF-8 Ion text.
+     * @param numberOfChunks the maximum number of chunks, which must be positive.
+     * @return a new instance.
+     * @throws IOException if thrown when mapping the file.
+     * @throws IonException if the data is binary or compressed.
+     */
+    public static IonTextSplitter split(Path file, int numberOfChunks) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+            for (int i = 0; i < windows.length; i++) {
+                long offset = (long) i * WINDOW_SIZE;
+                // Mappings remain valid after the channel is closed.
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            }
+            return split(windows, size, numberOfChunks);
+        }
+    }
+
+    private static IonTextSplitter split(ByteBuffer[] windows, long size, int numberOfChunks) {
+        if (numberOfChunks < 1) {
+            throw new IllegalArgumentException("The number of chunks must be positive.");
+        }
+        IonTextSplitter splitter = new IonTextSplitter(windows, size);
+        if (splitter.byteAt(0) == 0xE0 || (splitter.byteAt(0) == 0x1F && splitter.byteAt(1) == 0x8B)) {
+            throw new IonException("Only uncompressed Ion text may be split.");
+        }
+        splitter.scan(numberOfChunks);
+        return splitter;
+    }
+
+    /**
+     * @return the byte at the given offset as an unsigned value, or -1 if the offset is outside the data.
+     */
+    private int byteAt(long offset) {
+        if (offset < 0 || offset >= size) {
+            return -1;
+        }
+        return windows[(int) (offset >>> WINDOW_SHIFT)].get((int) (offset & (WINDOW_SIZE - 1))) & 0xFF;
+    }
+
+    /**
+     * @return true if the given bytes occur at the given offset.
+     */
+    private boolean matches(long offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (byteAt(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\t' || b == '\r' || b == 0x0B || b == 0x0C;
+    }
+
+    private static boolean isIdentifierStart(int b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b == '_' || b == '$';
+    }
+
+    private static boolean isIdentifierPart(int b) {
+        return isIdentifierStart(b) || (b >= '0' && b <= '9');
+    }
+
+    /**
+     * @return the offset of the first byte at or after the given offset that is neither whitespace nor part of a
+     *  comment, or the size of the data if there is no such byte.
+     */
+    private long skipWhitespaceAndComments(long offset) {
+        while (true) {
+            int b = byteAt(offset);
+            if (isWhitespace(b)) {
+                offset++;
+            } else if (b == '/' && byteAt(offset + 1) == '/') {
+                offset += 2;
+                while (offset < size && byteAt(offset) != '\n') {
+                    offset++;
+                }
+            } else if (b == '/' && byteAt(offset + 1) == '*') {
+                offset += 2;
+                while (offset < size && !(byteAt(offset) == '*' && byteAt(offset + 1) == '/')) {
+                    offset++;
+                }
+                offset = Math.min(offset + 2, size);
+            } else {
+                return Math.min(offset, size);
+            }
+        }
+    }
+
+    /**
+     * @return the offset after the identifier or quoted symbol at the given offset, or -1 if there is none.
+     */
+    private long skipSymbol(long offset) {
+        int b = byteAt(offset);
+        if (isIdentifierStart(b)) {
+            do {
+                offset++;
+            } while (isIdentifierPart(byteAt(offset)));
+            return offset;
+        }
+        if (b == '\'' && !matches(offset, LONG_STRING_DELIMITER)) {
+            for (offset++; offset < size; offset++) {
+                b = byteAt(offset);
+                if (b == '\\') {
+                    offset++;
+                } else if (b == '\'') {
+                    return offset + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determines whether the top-level value that begins at the given offset is a local symbol table declaration,
+     * i.e. a struct whose first annotation is `$ion_symbol_table`. Like the text reader, this does not recognize the
+     * annotation when it is written as a symbol ID, although `imports: $3` is recognized as an append.
+     * @return the offset of the declaration's opening brace, or -1 if the value is not a declaration.
+     */
+    private long findDeclarationStruct(long offset) {
+        long end;
+        if (matches(offset, SYMBOL_TABLE) && !isIdentifierPart(byteAt(offset + SYMBOL_TABLE.length))) {
+            end = offset + SYMBOL_TABLE.length;
+        } else if (matches(offset, QUOTED_SYMBOL_TABLE)) {
+            end = offset + QUOTED_SYMBOL_TABLE.length;
+        } else {
+            return -1;
+        }
+        while (true) {
+            long position = skipWhitespaceAndComments(end);
+            if (byteAt(position) != ':' || byteAt(position + 1) != ':') {
+                return -1;
+            }
+            position = skipWhitespaceAndComments(position + 2);
+            if (byteAt(position) == '{') {
+                return byteAt(position + 1) == '{' ? -1 : position;
+            }
+            // Any additional annotations.
+            end = skipSymbol(position);
+            if (end < 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * @return true if the top-level value that begins at the given offset is an Ion version marker.
+     */
+    private boolean isIonVersionMarker(long offset) {
+        long end = offset + ION_1_0.length;
+        return matches(offset, ION_1_0)
+            && !isIdentifierPart(byteAt(end))
+            && byteAt(skipWhitespaceAndComments(end)) != ':';
+    }
+
+    /**
+     * Conservatively determines whether the symbol table declared by the struct between the given offsets may append
+     * to the previous symbol table, i.e. whether it may contain `imports: $ion_symbol_table`.
+     */
+    private boolean mayAppend(long structStart, long structEnd) {
+        for (long offset = structStart; offset < structEnd; offset++) {
+            if (byteAt(offset) == '$' && !isIdentifierPart(byteAt(offset - 1))) {
+                if (matches(offset, SYMBOL_TABLE) && !isIdentifierPart(byteAt(offset + SYMBOL_TABLE.length))) {
+                    return true;
+                }
+                if (matches(offset, SYMBOL_TABLE_SID) && !isIdentifierPart(byteAt(offset + SYMBOL_TABLE_SID.length))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the stream may be split after the whitespace at the given offset, which must be at the top
+     * level.
+     * @param lastSignificant the last byte before the given offset that is neither whitespace nor part of a comment.
+     * @param lastWasLongString true if that byte ended a long string.
+     */
+    private boolean isSplitPoint(long offset, int lastSignificant, boolean lastWasLongString) {
+        if (lastSignificant < 0 || lastSignificant == ':') {
+            // Before the first value, or between an annotation and its value.
+            return false;
+        }
+        long next = skipWhitespaceAndComments(offset + 1);
+        if (next >= size || byteAt(next) == ':') {
+            return false;
+        }
+        // Adjacent long strings are concatenated into a single value.
+        return !(lastWasLongString && matches(next, LONG_STRING_DELIMITER));
+    }
+
+    /**
+     * Scans the data, recording the chunk boundaries and the symbol table declarations in effect at each.
+     */
+    private void scan(int numberOfChunks) {
+        List<Long> chunkBoundaries = new ArrayList<>();
+        List<long[]> chunkDeclarations = new ArrayList<>();
+        chunkBoundaries.add(0L);
+        chunkDeclarations.add(NO_DECLARATIONS);
+        int targetIndex = 1;
+        long target = numberOfChunks == 1 ? Long.MAX_VALUE : size / numberOfChunks;
+
+        long[] currentDeclarations = NO_DECLARATIONS;
+        long declarationStart = -1;
+        long declarationStruct = -1;
+
+        int state = CODE;
+        int depth = 0;
+        boolean inLob = false;
+        int lastSignificant = -1;
+        boolean lastWasLongString = false;
+        boolean lastWasIdentifierPart = false;
+
+        for (long offset = 0; offset < size; offset++) {
+            int b = byteAt(offset);
+            switch (state) {
+                case SHORT_STRING:
+                case QUOTED_SYMBOL:
+                    if (b == '\\') {
+                        offset++;
+                    } else if (b == (state == SHORT_STRING ? '"' : '\'')) {
+                        state = CODE;
+                    }
+                    continue;
+                case LONG_STRING:
+                    if (b == '\\') {
+                        offset++;
+                    } else if (b == '\'' && matches(offset, LONG_STRING_DELIMITER)) {
+                        offset += LONG_STRING_DELIMITER.length - 1;
+                        lastWasLongString = true;
+                        state = CODE;
+                    }
+                    continue;
+                case LINE_COMMENT:
+                    if (b == '\n') {
+                        // The newline is processed as whitespace.
+                        offset--;
+                        state = CODE;
+                    }
+                    continue;
+                case BLOCK_COMMENT:
+                    if (b == '*' && byteAt(offset + 1) == '/') {
+                        offset++;
+                        state = CODE;
+                    }
+                    continue;
+                default:
+                    break;
+            }
+            if (isWhitespace(b)) {
+                lastWasIdentifierPart = false;
+                if (offset >= target && depth == 0 && !inLob && isSplitPoint(offset, lastSignificant, lastWasLongString)) {
+                    chunkBoundaries.add(offset + 1);
+                    chunkDeclarations.add(currentDeclarations);
+                    while (target <= offset) {
+                        targetIndex++;
+                        target = targetIndex >= numberOfChunks
+                            ? Long.MAX_VALUE
+                            : size / numberOfChunks * targetIndex + size % numberOfChunks * targetIndex / numberOfChunks;
+                    }
+                }
+                continue;
+            }
+            // Base64 lob content may contain "//" or "/*", which do not start comments.
+            if (!inLob && b == '/' && (byteAt(offset + 1) == '/' || byteAt(offset + 1) == '*')) {
+                state = byteAt(offset + 1) == '/' ? LINE_COMMENT : BLOCK_COMMENT;
+                offset++;
+                lastWasIdentifierPart = false;
+                continue;
+            }
+            boolean isLongString = b == '\'' && matches(offset, LONG_STRING_DELIMITER);
+            if (inLob) {
+                if (b == '}' && byteAt(offset + 1) == '}') {
+                    offset++;
+                    inLob = false;
+                }
+            } else if (depth == 0
+                && !isLongString
+                && lastSignificant != ':'
+                && !lastWasIdentifierPart
+                && (b == '$' || b == '\'')) {
+                // The start of a top-level value that may be a symbol table declaration or an Ion version marker.
+                long struct = findDeclarationStruct(offset);
+                if (struct >= 0) {
+                    declarationStart = offset;
+                    declarationStruct = struct;
+                } else if (isIonVersionMarker(offset)) {
+                    currentDeclarations = NO_DECLARATIONS;
+                }
+            } else if (b == '{' && byteAt(offset + 1) == '{') {
+                offset++;
+                inLob = true;
+            } else if (b == '{' || b == '[' || b == '(') {
+                depth++;
+            } else if (b == '}' || b == ']' || b == ')') {
+                depth--;
+                if (depth == 0 && declarationStart >= 0) {
+                    long declarationEnd = offset + 1;
+                    if (mayAppend(declarationStruct, declarationEnd)) {
+                        currentDeclarations = Arrays.copyOf(currentDeclarations, currentDeclarations.length + 2);
+                    } else {
+                        currentDeclarations = new long[2];
+                    }
+                    currentDeclarations[currentDeclarations.length - 2] = declarationStart;
+                    currentDeclarations[currentDeclarations.length - 1] = declarationEnd;
+                    declarationStart = -1;
+                }
+            }
+            if (b == '"') {
+                state = SHORT_STRING;
+            } else if (isLongString) {
+                offset += LONG_STRING_DELIMITER.length - 1;
+                state = LONG_STRING;
+            } else if (b == '\'') {
+                state = QUOTED_SYMBOL;
+            }
+            lastSignificant = b;
+            lastWasLongString = false;
+            lastWasIdentifierPart = isIdentifierPart(b);
+        }
+        chunkBoundaries.add(size);
+        boundaries = new long[chunkBoundaries.size()];
+        for (int i = 0; i < boundaries.length; i++) {
+            boundaries[i] = chunkBoundaries.get(i);
+        }
+        declarations = chunkDeclarations.toArray(new long[0][]);
+    }
+
+    /**
+     * @return the number of chunks.
+     */
+    public int size() {
+        return boundaries.length - 1;
+    }
+
+    /**
+     * @return the offset of the first byte of the chunk at the given index.
+     */
+    public long getStartOffset(int index) {
+        checkIndex(index);
+        return boundaries[index];
+    }
+
+    /**
+     * @return the number of bytes in the chunk at the given index.
+     */
+    public long getLength(int index) {
+        checkIndex(index);
+        return boundaries[index + 1] - boundaries[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Chunk index " + index + " is out of bounds.");
+        }
+    }
+
+    /**
+     * Creates a reader over the chunk at the given index. The reader behaves as if the stream ends after the chunk's
+     * last value.
+     * @param builder the builder used to construct the reader.
+     * @param index the index of the chunk.
+     * @return a new reader, positioned before the chunk's first value.
+     */
+    public IonReader newReader(IonReaderBuilder builder, int index) {
+        checkIndex(index);
+        long start = boundaries[index];
+        long finish = boundaries[index + 1];
+        long[] replay = declarations[index];
+        if (replay.length == 0
+            && start < finish
+            && windows[(int) (start >>> WINDOW_SHIFT)].hasArray()
+            && (start >>> WINDOW_SHIFT) == ((finish - 1) >>> WINDOW_SHIFT)) {
+            // The chunk can be read in place.
+            ByteBuffer chunk = windows[(int) (start >>> WINDOW_SHIFT)].duplicate();
+            chunk.limit((int) ((finish - 1) & (WINDOW_SIZE - 1)) + 1);
+            chunk.position((int) (start & (WINDOW_SIZE - 1)));
+            return builder.build(chunk);
+        }
+        InputStream in = new RangeInputStream(start, finish);
+        if (replay.length > 0) {
+            ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+            for (int i = 0; i < replay.length; i += 2) {
+                for (long offset = replay[i]; offset < replay[i + 1]; offset++) {
+                    prefix.write(byteAt(offset));
+                }
+                prefix.write('\n');
+            }
+            in = new SequenceInputStream(new ByteArrayInputStream(prefix.toByteArray()), in);
+        }
+        return builder.build(in);
+    }
+
+    /**
+     * Parses the chunks in parallel by submitting one task per chunk to the given executor. Each task receives its
+     * own reader over its chunk; see {@link #newReader(IonReaderBuilder, int)}.
+     * <p>
+     * Example usage:
+     * <pre>
+     * List&lt;CompletableFuture&lt;Long&gt;&gt; counts = splitter.readInParallel(
+     *     IonReaderBuilder.standard(), ForkJoinPool.commonPool(),
+     *     reader -&gt; { long count = 0; while (reader.next() != null) count++; return count; }
+     * );
+     * </pre>
+     * @param builder the builder used to construct each reader.
+     * @param executor the executor that runs the tasks.
+     * @param task the function applied to each chunk's reader. The reader is closed after the function returns.
+     * @return a future for the result of each chunk, in stream order.
+     * @param <T> the type of the result of each task.
+     */
+    public <T> List<CompletableFuture<T>> readInParallel(
+        IonReaderBuilder builder,
+        Executor executor,
+        Function<? super IonReader, ? extends T> task
+    ) {
+        List<CompletableFuture<T>> results = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            int index = i;
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try (IonReader reader = newReader(builder, index)) {
+                    return task.apply(reader);
+                } catch (IOException e) {
+                    throw new IonException(e);
+                }
+            }, executor));
+        }
+        return results;
+    }
+
+    /**
+     * Creates a parallel stream of the top-level values. The stream is ordered: operations such as
+     * {@link Stream#forEachOrdered(Consumer)} and {@link Stream#collect} observe the values in stream order, while
+     * {@link Stream#unordered()} and {@link Stream#forEach(Consumer)} allow values to be handed out as soon as they
+     * are parsed. Terminal operations run in the common {@link java.util.concurrent.ForkJoinPool} unless invoked from
+     * within another ForkJoinPool.
+     * @param system the system used to materialize the values.
+     * @param builder the builder used to construct each reader.
+     * @return a new parallel stream.
+     */
+    public Stream<IonValue> parallelStream(IonSystem system, IonReaderBuilder builder) {
+        return StreamSupport.stream(spliterator(system, builder), true);
+    }
+
+    /**
+     * Creates a spliterator over the top-level values. The spliterator splits at chunk boundaries, and each chunk is
+     * parsed by its own reader, which is created when the chunk is first advanced.
+     * @param system the system used to materialize the values.
+     * @param builder the builder used to construct each reader.
+     * @return a new spliterator.
+     */
+    public Spliterator<IonValue> spliterator(IonSystem system, IonReaderBuilder builder) {
+        return new ChunkSpliterator(system, builder, 0, size());
+    }
+
+    /**
+     * Reads the bytes between two offsets.
+     */
+    private final class RangeInputStream extends InputStream {
+
+        // The offset of the next byte to be read.
+        private long position;
+
+        // The offset after the last byte to be read.
+        private final long finish;
+
+        // A view of the window that contains the next byte, or null if it has not been created yet.
+        private ByteBuffer window = null;
+
+        RangeInputStream(long start, long finish) {
+            this.position = start;
+            this.finish = finish;
+        }
+
+        @Override
+        public int read() {
+            if (position >= finish) {
+                return -1;
+            }
+            return byteAt(position++);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= finish) {
+                return -1;
+            }
+            int windowOffset = (int) (position & (WINDOW_SIZE - 1));
+            if (window == null || windowOffset == 0) {
+                window = windows[(int) (position >>> WINDOW_SHIFT)].duplicate();
+            }
+            window.position(windowOffset);
+            int numberOfBytesToRead = (int) Math.min(Math.min(len, window.remaining()), finish - position);
+            window.get(b, off, numberOfBytesToRead);
+            position += numberOfBytesToRead;
+            return numberOfBytesToRead;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, finish - position);
+        }
+    }
+
+    private final class ChunkSpliterator implements Spliterator<IonValue> {
+
+        private final IonSystem system;
+        private final IonReaderBuilder builder;
+
+        // The index of the chunk that contains the next value to be produced.
+        private int fromIndex;
+
+        // The index after the last chunk to be read.
+        private final int toIndex;
+
+        // The reader over the chunk at `fromIndex`, or null if that chunk has not been advanced yet.
+        private IonReader reader = null;
+
+        ChunkSpliterator(IonSystem system, IonReaderBuilder builder, int fromIndex, int toIndex) {
+            this.system = system;
+            this.builder = builder;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        private void closeReader() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new IonException(e);
+            }
+            reader = null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IonValue> action) {
+            while (fromIndex < toIndex) {
+                if (reader == null) {
+                    reader = newReader(builder, fromIndex);
+                }
+                if (reader.next() != null) {
+                    action.accept(system.newValue(reader));
+                    return true;
+                }
+                closeReader();
+                fromIndex++;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<IonValue> trySplit() {
+            if (reader != null || toIndex - fromIndex < 2) {
+                return null;
+            }
+            int splitIndex = fromIndex + (toIndex - fromIndex) / 2;
+            Spliterator<IonValue> prefix = new ChunkSpliterator(system, builder, fromIndex, splitIndex);
+            fromIndex = splitIndex;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            // The number of values is unknown; chunks contain roughly the same number of bytes.
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
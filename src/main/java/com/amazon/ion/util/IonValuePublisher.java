@@ -0,0 +1,322 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonFeedableReader;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes the top-level values of an {@link IonReader} to a single {@link Subscriber}, honoring the subscriber's
+ * demand. Values are only decoded once they have been requested: each call to {@link Subscription#request(long)}
+ * decodes and delivers up to the requested number of values as a batch, so a slow subscriber never causes values to
+ * accumulate in memory. The reader is positioned on the next value ahead of demand, so the end of the stream is
+ * signalled via {@link Subscriber#onComplete()} as soon as the last value has been delivered, even if no more values
+ * are requested.
+ * <p>
+ * The {@link Subscriber} and {@link Subscription} interfaces have the same shape and contract as
+ * {@code java.util.concurrent.Flow.Subscriber} and {@code java.util.concurrent.Flow.Subscription} (and the
+ * equivalent Reactive Streams interfaces), which are not available on all Java versions supported by this library.
+ * Adapting between them requires only trivial delegation, e.g.:
+ * <pre>
+ * Flow.Publisher&lt;IonValue&gt; flowPublisher = flowSubscriber -&gt; publisher.subscribe(
+ *     new IonValuePublisher.Subscriber&lt;IonValue&gt;() {
+ *         public void onSubscribe(IonValuePublisher.Subscription s) {
+ *             flowSubscriber.onSubscribe(new Flow.Subscription() {
+ *                 public void request(long n) { s.request(n); }
+ *                 public void cancel() { s.cancel(); }
+ *             });
+ *         }
+ *         public void onNext(IonValue value) { flowSubscriber.onNext(value); }
+ *         public void onError(Throwable t) { flowSubscriber.onError(t); }
+ *         public void onComplete() { flowSubscriber.onComplete(); }
+ *     });
+ * </pre>
+ * Values are delivered on the thread that calls {@link Subscription#request(long)} (or {@link #resume()}); calls from
+ * multiple threads are serialized, so the reader is only ever used by one thread at a time. The reader must not be
+ * used by the application while the publisher is active, and remains the caller's responsibility to close.
+ * <p>
+ * When the reader is an {@link IonFeedableReader}, {@link IonReader#next()} returning {@code null} only means that the
+ * next value has not been fully fed yet. In that case, the publisher pauses; call {@link #resume()} after feeding
+ * more data, and {@link #complete()} once all data has been fed. For other readers, the end of the stream completes
+ * the subscriber.
+ *
+ * @param <T> the type of object produced from each top-level value.
+ */
+public final class IonValuePublisher<T> {
+
+    /**
+     * Receives the values produced by an {@link IonValuePublisher}. Has the same contract as
+     * {@code java.util.concurrent.Flow.Subscriber}.
+     *
+     * @param <T> the type of object received.
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked once, before any other method, with the subscription through which values may be requested.
+         *
+         * @param subscription the subscription.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next value. Only invoked in response to outstanding demand.
+         *
+         * @param item the value.
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the reader or the mapping function fails. No further methods will be invoked.
+         *
+         * @param throwable the failure.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when all values have been delivered. No further methods will be invoked.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Links an {@link IonValuePublisher} to its {@link Subscriber}. Has the same contract as
+     * {@code java.util.concurrent.Flow.Subscription}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of values to the subscriber's unfulfilled demand, and delivers as many values as
+         * possible, up to that demand.
+         *
+         * @param n the number of additional values requested. If not positive, the subscriber receives
+         * {@link Subscriber#onError(Throwable)} with an {@link IllegalArgumentException}.
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of values. Values already being delivered may still be received.
+         */
+        void cancel();
+    }
+
+    private final IonReader reader;
+    private final Function<? super IonReader, ? extends T> mapper;
+    private final boolean isFeedable;
+
+    // The subscription, or null if no subscriber has subscribed yet.
+    private volatile SubscriptionImpl subscription = null;
+
+    private IonValuePublisher(IonReader reader, Function<? super IonReader, ? extends T> mapper) {
+        this.reader = Objects.requireNonNull(reader);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.isFeedable = reader instanceof IonFeedableReader;
+    }
+
+    /**
+     * Creates a publisher of the reader's top-level values, each materialized as an {@link IonValue}.
+     *
+     * @param reader the reader, which should be positioned before the first value to publish.
+     * @param system the system used to materialize the values.
+     * @return a new publisher.
+     */
+    public static IonValuePublisher<IonValue> values(IonReader reader, IonSystem system) {
+        Objects.requireNonNull(system);
+        return new IonValuePublisher<>(reader, system::newValue);
+    }
+
+    /**
+     * Creates a publisher of objects produced from the reader's top-level values by the given function. The function
+     * is invoked with the reader positioned on each value, and may read it in any way, including stepping into it,
+     * provided that it leaves the reader at the same depth. This avoids materializing an {@link IonValue} when the
+     * application has its own representation of the data.
+     *
+     * @param reader the reader, which should be positioned before the first value to publish.
+     * @param mapper the function that produces an object from the current value. Must not return null.
+     * @param <T> the type of object produced.
+     * @return a new publisher.
+     */
+    public static <T> IonValuePublisher<T> mapped(IonReader reader, Function<? super IonReader, ? extends T> mapper) {
+        return new IonValuePublisher<>(reader, mapper);
+    }
+
+    /**
+     * Subscribes the given subscriber. Only one subscriber is supported; any additional subscriber receives
+     * {@link Subscriber#onError(Throwable)} with an {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber.
+     */
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        SubscriptionImpl newSubscription = new SubscriptionImpl(subscriber);
+        synchronized (this) {
+            if (subscription != null) {
+                newSubscription = null;
+            } else {
+                subscription = newSubscription;
+            }
+        }
+        if (newSubscription == null) {
+            subscriber.onSubscribe(CANCELLED_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("IonValuePublisher only supports a single subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(newSubscription);
+        // An empty stream completes without any demand.
+        newSubscription.drain();
+    }
+
+    /**
+     * Resumes the delivery of values after more data has been fed to an {@link IonFeedableReader}. Delivers as many
+     * newly-available values as the subscriber's outstanding demand allows. Has no effect if there is no subscriber.
+     */
+    public void resume() {
+        SubscriptionImpl current = subscription;
+        if (current != null) {
+            current.drain();
+        }
+    }
+
+    /**
+     * Signals that all data has been fed to an {@link IonFeedableReader}. Once the values that are still buffered have
+     * been requested and delivered, the subscriber is completed; if none remain, it is completed immediately. Has no
+     * effect for other readers, which complete at the end of the stream.
+     */
+    public void complete() {
+        SubscriptionImpl current = subscription;
+        if (current != null) {
+            current.isInputComplete = true;
+            current.drain();
+        }
+    }
+
+    private static final Subscription CANCELLED_SUBSCRIPTION = new Subscription() {
+        @Override
+        public void request(long n) {
+            // Nothing to deliver.
+        }
+
+        @Override
+        public void cancel() {
+            // Already cancelled.
+        }
+    };
+
+    private final class SubscriptionImpl implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        // The number of values requested but not yet delivered.
+        private final AtomicLong demand = new AtomicLong();
+
+        // The number of pending requests to drain. Only the thread that increments this from zero drains, which
+        // ensures that the reader is accessed by one thread at a time.
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        // Set when the subscription is cancelled or terminated, after which no more signals are sent.
+        private volatile boolean isDone = false;
+
+        // Set by `complete()` when a feedable reader will receive no more data.
+        private volatile boolean isInputComplete = false;
+
+        // A failure detected outside of the draining thread, to be delivered by the draining thread.
+        private volatile Throwable pendingError = null;
+
+        // Set when the reader is positioned on a value that has not yet been delivered. Only accessed by the draining
+        // thread.
+        private boolean isPositionedOnValue = false;
+
+        SubscriptionImpl(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException(
+                    "The number of values requested must be positive, but was " + n + "."
+                );
+            } else {
+                long current;
+                long updated;
+                do {
+                    current = demand.get();
+                    updated = current + n;
+                    if (updated < 0) {
+                        // Demand saturates at Long.MAX_VALUE, which means that the demand is unbounded.
+                        updated = Long.MAX_VALUE;
+                    }
+                } while (!demand.compareAndSet(current, updated));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isDone = true;
+        }
+
+        /**
+         * Delivers values until the demand is fulfilled, the reader runs out of data, or the subscription ends.
+         */
+        void drain() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                // Another thread (or an outer frame of this thread, if the subscriber requested more from within
+                // onNext) is draining, and will observe the updated state.
+                return;
+            }
+            int missed = 1;
+            do {
+                deliver();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            while (!isDone) {
+                Throwable error = pendingError;
+                if (error != null) {
+                    isDone = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                T item;
+                long requested;
+                try {
+                    // Position the reader ahead of demand so that the end of the stream is detected without waiting
+                    // for another request. Completion does not require demand.
+                    if (!isPositionedOnValue) {
+                        if (reader.next() == null) {
+                            if (!isFeedable || isInputComplete) {
+                                isDone = true;
+                                subscriber.onComplete();
+                            }
+                            return;
+                        }
+                        isPositionedOnValue = true;
+                    }
+                    requested = demand.get();
+                    if (requested == 0) {
+                        return;
+                    }
+                    item = Objects.requireNonNull(mapper.apply(reader), "The mapper must not return null.");
+                    isPositionedOnValue = false;
+                } catch (RuntimeException e) {
+                    isDone = true;
+                    subscriber.onError(e);
+                    return;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,656 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import static com.amazon.ion.facet.Facets.asFacet;
+import static com.amazon.ion.facet.Facets.assumeFacet;
+import static com.amazon.ion.impl._Private_IonConstants.BINARY_VERSION_MARKER_1_0;
+
+import com.amazon.ion.IonCatalog;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.OffsetSpan;
+import com.amazon.ion.SeekableReader;
+import com.amazon.ion.Span;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SystemSymbols;
+import com.amazon.ion.impl._Private_Utils;
+import com.amazon.ion.system.IonReaderBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An index of the top-level values in a binary Ion stream. For each top-level value, the index records the value's
+ * offset and length within the stream, along with the symbol table and Ion version in effect where the value occurs.
+ * This allows a reader to seek directly to any value, or to any contiguous range of values, without reading the
+ * values that precede it.
+ * <p>
+ * An index may be persisted as Ion using {@link #writeTo(IonWriter)} and restored using
+ * {@link #readFrom(IonReader, IonCatalog)}, e.g. as a small sidecar stored alongside a large binary Ion file.
+ * <p>
+ * Because each range of values can be read independently, an index also allows a single stream to be decoded by
+ * multiple threads; see {@link #readInParallel(IonReaderBuilder, byte[], int, Executor, Function)} and
+ * {@link #parallelStream(IonSystem, IonReaderBuilder, byte[])}. Building an index requires only a single pass that
+ * skips over each value using its length prefix, which is much cheaper than decoding the values.
+ * <p>
+ * Example usage:
+ * <pre>
+ * TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+ * ...
+ * IonReader reader = IonReaderBuilder.standard().build(data);
+ * index.seek(reader, 10_000_000);
+ * reader.next(); // The reader is now positioned on the top-level value at index 10,000,000.
+ * </pre>
+ * Once built or read, instances of this class are immutable and safe for use by multiple threads.
+ */
+public final class TopLevelValueIndex {
+
+    // The annotation on the struct that contains a persisted index.
+    private static final String INDEX_ANNOTATION = "top_level_value_index";
+
+    // The field that holds the list of contexts. Each context is a struct that holds an Ion version and, if a local
+    // symbol table is in effect, either that symbol table or, when the symbol table appends to the previous context's
+    // symbol table, the index of the previous context and the appended symbols.
+    private static final String CONTEXTS_FIELD = "contexts";
+    private static final String ION_VERSION_FIELD = "ion_version";
+    private static final String SYMBOL_TABLE_FIELD = "symbol_table";
+    private static final String BASE_FIELD = "base";
+    private static final String SYMBOLS_FIELD = "symbols";
+
+    // The field that holds the list of values. Each value is represented by three consecutive ints: the number of bytes
+    // between the end of the previous value (or the start of the stream) and the start of the value, the value's
+    // length, and the index of its context. Values are usually contiguous, so the first int is usually zero.
+    private static final String VALUES_FIELD = "values";
+
+    private static final String ION_1_1 = "$ion_1_1";
+    private static final byte[] BINARY_VERSION_MARKER_1_1 = {(byte) 0xE0, 0x01, 0x01, (byte) 0xEA};
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // The start offset of each value.
+    private long[] startOffsets = new long[INITIAL_CAPACITY];
+
+    // The offset after the last byte of each value.
+    private long[] finishOffsets = new long[INITIAL_CAPACITY];
+
+    // The index of each value's context.
+    private int[] contextIndices = new int[INITIAL_CAPACITY];
+
+    // The number of values in the index.
+    private int size = 0;
+
+    // The symbol table of each context.
+    private final List<SymbolTable> contextSymbolTables = new ArrayList<>();
+
+    // The Ion version ID of each context.
+    private final List<String> contextIonVersionIds = new ArrayList<>();
+
+    private TopLevelValueIndex() {
+        // Use build or readFrom.
+    }
+
+    /**
+     * Builds an index by reading all remaining top-level values from the given reader. The reader must be a binary
+     * reader positioned at the top level.
+     * @param reader the reader.
+     * @return a new index.
+     * @throws IllegalArgumentException if the given reader is not a binary reader.
+     */
+    public static TopLevelValueIndex build(IonReader reader) {
+        if (reader.getDepth() != 0) {
+            throw new IllegalArgumentException("The reader must be positioned at the top level.");
+        }
+        SpanProvider spanProvider = asFacet(SpanProvider.class, reader);
+        TopLevelValueIndex index = new TopLevelValueIndex();
+        while (reader.next() != null) {
+            Span span = spanProvider == null ? null : spanProvider.currentSpan();
+            String ionVersionId = _Private_Utils.binarySpanIonVersionId(span);
+            if (ionVersionId == null) {
+                throw new IllegalArgumentException("Only binary readers may be indexed.");
+            }
+            OffsetSpan offsetSpan = span.asFacet(OffsetSpan.class);
+            index.add(
+                offsetSpan.getStartOffset(),
+                offsetSpan.getFinishOffset(),
+                index.findOrAddContext(reader.getSymbolTable(), ionVersionId)
+            );
+        }
+        return index;
+    }
+
+    /**
+     * Reads an index that was written using {@link #writeTo(IonWriter)} from the next value of the given reader.
+     * @param reader the reader.
+     * @param catalog the catalog used to resolve the shared symbol tables imported by the indexed data.
+     * @return a new index.
+     * @throws IonException if the next value is not a valid index.
+     */
+    public static TopLevelValueIndex readFrom(IonReader reader, IonCatalog catalog) {
+        if (reader.next() != IonType.STRUCT || !Arrays.asList(reader.getTypeAnnotations()).contains(INDEX_ANNOTATION)) {
+            throw new IonException("Expected a struct annotated with " + INDEX_ANNOTATION + ".");
+        }
+        TopLevelValueIndex index = new TopLevelValueIndex();
+        reader.stepIn();
+        while (reader.next() != null) {
+            String fieldName = reader.getFieldName();
+            if (CONTEXTS_FIELD.equals(fieldName)) {
+                index.readContexts(reader, catalog);
+            } else if (VALUES_FIELD.equals(fieldName)) {
+                index.readValues(reader);
+            }
+        }
+        reader.stepOut();
+        for (int i = 0; i < index.size; i++) {
+            if (index.contextIndices[i] < 0 || index.contextIndices[i] >= index.contextSymbolTables.size()) {
+                throw new IonException("Invalid context index in " + INDEX_ANNOTATION + ".");
+            }
+        }
+        return index;
+    }
+
+    private void readContexts(IonReader reader, IonCatalog catalog) {
+        reader.stepIn();
+        while (reader.next() != null) {
+            String ionVersionId = SystemSymbols.ION_1_0;
+            SymbolTable symbolTable = null;
+            int baseIndex = -1;
+            List<String> appendedSymbols = null;
+            reader.stepIn();
+            while (reader.next() != null) {
+                String fieldName = reader.getFieldName();
+                if (ION_VERSION_FIELD.equals(fieldName)) {
+                    ionVersionId = reader.stringValue();
+                } else if (SYMBOL_TABLE_FIELD.equals(fieldName)) {
+                    symbolTable = _Private_Utils.newLocalSymtab(catalog, reader);
+                    symbolTable.makeReadOnly();
+                } else if (BASE_FIELD.equals(fieldName)) {
+                    baseIndex = reader.intValue();
+                } else if (SYMBOLS_FIELD.equals(fieldName)) {
+                    appendedSymbols = new ArrayList<>();
+                    reader.stepIn();
+                    while (reader.next() != null) {
+                        appendedSymbols.add(reader.stringValue());
+                    }
+                    reader.stepOut();
+                }
+            }
+            reader.stepOut();
+            if (!SystemSymbols.ION_1_0.equals(ionVersionId) && !ION_1_1.equals(ionVersionId)) {
+                throw new IonException("Unsupported Ion version in " + INDEX_ANNOTATION + ": " + ionVersionId);
+            }
+            if (baseIndex >= 0) {
+                if (baseIndex >= contextSymbolTables.size() || !contextSymbolTables.get(baseIndex).isLocalTable()) {
+                    throw new IonException("Invalid base context index in " + INDEX_ANNOTATION + ".");
+                }
+                symbolTable = appendSymbols(contextSymbolTables.get(baseIndex), appendedSymbols);
+            }
+            contextSymbolTables.add(symbolTable == null ? _Private_Utils.systemSymtab(1) : symbolTable);
+            contextIonVersionIds.add(ionVersionId);
+        }
+        reader.stepOut();
+    }
+
+    private void readValues(IonReader reader) {
+        reader.stepIn();
+        long previousFinishOffset = 0;
+        while (reader.next() != null) {
+            long startOffset = previousFinishOffset + reader.longValue();
+            if (reader.next() == null) {
+                throw new IonException("Incomplete value entry in " + INDEX_ANNOTATION + ".");
+            }
+            long length = reader.longValue();
+            if (reader.next() == null) {
+                throw new IonException("Incomplete value entry in " + INDEX_ANNOTATION + ".");
+            }
+            previousFinishOffset = startOffset + length;
+            add(startOffset, previousFinishOffset, reader.intValue());
+        }
+        reader.stepOut();
+    }
+
+    /**
+     * @return a new local symbol table with the given base table's imports and symbols, followed by the given symbols.
+     */
+    private static SymbolTable appendSymbols(SymbolTable base, List<String> appendedSymbols) {
+        List<String> symbols = new ArrayList<>();
+        Iterator<String> baseSymbols = base.iterateDeclaredSymbolNames();
+        while (baseSymbols.hasNext()) {
+            symbols.add(baseSymbols.next());
+        }
+        if (appendedSymbols != null) {
+            symbols.addAll(appendedSymbols);
+        }
+        return _Private_Utils.newLocalSymtab(base.getSystemSymbolTable(), base.getImportedTables(), symbols);
+    }
+
+    /**
+     * @return true if the given symbol table is a local symbol table that begins with the imports and symbols of the
+     *  given base table, which is also a local symbol table.
+     */
+    private static boolean isAppendTo(SymbolTable symbolTable, SymbolTable base) {
+        if (!symbolTable.isLocalTable() || !base.isLocalTable() || symbolTable.getMaxId() < base.getMaxId()) {
+            return false;
+        }
+        if (!Arrays.equals(symbolTable.getImportedTables(), base.getImportedTables())) {
+            return false;
+        }
+        Iterator<String> symbols = symbolTable.iterateDeclaredSymbolNames();
+        Iterator<String> baseSymbols = base.iterateDeclaredSymbolNames();
+        while (baseSymbols.hasNext()) {
+            if (!Objects.equals(symbols.next(), baseSymbols.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the context with the given symbol table and Ion version, adding a new context if the
+     * most recently added context does not match.
+     */
+    private int findOrAddContext(SymbolTable symbolTable, String ionVersionId) {
+        int lastIndex = contextSymbolTables.size() - 1;
+        if (lastIndex >= 0
+            && contextSymbolTables.get(lastIndex) == symbolTable
+            && contextIonVersionIds.get(lastIndex).equals(ionVersionId)) {
+            return lastIndex;
+        }
+        contextSymbolTables.add(symbolTable);
+        contextIonVersionIds.add(ionVersionId);
+        return lastIndex + 1;
+    }
+
+    private void add(long startOffset, long finishOffset, int contextIndex) {
+        if (size == startOffsets.length) {
+            int newCapacity = size * 2;
+            startOffsets = Arrays.copyOf(startOffsets, newCapacity);
+            finishOffsets = Arrays.copyOf(finishOffsets, newCapacity);
+            contextIndices = Arrays.copyOf(contextIndices, newCapacity);
+        }
+        startOffsets[size] = startOffset;
+        finishOffsets[size] = finishOffset;
+        contextIndices[size] = contextIndex;
+        size++;
+    }
+
+    /**
+     * Writes this index as a single Ion value.
+     * @param writer the writer.
+     * @throws IOException if thrown by the writer.
+     */
+    public void writeTo(IonWriter writer) throws IOException {
+        writer.setTypeAnnotations(INDEX_ANNOTATION);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName(CONTEXTS_FIELD);
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < contextSymbolTables.size(); i++) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName(ION_VERSION_FIELD);
+            writer.writeString(contextIonVersionIds.get(i));
+            SymbolTable symbolTable = contextSymbolTables.get(i);
+            if (i > 0 && isAppendTo(symbolTable, contextSymbolTables.get(i - 1))) {
+                // Symbol tables are commonly appended to as a stream grows. Writing only the appended symbols keeps
+                // the size of the index proportional to the size of the data's symbol tables.
+                SymbolTable base = contextSymbolTables.get(i - 1);
+                writer.setFieldName(BASE_FIELD);
+                writer.writeInt(i - 1);
+                writer.setFieldName(SYMBOLS_FIELD);
+                writer.stepIn(IonType.LIST);
+                Iterator<String> symbols = symbolTable.iterateDeclaredSymbolNames();
+                for (int j = base.getMaxId() - base.getImportedMaxId(); j > 0; j--) {
+                    symbols.next();
+                }
+                while (symbols.hasNext()) {
+                    writer.writeString(symbols.next());
+                }
+                writer.stepOut();
+            } else if (symbolTable.isLocalTable()) {
+                writer.setFieldName(SYMBOL_TABLE_FIELD);
+                symbolTable.writeTo(writer);
+            }
+            writer.stepOut();
+        }
+        writer.stepOut();
+        writer.setFieldName(VALUES_FIELD);
+        writer.stepIn(IonType.LIST);
+        long previousFinishOffset = 0;
+        for (int i = 0; i < size; i++) {
+            writer.writeInt(startOffsets[i] - previousFinishOffset);
+            previousFinishOffset = finishOffsets[i];
+            writer.writeInt(finishOffsets[i] - startOffsets[i]);
+            writer.writeInt(contextIndices[i]);
+        }
+        writer.stepOut();
+        writer.stepOut();
+    }
+
+    /**
+     * @return the number of top-level values in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of a top-level value.
+     * @return the offset of the given value's first byte within the source.
+     */
+    public long getStartOffset(int index) {
+        checkRange(index, index + 1);
+        return startOffsets[index];
+    }
+
+    /**
+     * @param index the index of a top-level value.
+     * @return the number of bytes in the given value's encoding, including any annotation wrapper.
+     */
+    public long getLength(int index) {
+        checkRange(index, index + 1);
+        return finishOffsets[index] - startOffsets[index];
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex >= toIndex) {
+            throw new IndexOutOfBoundsException(
+                String.format("Invalid range [%d, %d) for index of size %d.", fromIndex, toIndex, size)
+            );
+        }
+    }
+
+    /**
+     * Gets a span covering the top-level values in the given range, which may be passed to
+     * {@link SeekableReader#hoist(Span)} on any binary reader constructed over the indexed data.
+     * @param fromIndex the index of the first value in the span, inclusive.
+     * @param toIndex the index of the last value in the span, exclusive.
+     * @return a new span.
+     * @throws IndexOutOfBoundsException if the range is empty or out of bounds.
+     */
+    public Span getSpan(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        // Any symbol tables or Ion version markers that occur between values within the range are included in the
+        // span, so the reader will process them normally.
+        int contextIndex = contextIndices[fromIndex];
+        return _Private_Utils.newSeekableBinarySpan(
+            startOffsets[fromIndex],
+            finishOffsets[toIndex - 1],
+            contextSymbolTables.get(contextIndex),
+            contextIonVersionIds.get(contextIndex)
+        );
+    }
+
+    /**
+     * Seeks the given reader to the top-level value at the given index. After this method returns, the reader will be
+     * positioned just before the value; the caller must call {@link IonReader#next()} to begin reading it. The reader
+     * will behave as if the stream ends after the value.
+     * @param reader a reader over the indexed data, which must have been constructed from a byte array.
+     * @param index the index of the value.
+     * @throws com.amazon.ion.facet.UnsupportedFacetException if the reader is not seekable.
+     */
+    public void seek(IonReader reader, int index) {
+        seek(reader, index, index + 1);
+    }
+
+    /**
+     * Seeks the given reader to the range of top-level values between the given indices. After this method returns,
+     * the reader will be positioned just before the first value in the range; the caller must call
+     * {@link IonReader#next()} to begin reading. The reader will behave as if the stream ends after the last value in
+     * the range.
+     * @param reader a reader over the indexed data, which must have been constructed from a byte array.
+     * @param fromIndex the index of the first value in the range, inclusive.
+     * @param toIndex the index of the last value in the range, exclusive.
+     * @throws com.amazon.ion.facet.UnsupportedFacetException if the reader is not seekable.
+     */
+    public void seek(IonReader reader, int fromIndex, int toIndex) {
+        assumeFacet(SeekableReader.class, reader).hoist(getSpan(fromIndex, toIndex));
+    }
+
+    /**
+     * Creates a reader over the range of top-level values between the given indices, reading only the bytes in that
+     * range from the given channel. This allows random access into sources too large to be held in a byte array.
+     * @param builder the builder used to construct the reader. It must produce seekable readers from byte arrays.
+     * @param channel a channel over the indexed data. Its position is modified by this method.
+     * @param fromIndex the index of the first value in the range, inclusive.
+     * @param toIndex the index of the last value in the range, exclusive.
+     * @return a new reader, positioned just before the first value in the range.
+     * @throws IOException if thrown when reading from the channel.
+     * @throws IonException if the range is too large to be held in a byte array, or if the channel ends before the
+     *  end of the range.
+     */
+    public IonReader newReader(
+        IonReaderBuilder builder,
+        SeekableByteChannel channel,
+        int fromIndex,
+        int toIndex
+    ) throws IOException {
+        checkRange(fromIndex, toIndex);
+        int contextIndex = contextIndices[fromIndex];
+        String ionVersionId = contextIonVersionIds.get(contextIndex);
+        // The bytes are prefixed with an IVM so that the builder recognizes them as binary Ion.
+        byte[] ivm = ION_1_1.equals(ionVersionId) ? BINARY_VERSION_MARKER_1_1 : BINARY_VERSION_MARKER_1_0;
+        long length = finishOffsets[toIndex - 1] - startOffsets[fromIndex];
+        if (length > Integer.MAX_VALUE - ivm.length) {
+            throw new IonException("The requested range is too large to be read into a byte array.");
+        }
+        byte[] data = new byte[ivm.length + (int) length];
+        System.arraycopy(ivm, 0, data, 0, ivm.length);
+        ByteBuffer buffer = ByteBuffer.wrap(data, ivm.length, (int) length);
+        channel.position(startOffsets[fromIndex]);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IonException("Unexpected EOF.");
+            }
+        }
+        IonReader reader = builder.build(data);
+        assumeFacet(SeekableReader.class, reader).hoist(_Private_Utils.newSeekableBinarySpan(
+            ivm.length,
+            data.length,
+            contextSymbolTables.get(contextIndex),
+            ionVersionId
+        ));
+        return reader;
+    }
+
+    /**
+     * Finds the index at which to split the given range of values so that the two resulting ranges contain roughly the
+     * same number of bytes.
+     * @return an index greater than `fromIndex` and less than `toIndex`. `toIndex - fromIndex` must be at least 2.
+     */
+    private int findSplitIndex(int fromIndex, int toIndex) {
+        long target = startOffsets[fromIndex] + (finishOffsets[toIndex - 1] - startOffsets[fromIndex]) / 2;
+        int splitIndex = Arrays.binarySearch(startOffsets, fromIndex + 1, toIndex, target);
+        if (splitIndex < 0) {
+            // Not found; convert the insertion point to the first value that starts after the target.
+            splitIndex = -splitIndex - 1;
+        }
+        return Math.min(Math.max(splitIndex, fromIndex + 1), toIndex - 1);
+    }
+
+    /**
+     * Divides the indexed values into at most the given number of contiguous chunks containing roughly the same number
+     * of bytes.
+     * @return the boundaries of the chunks: chunk `i` contains the values from `boundaries[i]`, inclusive, to
+     *  `boundaries[i + 1]`, exclusive.
+     */
+    private int[] findChunkBoundaries(int numberOfChunks) {
+        int[] boundaries = new int[Math.min(numberOfChunks, size) + 1];
+        int numberOfBoundaries = 1;
+        long totalLength = finishOffsets[size - 1] - startOffsets[0];
+        for (int i = 1; i < boundaries.length - 1; i++) {
+            long target = startOffsets[0] + totalLength / (boundaries.length - 1) * i;
+            int boundary = Arrays.binarySearch(startOffsets, boundaries[numberOfBoundaries - 1] + 1, size, target);
+            if (boundary < 0) {
+                boundary = -boundary - 1;
+            }
+            if (boundary < size) {
+                boundaries[numberOfBoundaries++] = boundary;
+            }
+        }
+        boundaries[numberOfBoundaries++] = size;
+        return Arrays.copyOf(boundaries, numberOfBoundaries);
+    }
+
+    /**
+     * Decodes the indexed values in parallel. The values are divided into at most `numberOfChunks` contiguous chunks
+     * containing roughly the same number of bytes, and each chunk is submitted to the given executor. Each task
+     * receives its own reader over the data, seeked to its chunk with the symbol table in effect at the start of the
+     * chunk; the reader behaves as if the stream ends after the chunk's last value.
+     * <p>
+     * Example usage:
+     * <pre>
+     * List&lt;CompletableFuture&lt;Long&gt;&gt; counts = index.readInParallel(
+     *     IonReaderBuilder.standard(), data, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool(),
+     *     reader -&gt; { long count = 0; while (reader.next() != null) count++; return count; }
+     * );
+     * </pre>
+     * @param builder the builder used to construct each reader. It must produce seekable readers from byte arrays.
+     * @param data the indexed data.
+     * @param numberOfChunks the maximum number of chunks, which must be positive.
+     * @param executor the executor that runs the tasks.
+     * @param task the function applied to each chunk's reader. The reader is closed after the function returns.
+     * @return a future for the result of each chunk, in stream order.
+     * @param <T> the type of the result of each task.
+     */
+    public <T> List<CompletableFuture<T>> readInParallel(
+        IonReaderBuilder builder,
+        byte[] data,
+        int numberOfChunks,
+        Executor executor,
+        Function<? super IonReader, ? extends T> task
+    ) {
+        if (numberOfChunks < 1) {
+            throw new IllegalArgumentException("The number of chunks must be positive.");
+        }
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+        int[] boundaries = findChunkBoundaries(numberOfChunks);
+        List<CompletableFuture<T>> results = new ArrayList<>(boundaries.length - 1);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            int fromIndex = boundaries[i];
+            int toIndex = boundaries[i + 1];
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try (IonReader reader = builder.build(data)) {
+                    seek(reader, fromIndex, toIndex);
+                    return task.apply(reader);
+                } catch (IOException e) {
+                    throw new IonException(e);
+                }
+            }, executor));
+        }
+        return results;
+    }
+
+    /**
+     * Creates a parallel stream of the indexed values. The stream's spliterator splits at top-level value boundaries
+     * into ranges containing roughly the same number of bytes, and each range is decoded by its own reader. Terminal
+     * operations run in the common {@link java.util.concurrent.ForkJoinPool} unless invoked from within another
+     * ForkJoinPool.
+     * @param system the system used to materialize the values.
+     * @param builder the builder used to construct each reader. It must produce seekable readers from byte arrays.
+     * @param data the indexed data.
+     * @return a new parallel stream.
+     */
+    public Stream<IonValue> parallelStream(IonSystem system, IonReaderBuilder builder, byte[] data) {
+        return StreamSupport.stream(spliterator(system, builder, data), true);
+    }
+
+    /**
+     * Creates a spliterator over the indexed values. The spliterator splits at top-level value boundaries into ranges
+     * containing roughly the same number of bytes. Each range is decoded by its own reader, which is created when the
+     * range is first advanced.
+     * @param system the system used to materialize the values.
+     * @param builder the builder used to construct each reader. It must produce seekable readers from byte arrays.
+     * @param data the indexed data.
+     * @return a new spliterator.
+     */
+    public Spliterator<IonValue> spliterator(IonSystem system, IonReaderBuilder builder, byte[] data) {
+        return new ValueSpliterator(system, builder, data, 0, size);
+    }
+
+    private final class ValueSpliterator implements Spliterator<IonValue> {
+
+        private final IonSystem system;
+        private final IonReaderBuilder builder;
+        private final byte[] data;
+
+        // The index of the next value to be produced.
+        private int fromIndex;
+
+        // The index after the last value to be produced.
+        private final int toIndex;
+
+        // The reader over this spliterator's range, or null if no value has been produced yet.
+        private IonReader reader = null;
+
+        ValueSpliterator(IonSystem system, IonReaderBuilder builder, byte[] data, int fromIndex, int toIndex) {
+            this.system = system;
+            this.builder = builder;
+            this.data = data;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IonValue> action) {
+            if (fromIndex >= toIndex) {
+                return false;
+            }
+            if (reader == null) {
+                reader = builder.build(data);
+                seek(reader, fromIndex, toIndex);
+            }
+            if (reader.next() == null) {
+                throw new IonException("The data does not match the index.");
+            }
+            IonValue value = system.newValue(reader);
+            if (++fromIndex == toIndex) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new IonException(e);
+                }
+            }
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public Spliterator<IonValue> trySplit() {
+            if (reader != null || toIndex - fromIndex < 2) {
+                return null;
+            }
+            int splitIndex = findSplitIndex(fromIndex, toIndex);
+            Spliterator<IonValue> prefix = new ValueSpliterator(system, builder, data, fromIndex, splitIndex);
+            fromIndex = splitIndex;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -58,6 +58,7 @@ public class BinaryTest extends IonTestCase
     }
 
     public static String MAGIC_COOKIE = "E0 01 00 EA ";
+    public static String MAGIC_COOKIE_1_1 = "E0 01 01 EA ";
 
     // MC + $ion_1_0::{symbols : null.struct}
     private static String EMPTY_HEADER = MAGIC_COOKIE;
@@ -0,0 +1,110 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion;
+
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that timestamps in the common {@code yyyy-mm-ddThh:mm:ss(.fff...)(Z|+hh:mm|-hh:mm)} layout are parsed
+ * and printed exactly as they are by the general implementation.
+ */
+public class TimestampFixedLayoutTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2024-02-29T12:34:56Z",
+        "2024-02-29T12:34:56+05:30",
+        "2024-02-29T12:34:56-08:00",
+        "2024-02-29T12:34:56-00:00",
+        "2024-02-29T12:34:56.7Z",
+        "2024-02-29T12:34:56.000Z",
+        "2024-02-29T12:34:56.789-08:00",
+        "1969-12-31T23:59:59.999999999Z",
+        "2000-01-01T00:00:00.123456789012345678+23:59",
+        "2000-01-01T00:00:00.1234567890123456789-23:59",
+        "0001-01-01T00:00:00Z",
+        "9999-12-31T23:59:59.999999999999999999Z",
+        "2024-02-29T12:34Z",
+        "2024-02-29",
+        "2024T"
+    })
+    public void roundTrip(String text) {
+        Timestamp timestamp = Timestamp.valueOf(text);
+        assertEquals(text, timestamp.toString());
+        assertEquals(timestamp, Timestamp.valueOf(timestamp.toString()));
+    }
+
+    @Test
+    public void derivedTimestampsPrintTheirOwnFraction() {
+        Timestamp timestamp = Timestamp.valueOf("2024-02-29T23:59:59.789-08:00");
+        assertEquals("2024-03-01T07:59:59.789Z", timestamp.toZString());
+        assertEquals("2024-02-29T23:59:59.790-08:00", timestamp.adjustMillis(1).toString());
+        assertEquals("2024-03-01T07:59:59.789Z", timestamp.withLocalOffset(0).toString());
+        assertEquals("2024-03-01T00:00:00.789-08:00", timestamp.addSecond(1).toString());
+    }
+
+    @Test
+    public void fieldsMatchFactoryMethods() {
+        assertEquals(
+            Timestamp.forSecond(2024, 1, 2, 3, 4, new BigDecimal("5.678"), -480),
+            Timestamp.valueOf("2024-01-02T03:04:05.678-08:00")
+        );
+        assertEquals(
+            Timestamp.forSecond(2024, 1, 2, 3, 4, 5, 90),
+            Timestamp.valueOf("2024-01-02T03:04:05+01:30")
+        );
+        Timestamp unknownOffset = Timestamp.valueOf("2024-01-02T03:04:05.000000-00:00");
+        assertNull(unknownOffset.getLocalOffset());
+        assertEquals(new BigDecimal("5.000000"), unknownOffset.getDecimalSecond());
+        assertEquals(Timestamp.Precision.SECOND, unknownOffset.getPrecision());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2023-02-29T00:00:00Z",
+        "2024-13-01T00:00:00Z",
+        "2024-01-01T24:00:00Z",
+        "2024-01-01T00:60:00Z",
+        "2024-01-01T00:00:60Z",
+        "2024-01-01T00:00:00+24:00",
+        "2024-01-01T00:00:00+00:60",
+        "2024-01-01T00:00:00.Z",
+        "2024-01-01T00:00:00",
+        "2024-01-01T00:00:00+0100",
+        "0000-01-01T00:00:00Z",
+        "0001-01-01T00:00:00+00:01",
+        "2024-01-01T0a:00:00Z"
+    })
+    public void invalidTimestampsAreRejected(String text) {
+        assertThrows(IllegalArgumentException.class, () -> Timestamp.valueOf(text));
+    }
+
+    @Test
+    public void textReaderAndWriter() throws Exception {
+        String text = "2024-02-29T12:34:56.789-08:00 2024-02-29T12:34:56Z "
+            + "[2000-01-01T00:00:00.12345678901234567890-00:00,2024-02-29T12:34Z] 2024-02-29";
+        StringBuilder out = new StringBuilder();
+        try (IonReader reader = IonReaderBuilder.standard().build(text);
+             IonWriter writer = IonTextWriterBuilder.standard().build(out)) {
+            writer.writeValues(reader);
+        }
+        assertEquals(text, out.toString());
+
+        try (IonReader reader = IonReaderBuilder.standard().build(text)) {
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            assertEquals(Timestamp.valueOf("2024-02-29T12:34:56.789-08:00"), reader.timestampValue());
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            assertEquals(Timestamp.forSecond(2024, 2, 29, 12, 34, 56, 0), reader.timestampValue());
+        }
+    }
+}
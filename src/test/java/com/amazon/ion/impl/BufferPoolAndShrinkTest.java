@@ -0,0 +1,255 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BufferPoolAndShrinkTest {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int LARGE_VALUE_SIZE = 100_000;
+    private static final int NUMBER_OF_SMALL_VALUES = 20;
+
+    /**
+     * A stream that does not reveal its size, so that the reader does not size its buffer to fit the data.
+     */
+    private static InputStream unsizedStream(byte[] data) {
+        return new InputStream() {
+            private final ByteArrayInputStream delegate = new ByteArrayInputStream(data);
+
+            @Override
+            public int read() {
+                return delegate.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return delegate.read(b, off, Math.min(len, 100));
+            }
+        };
+    }
+
+    /**
+     * @return a large string followed by small ints.
+     */
+    private static byte[] largeValueFollowedBySmallValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeString(new String(new char[LARGE_VALUE_SIZE]).replace('\0', 'a'));
+            for (int i = 0; i < NUMBER_OF_SMALL_VALUES; i++) {
+                writer.writeInt(i);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static IonReader newReader(IonBufferConfiguration configuration, boolean incremental, byte[] data) {
+        return IonReaderBuilder.standard()
+            .withBufferConfiguration(configuration)
+            .withIncrementalReadingEnabled(incremental)
+            .build(unsizedStream(data));
+    }
+
+    private static int bufferSize(IonReader reader) {
+        return ((IonCursorBinary) reader).buffer.length;
+    }
+
+    private static void readLargeValue(IonReader reader) {
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals(LARGE_VALUE_SIZE, reader.stringValue().length());
+    }
+
+    @ParameterizedTest(name = "incremental={0}")
+    @ValueSource(booleans = {true, false})
+    public void bufferShrinksAfterUnderusedValues(boolean incremental) throws Exception {
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(INITIAL_BUFFER_SIZE)
+            .withShrinkThreshold(8)
+            .build();
+        try (IonReader reader = newReader(configuration, incremental, largeValueFollowedBySmallValues())) {
+            readLargeValue(reader);
+            assertTrue(bufferSize(reader) >= LARGE_VALUE_SIZE);
+            for (int i = 0; i < NUMBER_OF_SMALL_VALUES; i++) {
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(i, reader.intValue());
+            }
+            assertNull(reader.next());
+            assertEquals(INITIAL_BUFFER_SIZE, bufferSize(reader));
+        }
+    }
+
+    @Test
+    public void bufferDoesNotShrinkBeforeThreshold() throws Exception {
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(INITIAL_BUFFER_SIZE)
+            .withShrinkThreshold(NUMBER_OF_SMALL_VALUES + 10)
+            .build();
+        try (IonReader reader = newReader(configuration, true, largeValueFollowedBySmallValues())) {
+            readLargeValue(reader);
+            int grownSize = bufferSize(reader);
+            while (reader.next() != null) {
+                reader.intValue();
+            }
+            assertEquals(grownSize, bufferSize(reader));
+        }
+    }
+
+    @Test
+    public void bufferDoesNotShrinkByDefault() throws Exception {
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(INITIAL_BUFFER_SIZE)
+            .build();
+        try (IonReader reader = newReader(configuration, true, largeValueFollowedBySmallValues())) {
+            readLargeValue(reader);
+            int grownSize = bufferSize(reader);
+            while (reader.next() != null) {
+                reader.intValue();
+            }
+            assertEquals(grownSize, bufferSize(reader));
+        }
+    }
+
+    @Test
+    public void repeatedLargeValuesPreventShrinking() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            String large = new String(new char[LARGE_VALUE_SIZE]).replace('\0', 'a');
+            for (int i = 0; i < 5; i++) {
+                writer.writeString(large);
+                for (int j = 0; j < 3; j++) {
+                    writer.writeInt(j);
+                }
+            }
+        }
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(INITIAL_BUFFER_SIZE)
+            .withShrinkThreshold(4)
+            .build();
+        try (IonReader reader = newReader(configuration, true, out.toByteArray())) {
+            readLargeValue(reader);
+            int grownSize = bufferSize(reader);
+            int numberOfValues = 1;
+            while (reader.next() != null) {
+                numberOfValues++;
+                assertEquals(grownSize, bufferSize(reader));
+            }
+            assertEquals(20, numberOfValues);
+        }
+    }
+
+    /**
+     * Wraps a pool, counting acquisitions and releases.
+     */
+    private static class CountingPool implements IonBufferConfiguration.BufferPool {
+        final IonBufferConfiguration.BufferPool delegate = IonBufferConfiguration.newSizeClassBufferPool(4, 1 << 20);
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger released = new AtomicInteger();
+        final Set<byte[]> releasedBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Override
+        public byte[] acquire(int minimumSize) {
+            acquired.incrementAndGet();
+            return delegate.acquire(minimumSize);
+        }
+
+        @Override
+        public void release(byte[] buffer) {
+            released.incrementAndGet();
+            releasedBuffers.add(buffer);
+            delegate.release(buffer);
+        }
+    }
+
+    @ParameterizedTest(name = "incremental={0}")
+    @ValueSource(booleans = {true, false})
+    public void buffersAreAcquiredFromAndReleasedToPool(boolean incremental) throws Exception {
+        CountingPool pool = new CountingPool();
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(INITIAL_BUFFER_SIZE)
+            .withShrinkThreshold(8)
+            .withBufferPool(pool)
+            .build();
+        byte[] data = largeValueFollowedBySmallValues();
+        try (IonReader reader = newReader(configuration, incremental, data)) {
+            // Reading all values requires growing the buffer and then shrinking it.
+            readLargeValue(reader);
+            while (reader.next() != null) {
+                reader.intValue();
+            }
+        }
+        assertTrue(pool.acquired.get() > 2);
+        assertEquals(pool.acquired.get(), pool.released.get());
+        try (IonReader reader = newReader(configuration, incremental, data)) {
+            // A buffer released by the first reader is reused.
+            assertTrue(pool.releasedBuffers.contains(((IonCursorBinary) reader).buffer));
+            readLargeValue(reader);
+        }
+        assertEquals(pool.acquired.get(), pool.released.get());
+    }
+
+    @Test
+    public void sizeClassPool() {
+        IonBufferConfiguration.BufferPool pool = IonBufferConfiguration.newSizeClassBufferPool(1, 4096);
+        byte[] buffer = pool.acquire(1000);
+        assertEquals(1024, buffer.length);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(600));
+        assertNotSame(buffer, pool.acquire(600));
+        // Each size class retains at most one buffer.
+        byte[] first = pool.acquire(2048);
+        byte[] second = pool.acquire(2048);
+        pool.release(first);
+        pool.release(second);
+        assertSame(first, pool.acquire(2048));
+        assertNotSame(second, pool.acquire(2048));
+        // Buffers larger than the maximum pooled size are neither rounded up nor retained.
+        byte[] large = pool.acquire(5000);
+        assertEquals(5000, large.length);
+        pool.release(large);
+        byte[] largePowerOfTwo = pool.acquire(8192);
+        pool.release(largePowerOfTwo);
+        assertNotSame(largePowerOfTwo, pool.acquire(8192));
+    }
+
+    @Test
+    public void configurationCopiesPoolAndShrinkThreshold() {
+        IonBufferConfiguration.BufferPool pool = IonBufferConfiguration.newSizeClassBufferPool(1, 4096);
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withBufferPool(pool)
+            .withShrinkThreshold(3)
+            .build();
+        IonBufferConfiguration copy = IonBufferConfiguration.Builder.from(configuration).build();
+        assertSame(pool, copy.getBufferPool());
+        assertEquals(3, copy.getShrinkThreshold());
+        assertNull(IonBufferConfiguration.DEFAULT.getBufferPool());
+        assertEquals(0, IonBufferConfiguration.DEFAULT.getShrinkThreshold());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IonBufferConfiguration.Builder.standard().withShrinkThreshold(-1).build()
+        );
+    }
+}
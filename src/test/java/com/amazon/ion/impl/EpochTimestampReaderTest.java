@@ -0,0 +1,154 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.EpochTimestampReader;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+
+import static com.amazon.ion.BinaryTest.MAGIC_COOKIE_1_1;
+import static com.amazon.ion.BinaryTest.hexToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EpochTimestampReaderTest {
+
+    private static final String TIMESTAMPS =
+        "2024T " +
+        "2024-02T " +
+        "2024-02-29 " +
+        "2024-02-29T12:34Z " +
+        "2024-02-29T12:34-00:00 " +
+        "2024-02-29T12:34:56+05:30 " +
+        "2024-02-29T12:34:56.789-08:00 " +
+        "1969-12-31T23:59:59.999999999Z " +
+        "1970-01-01T00:00:00.000001Z " +
+        "2000-01-01T00:00:00.123456789123Z " +
+        "2000-01-01T00:00:00.10000000000000000000000000001Z " +
+        "2262-04-11T23:47:16.854775807Z " +
+        "1677-09-21T00:12:43.145224192Z " +
+        "1600-03-01T00:00Z " +
+        "1583-01-01T00:00:01.5Z " +
+        "1066-10-14T09:00:00.1+00:00 " +
+        "0001-01-01T00:00:00Z " +
+        "9999-12-31T23:59:59.999999999-00:00";
+
+    private static long expectedEpochNanos(Timestamp timestamp) {
+        return timestamp.getDecimalMillis().movePointRight(6).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private static int expectedOffsetMinutes(Timestamp timestamp) {
+        Integer offset = timestamp.getLocalOffset();
+        return offset == null ? EpochTimestampReader.UNKNOWN_OFFSET_MINUTES : offset;
+    }
+
+    /**
+     * Asserts that the facet provides results equivalent to those derived from the Timestamp for each value.
+     */
+    private static void assertAllEquivalent(IonReader reader) {
+        EpochTimestampReader timestamps = reader.asFacet(EpochTimestampReader.class);
+        assertNotNull(timestamps);
+        int numberOfValues = 0;
+        while (reader.next() != null) {
+            numberOfValues++;
+            // Read the components first, so that no Timestamp has yet been materialized.
+            long millis = timestamps.timestampEpochMillis();
+            int offset = timestamps.timestampOffsetMinutes();
+            Timestamp expected = reader.timestampValue();
+            assertEquals(expected.getMillis(), millis, expected.toString());
+            assertEquals(expectedOffsetMinutes(expected), offset, expected.toString());
+            if (expected.getYear() > 1677 && expected.getYear() < 2262) {
+                assertEquals(expectedEpochNanos(expected), timestamps.timestampEpochNanos(), expected.toString());
+            } else if (expected.getYear() < 1677 || expected.getYear() > 2262) {
+                assertThrows(IonException.class, timestamps::timestampEpochNanos);
+            }
+        }
+        assertEquals(18, numberOfValues);
+    }
+
+    private static byte[] toBinary(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+             IonReader reader = IonReaderBuilder.standard().build(text)) {
+            writer.writeValues(reader);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void text() {
+        assertAllEquivalent(IonReaderBuilder.standard().build(TIMESTAMPS));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void binary(boolean constructFromBytes) throws Exception {
+        byte[] data = toBinary(TIMESTAMPS);
+        try (IonReader reader = constructFromBytes
+            ? IonReaderBuilder.standard().build(data)
+            : IonReaderBuilder.standard().build(new ByteArrayInputStream(data))) {
+            assertAllEquivalent(reader);
+        }
+    }
+
+    @Test
+    public void nanosecondBoundaries() throws Exception {
+        byte[] data = toBinary("2262-04-11T23:47:16.854775807Z 2262-04-11T23:47:16.854775808Z 1677-09-21T00:12:43.145224192Z 1677-09-21T00:12:43.145224191Z");
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            EpochTimestampReader timestamps = reader.asFacet(EpochTimestampReader.class);
+            reader.next();
+            assertEquals(Long.MAX_VALUE, timestamps.timestampEpochNanos());
+            reader.next();
+            assertThrows(IonException.class, timestamps::timestampEpochNanos);
+            reader.next();
+            assertEquals(Long.MIN_VALUE, timestamps.timestampEpochNanos());
+            reader.next();
+            assertThrows(IonException.class, timestamps::timestampEpochNanos);
+        }
+    }
+
+    @Test
+    public void ion_1_1() {
+        // 2024-05-06T07:08:09.123Z as a short-form timestamp with millisecond precision.
+        try (IonReader reader = IonReaderBuilder.standard().build(hexToBytes(MAGIC_COOKIE_1_1 + "75 B6 32 07 99 EC 01"))) {
+            EpochTimestampReader timestamps = reader.asFacet(EpochTimestampReader.class);
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            Timestamp expected = Timestamp.valueOf("2024-05-06T07:08:09.123Z");
+            assertEquals(expected.getMillis(), timestamps.timestampEpochMillis());
+            assertEquals(expectedEpochNanos(expected), timestamps.timestampEpochNanos());
+            assertEquals(0, timestamps.timestampOffsetMinutes());
+            assertEquals(expected, reader.timestampValue());
+        } catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    @ParameterizedTest(name = "binary={0}")
+    @ValueSource(booleans = {true, false})
+    public void invalidType(boolean binary) throws Exception {
+        String data = "null.timestamp 1";
+        try (IonReader reader = binary ? IonReaderBuilder.standard().build(toBinary(data)) : IonReaderBuilder.standard().build(data)) {
+            EpochTimestampReader timestamps = reader.asFacet(EpochTimestampReader.class);
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            assertNull(reader.timestampValue());
+            assertThrows(IllegalStateException.class, timestamps::timestampEpochMillis);
+            assertEquals(IonType.INT, reader.next());
+            assertThrows(IllegalStateException.class, timestamps::timestampOffsetMinutes);
+        }
+    }
+}
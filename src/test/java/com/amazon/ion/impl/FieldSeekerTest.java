@@ -0,0 +1,149 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.FieldSeeker;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldSeekerTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final byte[] STRUCT_1_0 = SYSTEM.getLoader()
+        .load("{a: 1, b: {x: [1, 2]}, c: \"three\", b: 4, name: 5} 6")
+        .getBytes();
+
+    // {hi: 1, name: 2}, with "hi" encoded inline and "name" encoded as a system symbol ID.
+    private static final byte[] STRUCT_1_1 = new byte[] {
+        (byte) 0xE0, 0x01, 0x01, (byte) 0xEA,
+        (byte) 0xF3, (byte) 0xFD, 0x68, 0x69, 0x51, 0x01, 0x09, 0x51, 0x02, 0x01, (byte) 0xF0
+    };
+
+    private static IonReader newReader(boolean constructFromBytes, byte[] data) {
+        if (constructFromBytes) {
+            return IonReaderBuilder.standard().build(data);
+        }
+        return IonReaderBuilder.standard().build(new ByteArrayInputStream(data));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void seekToFieldByName(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = newReader(constructFromBytes, STRUCT_1_0)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRING, seeker.seekToField("c"));
+            assertEquals("three", reader.stringValue());
+            assertEquals(IonType.INT, seeker.seekToField("b"));
+            assertEquals(4, reader.intValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals("name", reader.getFieldName());
+            assertNull(seeker.seekToField("b"));
+            assertNull(reader.getType());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(6, reader.intValue());
+        }
+    }
+
+    @Test
+    public void seekToFieldBySymbolId() throws Exception {
+        try (IonReader reader = newReader(true, STRUCT_1_0)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            reader.next();
+            reader.stepIn();
+            // 'name' is system symbol 4.
+            assertEquals(IonType.INT, seeker.seekToField(4));
+            assertEquals("name", reader.getFieldName());
+            assertEquals(5, reader.intValue());
+            assertNull(seeker.seekToField(4));
+        }
+    }
+
+    @Test
+    public void seekToInlineAndSymbolIdFieldNamesInIon11() throws Exception {
+        try (IonReader reader = newReader(true, STRUCT_1_1)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, seeker.seekToField("name"));
+            assertEquals(2, reader.intValue());
+        }
+        try (IonReader reader = newReader(true, STRUCT_1_1)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            reader.next();
+            reader.stepIn();
+            assertEquals(IonType.INT, seeker.seekToField("hi"));
+            assertEquals(1, reader.intValue());
+            assertNull(seeker.seekToField("hi"));
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void seekToFieldByNameAcrossSymbolTables(boolean constructFromBytes) throws Exception {
+        // Each stream declares its own local symbols, so "a" and "b" swap symbol IDs between the two.
+        byte[] first = SYSTEM.getLoader().load("{a: 1, b: 2}").getBytes();
+        byte[] second = SYSTEM.getLoader().load("{b: 3, a: 4}").getBytes();
+        byte[] data = new byte[first.length + second.length];
+        System.arraycopy(first, 0, data, 0, first.length);
+        System.arraycopy(second, 0, data, first.length, second.length);
+        try (IonReader reader = newReader(constructFromBytes, data)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            for (int expected : new int[] {2, 3}) {
+                assertEquals(IonType.STRUCT, reader.next());
+                reader.stepIn();
+                assertEquals(IonType.INT, seeker.seekToField("b"));
+                assertEquals(expected, reader.intValue());
+                reader.stepOut();
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void seekToFieldWhoseNameHasMultipleSymbolIds() throws Exception {
+        byte[] data = new byte[] {
+            (byte) 0xE0, 0x01, 0x00, (byte) 0xEA,
+            // $ion_symbol_table::{symbols:["b", "b"]}
+            (byte) 0xE9, (byte) 0x81, (byte) 0x83, (byte) 0xD6, (byte) 0x87, (byte) 0xB4, (byte) 0x81, 0x62, (byte) 0x81, 0x62,
+            // {$10: 1, $11: 2}
+            (byte) 0xD6, (byte) 0x8A, 0x21, 0x01, (byte) 0x8B, 0x21, 0x02
+        };
+        try (IonReader reader = newReader(true, data)) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            reader.next();
+            reader.stepIn();
+            assertEquals(IonType.INT, seeker.seekToField("b"));
+            assertEquals(1, reader.intValue());
+            assertEquals(IonType.INT, seeker.seekToField("b"));
+            assertEquals(2, reader.intValue());
+            assertNull(seeker.seekToField("b"));
+        }
+    }
+
+    @Test
+    public void seekOutsideOfStructFails() throws Exception {
+        try (IonReader reader = newReader(true, SYSTEM.getLoader().load("[{a: 1}]").getBytes())) {
+            FieldSeeker seeker = reader.asFacet(FieldSeeker.class);
+            assertThrows(IllegalStateException.class, () -> seeker.seekToField("a"));
+            reader.next();
+            reader.stepIn();
+            assertThrows(IllegalStateException.class, () -> seeker.seekToField(10));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonFeedableReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonFeedableReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonBufferConfiguration SMALL_BUFFER_CONFIGURATION = IonBufferConfiguration.Builder.standard()
+        .withInitialBufferSize(32)
+        .withMaximumBufferSize(1024)
+        .onOversizedValue(() -> {
+            throw new IllegalStateException("Unexpected oversized value.");
+        })
+        .onOversizedSymbolTable(() -> {
+            throw new IllegalStateException("Unexpected oversized symbol table.");
+        })
+        .onData(numberOfBytes -> { })
+        .build();
+
+    /**
+     * @return a stream of structs that contains local symbol table appends, so that chunk boundaries fall inside
+     *  both system and user values.
+     */
+    private static byte[] structStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out)) {
+            for (int i = 0; i < 200; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("field" + (i % 30));
+                writer.writeString(new String(new char[i % 37]).replace('\0', 'x'));
+                writer.setFieldName("index");
+                writer.writeInt(i);
+                writer.stepOut();
+                if (i % 40 == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static Stream<Arguments> chunkedFeeds() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int chunkSize : new int[] {1, 3, 7, 64, Integer.MAX_VALUE}) {
+            for (boolean limitBuffer : new boolean[] {false, true}) {
+                for (boolean directBuffers : new boolean[] {false, true}) {
+                    arguments.add(Arguments.of(chunkSize, limitBuffer, directBuffers));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "chunkSize={0}, limitBuffer={1}, directBuffers={2}")
+    @MethodSource("chunkedFeeds")
+    public void feedInChunks(int chunkSize, boolean limitBuffer, boolean directBuffers) throws Exception {
+        byte[] data = structStream();
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        if (limitBuffer) {
+            builder.withBufferConfiguration(SMALL_BUFFER_CONFIGURATION);
+        }
+        List<IonValue> actual = new ArrayList<>();
+        try (IonFeedableReader reader = builder.buildFeedable()) {
+            for (int i = 0; i < data.length; i += chunkSize) {
+                int length = Math.min(chunkSize, data.length - i);
+                if (directBuffers) {
+                    ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+                    chunk.put(data, i, length);
+                    chunk.flip();
+                    reader.feed(chunk);
+                    assertFalse(chunk.hasRemaining());
+                } else {
+                    reader.feed(data, i, length);
+                }
+                while (reader.next() != null) {
+                    actual.add(SYSTEM.newValue(reader));
+                }
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void feedHeapByteBuffer() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("foo::{bar: 123} baz").getBytes();
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 4);
+        buffer.position(2);
+        buffer.put(data);
+        buffer.position(2).limit(2 + data.length);
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            reader.feed(buffer.slice());
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("foo", reader.getTypeAnnotations()[0]);
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(123, reader.intValue());
+            reader.stepOut();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("baz", reader.stringValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void nextReturnsNullUntilValueIsComplete() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("\"abcdefghijklmnopqrstuvwxyz\"").getBytes();
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            reader.feed(data, 0, data.length - 1);
+            assertNull(reader.next());
+            assertNull(reader.next());
+            reader.feed(data, data.length - 1, 1);
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("abcdefghijklmnopqrstuvwxyz", reader.stringValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void isAwaitingDataDistinguishesPartialValuesFromTheEndOfData() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("\"abcdefghijklmnopqrstuvwxyz\" 123").getBytes();
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            assertNull(reader.next());
+            assertFalse(reader.isAwaitingData());
+            // The int 123 occupies the final two bytes.
+            reader.feed(data, 0, data.length - 3);
+            assertNull(reader.next());
+            assertTrue(reader.isAwaitingData());
+            reader.feed(data, data.length - 3, 1);
+            assertEquals(IonType.STRING, reader.next());
+            assertNull(reader.next());
+            assertFalse(reader.isAwaitingData());
+            reader.feed(data, data.length - 2, 1);
+            assertNull(reader.next());
+            assertTrue(reader.isAwaitingData());
+            reader.feed(data, data.length - 1, 1);
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(123, reader.intValue());
+            assertNull(reader.next());
+            assertFalse(reader.isAwaitingData());
+        }
+    }
+
+    @Test
+    public void isAwaitingDataWithinSymbolTable() throws Exception {
+        byte[] data = structStream();
+        // The stream begins with a local symbol table, which is longer than the IVM and the first few bytes.
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            reader.feed(data, 0, 8);
+            assertNull(reader.next());
+            assertTrue(reader.isAwaitingData());
+            reader.feed(data, 8, data.length - 8);
+            int count = 0;
+            while (reader.next() != null) {
+                count++;
+            }
+            assertEquals(200, count);
+            assertFalse(reader.isAwaitingData());
+        }
+    }
+
+    @Test
+    public void closeWithIncompleteValueFails() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("[1, 2, 3]").getBytes();
+        IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable();
+        reader.feed(data, 0, data.length - 1);
+        assertNull(reader.next());
+        assertThrows(IonException.class, reader::close);
+    }
+
+    @Test
+    public void feedInvalidRangeFails() throws Exception {
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.feed(new byte[4], 2, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.feed(new byte[4], -1, 1));
+        }
+    }
+}
@@ -967,6 +967,86 @@ public class IonReaderContinuableTopLevelBinaryTest {
         assertThrows(IonException.class, () -> reader.next());
     }
 
+    /**
+     * An InputStream that makes its bytes available a chunk at a time. Until the next chunk is released, reads report
+     * the end of the stream, as a non-blocking source with no data available would.
+     */
+    private static class ChunkedInputStream extends InputStream {
+
+        private final byte[] bytes;
+        private int position = 0;
+        private int limit = 0;
+
+        ChunkedInputStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * @param numberOfBytes the number of additional bytes to make available.
+         * @return false if all bytes had already been made available; otherwise, true.
+         */
+        boolean release(int numberOfBytes) {
+            if (limit == bytes.length) {
+                return false;
+            }
+            limit = Math.min(bytes.length, limit + numberOfBytes);
+            return true;
+        }
+
+        @Override
+        public int read() {
+            return position < limit ? bytes[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= limit) {
+                return -1;
+            }
+            int numberOfBytes = Math.min(len, limit - position);
+            System.arraycopy(bytes, position, b, off, numberOfBytes);
+            position += numberOfBytes;
+            return numberOfBytes;
+        }
+    }
+
+    @ParameterizedTest(name = "chunkSize={0}")
+    @ValueSource(ints = {1, 2, 3, 7, 16})
+    public void incrementalLstAppendsFromPlainInputStream(int chunkSize) throws Exception {
+        // Running out of data partway through a symbol table append must not cause the following value to be
+        // surfaced before it is complete.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = writerBuilder.withLocalSymbolTableAppendEnabled().build(out)) {
+            for (int i = 0; i < 20; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("field" + i);
+                writer.writeSymbol("symbol" + i);
+                writer.stepOut();
+                writer.flush();
+            }
+        }
+        byte[] bytes = out.toByteArray();
+        totalBytesInStream = bytes.length;
+        ChunkedInputStream input = new ChunkedInputStream(bytes);
+        reader = readerFor(input);
+        int numberOfValues = 0;
+        while (input.release(chunkSize)) {
+            while (reader.next() != null) {
+                reader.stepIn();
+                assertEquals(IonType.SYMBOL, reader.next());
+                assertEquals("field" + numberOfValues, reader.getFieldName());
+                assertEquals("symbol" + numberOfValues, reader.stringValue());
+                reader.stepOut();
+                numberOfValues++;
+            }
+        }
+        assertEquals(20, numberOfValues);
+        closeAndCount();
+    }
+
     @Test
     public void incrementalSymbolTables() throws Exception {
         ResizingPipedInputStream pipe = new ResizingPipedInputStream(128);
@@ -0,0 +1,414 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonFeedableReader;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.Timestamp;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.amazon.ion.BinaryTest.MAGIC_COOKIE_1_1;
+import static com.amazon.ion.BinaryTest.hexToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the continuable binary reader's support for Ion 1.1. Input data is expressed as strings of space-separated
+ * hexadecimal pairs, which are prepended with the Ion 1.1 IVM.
+ */
+public class IonReaderContinuableTopLevelBinary_1_1Test {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Converts a string of space-separated hexadecimal pairs, prepended with the Ion 1.1 IVM, to bytes.
+     */
+    private static byte[] ion_1_1(String hexBytes) {
+        return hexToBytes(MAGIC_COOKIE_1_1 + hexBytes);
+    }
+
+    private static IonReader readerFor(boolean constructFromBytes, String hexBytes) {
+        byte[] bytes = ion_1_1(hexBytes);
+        if (constructFromBytes) {
+            return IonReaderBuilder.standard().build(bytes);
+        }
+        return IonReaderBuilder.standard().build(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Reads the given Ion 1.1 data fully and asserts that it is equivalent to the given text Ion.
+     */
+    private static void assertEquivalent(String expectedIon, String hexBytes) {
+        IonDatagram expected = SYSTEM.getLoader().load(expectedIon);
+        for (boolean constructFromBytes : new boolean[] {true, false}) {
+            try (IonReader reader = readerFor(constructFromBytes, hexBytes)) {
+                IonDatagram actual = SYSTEM.getLoader().load(reader);
+                assertEquals(expected, actual, "constructFromBytes=" + constructFromBytes);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "0              | 50",
+        "1              | 51 01",
+        "-1             | 51 FF",
+        "128            | 52 80 00",
+        "-129           | 52 7F FF",
+        "9223372036854775807 | 58 FF FF FF FF FF FF FF 7F",
+        "-18446744073709551616 | F5 13 00 00 00 00 00 00 00 00 FF",
+        "true           | 5E",
+        "false          | 5F",
+        "0e0            | 5A",
+        "1e0            | 5B 3C 00",
+        "-2e0           | 5B C0 00",
+        "0.5e0          | 5C 3F 00 00 00",
+        "1.5e0          | 5D 3F F8 00 00 00 00 00 00",
+        "0d0            | 60",
+        "0.00           | 6F FD",
+        "-0.            | 61 01",
+        "1.5            | 62 1F FF",
+        "-123.456       | 64 04 EE F0 FD",
+        "2024T          | 70 36",
+        "2024-05T       | 71 B6 02",
+        "2024-05-06     | 72 B6 32",
+        "2024-05-06T07:08Z | 73 B6 32 07 09",
+        "2024-05-06T07:08-00:00 | 73 B6 32 07 01",
+        "2024-05-06T07:08:09Z | 74 B6 32 07 99 00",
+        "2024-05-06T07:08:09.123Z | 75 B6 32 07 99 EC 01",
+        "2024-05-06T07:08+01:15 | 78 B6 32 07 E9 01",
+        "1800T          | F7 05 08 07",
+        "hello          | 95 68 65 6C 6C 6F",
+        "name           | E1 04",
+        "$0             | E1 00",
+        "$ion           | E1 01",
+        "\"hello\"      | 85 68 65 6C 6C 6F",
+        "\"\"           | 80",
+        "{{AQID}}       | FE 07 01 02 03",
+        "{{\"ab\"}}     | FF 05 61 62",
+        "null           | EA",
+        "null.string    | EB 05",
+        "null.symbol    | EB 06",
+        "null.struct    | EB 0B",
+    })
+    public void scalars(String expectedIon, String hexBytes) {
+        assertEquivalent(expectedIon, hexBytes);
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "[1]                  | A2 51 01",
+        "[1, [], []] 2        | F1 51 01 F1 F0 A0 F0 51 02",
+        "[1, 2]               | FA 09 51 01 51 02",
+        "(1 name)             | B4 51 01 E1 04",
+        "(1 name)             | F2 51 01 E1 04 F0",
+        "{name: 1}            | C3 09 51 01",
+        "{name: 1, a: true}   | C7 09 51 01 01 FF 61 5E",
+        "{name: 1}            | FC 07 09 51 01",
+        "{a: 1}               | D4 FF 61 51 01",
+        "{a: 1}               | FD 09 FF 61 51 01",
+        "{'': 1}              | D4 01 90 51 01",
+        "{$0: 1}              | D5 01 E1 00 51 01",
+        "{a: 1, name: [2]} false | F3 FF 61 51 01 09 F1 51 02 F0 01 F0 5F",
+        "{}                   | F3 01 F0",
+        "{a: {b: true}}       | F3 FF 61 F3 FF 62 5E 01 F0 01 F0",
+    })
+    public void containers(String expectedIon, String hexBytes) {
+        assertEquivalent(expectedIon, hexBytes);
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "name::1              | E4 09 51 01",
+        "name::version::1     | E5 09 0B 51 01",
+        "name::version::1     | E6 05 09 0B 51 01",
+        "a::1                 | E7 FF 61 51 01",
+        "a::name::1           | E8 FF 61 09 51 01",
+        "a::name::bc::1       | E9 0D FF 61 09 FD 62 63 51 01",
+        "name::[a::1]         | E4 09 F1 E7 FF 61 51 01 F0",
+        "1 2                  | EC 51 01 ED 05 00 00 51 02",
+    })
+    public void annotationsAndNops(String expectedIon, String hexBytes) {
+        assertEquivalent(expectedIon, hexBytes);
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "name::true           | EC E4 09 5E",
+        "[name::true]         | A4 EC E4 09 5E",
+        "(name::true)         | F2 EC E4 09 5E F0",
+        "1 name::true         | 51 01 ED 05 00 00 E4 09 5E",
+    })
+    public void annotationsAfterNops(String expectedIon, String hexBytes) {
+        // Annotation sequences do not declare a length, so the end of a preceding NOP must not be checked against
+        // the end of the annotated value.
+        assertEquivalent(expectedIon, hexBytes);
+        IonDatagram expected = SYSTEM.getLoader().load(expectedIon);
+        IonReaderBuilder incremental = IonReaderBuilder.standard().withIncrementalReadingEnabled(true);
+        try (IonReader reader = incremental.build(new ByteArrayInputStream(ion_1_1(hexBytes)))) {
+            assertEquals(expected, SYSTEM.getLoader().load(reader));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        // $ion_symbol_table::{symbols:["abc"]} $10
+        "abc                  | E4 07 D7 0F F1 83 61 62 63 F0 E1 0A",
+        // $ion_symbol_table annotation with inline text.
+        "b::1 a               | E7 FF 62 51 01 E7 DF 24 69 6F 6E 5F 73 79 6D 62 6F 6C 5F 74 61 62 6C 65 D0 91 61",
+    })
+    public void localSymbolTables(String expectedIon, String hexBytes) {
+        assertEquivalent(expectedIon, hexBytes);
+    }
+
+    /**
+     * An InputStream that returns at most one byte from each read, which requires the reader to refill its buffer
+     * before every byte.
+     */
+    private static class OneBytePerReadInputStream extends InputStream {
+
+        private final byte[] data;
+        private int offset = 0;
+
+        OneBytePerReadInputStream(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return offset < data.length ? data[offset++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int c = read();
+            if (c < 0) {
+                return -1;
+            }
+            b[off] = (byte) c;
+            return 1;
+        }
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "[1, [], []] 2        | F1 51 01 F1 F0 A0 F0 51 02",
+        "(1 name)             | F2 51 01 E1 04 F0",
+        "{a: 1}               | D4 FF 61 51 01",
+        "{a: 1}               | FD 09 FF 61 51 01",
+        "{'': 1}              | D4 01 90 51 01",
+        "{$0: 1}              | D5 01 E1 00 51 01",
+        "{a: 1, name: [2]} false | F3 FF 61 51 01 09 F1 51 02 F0 01 F0 5F",
+        "{}                   | F3 01 F0",
+        "{a: {b: true}}       | F3 FF 61 F3 FF 62 5E 01 F0 01 F0",
+        "abc                  | E4 07 D7 0F F1 83 61 62 63 F0 E1 0A",
+    })
+    public void inputSplitAtEveryByte(String expectedIon, String hexBytes) throws Exception {
+        IonDatagram expected = SYSTEM.getLoader().load(expectedIon);
+        byte[] data = ion_1_1(hexBytes);
+        for (boolean isIncremental : new boolean[] {true, false}) {
+            IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(isIncremental);
+            try (IonReader reader = builder.build(new OneBytePerReadInputStream(data))) {
+                assertEquals(expected, SYSTEM.getLoader().load(reader), "isIncremental=" + isIncremental);
+            }
+        }
+        List<IonValue> actual = new ArrayList<>();
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            for (int i = 0; i < data.length; i++) {
+                reader.feed(data, i, 1);
+                while (reader.next() != null) {
+                    actual.add(SYSTEM.newValue(reader));
+                }
+            }
+        }
+        assertEquals(new ArrayList<>(expected), actual);
+    }
+
+    // The hex for 100 bytes of inline text, which exceeds the maximum buffer size used by `boundedReaderFor`.
+    private static final String ONE_HUNDRED_BYTES_OF_TEXT = String.join("", Collections.nCopies(100, "61 "));
+
+    /**
+     * Creates a reader over the given stream whose buffer may not grow beyond 64 bytes.
+     */
+    private static IonReader boundedReaderFor(InputStream input, AtomicInteger oversizedValues, AtomicInteger oversizedSymbolTables) {
+        IonBufferConfiguration configuration = IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(32)
+            .withMaximumBufferSize(64)
+            .onOversizedValue(oversizedValues::incrementAndGet)
+            .onOversizedSymbolTable(oversizedSymbolTables::incrementAndGet)
+            .onData(numberOfBytes -> {})
+            .build();
+        return IonReaderBuilder.standard().withBufferConfiguration(configuration).build(input);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "Two FlexSym annotations        | FA B2 01 E8 72 FE %s FF 62 60 51 01 51 02",
+        "Variable-length annotations    | FA BA 01 E9 A2 01 72 FE %s FF 62 60 51 01 51 02",
+        "Inline field name              | FD B2 01 72 FE %s 51 05 FF 62 51 01 51 02",
+        "Inline field name after SIDs   | FC B6 01 01 72 FE %s 51 05 FF 62 51 01 51 02",
+    })
+    public void oversizedAnnotationsAndFieldNamesAreSkipped(String description, String hexBytes) throws Exception {
+        // Each container holds a value whose first annotation or field name exceeds the maximum buffer size, followed
+        // by the int 1; the container is followed by the int 2.
+        byte[] data = ion_1_1(String.format(hexBytes, ONE_HUNDRED_BYTES_OF_TEXT));
+        for (InputStream input : new InputStream[] {new ByteArrayInputStream(data), new OneBytePerReadInputStream(data)}) {
+            AtomicInteger oversizedValues = new AtomicInteger();
+            AtomicInteger oversizedSymbolTables = new AtomicInteger();
+            try (IonReader reader = boundedReaderFor(input, oversizedValues, oversizedSymbolTables)) {
+                reader.next();
+                reader.stepIn();
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(1, reader.intValue());
+                assertNull(reader.next());
+                reader.stepOut();
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(2, reader.intValue());
+                assertNull(reader.next());
+            }
+            assertEquals(1, oversizedValues.get());
+            assertEquals(0, oversizedSymbolTables.get());
+        }
+    }
+
+    @ParameterizedTest(name = "oneBytePerRead={0}")
+    @ValueSource(booleans = {true, false})
+    public void oversizedTopLevelAnnotationsAreHandledAsPossibleSymbolTable(boolean oneBytePerRead) throws Exception {
+        // As in Ion 1.0, the annotations on an oversized top-level value are not available, so the value may be a
+        // symbol table.
+        byte[] data = ion_1_1("E8 72 FE " + ONE_HUNDRED_BYTES_OF_TEXT + "FF 62 60 60");
+        InputStream input = oneBytePerRead ? new OneBytePerReadInputStream(data) : new ByteArrayInputStream(data);
+        AtomicInteger oversizedValues = new AtomicInteger();
+        AtomicInteger oversizedSymbolTables = new AtomicInteger();
+        try (IonReader reader = boundedReaderFor(input, oversizedValues, oversizedSymbolTables)) {
+            assertNull(reader.next());
+        }
+        assertEquals(0, oversizedValues.get());
+        assertEquals(1, oversizedSymbolTables.get());
+    }
+
+    @ParameterizedTest(name = "oneBytePerRead={0}")
+    @ValueSource(booleans = {true, false})
+    public void truncatedOversizedAnnotationsFailCleanly(boolean oneBytePerRead) throws Exception {
+        byte[] data = ion_1_1("FA B2 01 E8 72 FE " + ONE_HUNDRED_BYTES_OF_TEXT + "FF 62 60 51 01 51 02");
+        for (int length = 0; length < data.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(data, 0, truncated, 0, length);
+            InputStream input = oneBytePerRead ? new OneBytePerReadInputStream(truncated) : new ByteArrayInputStream(truncated);
+            try (IonReader reader = boundedReaderFor(input, new AtomicInteger(), new AtomicInteger())) {
+                SYSTEM.getLoader().load(reader);
+            } catch (IonException e) {
+                // Expected for some truncation points; any other exception fails the test.
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void skipDelimitedContainers(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = readerFor(constructFromBytes, "F3 FF 61 F1 51 01 F0 01 F0 F1 F2 F0 F0 5E FA 09 51 01 51 02")) {
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.BOOL, reader.next());
+            assertTrue(reader.booleanValue());
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1, reader.intValue());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void inlineFieldNamesAndSymbols(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = readerFor(constructFromBytes, "F3 FF 61 91 62 09 E1 05 01 F0")) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("a", reader.getFieldName());
+            SymbolToken fieldName = reader.getFieldNameSymbol();
+            assertEquals("a", fieldName.getText());
+            assertEquals(-1, fieldName.getSid());
+            assertEquals("b", reader.stringValue());
+            assertEquals(-1, reader.symbolValue().getSid());
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals("name", reader.getFieldName());
+            assertEquals("version", reader.stringValue());
+            assertEquals(5, reader.symbolValue().getSid());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void numericValues(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = readerFor(constructFromBytes, "F5 13 00 00 00 00 00 00 00 00 FF 64 04 EE F0 FD 75 B6 32 07 99 EC 01")) {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IntegerSize.BIG_INTEGER, reader.getIntegerSize());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(new BigDecimal("-123.456"), reader.bigDecimalValue());
+            assertEquals(IonType.TIMESTAMP, reader.next());
+            assertEquals(Timestamp.valueOf("2024-05-06T07:08:09.123Z"), reader.timestampValue());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}: {1}")
+    @CsvSource(delimiter = '|', value = {
+        "Invalid length                 | F7 09 05 08 07 00",
+        "Fraction equal to one          | F7 13 7D 24 69 D6 5E BC 98 15 01",
+        "Scale far exceeds coefficient  | F7 19 7D 24 69 D6 5E BC 98 BD C1 0B 14 51",
+    })
+    public void malformedLongFormTimestampsFailCleanly(String description, String hexBytes) {
+        for (boolean constructFromBytes : new boolean[] {true, false}) {
+            try (IonReader reader = readerFor(constructFromBytes, hexBytes)) {
+                assertEquals(IonType.TIMESTAMP, reader.next());
+                assertThrows(IonException.class, reader::timestampValue);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void macroInvocationsAreNotSupported(boolean constructFromBytes) {
+        assertThrows(IonException.class, () -> {
+            try (IonReader reader = readerFor(constructFromBytes, "00")) {
+                reader.next();
+            }
+        });
+    }
+}
@@ -0,0 +1,174 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.FieldSeeker;
+import com.amazon.ion.IonType;
+import com.amazon.ion.PrimitiveArrayReader;
+import com.amazon.ion.ReusableReader;
+import com.amazon.ion.SeekableReader;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.UnscaledDecimalReader;
+import com.amazon.ion.Utf8TextProvider;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonReaderProjectingTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String DATA =
+        "{order:{id:1, items:[{sku:\"a\", qty:2}, {sku:\"b\", qty:3}], note:\"x\"}, customer:{id:7, name:\"n\"}, other:[1, 2, 3]} " +
+        "5 " +
+        "[{x:1, y:2}, {x:3}]";
+
+    private static IonReader projectingReader(boolean isBinary, String... paths) {
+        IonReaderBuilder builder = IonReaderBuilder.standard().withProjectedPaths(paths);
+        if (isBinary) {
+            return builder.build(SYSTEM.getLoader().load(DATA).getBytes());
+        }
+        return builder.build(DATA);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "order.items[*].sku,customer.id | {order:{items:[{sku:\"a\"},{sku:\"b\"}]},customer:{id:7}} 5 []",
+        "*.id                           | {order:{id:1},customer:{id:7}} 5 []",
+        "[1].x,[0]                      | {} 5 [{x:1,y:2},{x:3}]",
+        "order.items[1],order.items[*].qty | {order:{items:[{qty:2},{sku:\"b\",qty:3}]}} 5 []",
+        "other[2]                       | {other:[3]} 5 []",
+        "order                          | {order:{id:1, items:[{sku:\"a\", qty:2}, {sku:\"b\", qty:3}], note:\"x\"}} 5 []",
+        "missing                        | {} 5 []",
+    })
+    public void projectsPaths(String paths, String expectedIon) throws Exception {
+        IonDatagram expected = SYSTEM.getLoader().load(expectedIon);
+        for (boolean isBinary : new boolean[] {true, false}) {
+            try (IonReader reader = projectingReader(isBinary, paths.split(","))) {
+                assertEquals(expected, SYSTEM.getLoader().load(reader), "isBinary=" + isBinary);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "isBinary={0}")
+    @ValueSource(booleans = {true, false})
+    public void stepOutBeforeEndOfContainer(boolean isBinary) throws Exception {
+        try (IonReader reader = projectingReader(isBinary, "order.items[*].sku", "customer.id")) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("order", reader.getFieldName());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+            reader.stepOut();
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("customer", reader.getFieldName());
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(5, reader.intValue());
+        }
+    }
+
+    @Test
+    public void fieldsAreMatchedUnderEachSymbolTable() throws Exception {
+        // Each stream declares its own local symbols, so "keep" and "drop" swap symbol IDs between the two.
+        byte[] first = SYSTEM.getLoader().load("{drop:1, keep:2, nested:{keep:3}}").getBytes();
+        byte[] second = SYSTEM.getLoader().load("{keep:4, drop:5, nested:{drop:6}}").getBytes();
+        byte[] data = new byte[first.length + second.length];
+        System.arraycopy(first, 0, data, 0, first.length);
+        System.arraycopy(second, 0, data, first.length, second.length);
+        IonDatagram expected = SYSTEM.getLoader().load("{keep:2, nested:{keep:3}} {keep:4, nested:{}}");
+        try (IonReader reader = IonReaderBuilder.standard().withProjectedPaths("keep", "nested.keep").build(data)) {
+            assertEquals(expected, SYSTEM.getLoader().load(reader));
+        }
+    }
+
+    @ParameterizedTest(name = "isBinary={0}")
+    @ValueSource(booleans = {true, false})
+    public void hasNextSkipsValuesOffThePaths(boolean isBinary) throws Exception {
+        try (IonReader reader = projectingReader(isBinary, "customer.id")) {
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertTrue(reader.hasNext());
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals("customer", reader.getFieldName());
+            reader.stepIn();
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(7, reader.intValue());
+            assertFalse(reader.hasNext());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertFalse(reader.hasNext());
+            reader.stepOut();
+            assertTrue(reader.hasNext());
+            assertEquals(IonType.INT, reader.next());
+        }
+    }
+
+    @ParameterizedTest(name = "isBinary={0}")
+    @ValueSource(booleans = {true, false})
+    public void hasNextIteratesTopLevelValues(boolean isBinary) throws Exception {
+        int count = 0;
+        try (IonReader reader = projectingReader(isBinary, "other")) {
+            while (reader.hasNext()) {
+                assertNotNull(reader.next());
+                count++;
+            }
+            assertNull(reader.next());
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    public void facetsThatOperateOnTheCurrentValueAreAvailable() throws Exception {
+        try (IonReader reader = projectingReader(true, "order.id")) {
+            assertNotNull(reader.asFacet(SpanProvider.class));
+            assertNotNull(reader.asFacet(Utf8TextProvider.class));
+            assertNotNull(reader.asFacet(UnscaledDecimalReader.class));
+            assertNull(reader.asFacet(SeekableReader.class));
+            assertNull(reader.asFacet(FieldSeeker.class));
+            assertNull(reader.asFacet(PrimitiveArrayReader.class));
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            reusable.reset(SYSTEM.getLoader().load("{order:{id:2, note:\"y\"}} 6").getBytes());
+            assertEquals(SYSTEM.getLoader().load("{order:{id:2}} 6"), SYSTEM.getLoader().load(reader));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"a..b", "a.", "a[x]", "a[-1]", "a[1", "a]b", ""})
+    public void malformedPathsAreRejected(String path) {
+        assertThrows(IllegalArgumentException.class, () -> projectingReader(true, path));
+    }
+
+    @Test
+    public void projectionIsDisabledByDefault() {
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertNull(builder.getProjectedPaths());
+        assertEquals(2, builder.withProjectedPaths("a", "b").getProjectedPaths().size());
+        assertNull(builder.withProjectedPaths().getProjectedPaths());
+    }
+}
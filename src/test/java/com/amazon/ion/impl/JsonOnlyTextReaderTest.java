@@ -0,0 +1,167 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonOnlyTextReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+    private static final IonReaderBuilder JSON_ONLY = IonReaderBuilder.standard().withJsonOnlyInputEnabled(true);
+
+    private static final String JSON =
+        "{\"a\": 1, \"b\": [true, false, null, -0, 0, 2147483648, 12345678901234567890, -7, 1.50, -0.0, 1E3,\n" +
+        "  2.5e-3, 1e+2, -1.25E-2, 0.1, 123456789012345678901234.5],\r\n" +
+        "\t\"c\": {\"d\": \"e\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\ud83d\\ude00 ü中\", \"\": [], \"nested\": [[[{}]]]},\n" +
+        " \"e\" : {} , \"a\": \"duplicate\"}\n" +
+        "[1,2,[3,[4]]]\n" +
+        "\"top\" 123 -4.5 null true\n" +
+        "{\"id\":1,\"tags\":[\"x\",\"y\"]}\n";
+
+    private static List<IonValue> readAll(IonReader reader) throws IOException {
+        List<IonValue> values = new ArrayList<>();
+        try {
+            while (reader.next() != null) {
+                values.add(SYSTEM.newValue(reader));
+            }
+        } finally {
+            reader.close();
+        }
+        return values;
+    }
+
+    @Test
+    public void valuesMatchReadingJsonAsIon() throws IOException {
+        List<IonValue> expected = readAll(IonReaderBuilder.standard().build(JSON));
+        assertEquals(8, expected.size());
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, readAll(JSON_ONLY.build(JSON)));
+        assertEquals(expected, readAll(JSON_ONLY.build(bytes)));
+        assertEquals(expected, readAll(JSON_ONLY.build(new ByteArrayInputStream(bytes))));
+        assertEquals(expected, readAll(JSON_ONLY.build(new StringReader(JSON))));
+    }
+
+    @Test
+    public void numbersHaveTheSameTypes() throws IOException {
+        String text = "0 -0 42 -9223372036854775809 0.0 -1.5 3.25e0 1E-7 1e400";
+        IonType[] types = {
+            IonType.INT, IonType.INT, IonType.INT, IonType.INT, IonType.DECIMAL, IonType.DECIMAL,
+            IonType.FLOAT, IonType.FLOAT, IonType.FLOAT
+        };
+        try (IonReader reader = JSON_ONLY.build(text)) {
+            for (IonType type : types) {
+                assertEquals(type, reader.next());
+            }
+            assertNull(reader.next());
+        }
+        assertEquals(readAll(IonReaderBuilder.standard().build(text)), readAll(JSON_ONLY.build(text)));
+    }
+
+    @Test
+    public void skipsContainersWithoutSteppingIn() throws IOException {
+        try (IonReader reader = JSON_ONLY.build(JSON.getBytes(StandardCharsets.UTF_8))) {
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepOut();
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("top", reader.stringValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(IonType.NULL, reader.next());
+            assertTrue(reader.isNullValue());
+            assertEquals(IonType.BOOL, reader.next());
+            assertTrue(reader.booleanValue());
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals("id", reader.getFieldName());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals("tags", reader.getFieldName());
+            assertNull(reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a::1", "(1 2)", "'sym'", "abc", "{a: 1}", "{'a': 1}", "{\"a\"::1}", "'''long'''", "{{aGVsbG8=}}",
+        "{{\"clob\"}}", "2024-01-01T", "0x10", "0b10", "1_000", "01", "-01", "1.", ".5", "+1", "-", "1e", "1d3",
+        "nan", "+inf", "-inf", "null.int", "nulls", "1 // comment", "/* comment */ 1", "$ion_1_0 1", "[1 2]",
+        "{\"a\" 1}", "[\"a\" + \"b\"]", "[1,]", "[1, ]", "[[1],]", "{\"a\":1,}", "{\"a\":1 , }", "[1,,2]",
+        "\"\\x41\"", "\"\\U00000041\"", "\"\\a\"", "\"\\'\"", "\"\\0\"", "\"\\v\"", "\"\\?\"",
+        "\"a\\\nb\"", "\"a\\\r\nb\"", "{\"\\x41\": 1}"
+    })
+    public void ionOnlySyntaxIsRejected(String text) throws IOException {
+        assertThrows(IonException.class, () -> readAll(JSON_ONLY.build(text)));
+        assertThrows(IonException.class, () -> readAll(JSON_ONLY.build(text.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\u0000", "\u0001", "\t", "\u000B", "\f", "\u001F"})
+    public void unescapedControlCharactersInStringsAreRejected(String controlCharacter) throws IOException {
+        String string = "\"a" + controlCharacter + "b\"";
+        // Ion permits unescaped whitespace control characters in strings; JSON does not.
+        for (String text : new String[] {string, "{" + string + ": 1}"}) {
+            assertThrows(IonException.class, () -> readAll(JSON_ONLY.build(text)));
+            assertThrows(IonException.class, () -> readAll(JSON_ONLY.build(text.getBytes(StandardCharsets.UTF_8))));
+        }
+        // The string must be rejected even when it is skipped.
+        assertThrows(IonException.class, () -> {
+            try (IonReader reader = JSON_ONLY.build("[" + string + "] 1")) {
+                while (reader.next() != null) {
+                    // Skip.
+                }
+            }
+        });
+    }
+
+    @Test
+    public void binaryDataIsReadNormally() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.addTypeAnnotation("annotated");
+            writer.writeSymbol("symbol");
+        }
+        List<IonValue> values = readAll(JSON_ONLY.build(out.toByteArray()));
+        assertEquals(readAll(IonReaderBuilder.standard().build(out.toByteArray())), values);
+    }
+
+    @Test
+    public void optionIsCopied() {
+        assertFalse(IonReaderBuilder.standard().isJsonOnlyInputEnabled());
+        assertTrue(JSON_ONLY.isJsonOnlyInputEnabled());
+        assertTrue(JSON_ONLY.immutable().isJsonOnlyInputEnabled());
+        assertTrue(JSON_ONLY.immutable().mutable().isJsonOnlyInputEnabled());
+        assertFalse(JSON_ONLY.withJsonOnlyInputEnabled(false).isJsonOnlyInputEnabled());
+    }
+}
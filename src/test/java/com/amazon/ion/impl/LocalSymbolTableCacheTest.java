@@ -0,0 +1,183 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.SymbolToken;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.LocalSymbolTableCache;
+import com.amazon.ion.system.SimpleCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LocalSymbolTableCacheTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Writes one struct per given field name, flushing after each so that every struct after the first is preceded
+     * by a local symbol table append.
+     */
+    private static byte[] writeStructs(String... fieldNames) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withLocalSymbolTableAppendEnabled().build(out)) {
+            for (String fieldName : fieldNames) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName(fieldName);
+                writer.writeSymbol(fieldName + "_value");
+                writer.stepOut();
+                writer.flush();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static IonReader newReader(IonReaderBuilder builder, byte[] data, boolean constructFromBytes) {
+        return constructFromBytes ? builder.build(data) : builder.build(new ByteArrayInputStream(data));
+    }
+
+    private static String readFirstFieldName(IonReaderBuilder builder, byte[] data, boolean constructFromBytes) throws IOException {
+        try (IonReader reader = newReader(builder, data, constructFromBytes)) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            return reader.getFieldName();
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void resolvedSymbolsAreSharedBetweenReaders(boolean constructFromBytes) throws Exception {
+        byte[] data = writeStructs("abc");
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLocalSymbolTableCache(cache);
+        String first = readFirstFieldName(builder, data, constructFromBytes);
+        assertEquals(1, cache.size());
+        String second = readFirstFieldName(builder, data, constructFromBytes);
+        assertEquals("abc", second);
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void readersWithoutCacheResolveSymbolsIndependently() throws Exception {
+        byte[] data = writeStructs("abc");
+        IonReaderBuilder builder = IonReaderBuilder.standard();
+        assertNotSame(readFirstFieldName(builder, data, true), readFirstFieldName(builder, data, true));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void appendsAreNotCached(boolean constructFromBytes) throws Exception {
+        byte[] data = writeStructs("a", "b", "c");
+        IonDatagram expected = SYSTEM.getLoader().load(data);
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLocalSymbolTableCache(cache);
+        for (int i = 0; i < 2; i++) {
+            try (IonReader reader = newReader(builder, data, constructFromBytes)) {
+                assertEquals(expected, SYSTEM.getLoader().load(reader));
+            }
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    public void symbolTablesWithinOneStreamAreCached() throws Exception {
+        IonDatagram expected = SYSTEM.getLoader().load(
+            "{a: b} $ion_symbol_table::{symbols: [\"zz\"]} zz::{zz: zz} $ion_symbol_table::{symbols: [\"yy\"]} yy"
+        );
+        byte[] data = expected.getBytes();
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLocalSymbolTableCache(cache);
+        for (int i = 0; i < 2; i++) {
+            try (IonReader reader = builder.build(data)) {
+                assertEquals(expected, SYSTEM.getLoader().load(reader));
+            }
+        }
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws Exception {
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance(2);
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLocalSymbolTableCache(cache);
+        byte[] a = writeStructs("a");
+        byte[] b = writeStructs("b");
+        byte[] c = writeStructs("c");
+        String first = readFirstFieldName(builder, a, true);
+        readFirstFieldName(builder, b, true);
+        assertSame(first, readFirstFieldName(builder, a, true));
+        readFirstFieldName(builder, c, true);
+        assertEquals(2, cache.size());
+        // 'b' was evicted, while 'a' remains.
+        assertSame(first, readFirstFieldName(builder, a, true));
+        assertEquals("b", readFirstFieldName(builder, b, true));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void entriesAreNotSharedAcrossCatalogs() throws Exception {
+        byte[] data = writeStructs("abc");
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLocalSymbolTableCache(cache);
+        String first = readFirstFieldName(builder.withCatalog(new SimpleCatalog()), data, true);
+        String second = readFirstFieldName(builder.withCatalog(new SimpleCatalog()), data, true);
+        assertNotSame(first, second);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void symbolTablesWithSubstituteImportsAreNotCached() throws Exception {
+        SymbolTable shared = SYSTEM.newSharedSymbolTable("s", 1, Arrays.asList("alpha", "beta").iterator());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().withImports(shared).build(out)) {
+            writer.writeSymbol("beta");
+        }
+        byte[] data = out.toByteArray();
+        SimpleCatalog catalog = new SimpleCatalog();
+        LocalSymbolTableCache cache = LocalSymbolTableCache.newInstance();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withCatalog(catalog).withLocalSymbolTableCache(cache);
+        try (IonReader reader = builder.build(data)) {
+            assertEquals(IonType.SYMBOL, reader.next());
+            SymbolToken symbol = reader.symbolValue();
+            assertNull(symbol.getText());
+            assertEquals(11, symbol.getSid());
+        }
+        assertEquals(0, cache.size());
+        // Once the catalog can resolve the import, the symbol's text must become available.
+        catalog.putTable(shared);
+        for (int i = 0; i < 2; i++) {
+            try (IonReader reader = builder.build(data)) {
+                assertEquals(IonType.SYMBOL, reader.next());
+                assertEquals("beta", reader.stringValue());
+            }
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    public void maximumSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> LocalSymbolTableCache.newInstance(0));
+        assertEquals(LocalSymbolTableCache.DEFAULT_MAXIMUM_SIZE, LocalSymbolTableCache.newInstance().getMaximumSize());
+    }
+}
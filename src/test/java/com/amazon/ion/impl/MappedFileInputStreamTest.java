@@ -0,0 +1,93 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class MappedFileInputStreamTest {
+
+    private static final byte[] DATA = new byte[100];
+
+    static {
+        for (int i = 0; i < DATA.length; i++) {
+            DATA[i] = (byte) i;
+        }
+    }
+
+    private Path file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = Files.createTempFile("MappedFileInputStreamTest", ".ion");
+        Files.write(file, DATA);
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private MappedFileInputStream open(int windowSize) throws IOException {
+        return new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), windowSize);
+    }
+
+    @ParameterizedTest(name = "windowSize={0}")
+    @ValueSource(ints = {1, 7, 64, 100, MappedFileInputStream.DEFAULT_WINDOW_SIZE})
+    public void readAcrossWindows(int windowSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[13];
+        try (MappedFileInputStream input = open(windowSize)) {
+            assertEquals(DATA.length, input.available());
+            int b = input.read();
+            out.write(b);
+            int numberOfBytesRead;
+            while ((numberOfBytesRead = input.read(chunk, 0, chunk.length)) > 0) {
+                out.write(chunk, 0, numberOfBytesRead);
+            }
+            assertEquals(-1, numberOfBytesRead);
+            assertEquals(-1, input.read());
+            assertEquals(0, input.available());
+        }
+        assertArrayEquals(DATA, out.toByteArray());
+    }
+
+    @ParameterizedTest(name = "windowSize={0}")
+    @ValueSource(ints = {1, 7, 64, 100})
+    public void skipAcrossWindows(int windowSize) throws IOException {
+        try (MappedFileInputStream input = open(windowSize)) {
+            assertEquals(3, input.skip(3));
+            assertEquals(3, input.read());
+            assertEquals(50, input.skip(50));
+            assertEquals(54, input.read());
+            assertEquals(45, input.skip(1000));
+            assertEquals(0, input.skip(1));
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    public void startsAtChannelPosition() throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(90);
+        try (MappedFileInputStream input = new MappedFileInputStream(channel, 4)) {
+            assertEquals(10, input.available());
+            assertEquals(90, input.read());
+        }
+        assertFalse(channel.isOpen());
+    }
+}
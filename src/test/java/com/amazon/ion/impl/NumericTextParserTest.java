@@ -0,0 +1,175 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IntegerSize;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.UnscaledDecimalReader;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NumericTextParserTest {
+
+    private final NumericTextParser parser = new NumericTextParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0", "-0", "1", "-1", "2147483647", "2147483648", "-2147483648", "-2147483649", "999999999999999999",
+        "-999999999999999999"
+    })
+    public void integers(String text) {
+        assertTrue(parser.parseInteger(text));
+        assertEquals(Long.parseLong(text), parser.unscaledValue);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1000000000000000000", "9223372036854775807", "-9223372036854775808", "-", ""})
+    public void integersThatRequireFallback(String text) {
+        assertFalse(parser.parseInteger(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0.", "0.0", "-0.00", "0d5", "-0d-5", "123.456", "-123.456", "1.", "1.0", "12d3", "12D-3", "1.5e2",
+        "0.000000000000000000000000001", "123456789012345678", "-0.123456789012345678", "1d999999999",
+        "1d-999999999"
+    })
+    public void decimals(String text) {
+        assertTrue(parser.parseDecimal(text));
+        BigDecimal expected = Decimal.valueOf(text.replace('d', 'e').replace('D', 'e'));
+        assertEquals(expected.unscaledValue().longValueExact(), parser.unscaledValue);
+        assertEquals(expected.scale(), parser.scale);
+        assertEquals(text.startsWith("-"), parser.isNegative);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234567890123456789", "1.23456789012345678901", "1d1234567890", "1d", "1x", "."})
+    public void decimalsThatRequireFallback(String text) {
+        assertFalse(parser.parseDecimal(text));
+    }
+
+    private void assertFloat(String text) {
+        double expected = Double.parseDouble(text);
+        if (parser.parseFloat(text)) {
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(parser.doubleValue), text);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0e0", "-0e0", "1e0", "-1.5e0", "1e22", "1e23", "9007199254740993e0", "1.7976931348623157e308",
+        "1.7976931348623159e308", "2.2250738585072014e-308", "4.9e-324", "1e-400", "1e400", "0.1e0",
+        "3.141592653589793e0", "123456789012345678e-5", "9999999999999999999e0", "18446744073709551615e0",
+        "2.5e-1", "1.00000000000000011102230246251565404236316680908203125e0", "9007199254740992.5e0",
+        "7.3177701707893310e+15", "2.82879384806159e17", "1.00000005960464477550e0"
+    })
+    public void floats(String text) {
+        assertFloat(text);
+    }
+
+    @Test
+    public void commonFloatsDoNotRequireFallback() {
+        String[] common = {"1.25e0", "-3.5e10", "6.02214076e23", "1.602176634e-19", "0.1e0", "2.718281828459045e0"};
+        for (String text : common) {
+            assertTrue(parser.parseFloat(text), text);
+            assertEquals(Double.parseDouble(text), parser.doubleValue);
+        }
+    }
+
+    @Test
+    public void randomFloatsMatchParseDouble() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // Shortest round-trip representations of random doubles.
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            assertFloat(Double.toString(value));
+            // Random digit strings, which are frequently close to halfway between doubles.
+            StringBuilder sb = new StringBuilder();
+            int digits = 1 + random.nextInt(19);
+            sb.append(1 + random.nextInt(9));
+            for (int d = 1; d < digits; d++) {
+                sb.append(random.nextInt(10));
+            }
+            sb.append('e').append(random.nextInt(700) - 350);
+            assertFloat(sb.toString());
+        }
+    }
+
+    @Test
+    public void textReaderValues() throws Exception {
+        String text = "123 -2147483649 12345678901234567890 1.50 -0.0 123456789012345678901.5 2.5e-1 1e400 "
+            + "1_000_000 -7d-3 0x1F";
+        try (IonReader reader = IonReaderBuilder.standard().build(text)) {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IntegerSize.INT, reader.getIntegerSize());
+            assertEquals(123, reader.intValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IntegerSize.LONG, reader.getIntegerSize());
+            assertEquals(-2147483649L, reader.longValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IntegerSize.BIG_INTEGER, reader.getIntegerSize());
+            assertEquals("12345678901234567890", reader.bigIntegerValue().toString());
+
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertTrue(decimals.isUnscaledValueLong());
+            assertEquals(150, decimals.unscaledValue());
+            assertEquals(2, decimals.scale());
+            assertEquals(new BigDecimal("1.50"), reader.bigDecimalValue());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertFalse(decimals.isUnscaledValueLong());
+            assertTrue(Decimal.isNegativeZero(reader.decimalValue()));
+            assertEquals(1, reader.decimalValue().scale());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertFalse(decimals.isUnscaledValueLong());
+            assertEquals(new BigDecimal("123456789012345678901.5"), reader.bigDecimalValue());
+
+            assertEquals(IonType.FLOAT, reader.next());
+            assertEquals(0.25, reader.doubleValue());
+            assertEquals(IonType.FLOAT, reader.next());
+            assertEquals(Double.POSITIVE_INFINITY, reader.doubleValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1_000_000, reader.intValue());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(new BigDecimal("-0.007"), reader.bigDecimalValue());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(31, reader.intValue());
+        }
+    }
+
+    @Test
+    public void textDecimalsConvertToOtherTypes() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("12.50 -3.5 7.25 1.5")) {
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(12, reader.intValue());
+            assertEquals(12L, reader.longValue());
+            assertEquals(12.5, reader.doubleValue());
+            assertEquals(new BigDecimal("12.50"), reader.decimalValue());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(-3.5, reader.doubleValue());
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(725, decimals.unscaledValue());
+            assertEquals(2, decimals.scale());
+            assertEquals(new BigDecimal("7.25"), reader.bigDecimalValue());
+            assertEquals(725, decimals.unscaledValue());
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertEquals(15, decimals.unscaledValue());
+            assertEquals(1, decimals.scale());
+        }
+    }
+}
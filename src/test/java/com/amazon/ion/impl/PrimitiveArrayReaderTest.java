@@ -0,0 +1,189 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.PrimitiveArrayReader;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.util.IonStreamUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimitiveArrayReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private enum ReaderSource {
+        BYTES {
+            @Override
+            IonReader newReader(byte[] data) {
+                return IonReaderBuilder.standard().build(data);
+            }
+        },
+        STREAM {
+            @Override
+            IonReader newReader(byte[] data) {
+                return IonReaderBuilder.standard().build(new ByteArrayInputStream(data));
+            }
+        },
+        INCREMENTAL_STREAM {
+            @Override
+            IonReader newReader(byte[] data) {
+                return IonReaderBuilder.standard().withIncrementalReadingEnabled(true).build(new ByteArrayInputStream(data));
+            }
+        };
+
+        abstract IonReader newReader(byte[] data);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ReaderSource.class)
+    public void readListsWrittenByIonStreamUtils(ReaderSource source) throws Exception {
+        Random random = new Random(42);
+        double[] doubles = new double[10000];
+        long[] longs = new long[10000];
+        boolean[] booleans = new boolean[100];
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = i % 3 == 0 ? 0 : random.nextDouble() * 1e10;
+            longs[i] = i % 5 == 0 ? random.nextLong() : random.nextInt(1000) - 500;
+        }
+        longs[7] = Long.MIN_VALUE;
+        longs[8] = Long.MAX_VALUE;
+        longs[9] = 0;
+        for (int i = 0; i < booleans.length; i++) {
+            booleans[i] = random.nextBoolean();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            IonStreamUtils.writeFloatList(writer, doubles);
+            IonStreamUtils.writeIntList(writer, longs);
+            IonStreamUtils.writeBoolList(writer, booleans);
+        }
+        try (IonReader reader = source.newReader(out.toByteArray())) {
+            PrimitiveArrayReader arrayReader = reader.asFacet(PrimitiveArrayReader.class);
+
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            double[] actualDoubles = new double[doubles.length + 1];
+            // Read in two chunks, the first of which starts at a non-zero offset.
+            int numberOfValues = arrayReader.readDoubles(actualDoubles, 1, 3);
+            numberOfValues += arrayReader.readDoubles(actualDoubles, 1 + numberOfValues, doubles.length - numberOfValues);
+            assertEquals(doubles.length, numberOfValues);
+            assertArrayEquals(doubles, Arrays.copyOfRange(actualDoubles, 1, actualDoubles.length));
+            assertNull(reader.next());
+            reader.stepOut();
+
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            long[] actualLongs = new long[longs.length + 1];
+            assertEquals(longs.length, arrayReader.readLongs(actualLongs, 0, actualLongs.length));
+            assertArrayEquals(longs, Arrays.copyOf(actualLongs, longs.length));
+            assertNull(reader.getType());
+            reader.stepOut();
+
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            boolean[] actualBooleans = new boolean[booleans.length];
+            assertEquals(booleans.length, arrayReader.readBooleans(actualBooleans, 0, actualBooleans.length));
+            assertArrayEquals(booleans, actualBooleans);
+            assertNull(reader.next());
+            reader.stepOut();
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void readLongsStopsAtValuesThatDoNotFit() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("[1, 2, a::3, 4, 18446744073709551616, 5, null.int, 6, 7e0, 8]").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            PrimitiveArrayReader arrayReader = reader.asFacet(PrimitiveArrayReader.class);
+            long[] longs = new long[20];
+            reader.next();
+            reader.stepIn();
+            assertEquals(4, arrayReader.readLongs(longs, 0, longs.length));
+            assertArrayEquals(new long[] {1, 2, 3, 4}, Arrays.copyOf(longs, 4));
+            assertEquals(IonType.INT, reader.getType());
+            assertEquals(new BigInteger("18446744073709551616"), reader.bigIntegerValue());
+            assertEquals(1, arrayReader.readLongs(longs, 0, longs.length));
+            assertEquals(5, longs[0]);
+            assertTrue(reader.isNullValue());
+            assertEquals(1, arrayReader.readLongs(longs, 0, longs.length));
+            assertEquals(6, longs[0]);
+            assertEquals(IonType.FLOAT, reader.getType());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(8, reader.longValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void readDoublesAndBooleansStopAtOtherValues() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("(1e0 2e0 null.float 3e0) [true, false, x::true, 1]").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            PrimitiveArrayReader arrayReader = reader.asFacet(PrimitiveArrayReader.class);
+            reader.next();
+            reader.stepIn();
+            double[] doubles = new double[5];
+            assertEquals(2, arrayReader.readDoubles(doubles, 0, doubles.length));
+            assertTrue(reader.isNullValue());
+            assertEquals(1, arrayReader.readDoubles(doubles, 2, 3));
+            assertArrayEquals(new double[] {1, 2, 3, 0, 0}, doubles);
+            reader.stepOut();
+
+            reader.next();
+            reader.stepIn();
+            boolean[] booleans = new boolean[5];
+            assertEquals(3, arrayReader.readBooleans(booleans, 0, booleans.length));
+            assertArrayEquals(new boolean[] {true, false, true, false, false}, booleans);
+            assertEquals(IonType.INT, reader.getType());
+            assertEquals(1, reader.intValue());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void zeroLengthReadsDoNotMoveTheReader() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("[true, false]").getBytes();
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            PrimitiveArrayReader arrayReader = reader.asFacet(PrimitiveArrayReader.class);
+            reader.next();
+            reader.stepIn();
+            assertEquals(IonType.BOOL, reader.next());
+            assertEquals(0, arrayReader.readBooleans(new boolean[0], 0, 0));
+            assertTrue(reader.booleanValue());
+            boolean[] booleans = new boolean[1];
+            assertEquals(1, arrayReader.readBooleans(booleans, 0, 1));
+            assertFalse(booleans[0]);
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void invalidRangesAreRejected() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build(SYSTEM.getLoader().load("[1]").getBytes())) {
+            PrimitiveArrayReader arrayReader = reader.asFacet(PrimitiveArrayReader.class);
+            assertThrows(IndexOutOfBoundsException.class, () -> arrayReader.readLongs(new long[5], 3, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> arrayReader.readDoubles(new double[5], -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> arrayReader.readBooleans(new boolean[5], 0, -1));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.PrimitiveArrayReader;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.ReaderMetricsListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReaderMetricsListenerTest {
+
+    private static final int LARGE_VALUE_SIZE = 10_000;
+
+    /**
+     * Records every notification.
+     */
+    private static class RecordingListener implements ReaderMetricsListener {
+        long bytes = 0;
+        int topLevelValues = 0;
+        int containersEntered = 0;
+        int maxDepth = 0;
+        int valuesSkipped = 0;
+        long bytesSkipped = 0;
+        int refills = 0;
+        long refillNanos = 0;
+        int resizes = 0;
+        int shifts = 0;
+        int symbolTableResets = 0;
+
+        @Override
+        public void onData(int numberOfBytes) {
+            bytes += numberOfBytes;
+        }
+
+        @Override
+        public void onTopLevelValue() {
+            topLevelValues++;
+        }
+
+        @Override
+        public void onContainerEntered(int depth) {
+            containersEntered++;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        @Override
+        public void onValueSkipped(long numberOfBytes) {
+            valuesSkipped++;
+            bytesSkipped += numberOfBytes;
+        }
+
+        @Override
+        public void onRefill(int numberOfBytes, long nanos) {
+            refills++;
+            refillNanos += nanos;
+        }
+
+        @Override
+        public void onBufferResized(int previousSize, int newSize) {
+            assertTrue(newSize > previousSize);
+            resizes++;
+        }
+
+        @Override
+        public void onBufferShifted(int numberOfBytes) {
+            shifts++;
+        }
+
+        @Override
+        public void onSymbolTableReset() {
+            symbolTableResets++;
+        }
+    }
+
+    /**
+     * A stream that does not reveal its size and returns at most 100 bytes per read.
+     */
+    private static InputStream unsizedStream(byte[] data) {
+        return new InputStream() {
+            private final ByteArrayInputStream delegate = new ByteArrayInputStream(data);
+
+            @Override
+            public int read() {
+                return delegate.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return delegate.read(b, off, Math.min(len, 100));
+            }
+
+            @Override
+            public long skip(long n) {
+                return delegate.skip(n);
+            }
+        };
+    }
+
+    /**
+     * @return {a: [[1]], b: sym}, a large string, then 2.
+     */
+    private static byte[] data() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("a");
+            writer.stepIn(IonType.LIST);
+            writer.stepIn(IonType.LIST);
+            writer.writeInt(1);
+            writer.stepOut();
+            writer.stepOut();
+            writer.setFieldName("b");
+            writer.writeSymbol("sym");
+            writer.stepOut();
+            writer.writeString(new String(new char[LARGE_VALUE_SIZE]).replace('\0', 'a'));
+            writer.writeInt(2);
+        }
+        return out.toByteArray();
+    }
+
+    private static void readAll(IonReader reader, boolean readLargeValue) {
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        reader.stepOut();
+        reader.stepOut();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("sym", reader.stringValue());
+        reader.stepOut();
+        assertEquals(IonType.STRING, reader.next());
+        if (readLargeValue) {
+            assertEquals(LARGE_VALUE_SIZE, reader.stringValue().length());
+        }
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(2, reader.intValue());
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest(name = "incremental={0}")
+    @ValueSource(booleans = {true, false})
+    public void countersFromStream(boolean incremental) throws Exception {
+        byte[] data = data();
+        RecordingListener listener = new RecordingListener();
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(incremental)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(1024).build())
+            .withMetricsListener(listener);
+        try (IonReader reader = builder.build(unsizedStream(data))) {
+            readAll(reader, true);
+        }
+        assertEquals(3, listener.topLevelValues);
+        // The struct, the two nested lists, and the local symbol table struct and its symbols list.
+        assertEquals(5, listener.containersEntered);
+        assertEquals(3, listener.maxDepth);
+        assertEquals(data.length, listener.bytes);
+        assertTrue(listener.refills >= data.length / 100);
+        assertTrue(listener.refillNanos >= 0);
+        assertTrue(listener.resizes > 0);
+        assertTrue(listener.symbolTableResets > 0);
+        assertEquals(0, listener.valuesSkipped);
+    }
+
+    @Test
+    public void skippedValueIsReported() throws Exception {
+        byte[] data = data();
+        RecordingListener listener = new RecordingListener();
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(false)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(1024).build())
+            .withMetricsListener(listener);
+        try (IonReader reader = builder.build(unsizedStream(data))) {
+            readAll(reader, false);
+        }
+        assertEquals(1, listener.valuesSkipped);
+        assertTrue(listener.bytesSkipped > 0 && listener.bytesSkipped < LARGE_VALUE_SIZE);
+        assertEquals(0, listener.resizes);
+        assertEquals(data.length, listener.bytes);
+    }
+
+    @Test
+    public void bufferShiftIsReported() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            for (int i = 0; i < 100; i++) {
+                writer.writeString("abcdefghijklmnopqrstuvwxyz");
+            }
+        }
+        RecordingListener listener = new RecordingListener();
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withIncrementalReadingEnabled(true)
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().withInitialBufferSize(64).build())
+            .withMetricsListener(listener);
+        try (IonReader reader = builder.build(unsizedStream(out.toByteArray()))) {
+            while (reader.next() != null) {
+                assertEquals(26, reader.stringValue().length());
+            }
+        }
+        assertEquals(100, listener.topLevelValues);
+        assertTrue(listener.shifts > 0);
+        assertEquals(0, listener.resizes);
+    }
+
+    @Test
+    public void countersFromByteArray() throws Exception {
+        byte[] data = data();
+        RecordingListener listener = new RecordingListener();
+        try (IonReader reader = IonReaderBuilder.standard().withMetricsListener(listener).build(data)) {
+            readAll(reader, true);
+        }
+        assertEquals(3, listener.topLevelValues);
+        assertEquals(3, listener.maxDepth);
+        assertEquals(data.length, listener.bytes);
+        assertEquals(0, listener.refills);
+        assertEquals(0, listener.resizes);
+    }
+
+    @Test
+    public void configuredDataHandlerIsStillNotified() throws Exception {
+        byte[] data = data();
+        AtomicLong configuredBytes = new AtomicLong();
+        RecordingListener listener = new RecordingListener();
+        IonReaderBuilder builder = IonReaderBuilder.standard()
+            .withBufferConfiguration(IonBufferConfiguration.Builder.standard().onData(configuredBytes::addAndGet).build())
+            .withMetricsListener(listener);
+        try (IonReader reader = builder.build(unsizedStream(data))) {
+            readAll(reader, true);
+        }
+        assertEquals(data.length, configuredBytes.get());
+        assertEquals(data.length, listener.bytes);
+    }
+
+    @Test
+    public void listenerDoesNotDisableBulkReads() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.stepIn(IonType.LIST);
+            for (int i = 0; i < 1000; i++) {
+                writer.writeInt(i);
+            }
+            writer.stepOut();
+            writer.writeInt(1000);
+        }
+        byte[] data = out.toByteArray();
+        RecordingListener listener = new RecordingListener();
+        try (IonReader reader = IonReaderBuilder.standard().withMetricsListener(listener).build(data)) {
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertTrue(((IonCursorBinary) reader).getBulkReadIndex() >= 0);
+            long[] values = new long[1000];
+            assertEquals(1000, reader.asFacet(PrimitiveArrayReader.class).readLongs(values, 0, values.length));
+            assertEquals(999, values[999]);
+            reader.stepOut();
+            assertEquals(IonType.INT, reader.next());
+            assertNull(reader.next());
+        }
+        assertEquals(2, listener.topLevelValues);
+        assertEquals(data.length, listener.bytes);
+    }
+
+    @Test
+    public void noListenerByDefault() throws Exception {
+        assertNull(IonReaderBuilder.standard().getMetricsListener());
+        try (IonReader reader = IonReaderBuilder.standard().build(data())) {
+            assertNull(((IonCursorBinary) reader).metricsListener);
+        }
+        ReaderMetricsListener listener = new RecordingListener();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withMetricsListener(listener);
+        assertSame(listener, builder.copy().getMetricsListener());
+        assertSame(listener, builder.immutable().getMetricsListener());
+    }
+}
@@ -0,0 +1,170 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.ReusableReader;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReusableReaderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final byte[] FIRST = SYSTEM.getLoader().load("{foo: [bar, baz::1]} \"a string\"").getBytes();
+    private static final byte[] SECOND = SYSTEM.getLoader().load("qux::{abc: def} 2.5e0 [1, 2, 3]").getBytes();
+
+    // {hi: 1}, with "hi" encoded inline, in Ion 1.1.
+    private static final byte[] ION_1_1 = new byte[] {
+        (byte) 0xE0, 0x01, 0x01, (byte) 0xEA,
+        (byte) 0xF3, (byte) 0xFD, 0x68, 0x69, 0x51, 0x01, 0x01, (byte) 0xF0
+    };
+
+    private static void assertReadsAs(byte[] expected, IonReader reader) {
+        IonDatagram actual = SYSTEM.newDatagram();
+        while (reader.next() != null) {
+            actual.add(SYSTEM.newValue(reader));
+        }
+        assertEquals(SYSTEM.getLoader().load(expected), actual);
+    }
+
+    private static IonReader newReader(boolean constructFromBytes, boolean incremental, byte[] data) {
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(incremental);
+        if (constructFromBytes) {
+            return builder.build(data);
+        }
+        return builder.build(new ByteArrayInputStream(data));
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void resetOntoByteArrays(boolean constructFromBytes) throws Exception {
+        for (boolean incremental : new boolean[] {true, false}) {
+            try (IonReader reader = newReader(constructFromBytes, incremental, FIRST)) {
+                ReusableReader reusable = reader.asFacet(ReusableReader.class);
+                assertReadsAs(FIRST, reader);
+                reusable.reset(SECOND);
+                assertReadsAs(SECOND, reader);
+                reusable.reset(ION_1_1);
+                assertReadsAs(ION_1_1, reader);
+                reusable.reset(FIRST);
+                assertReadsAs(FIRST, reader);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void resetWhilePositionedWithinValue(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = newReader(constructFromBytes, true, FIRST)) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            byte[] padded = new byte[SECOND.length + 6];
+            System.arraycopy(SECOND, 0, padded, 3, SECOND.length);
+            reusable.reset(padded, 3, SECOND.length);
+            assertEquals(0, reader.getDepth());
+            assertReadsAs(SECOND, reader);
+        }
+    }
+
+    @Test
+    public void localSymbolsDoNotSurviveReset() throws Exception {
+        try (IonReader reader = newReader(false, true, FIRST)) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            // Reset onto data with only the system symbol table in context.
+            reusable.reset(SYSTEM.getLoader().load("1").getBytes());
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(SYSTEM.getSystemSymbolTable().getMaxId(), reader.getSymbolTable().getMaxId());
+        }
+    }
+
+    @Test
+    public void streamReaderCanBeResetOntoAnyInput() throws Exception {
+        try (IonReader reader = newReader(false, false, FIRST)) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            reusable.reset(new ByteArrayInputStream(SECOND));
+            assertReadsAs(SECOND, reader);
+            ByteBuffer direct = ByteBuffer.allocateDirect(FIRST.length);
+            direct.put(FIRST);
+            direct.flip();
+            reusable.reset(direct);
+            assertReadsAs(FIRST, reader);
+            assertEquals(0, direct.position());
+            reusable.reset(ByteBuffer.wrap(SECOND));
+            assertReadsAs(SECOND, reader);
+        }
+    }
+
+    @ParameterizedTest(name = "incremental={0}")
+    @ValueSource(booleans = {true, false})
+    public void fixedSizeStreamReaderCanBeResetOntoLargerInput(boolean incremental) throws Exception {
+        // The buffer of a reader built from a ByteArrayInputStream is limited to the size of that stream.
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append('x');
+        }
+        byte[] large = SYSTEM.getLoader().load("\"" + text + "\" [\"" + text + text + text + "\"]").getBytes();
+        IonReaderBuilder builder = IonReaderBuilder.standard().withIncrementalReadingEnabled(incremental);
+        try (IonReader reader = builder.build(new ByteArrayInputStream(FIRST))) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertReadsAs(FIRST, reader);
+            reusable.reset(new ByteArrayInputStream(large));
+            assertReadsAs(large, reader);
+        }
+        try (IonReader reader = builder.build(ByteBuffer.allocateDirect(FIRST.length).put(FIRST).flip())) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertReadsAs(FIRST, reader);
+            reusable.reset(large);
+            assertReadsAs(large, reader);
+        }
+    }
+
+    @Test
+    public void byteArrayReaderCannotBeResetOntoStreams() throws Exception {
+        try (IonReader reader = newReader(true, false, FIRST)) {
+            ReusableReader reusable = reader.asFacet(ReusableReader.class);
+            assertThrows(UnsupportedOperationException.class, () -> reusable.reset(new ByteArrayInputStream(SECOND)));
+            assertThrows(UnsupportedOperationException.class, () -> reusable.reset(ByteBuffer.allocateDirect(4)));
+            ByteBuffer heap = ByteBuffer.allocate(SECOND.length + 2);
+            heap.position(2);
+            heap.put(SECOND);
+            heap.position(2);
+            reusable.reset(heap);
+            assertReadsAs(SECOND, reader);
+        }
+    }
+
+    @Test
+    public void closedReaderCannotBeReset() throws Exception {
+        IonReader reader = newReader(false, false, FIRST);
+        ReusableReader reusable = reader.asFacet(ReusableReader.class);
+        reader.close();
+        assertThrows(IllegalStateException.class, () -> reusable.reset(SECOND));
+        assertThrows(IllegalStateException.class, () -> reusable.reset(new ByteArrayInputStream(SECOND)));
+    }
+
+    @Test
+    public void feedableReaderIsNotReusable() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            assertNull(reader.asFacet(ReusableReader.class));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.SpanProvider;
+import com.amazon.ion.TextSpan;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that the text scanner's ASCII run fast paths produce the same results over byte and character input,
+ * regardless of where page boundaries fall.
+ */
+public class TextAsciiRunScanningTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String DATA =
+        "$ion_1_0 " +
+        "{ field_name: symbol_value, 'quoted field': \"plain ascii string\", $4: abc } " +
+        "\t  \t[1, 22, 333_444, -55, 0x1F, 1.25, 6e7, 2024-01-02T03:04:05.678Z] " +
+        "(a_b $c d1 + - ++ 'x' ) " +
+        "\"café 中文 😀 tail\" " +
+        "\"escapes \\n \\t \\\" \\\\ \\u00e9 \\U0001F600 end\" " +
+        "'''long \r\n string''' '''with é''' " +
+        "{{ \"clob text\" }} {{ aGVsbG8= }} " +
+        "// comment\n annotation::value /* block é comment */ last";
+
+    /**
+     * Returns at most a few bytes from each read, so that every token straddles page boundaries.
+     */
+    private static InputStream trickle(byte[] data, int maximumReadSize) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, maximumReadSize));
+            }
+        };
+    }
+
+    private static String repeated(int times) {
+        StringBuilder sb = new StringBuilder(DATA);
+        for (int i = 1; i < times; i++) {
+            // Skip the version marker when repeating.
+            sb.append(' ').append(DATA, 9, DATA.length());
+        }
+        return sb.toString();
+    }
+
+    @ParameterizedTest(name = "maximumReadSize={0}")
+    @ValueSource(ints = {1, 2, 3, 7, 64})
+    public void byteStreamMatchesCharacters(int maximumReadSize) throws Exception {
+        String text = repeated(3);
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        IonDatagram actual = SYSTEM.getLoader().load(trickle(text.getBytes(StandardCharsets.UTF_8), maximumReadSize));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void byteArrayMatchesCharacters() throws Exception {
+        // Large enough to span several pages of stream input.
+        String text = repeated(200);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        assertEquals(expected, SYSTEM.getLoader().load(bytes));
+        assertEquals(expected, SYSTEM.getLoader().load(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void skippedValuesMatchCharacters() throws Exception {
+        String text = repeated(2);
+        try (IonReader chars = IonReaderBuilder.standard().build(new StringReader(text));
+             IonReader bytes = IonReaderBuilder.standard().build(trickle(text.getBytes(StandardCharsets.UTF_8), 5))) {
+            IonType type;
+            do {
+                // Skip every value without materializing it.
+                type = chars.next();
+                assertEquals(type, bytes.next());
+            } while (type != null);
+        }
+    }
+
+    @Test
+    public void lineNumbersAreTracked() {
+        String text = "a\n  b\r\n\t  \"c\"\n'd'";
+        IonReader reader = IonReaderBuilder.standard().build(text.getBytes(StandardCharsets.UTF_8));
+        reader.next();
+        reader.next();
+        reader.next();
+        reader.next();
+        assertEquals("d", reader.stringValue());
+        TextSpan span = (TextSpan) reader.asFacet(SpanProvider.class).currentSpan();
+        assertEquals(4, span.getStartLine());
+        assertEquals(1, span.getStartColumn());
+    }
+
+    @ParameterizedTest(name = "fromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void invalidCharactersAreRejected(boolean fromBytes) {
+        String[] invalid = {
+            "\"control \u0001 character\"",
+            "\"high surrogate \\ud83d followed by ascii\"",
+        };
+        for (String text : invalid) {
+            IonReader reader = fromBytes
+                ? IonReaderBuilder.standard().build(text.getBytes(StandardCharsets.UTF_8))
+                : IonReaderBuilder.standard().build(text);
+            assertThrows(IonException.class, () -> {
+                reader.next();
+                reader.stringValue();
+            });
+        }
+    }
+}
@@ -0,0 +1,162 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.Decimal;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.UnscaledDecimalReader;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.amazon.ion.BinaryTest.MAGIC_COOKIE_1_1;
+import static com.amazon.ion.BinaryTest.hexToBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnscaledDecimalReaderTest {
+
+    private static final BigInteger TWO_TO_THE_63 = BigInteger.ONE.shiftLeft(63);
+
+    private static final BigDecimal[] LONG_DECIMALS = {
+        new BigDecimal("123.45"),
+        new BigDecimal("-0.001"),
+        new BigDecimal("0"),
+        new BigDecimal("0E+5"),
+        new BigDecimal("-7E+3"),
+        BigDecimal.valueOf(Long.MAX_VALUE, 3),
+        BigDecimal.valueOf(-Long.MAX_VALUE, -2),
+        // Requires a leading zero byte for the sign bit.
+        BigDecimal.valueOf(0x80L, 1),
+        // The magnitude requires 64 bits, but the value fits in a long.
+        BigDecimal.valueOf(Long.MIN_VALUE, 0),
+        BigDecimal.valueOf(Long.MIN_VALUE, -5),
+    };
+
+    private static final BigDecimal[] BIG_DECIMALS = {
+        new BigDecimal(TWO_TO_THE_63, 4),
+        new BigDecimal(TWO_TO_THE_63.add(BigInteger.ONE).negate(), 0),
+        new BigDecimal(TWO_TO_THE_63.add(BigInteger.ONE.shiftLeft(8)).negate(), 0),
+        new BigDecimal(TWO_TO_THE_63.multiply(TWO_TO_THE_63).negate(), 1),
+    };
+
+    private static IonReader newReader(byte[] data, boolean constructFromBytes) {
+        if (constructFromBytes) {
+            return IonReaderBuilder.standard().build(data);
+        }
+        return IonReaderBuilder.standard().build(new ByteArrayInputStream(data));
+    }
+
+    private static byte[] ion_1_0(BigDecimal... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            for (BigDecimal value : values) {
+                writer.writeDecimal(value);
+            }
+            writer.writeDecimal(Decimal.negativeZero(2));
+            writer.writeInt(1);
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertLongDecimal(UnscaledDecimalReader decimals, IonReader reader, BigDecimal expected) {
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertTrue(decimals.isUnscaledValueLong());
+        assertEquals(expected.unscaledValue().longValueExact(), decimals.unscaledValue());
+        assertEquals(expected.scale(), decimals.scale());
+        assertEquals(expected, reader.bigDecimalValue());
+        assertEquals(expected, reader.decimalValue());
+    }
+
+    private static void assertBigDecimal(UnscaledDecimalReader decimals, IonReader reader, BigDecimal expected) {
+        assertEquals(IonType.DECIMAL, reader.next());
+        assertFalse(decimals.isUnscaledValueLong());
+        assertThrows(IonException.class, decimals::unscaledValue);
+        assertEquals(expected.scale(), decimals.scale());
+        assertEquals(expected, reader.bigDecimalValue());
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion_1_0(boolean constructFromBytes) throws Exception {
+        try (IonReader reader = newReader(ion_1_0(LONG_DECIMALS), constructFromBytes)) {
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            for (BigDecimal expected : LONG_DECIMALS) {
+                assertLongDecimal(decimals, reader, expected);
+            }
+            // Negative zero.
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertFalse(decimals.isUnscaledValueLong());
+            assertEquals(2, decimals.scale());
+            assertTrue(Decimal.isNegativeZero(reader.decimalValue()));
+            assertEquals(IonType.INT, reader.next());
+            assertThrows(IllegalStateException.class, decimals::scale);
+        }
+        try (IonReader reader = newReader(ion_1_0(BIG_DECIMALS), constructFromBytes)) {
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            for (BigDecimal expected : BIG_DECIMALS) {
+                assertBigDecimal(decimals, reader, expected);
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void ion_1_1(boolean constructFromBytes) throws Exception {
+        byte[] data = hexToBytes(
+            MAGIC_COOKIE_1_1 +
+            "64 04 EE F0 FD " + // -123.456
+            "6A 00 FF FF FF FF FF FF FF 7F FE " + // (2^62 - 1) * 10^-2, a 9-byte FlexInt coefficient
+            "6F FD " + // 0d-2
+            "62 01 FE " + // -0d-2
+            "6B 00 02 00 00 00 00 00 00 00 02 FE " + // 2^63 * 10^-2, a 10-byte FlexInt coefficient
+            "64 04 EE F0 FD " + // -123.456
+            "6B 00 02 00 00 00 00 00 00 00 02 FE " + // 2^63 * 10^-2, following a decimal with a different scale
+            "6B 00 02 00 00 00 00 00 00 00 FE FE " + // -2^63 * 10^-2, a 10-byte FlexInt coefficient that fits
+            "6B 00 02 00 00 00 00 00 00 00 01 FE " + // 2^62 * 10^-2, a 10-byte FlexInt coefficient that fits
+            "6B 00 FE FF FF FF FF FF FF FF FD FE" // (-2^63 - 1) * 10^-2, a 10-byte FlexInt coefficient
+        );
+        try (IonReader reader = newReader(data, constructFromBytes)) {
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            assertLongDecimal(decimals, reader, new BigDecimal("-123.456"));
+            assertLongDecimal(decimals, reader, BigDecimal.valueOf((1L << 62) - 1, 2));
+            assertLongDecimal(decimals, reader, BigDecimal.valueOf(0, 2));
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertFalse(decimals.isUnscaledValueLong());
+            assertEquals(2, decimals.scale());
+            assertTrue(Decimal.isNegativeZero(reader.decimalValue()));
+            assertBigDecimal(decimals, reader, new BigDecimal(TWO_TO_THE_63, 2));
+            assertLongDecimal(decimals, reader, new BigDecimal("-123.456"));
+            assertBigDecimal(decimals, reader, new BigDecimal(TWO_TO_THE_63, 2));
+            assertLongDecimal(decimals, reader, BigDecimal.valueOf(Long.MIN_VALUE, 2));
+            assertLongDecimal(decimals, reader, BigDecimal.valueOf(1L << 62, 2));
+            assertBigDecimal(decimals, reader, new BigDecimal(TWO_TO_THE_63.add(BigInteger.ONE).negate(), 2));
+        }
+    }
+
+    @Test
+    public void nullDecimalIsRejected() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeNull(IonType.DECIMAL);
+        }
+        try (IonReader reader = newReader(out.toByteArray(), true)) {
+            UnscaledDecimalReader decimals = reader.asFacet(UnscaledDecimalReader.class);
+            assertEquals(IonType.DECIMAL, reader.next());
+            assertThrows(IllegalStateException.class, decimals::isUnscaledValueLong);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.UnknownSymbolException;
+import com.amazon.ion.Utf8TextProvider;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Utf8TextProviderTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static IonReader binaryReader(boolean constructFromBytes, byte[] data) {
+        if (constructFromBytes) {
+            return IonReaderBuilder.standard().build(data);
+        }
+        return IonReaderBuilder.standard().build(new ByteArrayInputStream(data));
+    }
+
+    private static void assertText(String expected, Utf8TextProvider provider) {
+        byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedBytes.length, provider.getUtf8Length());
+        byte[] destination = new byte[expectedBytes.length + 3];
+        assertEquals(expectedBytes.length, provider.getUtf8Bytes(destination, 3));
+        assertArrayEquals(expectedBytes, Arrays.copyOfRange(destination, 3, destination.length));
+        assertEquals(expected, provider.getTextView().toString());
+    }
+
+    @ParameterizedTest(name = "constructFromBytes={0}")
+    @ValueSource(booleans = {true, false})
+    public void stringsAndSymbols(boolean constructFromBytes) throws Exception {
+        String[] expected = {
+            "h\u00E9llo \uD834\uDD1E \u4E16\u754C",
+            "abc",
+            "sym \u00E9",
+            "",
+            new String(new char[5000]).replace('\0', 'x'),
+        };
+        StringBuilder ion = new StringBuilder();
+        ion.append('"').append(expected[0]).append("\" ");
+        ion.append(expected[1]).append(' ');
+        ion.append('\'').append(expected[2]).append("' ");
+        ion.append("\"\" ");
+        ion.append('"').append(expected[4]).append('"');
+        byte[] data = SYSTEM.getLoader().load(ion.toString()).getBytes();
+        try (IonReader reader = binaryReader(constructFromBytes, data)) {
+            Utf8TextProvider provider = reader.asFacet(Utf8TextProvider.class);
+            assertNotNull(provider);
+            for (String text : expected) {
+                assertNotNull(reader.next());
+                assertText(text, provider);
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void ion11InlineAndSymbolIdText() throws Exception {
+        // "hello" name
+        byte[] data = {(byte) 0xE0, 0x01, 0x01, (byte) 0xEA, (byte) 0x95, 0x68, 0x65, 0x6C, 0x6C, 0x6F, (byte) 0xE1, 0x04};
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            Utf8TextProvider provider = reader.asFacet(Utf8TextProvider.class);
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertText("hello", provider);
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertText("name", provider);
+        }
+    }
+
+    @Test
+    public void insufficientSpaceIsRejected() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build(SYSTEM.getLoader().load("\"abcd\"").getBytes())) {
+            reader.next();
+            Utf8TextProvider provider = reader.asFacet(Utf8TextProvider.class);
+            assertThrows(IndexOutOfBoundsException.class, () -> provider.getUtf8Bytes(new byte[4], 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> provider.getUtf8Bytes(new byte[4], -1));
+        }
+    }
+
+    @Test
+    public void nullsAndOtherTypesAreRejected() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build(SYSTEM.getLoader().load("null.string 123").getBytes())) {
+            Utf8TextProvider provider = reader.asFacet(Utf8TextProvider.class);
+            reader.next();
+            assertThrows(IllegalStateException.class, provider::getUtf8Length);
+            reader.next();
+            assertThrows(IllegalStateException.class, provider::getTextView);
+        }
+    }
+
+    @Test
+    public void unknownSymbolTextIsRejected() throws Exception {
+        // $0
+        byte[] data = {(byte) 0xE0, 0x01, 0x00, (byte) 0xEA, 0x70};
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            reader.next();
+            Utf8TextProvider provider = reader.asFacet(Utf8TextProvider.class);
+            assertThrows(UnknownSymbolException.class, provider::getUtf8Length);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.impl;
+
+import com.amazon.ion.IonBufferConfiguration;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.ValueStreamer;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ValueStreamerTest {
+
+    private static final int PAYLOAD_SIZE = 100_000;
+
+    private static final byte[] PAYLOAD = new byte[PAYLOAD_SIZE];
+
+    static {
+        for (int i = 0; i < PAYLOAD_SIZE; i++) {
+            PAYLOAD[i] = (byte) (i * 31);
+        }
+    }
+
+    // Each string character is encoded in three bytes of UTF-8.
+    private static final String LARGE_STRING = new String(new char[PAYLOAD_SIZE / 3]).replace('\0', '€');
+
+    /**
+     * A stream that returns at most 7 bytes per read, so that reads rarely align with value boundaries.
+     */
+    private static class TricklingInputStream extends ByteArrayInputStream {
+
+        TricklingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 7));
+        }
+    }
+
+    /**
+     * @return {id: 1, payload: {{...}}, text: "...", trailer: "end"} "next"
+     */
+    private static byte[] envelope() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("id");
+            writer.writeInt(1);
+            writer.setFieldName("payload");
+            writer.writeBlob(PAYLOAD);
+            writer.setFieldName("text");
+            writer.writeString(LARGE_STRING);
+            writer.setFieldName("trailer");
+            writer.writeString("end");
+            writer.stepOut();
+            writer.writeString("next");
+        }
+        return out.toByteArray();
+    }
+
+    private static IonBufferConfiguration smallBuffer(AtomicLong bytesConsumed) {
+        return IonBufferConfiguration.Builder.standard()
+            .withInitialBufferSize(32)
+            .withMaximumBufferSize(1024)
+            .onOversizedValue(() -> {
+                throw new IllegalStateException("Unexpected oversized value.");
+            })
+            .onOversizedSymbolTable(() -> {
+                throw new IllegalStateException("Unexpected oversized symbol table.");
+            })
+            .onData(bytesConsumed::addAndGet)
+            .build();
+    }
+
+    private static IonReader newStreamReader(byte[] data, AtomicLong bytesConsumed) {
+        return IonReaderBuilder.standard()
+            .withBufferConfiguration(smallBuffer(bytesConsumed))
+            .build(new TricklingInputStream(data));
+    }
+
+    private static byte[] readFully(InputStream in, int chunkSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int numberOfBytes;
+        while ((numberOfBytes = in.read(chunk)) >= 0) {
+            out.write(chunk, 0, numberOfBytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertTrailingValues(IonReader reader) {
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("trailer", reader.getFieldName());
+        assertEquals("end", reader.stringValue());
+        assertNull(reader.next());
+        reader.stepOut();
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("next", reader.stringValue());
+        assertNull(reader.next());
+    }
+
+    @ParameterizedTest(name = "chunkSize={0}")
+    @ValueSource(ints = {1, 13, 4096, 200_000})
+    public void streamValuesLargerThanTheMaximumBufferSize(int chunkSize) throws Exception {
+        byte[] data = envelope();
+        AtomicLong bytesConsumed = new AtomicLong();
+        try (IonReader reader = newStreamReader(data, bytesConsumed)) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(1, reader.intValue());
+            assertEquals(IonType.BLOB, reader.next());
+            assertArrayEquals(PAYLOAD, readFully(streamer.newInputStream(), chunkSize));
+            assertEquals(IonType.STRING, reader.next());
+            assertArrayEquals(LARGE_STRING.getBytes(StandardCharsets.UTF_8), readFully(streamer.newInputStream(), chunkSize));
+            assertTrailingValues(reader);
+        }
+        assertEquals(data.length, bytesConsumed.get());
+    }
+
+    @Test
+    public void transferValuesLargerThanTheMaximumBufferSize() throws Exception {
+        try (IonReader reader = newStreamReader(envelope(), new AtomicLong())) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(PAYLOAD_SIZE, streamer.transferValueTo(Channels.newChannel(out)));
+            assertArrayEquals(PAYLOAD, out.toByteArray());
+            assertEquals(IonType.STRING, reader.next());
+            out.reset();
+            assertEquals(LARGE_STRING.getBytes(StandardCharsets.UTF_8).length, streamer.transferValueTo(out));
+            assertEquals(LARGE_STRING, new String(out.toByteArray(), StandardCharsets.UTF_8));
+            assertTrailingValues(reader);
+        }
+    }
+
+    @Test
+    public void remainderOfPartiallyStreamedValueIsSkipped() throws Exception {
+        byte[] data = envelope();
+        AtomicLong bytesConsumed = new AtomicLong();
+        try (IonReader reader = newStreamReader(data, bytesConsumed)) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            InputStream in = streamer.newInputStream();
+            byte[] prefix = new byte[5000];
+            int numberOfBytesRead = 0;
+            while (numberOfBytesRead < prefix.length) {
+                numberOfBytesRead += in.read(prefix, numberOfBytesRead, prefix.length - numberOfBytesRead);
+            }
+            assertArrayEquals(Arrays.copyOf(PAYLOAD, prefix.length), prefix);
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("text", reader.getFieldName());
+            assertTrailingValues(reader);
+        }
+        assertEquals(data.length, bytesConsumed.get());
+    }
+
+    @Test
+    public void streamedValueCannotBeReadAgain() throws Exception {
+        try (IonReader reader = newStreamReader(envelope(), new AtomicLong())) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            readFully(streamer.newInputStream(), 4096);
+            assertThrows(IllegalStateException.class, reader::newBytes);
+            assertThrows(IllegalStateException.class, streamer::newInputStream);
+        }
+    }
+
+    @ParameterizedTest(name = "byteBacked={0}")
+    @ValueSource(booleans = {true, false})
+    public void streamIsInvalidOnceTheReaderMoves(boolean byteBacked) throws Exception {
+        byte[] data = envelope();
+        try (IonReader reader = byteBacked ? IonReaderBuilder.standard().build(data) : newStreamReader(data, new AtomicLong())) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            InputStream blob = streamer.newInputStream();
+            assertEquals(PAYLOAD[0], (byte) blob.read());
+            assertEquals(IonType.STRING, reader.next());
+            assertThrows(IllegalStateException.class, blob::read);
+            assertThrows(IllegalStateException.class, () -> blob.read(new byte[10], 0, 10));
+            assertEquals(0, blob.available());
+            InputStream text = streamer.newInputStream();
+            reader.stepOut();
+            assertThrows(IllegalStateException.class, text::read);
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("next", reader.stringValue());
+        }
+    }
+
+    @ParameterizedTest(name = "incremental={0}")
+    @ValueSource(booleans = {true, false})
+    public void streamFromByteArray(boolean incremental) throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().withIncrementalReadingEnabled(incremental).build(envelope())) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            assertArrayEquals(PAYLOAD, readFully(streamer.newInputStream(), 4096));
+            // Byte-backed values are not consumed by streaming.
+            assertArrayEquals(PAYLOAD, reader.newBytes());
+            assertArrayEquals(PAYLOAD, readFully(streamer.newInputStream(), 100));
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals(LARGE_STRING, new String(readFully(streamer.newInputStream(), 4096), StandardCharsets.UTF_8));
+            assertTrailingValues(reader);
+        }
+    }
+
+    @Test
+    public void streamFromIncrementalReader() throws Exception {
+        byte[] data = envelope();
+        try (IonReader reader = IonReaderBuilder.standard().withIncrementalReadingEnabled(true).build(new TricklingInputStream(data))) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            assertArrayEquals(PAYLOAD, readFully(streamer.newInputStream(), 4096));
+            assertArrayEquals(PAYLOAD, reader.newBytes());
+            assertEquals(IonType.STRING, reader.next());
+            assertTrailingValues(reader);
+        }
+    }
+
+    @Test
+    public void emptyValue() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeClob(new byte[0]);
+        }
+        try (IonReader reader = newStreamReader(out.toByteArray(), new AtomicLong())) {
+            assertEquals(IonType.CLOB, reader.next());
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(-1, streamer.newInputStream().read());
+            assertEquals(0, streamer.transferValueTo(new ByteArrayOutputStream()));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void truncatedValueFailsWhileStreaming() throws Exception {
+        byte[] data = envelope();
+        try (IonReader reader = newStreamReader(Arrays.copyOf(data, 50_000), new AtomicLong())) {
+            ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(IonType.BLOB, reader.next());
+            assertThrows(IonException.class, () -> streamer.transferValueTo(new ByteArrayOutputStream()));
+        }
+    }
+
+    @Test
+    public void onlyNonNullLobsAndStringsCanBeStreamed() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeSymbol("abc");
+            writer.writeNull(IonType.BLOB);
+        }
+        IonReader reader = newStreamReader(out.toByteArray(), new AtomicLong());
+        ValueStreamer streamer = reader.asFacet(ValueStreamer.class);
+        assertThrows(IllegalStateException.class, streamer::newInputStream);
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertThrows(IllegalStateException.class, streamer::newInputStream);
+        assertEquals(IonType.BLOB, reader.next());
+        assertThrows(IllegalStateException.class, () -> streamer.transferValueTo(new ByteArrayOutputStream()));
+        reader.close();
+        assertThrows(IllegalStateException.class, streamer::newInputStream);
+    }
+}
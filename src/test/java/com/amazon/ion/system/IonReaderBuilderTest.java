@@ -19,6 +19,7 @@ import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonException;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
 import com.amazon.ion.IonWriter;
 import com.amazon.ion.util.InputStreamInterceptor;
 import com.amazon.ion.impl.ResizingPipedInputStream;
@@ -27,6 +28,14 @@ import com.amazon.ion.impl._Private_IonBinaryWriterBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
@@ -224,6 +233,148 @@ public class IonReaderBuilderTest
         reader.close();
     }
 
+    private static void assertFooAnd123(IonReader reader) {
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("foo", reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(123, reader.intValue());
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void buildFromByteBuffer() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[] {1, 2, 3});
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeString("foo");
+            writer.writeInt(123);
+        }
+        byte[] binary = out.toByteArray();
+        byte[] text = "\"foo\" 123".getBytes(StandardCharsets.UTF_8);
+        for (byte[] data : new byte[][] {binary, text}) {
+            // The first three bytes of the binary data are not part of the stream; start the buffer after them.
+            int start = data == binary ? 3 : 0;
+            ByteBuffer heap = ByteBuffer.wrap(data);
+            heap.position(start);
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+            direct.put(data);
+            direct.position(start);
+            for (ByteBuffer buffer : new ByteBuffer[] {heap, direct, heap.asReadOnlyBuffer()}) {
+                try (IonReader reader = IonReaderBuilder.standard().build(buffer)) {
+                    assertFooAnd123(reader);
+                }
+                // The buffer's position and limit are unchanged.
+                assertEquals(start, buffer.position());
+                assertEquals(data.length, buffer.limit());
+            }
+        }
+    }
+
+    @Test
+    public void buildFromPathAndFileChannel() throws Exception {
+        Path file = Files.createTempFile("IonReaderBuilderTest", ".10n");
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+                writer.writeString("foo");
+                writer.writeInt(123);
+            }
+            Files.write(file, out.toByteArray());
+            try (IonReader reader = IonReaderBuilder.standard().build(file)) {
+                assertFooAnd123(reader);
+            }
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try (IonReader reader = IonReaderBuilder.standard().build(channel)) {
+                assertEquals(IonType.STRING, reader.next());
+                assertEquals(IonType.INT, reader.next());
+                assertNull(reader.next());
+            }
+            assertFalse(channel.isOpen());
+
+            Files.write(file, "\"bar\" 456".getBytes(StandardCharsets.UTF_8));
+            try (IonReader reader = IonReaderBuilder.standard().build(file)) {
+                assertEquals(IonType.STRING, reader.next());
+                assertEquals("bar", reader.stringValue());
+                assertEquals(IonType.INT, reader.next());
+                assertEquals(456, reader.intValue());
+                assertNull(reader.next());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * A builder that, like one defined outside this library, implements only the builder's original abstract methods.
+     */
+    private static class DelegatingReaderBuilder extends IonReaderBuilder {
+
+        private final IonReaderBuilder delegate = IonReaderBuilder.standard();
+
+        @Override
+        public IonReader build(byte[] ionData, int offset, int length) {
+            return delegate.build(ionData, offset, length);
+        }
+
+        @Override
+        public IonReader build(InputStream ionData) {
+            return delegate.build(ionData);
+        }
+
+        @Override
+        public IonReader build(Reader ionText) {
+            return delegate.build(ionText);
+        }
+
+        @Override
+        public IonReader build(IonValue value) {
+            return delegate.build(value);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public com.amazon.ion.IonTextReader build(String ionText) {
+            return delegate.build(ionText);
+        }
+    }
+
+    @Test
+    public void subclassBuildsFromFileChannel() throws Exception {
+        Path file = Files.createTempFile("IonReaderBuilderTest", ".ion");
+        try {
+            Files.write(file, "\"foo\" 123".getBytes(StandardCharsets.UTF_8));
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try (IonReader reader = new DelegatingReaderBuilder().build(channel)) {
+                assertFooAnd123(reader);
+            }
+            assertFalse(channel.isOpen());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void subclassBuildsFromByteBuffer() throws Exception {
+        byte[] data = "[] \"foo\" 123".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(data);
+        heap.position(3);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.position(3);
+        for (ByteBuffer buffer : new ByteBuffer[] {heap, direct, heap.asReadOnlyBuffer()}) {
+            try (IonReader reader = new DelegatingReaderBuilder().build(buffer)) {
+                assertFooAnd123(reader);
+            }
+            assertEquals(3, buffer.position());
+            assertEquals(data.length, buffer.limit());
+        }
+    }
+
+    @Test
+    public void subclassDoesNotSupportFeedableReaders() {
+        assertThrows(UnsupportedOperationException.class, () -> new DelegatingReaderBuilder().buildFeedable());
+    }
+
     @Test
     public void gzipInterceptorEnabledByDefault() {
         IonReaderBuilder builder = IonReaderBuilder.standard();
@@ -0,0 +1,159 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonBinaryValidatorTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final IonBinaryValidator VALIDATOR = IonBinaryValidator.standard();
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static void assertInvalid(byte[] data) {
+        assertThrows(IonException.class, () -> VALIDATOR.validate(data));
+        assertThrows(IonException.class, () -> VALIDATOR.validate(new ByteArrayInputStream(data)));
+    }
+
+    @Test
+    public void validData() {
+        byte[] data = SYSTEM.getLoader().load(
+            "$ion_symbol_table::{symbols:[\"foo\"]} foo::{bar: [baz, \"qux\", 1.5, 2e0, 2024T, {{YWJj}}], foo: null.struct} ($0 1)"
+        ).getBytes();
+        VALIDATOR.validate(data);
+        VALIDATOR.validate(new ByteArrayInputStream(data));
+        assertTrue(VALIDATOR.isValid(data));
+    }
+
+    @Test
+    public void emptyDataIsValid() {
+        VALIDATOR.validate(new byte[0]);
+        VALIDATOR.validate(new ByteArrayInputStream(new byte[0]));
+    }
+
+    @Test
+    public void streamIsNotClosed() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("{a: [1, 2.5, \"three\"]} four").getBytes();
+        boolean[] closed = new boolean[1];
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        VALIDATOR.validate(in);
+        assertFalse(closed[0]);
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void validIon11Data() {
+        // {hi: "hi"}, with the field name encoded inline.
+        VALIDATOR.validate(bytes(0xE0, 0x01, 0x01, 0xEA, 0xF3, 0xFD, 0x68, 0x69, 0x92, 0x68, 0x69, 0x01, 0xF0));
+    }
+
+    @Test
+    public void validRange() {
+        byte[] data = SYSTEM.getLoader().load("{foo: bar}").getBytes();
+        byte[] padded = new byte[data.length + 4];
+        Arrays.fill(padded, (byte) 0xFF);
+        System.arraycopy(data, 0, padded, 2, data.length);
+        VALIDATOR.validate(padded, 2, data.length);
+        assertThrows(IndexOutOfBoundsException.class, () -> VALIDATOR.validate(padded, 2, padded.length));
+    }
+
+    @Test
+    public void textIsInvalid() {
+        assertInvalid("{foo: bar}".getBytes());
+    }
+
+    @Test
+    public void invalidTypeId() {
+        // Type code 15 is reserved.
+        assertInvalid(bytes(0xE0, 0x01, 0x00, 0xEA, 0xF0));
+    }
+
+    @Test
+    public void truncatedValue() {
+        byte[] data = SYSTEM.getLoader().load("\"a string\"").getBytes();
+        assertInvalid(Arrays.copyOf(data, data.length - 1));
+    }
+
+    @Test
+    public void childExceedsParentContainer() {
+        // A list of length 1 containing an int of length 1.
+        assertInvalid(bytes(0xE0, 0x01, 0x00, 0xEA, 0xB1, 0x21, 0x01));
+    }
+
+    @Test
+    public void symbolValueIdOutOfRange() {
+        // Symbol ID 10 is out of range of the system symbol table, whose maximum ID is 9.
+        assertTrue(VALIDATOR.isValid(bytes(0xE0, 0x01, 0x00, 0xEA, 0x71, 0x09)));
+        assertInvalid(bytes(0xE0, 0x01, 0x00, 0xEA, 0x71, 0x0A));
+    }
+
+    @Test
+    public void fieldNameIdOutOfRange() {
+        // {$10: true}
+        assertInvalid(bytes(0xE0, 0x01, 0x00, 0xEA, 0xD2, 0x8A, 0x11));
+    }
+
+    @Test
+    public void annotationIdOutOfRange() {
+        // $10::true
+        assertInvalid(bytes(0xE0, 0x01, 0x00, 0xEA, 0xE3, 0x81, 0x8A, 0x11));
+    }
+
+    @Test
+    public void invalidUtf8() {
+        // Each of these strings is invalid: a lone continuation byte, an overlong encoding of '/', an encoded
+        // surrogate, a code point above U+10FFFF, and a truncated multi-byte sequence.
+        int[][] invalidStrings = {
+            {0x80},
+            {0xC0, 0xAF},
+            {0xED, 0xA0, 0x80},
+            {0xF4, 0x90, 0x80, 0x80},
+            {0xE2, 0x82},
+        };
+        for (int[] string : invalidStrings) {
+            byte[] data = new byte[5 + string.length];
+            System.arraycopy(bytes(0xE0, 0x01, 0x00, 0xEA, 0x80 | string.length), 0, data, 0, 5);
+            System.arraycopy(bytes(string), 0, data, 5, string.length);
+            assertInvalid(data);
+            assertTrue(VALIDATOR.withUtf8Validation(false).isValid(data));
+        }
+        // U+20AC and U+1F600 are valid.
+        assertTrue(VALIDATOR.isValid(bytes(0xE0, 0x01, 0x00, 0xEA, 0x87, 0xE2, 0x82, 0xAC, 0xF0, 0x9F, 0x98, 0x80)));
+    }
+
+    @Test
+    public void invalidUtf8InIon11InlineFieldName() {
+        // {<0xC0 0xAF>: 1}
+        byte[] data = bytes(0xE0, 0x01, 0x01, 0xEA, 0xF3, 0xFD, 0xC0, 0xAF, 0x51, 0x01, 0x01, 0xF0);
+        assertFalse(VALIDATOR.isValid(data));
+        assertTrue(VALIDATOR.withUtf8Validation(false).isValid(data));
+    }
+}
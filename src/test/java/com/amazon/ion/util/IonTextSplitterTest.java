@@ -0,0 +1,216 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonDatagram;
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonTextSplitterTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Text in which many whitespace characters at the top level are not valid split points.
+     */
+    private static final String TRICKY =
+        "$ion_1_0\n" +
+        "'''long\n string with } and \\''' '''\n'''continued'''\n" +
+        "annotated\n::\nvalue\n" +
+        "a::\n// comment } ] )\nb::/* { */\n{x: \"}\\n\\\" {\", y: '''\n}'''}\n" +
+        "[1, 2,\n3] (a\n+ b) {{ \"clob ] )\" }} {{ '''clob ] )\n''' }} {{\n aGVsbG8=\n }}\n" +
+        "'quoted\\' { symbol'\n" +
+        "$ion_symbol_table::{symbols:[\"s10\", \"s11\"]}\n" +
+        "$10 $11\n" +
+        "$ion_symbol_table::{imports:$ion_symbol_table, symbols:[\"s12\"]}\n" +
+        "{$10: $12} $11::$12\n" +
+        "'$ion_symbol_table'::/* another */ annotation::{symbols:[\"t10\"]}\n" +
+        "$10 ($10)\n" +
+        "$ion_1_0 $ion_symbol_table::{symbols:[\"u10\"]} $ion_symbol_table::{imports:$3, symbols:[\"u11\"]}\n" +
+        "[$10, $11] 2024-01-02T03:04:05Z -1.5e0 null.int // trailing\n";
+
+    private static String repeated(String text, int times) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            sb.append(text);
+        }
+        return sb.toString();
+    }
+
+    private static List<IonValue> readAll(IonTextSplitter splitter) throws IOException {
+        List<IonValue> values = new ArrayList<>();
+        for (int i = 0; i < splitter.size(); i++) {
+            try (IonReader reader = splitter.newReader(IonReaderBuilder.standard(), i)) {
+                while (reader.next() != null) {
+                    values.add(SYSTEM.newValue(reader));
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void assertSplitsCorrectly(String text, int numberOfChunks) throws IOException {
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        IonTextSplitter splitter = IonTextSplitter.split(text.getBytes(StandardCharsets.UTF_8), numberOfChunks);
+        assertTrue(splitter.size() <= numberOfChunks);
+        long length = 0;
+        for (int i = 0; i < splitter.size(); i++) {
+            assertEquals(length, splitter.getStartOffset(i));
+            length += splitter.getLength(i);
+        }
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, length);
+        assertEquals(new ArrayList<>(expected), readAll(splitter), "numberOfChunks=" + numberOfChunks);
+    }
+
+    @Test
+    public void splitsOnlyAtTopLevelValueBoundaries() throws IOException {
+        for (int numberOfChunks = 1; numberOfChunks <= 200; numberOfChunks++) {
+            assertSplitsCorrectly(TRICKY, numberOfChunks);
+        }
+    }
+
+    @Test
+    public void declarationsAreReplayed() throws IOException {
+        String text = repeated(TRICKY, 20);
+        for (int numberOfChunks : new int[] {7, 50, 400}) {
+            assertSplitsCorrectly(text, numberOfChunks);
+        }
+    }
+
+    @Test
+    public void lobContentIsNotTreatedAsComments() throws IOException {
+        String text = "{{//8=}}\n{a:{b:{c:1}}, d:2}\n{e: 1, f: 2, g: [3, 4]}\n{{ //+/ }} {h: {{//8=}}}\n[5, 6]\n";
+        for (int numberOfChunks = 1; numberOfChunks <= 40; numberOfChunks++) {
+            assertSplitsCorrectly(text, numberOfChunks);
+        }
+        IonTextSplitter splitter = IonTextSplitter.split(text.getBytes(StandardCharsets.UTF_8), 8);
+        List<IonValue> values = splitter.parallelStream(SYSTEM, IonReaderBuilder.standard()).collect(Collectors.toList());
+        assertEquals(new ArrayList<>(SYSTEM.getLoader().load(text)), values);
+    }
+
+    @Test
+    public void splitsIntoRequestedNumberOfChunks() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonTextWriterBuilder.standard().withWriteTopLevelValuesOnNewLines(true).build(out)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("id");
+                writer.writeInt(i);
+                writer.setFieldName("name");
+                writer.writeString("value " + i);
+                writer.stepOut();
+            }
+        }
+        IonTextSplitter splitter = IonTextSplitter.split(out.toByteArray(), 16);
+        assertEquals(16, splitter.size());
+        long averageLength = out.size() / 16;
+        for (int i = 0; i < splitter.size(); i++) {
+            assertTrue(Math.abs(splitter.getLength(i) - averageLength) < 100);
+        }
+        assertEquals(new ArrayList<>(SYSTEM.getLoader().load(out.toByteArray())), readAll(splitter));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " \n ", "single", "'''a'''\n'''b'''", "a\n::\nb", "// only a comment\n"})
+    public void smallInputs(String text) throws IOException {
+        for (int numberOfChunks = 1; numberOfChunks <= 4; numberOfChunks++) {
+            assertSplitsCorrectly(text, numberOfChunks);
+        }
+    }
+
+    @Test
+    public void readInParallel() throws Exception {
+        String text = repeated(TRICKY, 50);
+        IonTextSplitter splitter = IonTextSplitter.split(text.getBytes(StandardCharsets.UTF_8), 32);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Long>> counts = splitter.readInParallel(IonReaderBuilder.standard(), executor, reader -> {
+                long count = 0;
+                while (reader.next() != null) {
+                    count++;
+                }
+                return count;
+            });
+            long total = 0;
+            for (CompletableFuture<Long> count : counts) {
+                total += count.get();
+            }
+            assertEquals(SYSTEM.getLoader().load(text).size(), total);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelStream() {
+        String text = repeated(TRICKY, 50);
+        IonDatagram expected = SYSTEM.getLoader().load(text);
+        IonTextSplitter splitter = IonTextSplitter.split(text.getBytes(StandardCharsets.UTF_8), 64);
+
+        List<IonValue> ordered = splitter.parallelStream(SYSTEM, IonReaderBuilder.standard())
+            .collect(Collectors.toList());
+        assertEquals(new ArrayList<>(expected), ordered);
+
+        Set<String> unordered = splitter.parallelStream(SYSTEM, IonReaderBuilder.standard())
+            .unordered()
+            .map(IonValue::toString)
+            .collect(Collectors.toSet());
+        Set<String> expectedStrings = new HashSet<>();
+        for (IonValue value : expected) {
+            expectedStrings.add(value.toString());
+        }
+        assertEquals(expectedStrings, unordered);
+    }
+
+    @Test
+    public void splitFile() throws IOException {
+        String text = repeated(TRICKY, 10);
+        Path file = Files.createTempFile("ion-text-splitter", ".ion");
+        try {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            IonTextSplitter splitter = IonTextSplitter.split(file, 9);
+            assertEquals(new ArrayList<>(SYSTEM.getLoader().load(text)), readAll(splitter));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void binaryDataIsRejected() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = IonBinaryWriterBuilder.standard().build(out)) {
+            writer.writeInt(1);
+        }
+        assertThrows(IonException.class, () -> IonTextSplitter.split(out.toByteArray(), 2));
+        assertThrows(IllegalArgumentException.class, () -> IonTextSplitter.split(new byte[0], 0));
+    }
+}
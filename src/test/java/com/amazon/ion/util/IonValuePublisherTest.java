@@ -0,0 +1,196 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonFeedableReader;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IonValuePublisherTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    /**
+     * Records the signals it receives as strings.
+     */
+    private static class RecordingSubscriber<T> implements IonValuePublisher.Subscriber<T> {
+        final List<String> signals = new ArrayList<>();
+        IonValuePublisher.Subscription subscription;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(IonValuePublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            signals.add(item.toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            signals.add("error");
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add("complete");
+        }
+    }
+
+    @Test
+    public void valuesAreDeliveredOnlyOnDemand() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1 2 3 {a: 4} 5")) {
+            RecordingSubscriber<IonValue> subscriber = new RecordingSubscriber<>();
+            IonValuePublisher.values(reader, SYSTEM).subscribe(subscriber);
+            assertEquals(Arrays.asList(), subscriber.signals);
+            subscriber.subscription.request(2);
+            assertEquals(Arrays.asList("1", "2"), subscriber.signals);
+            subscriber.subscription.request(1);
+            assertEquals(Arrays.asList("1", "2", "3"), subscriber.signals);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(Arrays.asList("1", "2", "3", "{a:4}", "5", "complete"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void requestingExactlyTheNumberOfValuesCompletes() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1 2")) {
+            RecordingSubscriber<IonValue> subscriber = new RecordingSubscriber<>();
+            IonValuePublisher.values(reader, SYSTEM).subscribe(subscriber);
+            subscriber.subscription.request(2);
+            assertEquals(Arrays.asList("1", "2", "complete"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void emptyStreamCompletesWithoutDemand() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("")) {
+            RecordingSubscriber<IonValue> subscriber = new RecordingSubscriber<>();
+            IonValuePublisher.values(reader, SYSTEM).subscribe(subscriber);
+            assertEquals(Arrays.asList("complete"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void requestFromWithinOnNextDoesNotRecurse() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1 2 3 4")) {
+            List<Integer> depths = new ArrayList<>();
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+                int depth = 0;
+
+                @Override
+                public void onNext(Integer item) {
+                    depths.add(++depth);
+                    super.onNext(item);
+                    subscription.request(1);
+                    depth--;
+                }
+            };
+            IonValuePublisher.mapped(reader, IonReader::intValue).subscribe(subscriber);
+            subscriber.subscription.request(1);
+            assertEquals(Arrays.asList("1", "2", "3", "4", "complete"), subscriber.signals);
+            assertEquals(Arrays.asList(1, 1, 1, 1), depths);
+        }
+    }
+
+    @Test
+    public void cancelStopsDelivery() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1 2 3")) {
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+                @Override
+                public void onNext(Integer item) {
+                    super.onNext(item);
+                    subscription.cancel();
+                }
+            };
+            IonValuePublisher.mapped(reader, IonReader::intValue).subscribe(subscriber);
+            subscriber.subscription.request(3);
+            assertEquals(Arrays.asList("1"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void feedableReaderPausesUntilResumedAndCompleted() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("1 2 3").getBytes();
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            IonValuePublisher<Integer> publisher = IonValuePublisher.mapped(reader, IonReader::intValue);
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(10);
+            reader.feed(data, 0, data.length - 1);
+            publisher.resume();
+            assertEquals(Arrays.asList("1", "2"), subscriber.signals);
+            reader.feed(data, data.length - 1, 1);
+            publisher.resume();
+            assertEquals(Arrays.asList("1", "2", "3"), subscriber.signals);
+            publisher.complete();
+            assertEquals(Arrays.asList("1", "2", "3", "complete"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void feedableReaderCompletesWithoutOutstandingDemand() throws Exception {
+        byte[] data = SYSTEM.getLoader().load("1 2").getBytes();
+        try (IonFeedableReader reader = IonReaderBuilder.standard().buildFeedable()) {
+            IonValuePublisher<Integer> publisher = IonValuePublisher.mapped(reader, IonReader::intValue);
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+            publisher.subscribe(subscriber);
+            reader.feed(data, 0, data.length);
+            subscriber.subscription.request(2);
+            assertEquals(Arrays.asList("1", "2"), subscriber.signals);
+            publisher.complete();
+            assertEquals(Arrays.asList("1", "2", "complete"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void mapperFailureIsDeliveredAsError() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1 two 3")) {
+            RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+            IonValuePublisher.mapped(reader, IonReader::intValue).subscribe(subscriber);
+            subscriber.subscription.request(3);
+            assertEquals(Arrays.asList("1", "error"), subscriber.signals);
+            assertTrue(subscriber.error instanceof IllegalStateException);
+            subscriber.subscription.request(1);
+            assertEquals(Arrays.asList("1", "error"), subscriber.signals);
+        }
+    }
+
+    @Test
+    public void nonPositiveRequestIsDeliveredAsError() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1")) {
+            RecordingSubscriber<IonValue> subscriber = new RecordingSubscriber<>();
+            IonValuePublisher.values(reader, SYSTEM).subscribe(subscriber);
+            subscriber.subscription.request(0);
+            assertEquals(Arrays.asList("error"), subscriber.signals);
+            assertTrue(subscriber.error instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void secondSubscriberIsRejected() throws Exception {
+        try (IonReader reader = IonReaderBuilder.standard().build("1")) {
+            IonValuePublisher<IonValue> publisher = IonValuePublisher.values(reader, SYSTEM);
+            publisher.subscribe(new RecordingSubscriber<>());
+            RecordingSubscriber<IonValue> second = new RecordingSubscriber<>();
+            publisher.subscribe(second);
+            assertEquals(Arrays.asList("error"), second.signals);
+            assertTrue(second.error instanceof IllegalStateException);
+        }
+    }
+}
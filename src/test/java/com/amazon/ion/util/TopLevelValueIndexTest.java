@@ -0,0 +1,254 @@
+// Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+// SPDX-License-Identifier: Apache-2.0
+package com.amazon.ion.util;
+
+import com.amazon.ion.IonException;
+import com.amazon.ion.IonReader;
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonType;
+import com.amazon.ion.IonValue;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
+import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.IonTextWriterBuilder;
+import com.amazon.ion.system.SimpleCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopLevelValueIndexTest {
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+    private static final int NUMBER_OF_VALUES = 1000;
+
+    /**
+     * Writes structs with field names that are unique to each value, so that the local symbol table changes
+     * throughout the stream. Every 100 values, the writer is either flushed (causing a symbol table append) or
+     * finished (causing a new symbol table).
+     */
+    private static byte[] writeData(boolean appendSymbolTables) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonBinaryWriterBuilder builder = IonBinaryWriterBuilder.standard();
+        if (appendSymbolTables) {
+            builder = builder.withLocalSymbolTableAppendEnabled();
+        }
+        try (IonWriter writer = builder.build(out)) {
+            for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+                writer.stepIn(IonType.STRUCT);
+                writer.setFieldName("f" + i);
+                writer.writeSymbol("s" + (i % 7));
+                writer.setFieldName("n");
+                writer.writeInt(i);
+                writer.stepOut();
+                if (i % 100 == 99) {
+                    if (appendSymbolTables) {
+                        writer.flush();
+                    } else {
+                        writer.finish();
+                    }
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertValue(int expected, IonReader reader) {
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("f" + expected, reader.getFieldName());
+        assertEquals("s" + (expected % 7), reader.stringValue());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals("n", reader.getFieldName());
+        assertEquals(expected, reader.intValue());
+        reader.stepOut();
+    }
+
+    private static TopLevelValueIndex roundTrip(TopLevelValueIndex index, boolean isBinary) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (IonWriter writer = isBinary ? IonBinaryWriterBuilder.standard().build(out) : IonTextWriterBuilder.standard().build(out)) {
+            index.writeTo(writer);
+        }
+        return TopLevelValueIndex.readFrom(IonReaderBuilder.standard().build(out.toByteArray()), new SimpleCatalog());
+    }
+
+    @ParameterizedTest(name = "appendSymbolTables={0}")
+    @ValueSource(booleans = {true, false})
+    public void seekToIndividualValues(boolean appendSymbolTables) throws Exception {
+        byte[] data = writeData(appendSymbolTables);
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        assertEquals(NUMBER_OF_VALUES, index.size());
+        for (TopLevelValueIndex candidate : new TopLevelValueIndex[] {index, roundTrip(index, true), roundTrip(index, false)}) {
+            try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+                for (int i : new int[] {999, 0, 100, 99, 555, 321}) {
+                    candidate.seek(reader, i);
+                    assertValue(i, reader);
+                    assertNull(reader.next());
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "appendSymbolTables={0}")
+    @ValueSource(booleans = {true, false})
+    public void seekToRangeSpanningSymbolTables(boolean appendSymbolTables) throws Exception {
+        byte[] data = writeData(appendSymbolTables);
+        TopLevelValueIndex index = roundTrip(TopLevelValueIndex.build(IonReaderBuilder.standard().build(data)), true);
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            index.seek(reader, 95, 205);
+            for (int i = 95; i < 205; i++) {
+                assertValue(i, reader);
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void offsetsMatchForStreamAndByteArrayInput() throws Exception {
+        byte[] data = writeData(true);
+        TopLevelValueIndex fromBytes = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        TopLevelValueIndex fromStream = TopLevelValueIndex.build(IonReaderBuilder.standard().build(new ByteArrayInputStream(data)));
+        assertEquals(fromBytes.size(), fromStream.size());
+        for (int i = 0; i < fromBytes.size(); i++) {
+            assertEquals(fromBytes.getStartOffset(i), fromStream.getStartOffset(i));
+            assertEquals(fromBytes.getLength(i), fromStream.getLength(i));
+        }
+    }
+
+    @Test
+    public void newReaderFromChannel(@TempDir Path directory) throws Exception {
+        byte[] data = writeData(true);
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        Path file = directory.resolve("data.10n");
+        Files.write(file, data);
+        try (FileChannel channel = FileChannel.open(file)) {
+            try (IonReader reader = index.newReader(IonReaderBuilder.standard(), channel, 777, 779)) {
+                assertValue(777, reader);
+                assertValue(778, reader);
+                assertNull(reader.next());
+            }
+        }
+    }
+
+    @Test
+    public void delimitedIon11Containers() throws Exception {
+        // {a: [1]} true [1, 2], with the struct and its list delimited.
+        byte[] data = new byte[] {
+            (byte) 0xE0, 0x01, 0x01, (byte) 0xEA,
+            (byte) 0xF3, (byte) 0xFF, 0x61, (byte) 0xF1, 0x51, 0x01, (byte) 0xF0, 0x01, (byte) 0xF0,
+            0x5E,
+            (byte) 0xFA, 0x09, 0x51, 0x01, 0x51, 0x02
+        };
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        assertEquals(3, index.size());
+        assertEquals(9, index.getLength(0));
+        assertEquals(1, index.getLength(1));
+        assertEquals(6, index.getLength(2));
+        try (IonReader reader = IonReaderBuilder.standard().build(data)) {
+            index.seek(reader, 2);
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(SYSTEM.singleValue("[1, 2]"), SYSTEM.newValue(reader));
+            index.seek(reader, 0);
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(SYSTEM.singleValue("{a: [1]}"), SYSTEM.newValue(reader));
+        }
+    }
+
+    @ParameterizedTest(name = "numberOfChunks={0}")
+    @ValueSource(ints = {1, 3, 8, 5000})
+    public void readInParallel(int numberOfChunks) throws Exception {
+        byte[] data = writeData(true);
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        List<CompletableFuture<List<Integer>>> chunks = index.readInParallel(
+            IonReaderBuilder.standard(),
+            data,
+            numberOfChunks,
+            ForkJoinPool.commonPool(),
+            reader -> {
+                List<Integer> values = new ArrayList<>();
+                while (reader.next() != null) {
+                    reader.stepIn();
+                    reader.next();
+                    reader.next();
+                    values.add(reader.intValue());
+                    reader.stepOut();
+                }
+                return values;
+            }
+        );
+        assertTrue(chunks.size() <= numberOfChunks);
+        int expected = 0;
+        for (CompletableFuture<List<Integer>> chunk : chunks) {
+            for (int value : chunk.get()) {
+                assertEquals(expected++, value);
+            }
+        }
+        assertEquals(NUMBER_OF_VALUES, expected);
+    }
+
+    @ParameterizedTest(name = "appendSymbolTables={0}")
+    @ValueSource(booleans = {true, false})
+    public void parallelStream(boolean appendSymbolTables) throws Exception {
+        byte[] data = writeData(appendSymbolTables);
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        List<IonValue> values = index.parallelStream(SYSTEM, IonReaderBuilder.standard(), data).collect(Collectors.toList());
+        assertEquals(NUMBER_OF_VALUES, values.size());
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            assertEquals(SYSTEM.singleValue("{f" + i + ": s" + (i % 7) + ", n: " + i + "}"), values.get(i));
+        }
+    }
+
+    @Test
+    public void spliteratorSplitsAtValueBoundaries() throws Exception {
+        byte[] data = writeData(true);
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(data));
+        Spliterator<IonValue> suffix = index.spliterator(SYSTEM, IonReaderBuilder.standard(), data);
+        Spliterator<IonValue> prefix = suffix.trySplit();
+        assertEquals(NUMBER_OF_VALUES, prefix.estimateSize() + suffix.estimateSize());
+        assertTrue(prefix.estimateSize() > 0);
+        assertTrue(suffix.estimateSize() > 0);
+        List<IonValue> values = new ArrayList<>();
+        prefix.forEachRemaining(values::add);
+        suffix.forEachRemaining(values::add);
+        assertEquals(NUMBER_OF_VALUES, values.size());
+        assertEquals(SYSTEM.singleValue("{f999: s5, n: 999}"), values.get(NUMBER_OF_VALUES - 1));
+    }
+
+    @Test
+    public void textReadersCannotBeIndexed() {
+        assertThrows(IllegalArgumentException.class, () -> TopLevelValueIndex.build(IonReaderBuilder.standard().build("1 2")));
+    }
+
+    @Test
+    public void outOfBoundsRangesAreRejected() throws Exception {
+        TopLevelValueIndex index = TopLevelValueIndex.build(IonReaderBuilder.standard().build(writeData(true)));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getSpan(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getSpan(5, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getLength(NUMBER_OF_VALUES));
+    }
+
+    @Test
+    public void readFromRejectsOtherValues() {
+        assertThrows(IonException.class, () -> TopLevelValueIndex.readFrom(IonReaderBuilder.standard().build("{contexts:[]}"), new SimpleCatalog()));
+    }
+}